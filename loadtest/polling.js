@@ -0,0 +1,63 @@
+// 폴링 부하 테스트 (k6): 팀 화면이 주기적으로 호출하는 조회 API 세 개를 동시 사용자 수만큼 반복 호출한다.
+// 플랫폼 스레드(기본)와 가상 스레드(-PvirtualThreads) 기동을 같은 조건으로 돌려
+// 요약의 http_reqs(초당 처리량)와 http_req_duration p(99)를 비교한다.
+//
+//   k6 run -e EMAIL=load@example.com -e PASSWORD=secret -e TEAM_ID=1 loadtest/polling.js
+//
+// 환경 변수: BASE_URL(기본 http://localhost:8080), VUS(기본 2000), DURATION(기본 2m), PAUSE(폴링 간격 초, 기본 1)
+import http from 'k6/http';
+import { check, fail, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TEAM_ID = __ENV.TEAM_ID || '1';
+const PAUSE = Number(__ENV.PAUSE || 1);
+
+export const options = {
+    scenarios: {
+        polling: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 2000),
+            duration: __ENV.DURATION || '2m',
+            gracefulStop: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+// 로그인은 한 번만 하고 모든 가상 사용자가 같은 토큰을 쓴다
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    if (res.status !== 200) {
+        fail(`로그인 실패: ${res.status} ${res.body}`);
+    }
+    return { token: res.json('accessToken') };
+}
+
+const paths = [
+    `/api/tasks/team/${TEAM_ID}`,
+    `/api/events/team/${TEAM_ID}`,
+    `/api/schedules/team/${TEAM_ID}/latest`,
+];
+
+// 가상 사용자별 마지막 ETag (브라우저처럼 If-None-Match 로 재검증)
+const etags = {};
+
+export default function (data) {
+    for (const path of paths) {
+        const headers = { Authorization: `Bearer ${data.token}` };
+        if (etags[path]) {
+            headers['If-None-Match'] = etags[path];
+        }
+        const res = http.get(`${BASE_URL}${path}`, { headers, tags: { name: path.replace(TEAM_ID, '{teamId}') } });
+        check(res, { '200 또는 304': (r) => r.status === 200 || r.status === 304 });
+        if (res.headers['Etag']) {
+            etags[path] = res.headers['Etag'];
+        }
+    }
+    sleep(PAUSE);
+}
@@ -0,0 +1,63 @@
+package com.example.sbb.config;
+
+import java.io.IOException;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * application/cbor 페이로드를 Jackson CBOR 매퍼로 변환하는 STOMP 메시지 컨버터.
+ * content-type 이 정확히 cbor 인 경우에만 동작하므로(strict match) 기본 JSON 변환 경로에는 끼어들지 않는다.
+ */
+public class CborMessageConverter extends AbstractMessageConverter {
+
+    public static final MimeType APPLICATION_CBOR = new MimeType("application", "cbor");
+
+    private final ObjectMapper objectMapper;
+
+    public CborMessageConverter() {
+        // 날짜/모듈 설정은 브로커 JSON 컨버터와 동일한 빌더 기본값을 따른다.
+        this(Jackson2ObjectMapperBuilder.cbor().build());
+    }
+
+    public CborMessageConverter(ObjectMapper objectMapper) {
+        super(APPLICATION_CBOR);
+        this.objectMapper = objectMapper;
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    @Nullable
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, @Nullable Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(payload, targetClass);
+        } catch (IOException e) {
+            throw new MessageConversionException(message, "Could not read CBOR: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @Nullable
+    protected Object convertToInternal(Object payload, @Nullable MessageHeaders headers, @Nullable Object conversionHint) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new MessageConversionException("Could not write CBOR: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sbb.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그리디가 배치하지 못한 작업의 ejection chain 삽입 설정 (scheduling.ejection.*).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduling.ejection")
+public class EjectionChainProperties {
+
+    /**
+     * false 이면 그리디 결과를 그대로 쓴다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 한 작업을 넣기 위해 연달아 밀어낼 수 있는 배치 수
+     */
+    private int maxDepth = 3;
+
+    /**
+     * 단계마다 시도할 밀어내기 후보 수 (밀어낼 작업이 짧은 순)
+     */
+    private int maxCandidates = 8;
+
+    /**
+     * 스케줄 생성 한 번에 쓸 수 있는 탐색 시간
+     */
+    private long timeBudgetMs = 200;
+}
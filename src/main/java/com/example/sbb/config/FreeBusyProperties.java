@@ -0,0 +1,32 @@
+package com.example.sbb.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 free/busy 비트맵 캐시 설정 (free-busy.*).
+ * 변경 경로(근무시간/캘린더 이벤트)에서 무효화하므로 TTL 은 다른 인스턴스에서 바뀐 값을 놓쳤을 때의 상한이다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "free-busy")
+public class FreeBusyProperties {
+
+    /**
+     * 캐시 항목 유효 시간 (초).
+     */
+    private long ttlSeconds = 600;
+
+    /**
+     * 계산한 비트맵을 free_busy_day 테이블에도 저장해 재시작/다른 인스턴스에서 재사용할지 여부.
+     */
+    private boolean persistent = false;
+
+    /**
+     * 만료된 메모리 캐시 항목 정리 주기 (밀리초). FreeBusyCache 의 @Scheduled 에서도 같은 키를 쓴다.
+     */
+    private long sweepIntervalMs = 60000;
+}
@@ -0,0 +1,46 @@
+package com.example.sbb.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬서치 전략 설정 (local-search.*).
+ * 이름은 Metaheuristic#name() 값이다 (simulated-annealing, tabu, late-acceptance).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "local-search")
+public class LocalSearchProperties {
+
+    /**
+     * 기본 전략
+     */
+    private String metaheuristic = "simulated-annealing";
+
+    /**
+     * 팀별 전략 (local-search.teams.{teamId}=tabu). 요청에 전략이 지정되면 요청이 우선한다.
+     */
+    private Map<Long, String> teams = new HashMap<>();
+
+    /**
+     * 난수 시드 고정 (null 이면 실행마다 새로 뽑고 로그에 남긴다)
+     */
+    private Long seed;
+
+    /**
+     * 팀에 지정된 전략, 없으면 null
+     */
+    public String teamOverride(Long teamId) {
+        return teamId != null ? teams.get(teamId) : null;
+    }
+
+    public String metaheuristicFor(Long teamId) {
+        String override = teamOverride(teamId);
+        return override != null ? override : metaheuristic;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sbb.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 범위 스케줄의 rolling horizon 분할 설정 (scheduling.horizon.*).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduling.horizon")
+public class RollingHorizonProperties {
+
+    /**
+     * false 이면 범위 길이와 관계없이 한 번에 푼다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 범위가 이 일수 이상일 때만 나눠서 푼다.
+     */
+    private int minRangeDays = 28;
+
+    /**
+     * 한 번에 푸는 구간 길이 (일)
+     */
+    private int windowDays = 14;
+
+    /**
+     * 구간을 옮기는 간격이자 확정하는 앞부분 길이 (일). windowDays 보다 작으면 구간이 겹친다.
+     */
+    private int stepDays = 7;
+}
@@ -0,0 +1,41 @@
+package com.example.sbb.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄 생성 작업 API 설정 (scheduling.jobs.*).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduling.jobs")
+public class SchedulingJobProperties {
+
+    /**
+     * 동시에 푸는 작업 수 (솔버 스레드 수)
+     */
+    private int poolSize = 2;
+
+    /**
+     * 대기열 길이. 가득 차면 새 작업은 503 으로 거절한다.
+     */
+    private int queueCapacity = 16;
+
+    /**
+     * 팀 스케줄 락(schedule:team:{id}) 리스 TTL (초). 작업이 끝날 때까지 renew-interval-ms 마다 연장한다.
+     */
+    private long lockTtlSeconds = 30;
+
+    /**
+     * 락 리스 연장 주기 (밀리초). TTL 보다 충분히 짧아야 한다.
+     */
+    private long renewIntervalMs = 10000;
+
+    /**
+     * 끝난 작업 상태를 조회용으로 보관하는 시간 (분)
+     */
+    private long retentionMinutes = 60;
+}
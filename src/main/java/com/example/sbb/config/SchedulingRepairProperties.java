@@ -0,0 +1,26 @@
+package com.example.sbb.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 단건 변경 시 스케줄 부분 수리 설정 (scheduling.repair.*).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduling.repair")
+public class SchedulingRepairProperties {
+
+    /**
+     * false 이면 작업 변경마다 항상 전체 재생성한다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 수리 결과 점수가 현재 스케줄 점수보다 이 비율 이상 떨어지면 전체 재생성으로 넘어간다.
+     */
+    private double maxScoreDropRatio = 0.05;
+}
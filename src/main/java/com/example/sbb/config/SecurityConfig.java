@@ -55,8 +55,9 @@ public class SecurityConfig {
                 .requestMatchers("/", "/index.html", "/login.html", "/signup.html",
                                  "/users.html", "/task.html", "/team.html", "/event.html", "/ws-test.html").permitAll() // 루트 및 HTML 페이지 허용
                 // SockJS 관련 경로 모두 허용 (iframe.html, jsonp, info 등)
-                .requestMatchers("/ws/**").permitAll() // 웹소켓 핸드셰이크 및 SockJS 정적 리소스 허용
-                .requestMatchers("/actuator/**").permitAll()  // Actuator (선택사항)
+                .requestMatchers("/ws/**", "/ws-native").permitAll() // 웹소켓 핸드셰이크 및 SockJS 정적 리소스 허용
+                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()  // 헬스체크/정보는 공개
+                .requestMatchers("/actuator/**").authenticated()  // 지표(STOMP/JVM)는 인증 필요
                 .requestMatchers("/hello").permitAll()  // 테스트 엔드포인트 허용
                 .requestMatchers("/assets/**").permitAll()  // React 빌드된 assets 허용
                 .anyRequest().permitAll()  // React Router 경로는 모두 허용 (클라이언트 사이드 라우팅)
@@ -0,0 +1,43 @@
+package com.example.sbb.config;
+
+import com.example.sbb.domain.SlotGrid;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀별 슬롯 단위 설정 (scheduling.grid.*). 15, 30, 60분만 지원한다.
+ *
+ * - 30분: 솔버 기본 격자 그대로
+ * - 60분: 1시간 단위로 빈 시간만 써서 배치 (30분 조각은 버림)
+ * - 15분: 30분 격자로 먼저 풀고 배치 주변만 15분 단위로 다듬음 (refine=false 면 30분 결과 그대로)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduling.grid")
+public class SlotGridProperties {
+
+    /**
+     * 기본 슬롯 단위 (분)
+     */
+    private int minutes = 30;
+
+    /**
+     * 팀별 슬롯 단위 (scheduling.grid.teams.{teamId}=15)
+     */
+    private Map<Long, Integer> teams = new HashMap<>();
+
+    /**
+     * 기본 격자보다 세밀한 팀은 배치 후 세밀 격자로 다듬는다
+     */
+    private boolean refine = true;
+
+    public SlotGrid gridFor(Long teamId) {
+        Integer override = teamId != null ? teams.get(teamId) : null;
+        return SlotGrid.of(override != null ? override : minutes);
+    }
+}
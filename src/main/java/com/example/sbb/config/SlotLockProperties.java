@@ -0,0 +1,74 @@
+package com.example.sbb.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 슬롯 락 저장 방식 설정 (slot-lock.*).
+ * 기본은 DB 모드이며, MEMORY 모드는 단일 인스턴스에서 인메모리 리스를 원본으로 쓰고
+ * slot_lock 테이블에는 비동기로 기록한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "slot-lock")
+public class SlotLockProperties {
+
+    private Mode mode = Mode.DB;
+
+    /**
+     * 만료 락 정리 주기 (밀리초). SlotLockMaintenanceJob 의 @Scheduled 에서도 같은 키를 쓴다.
+     */
+    private long cleanupIntervalMs = 60000;
+
+    /**
+     * 만료 락 정리 시 한 번에 삭제하는 최대 행 수와 한 주기에 처리하는 최대 청크 수.
+     * 청크마다 별도 트랜잭션이므로 긴 락을 잡지 않는다.
+     */
+    private int cleanupChunkSize = 500;
+    private int cleanupMaxChunks = 20;
+
+    /**
+     * 리스 만료 타이밍 휠 설정: 틱 간격(밀리초), 단계별 버킷 수(2의 거듭제곱), 단계 수.
+     * 기본값(1초 x 64 x 3단계)은 약 3일까지를 캐스케이드 없이 덮는다.
+     */
+    private long expiryTickMs = 1000;
+    private int expiryWheelSize = 64;
+    private int expiryWheelLevels = 3;
+
+    /**
+     * MEMORY 모드에서 변경된 리스를 slot_lock 에 반영하는 주기 (밀리초).
+     */
+    private long writeBehindIntervalMs = 500;
+
+    /**
+     * 인메모리 리스 스트라이프 락 개수 (2의 거듭제곱으로 올림).
+     */
+    private int stripes = 64;
+
+    /**
+     * MEMORY 모드에서 펜싱 토큰을 DB 시퀀스에서 한 번에 예약하는 개수.
+     */
+    private int fencingTokenBlockSize = 1024;
+
+    /**
+     * 하트비트/일괄 갱신 API 에서 허용하는 최대 리스 TTL (초). 요청에 TTL 이 없으면 이 값을 쓴다.
+     */
+    private long maxLeaseTtlSeconds = 300;
+
+    /**
+     * 일괄 갱신/해제 한 번에 받을 수 있는 최대 키 개수.
+     */
+    private int maxBatchKeys = 500;
+
+    public boolean isMemoryMode() {
+        return mode == Mode.MEMORY;
+    }
+
+    public enum Mode {
+        DB,
+        MEMORY
+    }
+}
@@ -22,10 +22,13 @@ import com.example.sbb.util.JwtUtil;
 import com.example.sbb.repository.TeamMemberRepository;
 import com.example.sbb.domain.TeamMemberId;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * STOMP CONNECT/SEND/SUBSCRIBE 프레임마다 JWT를 검증하고 토픽 접근 권한을 확인하는 인터셉터.
  * WebSocket 연결 이후에도 각 메시지 단위로 인증 정보와 토픽 권한을 확인한다.
  */
+@Slf4j
 @Component
 public class StompJwtChannelInterceptor implements ChannelInterceptor {
 
@@ -34,6 +37,7 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
     private final TeamMemberRepository teamMemberRepository;
+    private final StompMetrics stompMetrics;
 
     /**
      * SockJS CONNECT 프레임에서 토큰을 전파하지 못하는 경우를 대비하여
@@ -41,35 +45,35 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
      */
     private final Map<String, String> sessionTokenCache = new ConcurrentHashMap<>();
 
-    public StompJwtChannelInterceptor(JwtUtil jwtUtil, TeamMemberRepository teamMemberRepository) {
+    public StompJwtChannelInterceptor(JwtUtil jwtUtil, TeamMemberRepository teamMemberRepository,
+                                      StompMetrics stompMetrics) {
         this.jwtUtil = jwtUtil;
         this.teamMemberRepository = teamMemberRepository;
+        this.stompMetrics = stompMetrics;
     }
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        // 모든 메시지에 대해 로그 출력 (디버깅용)
-        System.out.println("[STOMP Interceptor] preSend called, message type: " + message.getClass().getSimpleName());
-        
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
         StompCommand command = accessor.getCommand();
-        
-        System.out.println("[STOMP Interceptor] Command: " + command + ", session: " + accessor.getSessionId());
-        
+
         if (command == null) {
             // STOMP 프레임이 아니면 그대로 통과
-            System.out.println("[STOMP Interceptor] Not a STOMP frame, passing through");
             return message;
         }
 
-        System.out.println("[STOMP] Received command: " + command + ", session: " + accessor.getSessionId());
+        // 프레임마다 호출되는 경로이므로 문자열 조립 비용이 들지 않도록 레벨을 먼저 확인한다.
+        if (log.isDebugEnabled()) {
+            log.debug("STOMP 프레임 수신: command={}, session={}", command, accessor.getSessionId());
+        }
 
         try {
             switch (command) {
                 case CONNECT -> {
-                    System.out.println("[STOMP] Handling CONNECT, session: " + accessor.getSessionId());
                     handleConnect(accessor);               // 최초 연결 시 토큰 검증
-                    System.out.println("[STOMP] CONNECT successful, session: " + accessor.getSessionId());
+                    if (log.isDebugEnabled()) {
+                        log.debug("STOMP CONNECT 인증 성공: session={}", accessor.getSessionId());
+                    }
                 }
                 case SEND -> ensureAuthenticated(accessor);            // 프레임 전송 시 인증 여부 확인
                 case SUBSCRIBE -> {
@@ -80,9 +84,14 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
                 default -> {
                 }
             }
-        } catch (Exception e) {
-            System.err.println("[STOMP] Error handling " + command + ": " + e.getMessage());
-            e.printStackTrace();
+        } catch (MessageDeliveryException e) {
+            // 인증/권한 거부는 정상적인 흐름이므로 스택 트레이스 없이 남긴다.
+            if (log.isDebugEnabled()) {
+                log.debug("STOMP {} 거부: session={}, reason={}", command, accessor.getSessionId(), e.getMessage());
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("STOMP {} 처리 중 오류: session={}", command, accessor.getSessionId(), e);
             throw e;
         }
 
@@ -91,26 +100,17 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
 
     private void handleConnect(StompHeaderAccessor accessor) {
         String sessionId = accessor.getSessionId();
-        System.out.println("[STOMP] handleConnect called, session: " + sessionId);
-        
         String rawToken = resolveToken(accessor);
-        System.out.println("[STOMP] Raw token resolved: " + (rawToken != null ? "present" : "null"));
 
         if (!StringUtils.hasText(rawToken)) {
             // CONNECT 단계에서 토큰이 없으면 연결 자체를 거부
-            System.err.println("[STOMP] Missing Authorization header for STOMP CONNECT, session: " + sessionId);
-            throw new MessageDeliveryException("Missing Authorization header for STOMP CONNECT");
+            throw reject("missing_token", "Missing Authorization header for STOMP CONNECT");
         }
 
         String token = normalizeBearerToken(rawToken);
-        System.out.println("[STOMP] Token normalized, validating...");
-        
         if (!jwtUtil.isTokenValid(token)) {
-            System.err.println("[STOMP] Invalid JWT token in STOMP CONNECT, session: " + sessionId);
-            throw new MessageDeliveryException("Invalid JWT token in STOMP CONNECT");
+            throw reject("invalid_token", "Invalid JWT token in STOMP CONNECT");
         }
-        
-        System.out.println("[STOMP] Token is valid");
 
         Long userId = jwtUtil.getUserIdFromToken(token);
         Principal principal = new UsernamePasswordAuthenticationToken(
@@ -135,7 +135,7 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
             String sessionId = accessor.getSessionId();
             String token = sessionId != null ? sessionTokenCache.get(sessionId) : null;
             if (!StringUtils.hasText(token) || !jwtUtil.isTokenValid(token)) {
-                throw new MessageDeliveryException("Unauthenticated STOMP frame rejected");
+                throw reject("unauthenticated", "Unauthenticated STOMP frame rejected");
             }
             Long userId = jwtUtil.getUserIdFromToken(token);
             principal = new UsernamePasswordAuthenticationToken(
@@ -191,12 +191,12 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
     private void validateTopicAccess(StompHeaderAccessor accessor) {
         String destination = accessor.getDestination();
         if (destination == null) {
-            throw new MessageDeliveryException("SUBSCRIBE destination is required");
+            throw reject("missing_destination", "SUBSCRIBE destination is required");
         }
 
         Principal principal = accessor.getUser();
         if (principal == null) {
-            throw new MessageDeliveryException("Unauthenticated SUBSCRIBE rejected");
+            throw reject("unauthenticated", "Unauthenticated SUBSCRIBE rejected");
         }
 
         Long userId = Long.parseLong(principal.getName());
@@ -214,20 +214,24 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
             validateUserTopic(destination, userId, "/topic/notifications/user/");
         } else if (destination.startsWith("/topic/schedules/")) {
             validateTeamTopic(destination, userId, "/topic/schedules/");
+        } else if (destination.startsWith("/topic/locks/")) {
+            validateTeamTopic(destination, userId, "/topic/locks/");
         } else if (destination.startsWith("/topic/detail/")) {
             // detail 토픽은 일단 허용 (추후 필요시 엔티티 소유권 검증 추가 가능)
             // 패턴만 확인
             if (!destination.matches("/topic/detail/[^/]+/\\d+")) {
-                throw new MessageDeliveryException("Invalid topic pattern: " + destination);
+                throw reject("invalid_topic", "Invalid topic pattern: " + destination);
             }
+        } else if (destination.equals("/user/queue/locks")) {
+            // 락 하트비트 응답은 보낸 세션으로만 전달되는 사용자 목적지이므로 별도 검증 불필요
         } else if (destination.equals("/topic/tasks") || destination.equals("/topic/calendar") 
                 || destination.equals("/topic/conflicts") || destination.equals("/topic/notifications")
-                || destination.equals("/topic/schedules")) {
+                || destination.equals("/topic/schedules") || destination.equals("/topic/locks")) {
             // 루트 레벨 토픽은 허용하지 않음 (보안상 이유)
-            throw new MessageDeliveryException("Root level topic subscription not allowed: " + destination);
+            throw reject("root_topic", "Root level topic subscription not allowed: " + destination);
         } else {
             // 알 수 없는 토픽 패턴은 거부
-            throw new MessageDeliveryException("Unauthorized topic pattern: " + destination);
+            throw reject("unknown_topic", "Unauthorized topic pattern: " + destination);
         }
     }
 
@@ -241,10 +245,10 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
             Long teamId = Long.parseLong(teamIdStr);
             TeamMemberId memberId = new TeamMemberId(teamId, userId);
             if (!teamMemberRepository.existsById(memberId)) {
-                throw new MessageDeliveryException("User is not a member of team: " + teamId);
+                throw reject("not_team_member", "User is not a member of team: " + teamId);
             }
         } catch (NumberFormatException e) {
-            throw new MessageDeliveryException("Invalid team ID in topic: " + destination);
+            throw reject("invalid_topic", "Invalid team ID in topic: " + destination);
         }
     }
 
@@ -257,12 +261,20 @@ public class StompJwtChannelInterceptor implements ChannelInterceptor {
         try {
             Long targetUserId = Long.parseLong(targetUserIdStr);
             if (!userId.equals(targetUserId)) {
-                throw new MessageDeliveryException("User can only subscribe to their own notification topic");
+                throw reject("not_topic_owner", "User can only subscribe to their own notification topic");
             }
         } catch (NumberFormatException e) {
-            throw new MessageDeliveryException("Invalid user ID in topic: " + destination);
+            throw reject("invalid_topic", "Invalid user ID in topic: " + destination);
         }
     }
+
+    /**
+     * 거부 사유를 지표에 집계하고 클라이언트에 돌려줄 예외를 만든다.
+     */
+    private MessageDeliveryException reject(String reason, String description) {
+        stompMetrics.recordRejection(reason);
+        return new MessageDeliveryException(description);
+    }
 }
 
 
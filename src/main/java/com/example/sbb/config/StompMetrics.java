@@ -0,0 +1,195 @@
+package com.example.sbb.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * STOMP 파이프라인 Micrometer 지표 모음.
+ * 인바운드 처리 지연(커맨드별), 인터셉터 거부 사유, 토픽 계열별 아웃바운드 메시지/바이트,
+ * clientInbound/clientOutbound 실행기 큐 길이, 활성 세션/구독 수를 /actuator/metrics 로 노출한다.
+ */
+@Component
+public class StompMetrics {
+
+    /**
+     * 태그 카디널리티를 제한하기 위해 허용하는 토픽 계열. 그 외는 "other"로 묶는다.
+     */
+    private static final Set<String> TOPIC_FAMILIES = Set.of(
+            "tasks", "calendar", "schedules", "schedule", "conflicts", "notifications", "detail", "locks"
+    );
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> inboundTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> outboundMessageCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> outboundByteSummaries = new ConcurrentHashMap<>();
+
+    /**
+     * sessionId -> 해당 세션의 활성 구독 수. 세션 수 게이지는 이 맵의 크기를 사용한다.
+     */
+    private final Map<String, AtomicInteger> sessionSubscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger activeSubscriptions = new AtomicInteger();
+
+    public StompMetrics(MeterRegistry registry,
+                        @Qualifier("clientInboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> inboundExecutor,
+                        @Qualifier("clientOutboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> outboundExecutor) {
+        this.registry = registry;
+
+        Gauge.builder("stomp.sessions.active", sessionSubscriptions, Map::size)
+                .description("활성 STOMP 세션 수")
+                .register(registry);
+        Gauge.builder("stomp.subscriptions.active", activeSubscriptions, AtomicInteger::get)
+                .description("활성 STOMP 구독 수")
+                .register(registry);
+
+        // 실행기 빈은 브로커 설정이 끝난 뒤 만들어지므로 조회 시점에 지연 해석한다 (순환 의존 방지).
+        registerQueueGauge("inbound", inboundExecutor);
+        registerQueueGauge("outbound", outboundExecutor);
+    }
+
+    /**
+     * 인바운드 프레임 한 건의 핸들러 처리 시간을 기록한다.
+     */
+    public void recordInbound(StompCommand command, String handler, long elapsedNanos) {
+        String commandName = command != null ? command.name() : "NONE";
+        String key = commandName + ":" + handler;
+        inboundTimers.computeIfAbsent(key, k -> Timer.builder("stomp.inbound.latency")
+                        .description("STOMP 인바운드 프레임 처리 지연")
+                        .tag("command", commandName)
+                        .tag("handler", handler)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(100_000))
+                        .maximumExpectedValue(Duration.ofSeconds(5))
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 인터셉터가 프레임을 거부한 사유를 집계한다.
+     */
+    public void recordRejection(String reason) {
+        rejectionCounters.computeIfAbsent(reason, r -> Counter.builder("stomp.inbound.rejected")
+                        .description("인터셉터에서 거부된 STOMP 프레임 수")
+                        .tag("reason", r)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * 클라이언트로 나가는 MESSAGE 프레임을 토픽 계열별로 집계한다.
+     */
+    public void recordOutbound(String destination, int payloadBytes) {
+        String family = topicFamily(destination);
+        outboundMessageCounters.computeIfAbsent(family, f -> Counter.builder("stomp.outbound.messages")
+                        .description("클라이언트로 전송된 STOMP MESSAGE 프레임 수")
+                        .tag("family", f)
+                        .register(registry))
+                .increment();
+        outboundByteSummaries.computeIfAbsent(family, f -> DistributionSummary.builder("stomp.outbound.bytes")
+                        .description("클라이언트로 전송된 STOMP 페이로드 크기")
+                        .baseUnit("bytes")
+                        .tag("family", f)
+                        .register(registry))
+                .record(payloadBytes);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId != null) {
+            sessionSubscriptions.putIfAbsent(sessionId, new AtomicInteger());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        AtomicInteger subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            activeSubscriptions.addAndGet(-subscriptions.get());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        AtomicInteger subscriptions = sessionSubscriptions.get(StompHeaderAccessor.wrap(event.getMessage()).getSessionId());
+        if (subscriptions != null) {
+            subscriptions.incrementAndGet();
+            activeSubscriptions.incrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        AtomicInteger subscriptions = sessionSubscriptions.get(StompHeaderAccessor.wrap(event.getMessage()).getSessionId());
+        if (subscriptions != null && subscriptions.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            activeSubscriptions.decrementAndGet();
+        }
+    }
+
+    /**
+     * "/topic/tasks/3", "/topic/schedule.3" 같은 목적지에서 토픽 계열명을 추출한다.
+     */
+    static String topicFamily(String destination) {
+        if (destination == null) {
+            return "other";
+        }
+        if (destination.startsWith("/user/") || destination.startsWith("/queue/")) {
+            // 사용자 목적지는 브로커 단계에서 /queue/...-user{sessionId} 로 변환된다.
+            return "user";
+        }
+        if (!destination.startsWith("/topic/")) {
+            return "other";
+        }
+        String rest = destination.substring("/topic/".length());
+        int end = 0;
+        while (end < rest.length() && rest.charAt(end) != '/' && rest.charAt(end) != '.') {
+            end++;
+        }
+        String family = rest.substring(0, end);
+        return TOPIC_FAMILIES.contains(family) ? family : "other";
+    }
+
+    private void registerQueueGauge(String channel, ObjectProvider<ThreadPoolTaskExecutor> executor) {
+        Gauge.builder("stomp.channel.queue.size", executor, StompMetrics::queueSize)
+                .description("STOMP 채널 실행기 대기 큐 길이")
+                .tag("channel", channel)
+                .register(registry);
+    }
+
+    private static double queueSize(ObjectProvider<ThreadPoolTaskExecutor> provider) {
+        ThreadPoolTaskExecutor executor = provider.getIfAvailable();
+        if (executor == null) {
+            return 0;
+        }
+        try {
+            ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+            return pool.getQueue().size();
+        } catch (IllegalStateException e) {
+            // 아직 초기화되지 않았거나 종료된 실행기
+            return 0;
+        }
+    }
+}
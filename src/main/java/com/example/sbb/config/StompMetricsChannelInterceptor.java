@@ -0,0 +1,69 @@
+package com.example.sbb.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * STOMP 지표 수집 인터셉터. 채널 방향별로 인스턴스를 따로 만들어 WebSocketConfig 에서 등록한다.
+ * - inbound: 실행기 스레드에서 핸들러별 처리 시간을 커맨드 단위로 기록
+ * - outbound: 브로커가 내보내는 MESSAGE 프레임을 토픽 계열별 건수/바이트로 기록
+ */
+public class StompMetricsChannelInterceptor implements ExecutorChannelInterceptor {
+
+    /**
+     * beforeHandle/afterMessageHandled 는 같은 실행기 스레드에서 호출되므로 시작 시각을 스레드에 보관한다.
+     */
+    private static final ThreadLocal<Long> HANDLE_STARTED_AT = new ThreadLocal<>();
+
+    private final StompMetrics metrics;
+    private final boolean outbound;
+
+    private StompMetricsChannelInterceptor(StompMetrics metrics, boolean outbound) {
+        this.metrics = metrics;
+        this.outbound = outbound;
+    }
+
+    public static StompMetricsChannelInterceptor inbound(StompMetrics metrics) {
+        return new StompMetricsChannelInterceptor(metrics, false);
+    }
+
+    public static StompMetricsChannelInterceptor outbound(StompMetrics metrics) {
+        return new StompMetricsChannelInterceptor(metrics, true);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        // 구독 ID가 붙은 메시지만 브로커 → 클라이언트 MESSAGE 프레임이다 (CONNECTED/RECEIPT 등 제외).
+        if (outbound
+                && SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()) != null
+                && message.getPayload() instanceof byte[] payload) {
+            metrics.recordOutbound(SimpMessageHeaderAccessor.getDestination(message.getHeaders()), payload.length);
+        }
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!outbound) {
+            HANDLE_STARTED_AT.set(System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (outbound) {
+            return;
+        }
+        Long startedAt = HANDLE_STARTED_AT.get();
+        HANDLE_STARTED_AT.remove();
+        if (startedAt != null) {
+            metrics.recordInbound(StompHeaderAccessor.wrap(message).getCommand(),
+                    handler.getClass().getSimpleName(), System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.sbb.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발행 한 번에 인코딩별로 한 번씩만 페이로드를 직렬화한다.
+ * JSON 은 브로커 기본 컨버터로 항상 만들고, CBOR 는 협상한 세션이 있을 때만 만들어
+ * 내부 헤더에 실어 보낸다. 구독자별 교체는 {@link StompPayloadEncodingInterceptor} 가 한다.
+ */
+@Component
+public class StompPayloadEncoder {
+
+    private final CompositeMessageConverter brokerMessageConverter;
+    private final StompPayloadEncodingInterceptor encodingInterceptor;
+    private final CborMessageConverter cborMessageConverter;
+
+    public StompPayloadEncoder(@Qualifier("brokerMessageConverter") CompositeMessageConverter brokerMessageConverter,
+                               StompPayloadEncodingInterceptor encodingInterceptor,
+                               CborMessageConverter cborMessageConverter) {
+        this.brokerMessageConverter = brokerMessageConverter;
+        this.encodingInterceptor = encodingInterceptor;
+        this.cborMessageConverter = cborMessageConverter;
+    }
+
+    /**
+     * 페이로드를 인코딩해 둔다. 여러 목적지로 보내도 결과를 재사용하면 직렬화는 인코딩당 한 번이다.
+     * 변환할 수 없는 페이로드면 null 을 반환한다.
+     */
+    public EncodedPayload encode(Object payload) {
+        Message<?> json = brokerMessageConverter.toMessage(payload, null);
+        if (json == null || !(json.getPayload() instanceof byte[] jsonBytes)) {
+            return null;
+        }
+        byte[] cborBytes = null;
+        if (encodingInterceptor.hasCborSessions()) {
+            Message<?> cbor = cborMessageConverter.toMessage(payload, cborHeaders());
+            if (cbor != null && cbor.getPayload() instanceof byte[] bytes) {
+                cborBytes = bytes;
+            }
+        }
+        return new EncodedPayload(jsonBytes, json.getHeaders().get(MessageHeaders.CONTENT_TYPE), cborBytes);
+    }
+
+    /**
+     * 목적지 하나로 보낼 메시지를 만든다. 바이트 배열은 복사하지 않고 공유한다.
+     */
+    public Message<byte[]> toMessage(EncodedPayload encoded) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        if (encoded.contentType() != null) {
+            accessor.setHeader(MessageHeaders.CONTENT_TYPE, encoded.contentType());
+        }
+        if (encoded.cbor() != null) {
+            accessor.setHeader(StompPayloadEncodingInterceptor.CBOR_PAYLOAD_HEADER, encoded.cbor());
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(encoded.json(), accessor.getMessageHeaders());
+    }
+
+    private static MessageHeaders cborHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(CborMessageConverter.APPLICATION_CBOR);
+        return accessor.getMessageHeaders();
+    }
+
+    public record EncodedPayload(byte[] json, Object contentType, byte[] cbor) {
+    }
+}
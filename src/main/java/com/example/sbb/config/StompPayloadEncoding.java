@@ -0,0 +1,24 @@
+package com.example.sbb.config;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * STOMP CONNECT 프레임의 payload-encoding 헤더로 협상하는 아웃바운드 페이로드 인코딩.
+ * 헤더가 없거나 알 수 없는 값이면 JSON(기본값)을 사용한다.
+ */
+public enum StompPayloadEncoding {
+    JSON,
+    CBOR;
+
+    /**
+     * CONNECT 협상 헤더이자, 바이너리로 내려가는 MESSAGE 프레임에 붙는 인코딩 표시 헤더.
+     */
+    public static final String HEADER = "payload-encoding";
+
+    public static StompPayloadEncoding fromHeader(String value) {
+        if (StringUtils.hasText(value) && "cbor".equalsIgnoreCase(value.trim())) {
+            return CBOR;
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.sbb.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * 세션별 페이로드 인코딩 협상과 아웃바운드 페이로드 교체를 담당하는 인터셉터.
+ * - inbound CONNECT: payload-encoding 헤더를 읽어 세션 인코딩을 기록
+ * - outbound MESSAGE: CBOR 세션이면 발행 시 한 번 인코딩해 둔 CBOR 바이트로 페이로드를 교체
+ *
+ * SockJS 는 텍스트 프레임만 전송하므로 CBOR 는 네이티브 WebSocket 엔드포인트(/ws-native)로
+ * 연결한 세션에서만 허용하고, 그 외에는 JSON 으로 내려보낸다.
+ */
+@Component
+public class StompPayloadEncodingInterceptor implements ChannelInterceptor {
+
+    /**
+     * 발행 시 미리 인코딩한 CBOR 바이트를 싣는 내부 헤더 (STOMP 프레임으로는 나가지 않는다).
+     */
+    public static final String CBOR_PAYLOAD_HEADER = "sbbCborPayload";
+
+    private static final String BINARY_TRANSPORT_ATTRIBUTE = "sbbBinaryTransport";
+
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        Object cborPayload = message.getHeaders().get(CBOR_PAYLOAD_HEADER);
+        if (cborPayload instanceof byte[] cbor) {
+            return encodeForSession(message, cbor);
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && accessor.getCommand() == StompCommand.CONNECT) {
+            registerSession(accessor);
+        }
+        return message;
+    }
+
+    /**
+     * CBOR 를 협상한 세션이 하나라도 있는지. 없으면 발행 측에서 CBOR 인코딩을 생략한다.
+     */
+    public boolean hasCborSessions() {
+        return !cborSessions.isEmpty();
+    }
+
+    public StompPayloadEncoding encodingOf(String sessionId) {
+        return sessionId != null && cborSessions.contains(sessionId)
+                ? StompPayloadEncoding.CBOR
+                : StompPayloadEncoding.JSON;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        cborSessions.remove(event.getSessionId());
+    }
+
+    private void registerSession(StompHeaderAccessor accessor) {
+        List<String> values = accessor.getNativeHeader(StompPayloadEncoding.HEADER);
+        if (CollectionUtils.isEmpty(values)
+                || StompPayloadEncoding.fromHeader(values.get(0)) != StompPayloadEncoding.CBOR) {
+            return;
+        }
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null && Boolean.TRUE.equals(attributes.get(BINARY_TRANSPORT_ATTRIBUTE))
+                && accessor.getSessionId() != null) {
+            cborSessions.add(accessor.getSessionId());
+        }
+    }
+
+    private Message<?> encodeForSession(Message<?> message, byte[] cbor) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null || !cborSessions.contains(sessionId)) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.removeHeader(CBOR_PAYLOAD_HEADER);
+        // octet-stream 이어야 StompSubProtocolHandler 가 바이너리 WebSocket 프레임으로 보낸다.
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(StompPayloadEncoding.HEADER, "cbor");
+        return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+    }
+
+    /**
+     * 네이티브 WebSocket 엔드포인트 세션에 바이너리 전송 가능 표시를 남기는 핸드셰이크 인터셉터.
+     */
+    public static class BinaryTransportHandshakeInterceptor implements HandshakeInterceptor {
+
+        @Override
+        public boolean beforeHandshake(@NonNull ServerHttpRequest request,
+                                       @NonNull ServerHttpResponse response,
+                                       @NonNull WebSocketHandler wsHandler,
+                                       @NonNull Map<String, Object> attributes) {
+            attributes.put(BINARY_TRANSPORT_ATTRIBUTE, Boolean.TRUE);
+            return true;
+        }
+
+        @Override
+        public void afterHandshake(@NonNull ServerHttpRequest request,
+                                   @NonNull ServerHttpResponse response,
+                                   @NonNull WebSocketHandler wsHandler,
+                                   Exception exception) {
+        }
+    }
+}
@@ -22,10 +22,12 @@ import org.springframework.stereotype.Component;
 public class StompRateLimitingChannelInterceptor implements ChannelInterceptor {
 
     private final WebSocketSecurityProperties properties;
+    private final StompMetrics stompMetrics;
     private final Map<String, RateWindow> windows = new ConcurrentHashMap<>();
 
-    public StompRateLimitingChannelInterceptor(WebSocketSecurityProperties properties) {
+    public StompRateLimitingChannelInterceptor(WebSocketSecurityProperties properties, StompMetrics stompMetrics) {
         this.properties = properties;
+        this.stompMetrics = stompMetrics;
     }
 
     @Override
@@ -56,7 +58,7 @@ public class StompRateLimitingChannelInterceptor implements ChannelInterceptor {
     private void enforceRateLimit(StompHeaderAccessor accessor) {
         String key = resolveLimiterKey(accessor);
         if (key == null) {
-            throw new MessageDeliveryException("Unauthenticated sessions cannot send STOMP messages");
+            throw reject("unauthenticated", "Unauthenticated sessions cannot send STOMP messages");
         }
 
         long now = Instant.now().toEpochMilli();
@@ -80,7 +82,7 @@ public class StompRateLimitingChannelInterceptor implements ChannelInterceptor {
                 && now - window.windowStartMs < windowMillis
                 && window.count > properties.getRateLimit().getMaxMessages()) {
             // 설정된 제한을 초과하면 메시지를 거부
-            throw new MessageDeliveryException("Rate limit exceeded for STOMP session");
+            throw reject("rate_limited", "Rate limit exceeded for STOMP session");
         }
     }
 
@@ -89,10 +91,10 @@ public class StompRateLimitingChannelInterceptor implements ChannelInterceptor {
         int limit = properties.getMessageSizeLimitBytes();
 
         if (payload instanceof byte[] bytes && bytes.length > limit) {
-            throw new MessageDeliveryException("STOMP payload exceeds allowed size");
+            throw reject("payload_too_large", "STOMP payload exceeds allowed size");
         }
         if (payload instanceof String text && text.getBytes(StandardCharsets.UTF_8).length > limit) {
-            throw new MessageDeliveryException("STOMP payload exceeds allowed size");
+            throw reject("payload_too_large", "STOMP payload exceeds allowed size");
         }
     }
 
@@ -103,7 +105,7 @@ public class StompRateLimitingChannelInterceptor implements ChannelInterceptor {
     private void enforceSubscribeRateLimit(StompHeaderAccessor accessor) {
         String key = resolveLimiterKey(accessor) + ":subscribe";
         if (key == null) {
-            throw new MessageDeliveryException("Unauthenticated sessions cannot subscribe to topics");
+            throw reject("unauthenticated", "Unauthenticated sessions cannot subscribe to topics");
         }
 
         long now = Instant.now().toEpochMilli();
@@ -127,7 +129,7 @@ public class StompRateLimitingChannelInterceptor implements ChannelInterceptor {
         if (window != null
                 && now - window.windowStartMs < windowMillis
                 && window.count > maxSubscribes) {
-            throw new MessageDeliveryException("Subscribe rate limit exceeded. Too many subscription attempts.");
+            throw reject("subscribe_rate_limited", "Subscribe rate limit exceeded. Too many subscription attempts.");
         }
     }
 
@@ -140,6 +142,14 @@ public class StompRateLimitingChannelInterceptor implements ChannelInterceptor {
         }
     }
 
+    /**
+     * 거부 사유를 지표에 집계하고 클라이언트에 돌려줄 예외를 만든다.
+     */
+    private MessageDeliveryException reject(String reason, String description) {
+        stompMetrics.recordRejection(reason);
+        return new MessageDeliveryException(description);
+    }
+
     private String resolveLimiterKey(StompHeaderAccessor accessor) {
         Principal user = accessor.getUser();
         if (user != null) {
@@ -1,6 +1,14 @@
 package com.example.sbb.config;
 
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -13,7 +21,12 @@ import org.springframework.lang.NonNull;
 /**
  * STOMP 엔드포인트와 브로커 설정을 담당하고,
  * Handshake/JWT/RateLimit 인터셉터를 전체 WebSocket 파이프라인에 적용한다.
+ *
+ * spring.threads.virtual.enabled=true 이고 JDK 21 이상이면 클라이언트 inbound/outbound 채널도
+ * 가상 스레드 실행기로 돌린다 (Tomcat 요청 스레드와 @Async 실행기는 Spring Boot 가 전환).
+ * 이때 채널 실행기에는 대기 큐가 없으므로 stomp.channel.queue.size 는 0 으로 보고된다.
  */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
@@ -22,15 +35,37 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final StompRateLimitingChannelInterceptor rateLimitingChannelInterceptor;
     private final StrictHandshakeInterceptor strictHandshakeInterceptor;
     private final WebSocketSecurityProperties webSocketSecurityProperties;
+    private final StompMetrics stompMetrics;
+    private final StompPayloadEncodingInterceptor payloadEncodingInterceptor;
+    private final boolean virtualThreads;
 
     public WebSocketConfig(StompJwtChannelInterceptor jwtChannelInterceptor,
                            StompRateLimitingChannelInterceptor rateLimitingChannelInterceptor,
                            StrictHandshakeInterceptor strictHandshakeInterceptor,
-                           WebSocketSecurityProperties webSocketSecurityProperties) {
+                           WebSocketSecurityProperties webSocketSecurityProperties,
+                           StompMetrics stompMetrics,
+                           StompPayloadEncodingInterceptor payloadEncodingInterceptor,
+                           Environment environment) {
         this.jwtChannelInterceptor = jwtChannelInterceptor;
         this.rateLimitingChannelInterceptor = rateLimitingChannelInterceptor;
         this.strictHandshakeInterceptor = strictHandshakeInterceptor;
         this.webSocketSecurityProperties = webSocketSecurityProperties;
+        this.stompMetrics = stompMetrics;
+        this.payloadEncodingInterceptor = payloadEncodingInterceptor;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+        if (!virtualThreads && environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("spring.threads.virtual.enabled=true 이지만 JDK {} 에서는 가상 스레드를 쓸 수 없어 플랫폼 스레드로 실행합니다",
+                    Runtime.version().feature());
+        }
+    }
+
+    /**
+     * content-type: application/cbor 인 프레임만 처리하는 CBOR 컨버터.
+     * 발행 측(StompPayloadEncoder)과 브로커 컨버터 체인이 같은 인스턴스를 공유한다.
+     */
+    @Bean
+    public CborMessageConverter cborMessageConverter() {
+        return new CborMessageConverter();
     }
 
     @Override
@@ -50,12 +85,39 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 // 이렇게 하면 iframe/jsonp transport도 정상 작동하고, 모든 transport가 동일하게 처리됨
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+
+        // 바이너리(CBOR) 프레임을 받을 수 있는 네이티브 WebSocket 엔드포인트 (SockJS 폴백 없음)
+        registry.addEndpoint("/ws-native")
+                .addInterceptors(strictHandshakeInterceptor,
+                        new StompPayloadEncodingInterceptor.BinaryTransportHandshakeInterceptor())
+                .setAllowedOriginPatterns("*");
     }
 
     @Override
     public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
         // 클라이언트에서 들어오는 STOMP 프레임에 JWT와 레이트 리밋 순으로 적용
-        registration.interceptors(rateLimitingChannelInterceptor, jwtChannelInterceptor);
+        // 지표 인터셉터는 맨 앞에 두어 거부된 프레임과 무관하게 핸들러 처리 시간만 기록한다.
+        registration.interceptors(StompMetricsChannelInterceptor.inbound(stompMetrics),
+                rateLimitingChannelInterceptor, jwtChannelInterceptor, payloadEncodingInterceptor);
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+        // 세션 인코딩(CBOR)으로 페이로드를 교체한 뒤, 실제 전송 크기로 토픽 계열별 건수/바이트 집계
+        registration.interceptors(payloadEncodingInterceptor, StompMetricsChannelInterceptor.outbound(stompMetrics));
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-outbound-"));
+        }
+    }
+
+    @Override
+    public boolean configureMessageConverters(@NonNull List<MessageConverter> messageConverters) {
+        // CBOR 는 strict content-type 매칭이라 기본 JSON 변환보다 앞에 두어도 JSON 경로에 영향이 없다.
+        messageConverters.add(cborMessageConverter());
+        return true;
     }
 
     @Override
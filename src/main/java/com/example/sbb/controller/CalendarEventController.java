@@ -1,6 +1,7 @@
 package com.example.sbb.controller;
 
 import com.example.sbb.controller.support.AuthenticatedUserResolver;
+import com.example.sbb.controller.support.ConditionalGet;
 import com.example.sbb.dto.request.CalendarEventCreateRequest;
 import com.example.sbb.dto.request.CalendarEventUpdateRequest;
 import com.example.sbb.dto.request.MeetingSuggestionRequest;
@@ -9,6 +10,7 @@ import com.example.sbb.dto.response.MeetingSuggestionResponse;
 import com.example.sbb.service.CalendarEventService;
 import com.example.sbb.service.MeetingSuggestionService;
 import com.example.sbb.service.SlotLockService;
+import com.example.sbb.service.TeamVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +20,7 @@ import jakarta.validation.Valid;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,15 +32,18 @@ public class CalendarEventController {
     private final CalendarEventService calendarEventService;
     private final SlotLockService slotLockService;
     private final MeetingSuggestionService meetingSuggestionService;
+    private final TeamVersionService teamVersionService;
     private static final Duration EVENT_LOCK_TTL = Duration.ofMinutes(3);
 
     public CalendarEventController(
             CalendarEventService calendarEventService, 
             SlotLockService slotLockService,
-            MeetingSuggestionService meetingSuggestionService) {
+            MeetingSuggestionService meetingSuggestionService,
+            TeamVersionService teamVersionService) {
         this.calendarEventService = calendarEventService;
         this.slotLockService = slotLockService;
         this.meetingSuggestionService = meetingSuggestionService;
+        this.teamVersionService = teamVersionService;
     }
 
     @PostMapping
@@ -71,19 +77,29 @@ public class CalendarEventController {
     }
 
     @GetMapping("/team/{teamId}")
-    @Operation(summary = "팀별 이벤트 목록", description = "팀 ID 기준으로 모든 이벤트를 조회합니다.")
-    public ResponseEntity<List<CalendarEventResponse>> byTeam(@Parameter(description = "팀 ID", example = "1") @PathVariable Long teamId) {
-        return ResponseEntity.ok(calendarEventService.findByTeam(teamId));
+    @Operation(summary = "팀별 이벤트 목록", description = "팀 ID 기준으로 모든 이벤트를 조회합니다. If-None-Match 가 ETag 와 같으면 304 를 반환합니다.")
+    public ResponseEntity<List<CalendarEventResponse>> byTeam(
+        @Parameter(description = "팀 ID", example = "1") @PathVariable Long teamId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return teamVersionService.eventListTag(teamId)
+            .map(etag -> ConditionalGet.respond(ifNoneMatch, etag, () -> calendarEventService.findByTeam(teamId)))
+            .orElseGet(() -> ResponseEntity.ok(calendarEventService.findByTeam(teamId)));
     }
 
     @GetMapping("/team/{teamId}/range")
-    @Operation(summary = "팀 이벤트 기간 조회", description = "팀 ID와 기간(시작/종료)으로 이벤트를 조회합니다.")
+    @Operation(summary = "팀 이벤트 기간 조회", description = "팀 ID와 기간(시작/종료)으로 이벤트를 조회합니다. If-None-Match 가 ETag 와 같으면 304 를 반환합니다.")
     public ResponseEntity<List<CalendarEventResponse>> byRange(
         @Parameter(description = "팀 ID", example = "1") @PathVariable Long teamId,
         @Parameter(description = "조회 시작 시각", example = "2025-12-01T00:00:00+09:00") @RequestParam java.time.OffsetDateTime start,
-        @Parameter(description = "조회 종료 시각", example = "2025-12-07T23:59:59+09:00") @RequestParam java.time.OffsetDateTime end
+        @Parameter(description = "조회 종료 시각", example = "2025-12-07T23:59:59+09:00") @RequestParam java.time.OffsetDateTime end,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return ResponseEntity.ok(calendarEventService.findByTeamAndRange(teamId, start, end));
+        // 같은 팀 버전이면 기간별 결과도 같으므로 태그는 팀 단위 (캐시 키는 URL 이라 기간끼리 섞이지 않음)
+        return teamVersionService.eventListTag(teamId)
+            .map(etag -> ConditionalGet.respond(ifNoneMatch, etag,
+                () -> calendarEventService.findByTeamAndRange(teamId, start, end)))
+            .orElseGet(() -> ResponseEntity.ok(calendarEventService.findByTeamAndRange(teamId, start, end)));
     }
 
     @GetMapping("/user/{userId}")
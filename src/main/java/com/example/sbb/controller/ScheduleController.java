@@ -1,21 +1,37 @@
 package com.example.sbb.controller;
 
 import com.example.sbb.controller.support.AuthenticatedUserResolver;
+import com.example.sbb.controller.support.ConditionalGet;
 import com.example.sbb.dto.request.ScheduleCreateRequest;
 import com.example.sbb.dto.response.ScheduleGenerateResponse;
+import com.example.sbb.dto.response.ScheduleJobResponse;
 import com.example.sbb.dto.response.ScheduleResponse;
+import com.example.sbb.service.ScheduleJobService;
 import com.example.sbb.service.ScheduleService;
 import com.example.sbb.service.SchedulingService;
+import com.example.sbb.dto.SolverSnapshot;
+import com.example.sbb.dto.TeamVersion;
 import com.example.sbb.service.SlotLockService;
+import com.example.sbb.service.SolverSnapshotService;
+import com.example.sbb.service.TeamVersionService;
+import com.example.sbb.util.SolverSnapshotCodec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
 import java.time.Duration;
+import java.time.LocalDate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Optional;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,15 +43,24 @@ public class ScheduleController {
     private final SchedulingService schedulingService;
     private final ScheduleService scheduleService;
     private final SlotLockService slotLockService;
+    private final SolverSnapshotService solverSnapshotService;
+    private final ScheduleJobService scheduleJobService;
+    private final TeamVersionService teamVersionService;
     private static final Duration SCHEDULE_LOCK_TTL = Duration.ofSeconds(30);
 
     public ScheduleController(
             SchedulingService schedulingService, 
             ScheduleService scheduleService,
-            SlotLockService slotLockService) {
+            SlotLockService slotLockService,
+            SolverSnapshotService solverSnapshotService,
+            ScheduleJobService scheduleJobService,
+            TeamVersionService teamVersionService) {
         this.schedulingService = schedulingService;
         this.scheduleService = scheduleService;
         this.slotLockService = slotLockService;
+        this.solverSnapshotService = solverSnapshotService;
+        this.scheduleJobService = scheduleJobService;
+        this.teamVersionService = teamVersionService;
     }
 
     @PostMapping("/generate")
@@ -61,7 +86,8 @@ public class ScheduleController {
                 request.getTeamId(),
                 request.getRangeStart(),
                 request.getRangeEnd(),
-                userId
+                userId,
+                request.getMetaheuristic()
             );
             
             return ResponseEntity.ok(response);
@@ -70,6 +96,62 @@ public class ScheduleController {
         }
     }
 
+    @PostMapping("/jobs")
+    @Operation(summary = "스케줄 생성 작업 접수", description = "스케줄 생성을 솔버 풀에 넣고 바로 작업 ID를 반환합니다. 진행률과 완료는 /topic/schedules/{teamId} 로 발행되며, 결과는 GET /api/schedules/jobs/{id} 로 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "작업 접수"),
+        @ApiResponse(responseCode = "400", description = "요청 검증 실패"),
+        @ApiResponse(responseCode = "423", description = "다른 사용자가 스케줄을 생성 중입니다"),
+        @ApiResponse(responseCode = "503", description = "솔버 대기열이 가득 참")
+    })
+    public ResponseEntity<ScheduleJobResponse> submitScheduleJob(@Valid @RequestBody ScheduleCreateRequest request) {
+        Long userId = AuthenticatedUserResolver.requireUserId();
+        return scheduleJobService.submit(
+                request.getTeamId(),
+                request.getRangeStart(),
+                request.getRangeEnd(),
+                userId,
+                request.getMetaheuristic())
+            .map(job -> ResponseEntity.accepted()
+                .location(URI.create("/api/schedules/jobs/" + job.getJobId()))
+                .body(job))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.LOCKED).build()); // 423 Locked
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "스케줄 생성 작업 조회", description = "작업 상태(QUEUED, RUNNING, COMPLETED, FAILED), 진행률, 점수와 결과를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (보관 시간 경과 포함)")
+    })
+    public ResponseEntity<ScheduleJobResponse> getScheduleJob(
+            @Parameter(description = "작업 ID") @PathVariable String jobId) {
+        return scheduleJobService.getJob(jobId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/snapshot")
+    @Operation(summary = "스케줄러 입력 스냅샷", description = "팀의 스케줄러 입력(작업, 근무시간, 이벤트, 범위, 시드)을 gzip JSON 파일로 내려받습니다. SolverReplay 로 재현합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "스냅샷 생성 성공")
+    })
+    public ResponseEntity<byte[]> captureSnapshot(
+            @Parameter(description = "팀 ID", example = "1") @RequestParam Long teamId,
+            @Parameter(description = "시작일", example = "2025-11-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate rangeStart,
+            @Parameter(description = "종료일", example = "2025-11-30") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate rangeEnd,
+            @Parameter(description = "로컬서치 시드 (운영 로그의 seed)") @RequestParam(required = false) Long seed) throws IOException {
+        AuthenticatedUserResolver.requireUserId();
+        SolverSnapshot snapshot = solverSnapshotService.capture(teamId, rangeStart, rangeEnd, seed);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SolverSnapshotCodec.write(snapshot, out);
+        String filename = String.format("solver-team%d-%s-%s.json.gz", teamId, rangeStart, rangeEnd);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .contentType(MediaType.parseMediaType("application/gzip"))
+            .body(out.toByteArray());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "스케줄 단건 조회", description = "스케줄 ID로 단일 스케줄 정보를 조회합니다.")
     @ApiResponses({
@@ -94,13 +176,24 @@ public class ScheduleController {
     }
 
     @GetMapping("/team/{teamId}/latest")
-    @Operation(summary = "팀의 최신 스케줄 조회", description = "팀 ID로 해당 팀의 최신 스케줄을 조회합니다.")
+    @Operation(summary = "팀의 최신 스케줄 조회", description = "팀 ID로 해당 팀의 최신 스케줄을 조회합니다. If-None-Match 가 ETag 와 같으면 304 를 반환합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
         @ApiResponse(responseCode = "404", description = "스케줄을 찾을 수 없음")
     })
     public ResponseEntity<ScheduleResponse> getLatestScheduleByTeam(
-            @Parameter(description = "팀 ID", example = "1") @PathVariable Long teamId) {
+            @Parameter(description = "팀 ID", example = "1") @PathVariable Long teamId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<TeamVersion> version = teamVersionService.latestScheduleVersion(teamId);
+        if (version.isPresent()) {
+            Long scheduleId = version.get().getStamp();
+            if (scheduleId == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ConditionalGet.respond(ifNoneMatch, TeamVersionService.latestScheduleTag(teamId, version.get()),
+                () -> scheduleService.getScheduleById(scheduleId));
+        }
         ScheduleResponse response = scheduleService.getLatestScheduleByTeamId(teamId);
         if (response == null) {
             return ResponseEntity.notFound().build();
@@ -0,0 +1,57 @@
+package com.example.sbb.controller;
+
+import com.example.sbb.controller.support.AuthenticatedUserResolver;
+import com.example.sbb.dto.request.SlotLockBatchRequest;
+import com.example.sbb.dto.response.SlotLockBatchResponse;
+import com.example.sbb.service.SlotLockService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/locks")
+@Tag(name = "Slot Lock API", description = "편집 중인 슬롯 락 일괄 갱신/해제 API")
+public class SlotLockController {
+
+    private final SlotLockService slotLockService;
+
+    public SlotLockController(SlotLockService slotLockService) {
+        this.slotLockService = slotLockService;
+    }
+
+    @PostMapping("/renew")
+    @Operation(summary = "슬롯 락 일괄 갱신", description = "내가 보유한 슬롯 락들의 만료 시간을 한 번에 연장합니다. 실제로 연장된 키만 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "갱신 성공"),
+        @ApiResponse(responseCode = "400", description = "요청 검증 실패")
+    })
+    public ResponseEntity<SlotLockBatchResponse> renew(@Valid @RequestBody SlotLockBatchRequest request) {
+        Long userId = AuthenticatedUserResolver.requireUserId();
+        Duration ttl = slotLockService.leaseTtl(request.getTtlSeconds());
+        Set<String> renewed = slotLockService.renewLocks(request.getSlotKeys(), userId, ttl);
+        return ResponseEntity.ok(new SlotLockBatchResponse(renewed, OffsetDateTime.now(ZoneOffset.UTC).plus(ttl)));
+    }
+
+    @PostMapping("/release")
+    @Operation(summary = "슬롯 락 일괄 해제", description = "내가 보유한 슬롯 락들을 한 번에 해제합니다. 실제로 해제된 키만 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "해제 성공"),
+        @ApiResponse(responseCode = "400", description = "요청 검증 실패")
+    })
+    public ResponseEntity<SlotLockBatchResponse> release(@Valid @RequestBody SlotLockBatchRequest request) {
+        Long userId = AuthenticatedUserResolver.requireUserId();
+        Set<String> released = slotLockService.releaseLocks(request.getSlotKeys(), userId);
+        return ResponseEntity.ok(new SlotLockBatchResponse(released, null));
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.sbb.controller;
 
 import com.example.sbb.controller.support.AuthenticatedUserResolver;
+import com.example.sbb.controller.support.ConditionalGet;
 import com.example.sbb.dto.request.TaskCreateRequest;
 import com.example.sbb.dto.request.TaskUpdateRequest;
 import com.example.sbb.dto.response.TaskResponse;
 import com.example.sbb.service.SlotLockService;
 import com.example.sbb.service.TaskService;
+import com.example.sbb.service.TeamVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import jakarta.validation.Valid;
 import java.time.Duration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,11 +27,13 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
     private final TaskService taskService;
     private final SlotLockService slotLockService;
+    private final TeamVersionService teamVersionService;
     private static final Duration TASK_LOCK_TTL = Duration.ofMinutes(2);
 
-    public TaskController(TaskService taskService, SlotLockService slotLockService) {
+    public TaskController(TaskService taskService, SlotLockService slotLockService, TeamVersionService teamVersionService) {
         this.taskService = taskService;
         this.slotLockService = slotLockService;
+        this.teamVersionService = teamVersionService;
     }
 
     @PostMapping
@@ -62,9 +67,13 @@ public class TaskController {
     }
 
     @GetMapping("/team/{teamId}")
-    @Operation(summary = "팀별 작업 목록", description = "팀 ID 기준으로 모든 작업을 조회합니다.")
-    public ResponseEntity<List<TaskResponse>> tasksByTeam(@Parameter(description = "팀 ID", example = "1") @PathVariable Long teamId) {
-        return ResponseEntity.ok(taskService.findByTeamId(teamId));
+    @Operation(summary = "팀별 작업 목록", description = "팀 ID 기준으로 모든 작업을 조회합니다. If-None-Match 가 ETag 와 같으면 304 를 반환합니다.")
+    public ResponseEntity<List<TaskResponse>> tasksByTeam(
+            @Parameter(description = "팀 ID", example = "1") @PathVariable Long teamId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return teamVersionService.taskListTag(teamId)
+            .map(etag -> ConditionalGet.respond(ifNoneMatch, etag, () -> taskService.findByTeamId(teamId)))
+            .orElseGet(() -> ResponseEntity.ok(taskService.findByTeamId(teamId)));
     }
 
     @GetMapping("/assignee/{assigneeId}")
@@ -2,19 +2,31 @@ package com.example.sbb.controller;
 
 import com.example.sbb.dto.event.ScheduleProgressMessage;
 import com.example.sbb.dto.event.TaskEventMessage;
+import com.example.sbb.dto.request.SlotLockBatchRequest;
+import com.example.sbb.dto.response.SlotLockBatchResponse;
 import com.example.sbb.service.CollaborationEventPublisher;
+import com.example.sbb.service.SlotLockService;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.Set;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 @Controller
 public class WebSocketMessageController {
 
     private final CollaborationEventPublisher eventPublisher;
+    private final SlotLockService slotLockService;
 
-    public WebSocketMessageController(CollaborationEventPublisher eventPublisher) {
+    public WebSocketMessageController(CollaborationEventPublisher eventPublisher, SlotLockService slotLockService) {
         this.eventPublisher = eventPublisher;
+        this.slotLockService = slotLockService;
     }
 
     @MessageMapping("/tasks/update")
@@ -33,5 +45,20 @@ public class WebSocketMessageController {
     public void relayScheduleProgress(ScheduleProgressMessage message) {
         eventPublisher.publishScheduleProgress(message);
     }
-}
 
+    /**
+     * 편집 중인 슬롯 락 하트비트. 클라이언트가 보유한 키 전체를 주기마다 한 번 보내면
+     * 한 문장으로 일괄 갱신하고, 실제로 연장된 키를 보낸 세션의 /user/queue/locks 로 돌려준다.
+     */
+    @MessageMapping("/locks/heartbeat")
+    @SendToUser(destinations = "/queue/locks", broadcast = false)
+    public SlotLockBatchResponse heartbeat(SlotLockBatchRequest request, Principal principal) {
+        if (principal == null) {
+            throw new MessageDeliveryException("Unauthenticated lock heartbeat rejected");
+        }
+        Long userId = Long.parseLong(principal.getName());
+        Duration ttl = slotLockService.leaseTtl(request.getTtlSeconds());
+        Set<String> renewed = slotLockService.renewLocks(request.getSlotKeys(), userId, ttl);
+        return new SlotLockBatchResponse(renewed, OffsetDateTime.now(ZoneOffset.UTC).plus(ttl));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.sbb.controller.support;
+
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag / If-None-Match 조건부 GET.
+ * 태그가 맞으면 본문을 만들지 않고 304 를 돌려준다.
+ */
+public final class ConditionalGet {
+
+    // 브라우저가 응답을 저장하되 매번 재검증하도록 (Spring Security 기본값 no-store 대신)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<T> respond(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    /**
+     * If-None-Match 는 약한 비교 (W/ 접두어 무시)
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.tag().equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.sbb.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+// 사용자/날짜별 가용 슬롯 비트맵 (FreeBusyCache 의 선택적 영속 계층)
+@Entity
+@Table(name = "free_busy_day")
+@Getter
+@Setter
+public class FreeBusyDay {
+
+    @EmbeddedId
+    private FreeBusyDayId id;
+
+    // 48개 30분 슬롯 가용 여부, 6바이트 little-endian (bit i = slotIndex i)
+    @Column(name = "free_mask", nullable = false)
+    private byte[] freeMask;
+
+    @Column(name = "computed_at", nullable = false)
+    private OffsetDateTime computedAt;
+
+}
@@ -0,0 +1,49 @@
+package com.example.sbb.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * free/busy 비트맵 복합 키 (팀, 사용자, 날짜)
+ */
+@Embeddable
+@Getter
+@Setter
+public class FreeBusyDayId implements Serializable {
+
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "day")
+    private LocalDate day;
+
+    public FreeBusyDayId() {
+    }
+
+    public FreeBusyDayId(Long teamId, Long userId, LocalDate day) {
+        this.teamId = teamId;
+        this.userId = userId;
+        this.day = day;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FreeBusyDayId that = (FreeBusyDayId) o;
+        return Objects.equals(teamId, that.teamId) && Objects.equals(userId, that.userId) && Objects.equals(day, that.day);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(teamId, userId, day);
+    }
+}
@@ -40,6 +40,9 @@ public class Schedule {
 
     private Integer score;
 
+    @Column(name = "input_fingerprint", length = 64)
+    private String inputFingerprint;  // 솔버 입력 지문 (SolverInputFingerprint)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
     private User createdBy;
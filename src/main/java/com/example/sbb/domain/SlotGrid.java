@@ -0,0 +1,97 @@
+package com.example.sbb.domain;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 하루를 같은 길이로 나눈 슬롯 격자 (15/30/60분).
+ * 솔버 내부(TimeSlot, 가용 비트맵, 배치)는 BASE(30분) 격자로 풀고,
+ * 팀 격자가 더 세밀하면 SlotGridRefiner 가 배치 주변만 세밀 격자로 다듬는다.
+ */
+@Getter
+@EqualsAndHashCode
+public final class SlotGrid {
+
+    public static final SlotGrid FINE = new SlotGrid(15);
+    public static final SlotGrid BASE = new SlotGrid(30);
+    public static final SlotGrid COARSE = new SlotGrid(60);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int minutes;        // 슬롯 길이 (분)
+    private final int slotsPerDay;    // 하루 슬롯 수
+
+    private SlotGrid(int minutes) {
+        this.minutes = minutes;
+        this.slotsPerDay = MINUTES_PER_DAY / minutes;
+    }
+
+    /**
+     * 지원하는 격자 (15, 30, 60분)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 길이
+     */
+    public static SlotGrid of(int minutes) {
+        return switch (minutes) {
+            case 15 -> FINE;
+            case 30 -> BASE;
+            case 60 -> COARSE;
+            default -> throw new IllegalArgumentException("지원하지 않는 슬롯 단위입니다 (15, 30, 60분): " + minutes);
+        };
+    }
+
+    /**
+     * 소요 시간을 덮는 슬롯 수 (올림)
+     */
+    public int slotsFor(long durationMin) {
+        return (int) ((durationMin + minutes - 1) / minutes);
+    }
+
+    /**
+     * 소요 시간을 슬롯 단위로 올림한 분
+     */
+    public int roundUp(long durationMin) {
+        return slotsFor(durationMin) * minutes;
+    }
+
+    public OffsetDateTime startTime(LocalDate date, int slotIndex) {
+        return date.atStartOfDay().plusMinutes((long) slotIndex * minutes).atOffset(ZoneOffset.UTC);
+    }
+
+    public OffsetDateTime endTime(LocalDate date, int slotIndex) {
+        return startTime(date, slotIndex).plusMinutes(minutes);
+    }
+
+    /**
+     * 하루 중 분(0~1440)이 속한 슬롯 (내림)
+     */
+    public int indexOf(int minuteOfDay) {
+        return minuteOfDay / minutes;
+    }
+
+    /**
+     * 시각이 속한 슬롯 (UTC 기준, 내림)
+     */
+    public int indexOf(OffsetDateTime time) {
+        OffsetDateTime utc = time.withOffsetSameInstant(ZoneOffset.UTC);
+        return indexOf(utc.getHour() * 60 + utc.getMinute());
+    }
+
+    /**
+     * coarser 격자 슬롯 하나에 이 격자 슬롯이 몇 개 들어가는지 (coarser 가 이 격자의 배수여야 함)
+     */
+    public int factor(SlotGrid coarser) {
+        if (coarser.minutes % minutes != 0) {
+            throw new IllegalArgumentException(coarser.minutes + "분 격자는 " + minutes + "분 격자의 배수가 아닙니다");
+        }
+        return coarser.minutes / minutes;
+    }
+
+    @Override
+    public String toString() {
+        return minutes + "분";
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.sbb.domain;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * 슬롯 락 리스 스냅샷.
+ * fencingToken 은 같은 슬롯 키에 대해 새 소유자가 생길 때마다 증가하므로,
+ * 쓰기 작업에 함께 넘기면 만료 후 뒤늦게 도착한 이전 소유자의 요청을 걸러낼 수 있다.
+ */
+public record SlotLease(String slotKey, Long userId, OffsetDateTime expiresAt, Long fencingToken) {
+
+    public boolean isOwnedBy(Long candidateUserId) {
+        return Objects.equals(userId, candidateUserId);
+    }
+
+    public boolean isExpired(OffsetDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
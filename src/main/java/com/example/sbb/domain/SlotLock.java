@@ -29,6 +29,8 @@ public class SlotLock {
     @Column(name = "expires_at", nullable = false)
     private OffsetDateTime expiresAt;
 
-}
-
+    // 소유자가 바뀔 때마다 증가하는 펜싱 토큰 (slot_lock_fencing_seq)
+    @Column(name = "fencing_token")
+    private Long fencingToken;
 
+}
@@ -8,7 +8,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 /**
- * 30분 단위 시간 슬롯
+ * 30분 단위 시간 슬롯 (SlotGrid.BASE)
  * 스케줄링에서 작업을 배치할 수 있는 최소 시간 단위
  */
 @Getter
@@ -31,16 +31,14 @@ public class TimeSlot {
      * slotIndex 0 = 00:00, slotIndex 1 = 00:30, ..., slotIndex 47 = 23:30
      */
     public static OffsetDateTime calculateStartTime(LocalDate date, int slotIndex) {
-        int hours = slotIndex / 2;
-        int minutes = (slotIndex % 2) * 30;
-        return date.atTime(hours, minutes).atOffset(java.time.ZoneOffset.UTC);
+        return SlotGrid.BASE.startTime(date, slotIndex);
     }
     
     /**
      * 슬롯 인덱스로부터 종료 시각 계산 (30분 후)
      */
     public static OffsetDateTime calculateEndTime(LocalDate date, int slotIndex) {
-        return calculateStartTime(date, slotIndex).plusMinutes(30);
+        return SlotGrid.BASE.endTime(date, slotIndex);
     }
     
     /**
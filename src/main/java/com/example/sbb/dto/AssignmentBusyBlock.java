@@ -0,0 +1,17 @@
+package com.example.sbb.dto;
+
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 활성 스케줄의 작업 배치 구간 (담당자 기준). 미팅 추천에서 바쁜 시간으로 취급한다.
+ */
+@Getter
+@AllArgsConstructor
+public class AssignmentBusyBlock {
+    private Long userId;               // meta.userId (배치된 담당자)
+    private OffsetDateTime startsAt;
+    private OffsetDateTime endsAt;
+    private Boolean splittable;        // 분할 가능한(유연한) 작업이면 true
+}
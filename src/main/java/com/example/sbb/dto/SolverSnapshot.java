@@ -0,0 +1,72 @@
+package com.example.sbb.dto;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 스케줄러 입력 스냅샷 (재현/회귀용).
+ * 엔티티 대신 스케줄러가 읽는 값만 담고, 파일 형식이 바뀌면 {@link #CURRENT_VERSION}을 올린다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SolverSnapshot {
+
+    public static final int CURRENT_VERSION = 1;
+
+    private int version = CURRENT_VERSION;
+    private Long teamId;
+    private LocalDate rangeStart;
+    private LocalDate rangeEnd;
+    private OffsetDateTime capturedAt;   // 마감 임박 판단 기준 시각
+    private long seed;                   // 로컬서치 난수 시드
+    private String metaheuristic;        // 로컬서치 전략 이름
+    private List<Long> memberIds = new ArrayList<>();
+    private List<TaskRow> tasks = new ArrayList<>();
+    private List<WorkHourRow> workHours = new ArrayList<>();
+    private List<EventRow> events = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TaskRow {
+        private Long id;
+        private String title;
+        private Integer durationMin;
+        private OffsetDateTime dueAt;
+        private Integer priority;
+        private boolean splittable;
+        private Long assigneeId;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WorkHourRow {
+        private Long userId;     // null 이면 팀 기본
+        private Integer dow;
+        private Integer startMin;
+        private Integer endMin;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EventRow {
+        private List<Long> userIds;   // 슬롯이 막히는 사용자 (참석자, 없으면 소유자)
+        private OffsetDateTime startsAt;
+        private OffsetDateTime endsAt;
+        private boolean fixed;
+        private String recurrenceType;
+        private OffsetDateTime recurrenceEndDate;
+    }
+}
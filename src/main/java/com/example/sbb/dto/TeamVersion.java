@@ -0,0 +1,13 @@
+package com.example.sbb.dto;
+
+/**
+ * 조건부 GET 용 팀 버전 조회 결과 (팀 PK 와 인덱스 한 건만 읽는 단일 쿼리).
+ */
+public interface TeamVersion {
+
+    /** 팀 변경 카운터 (작업/이벤트/스케줄/할당 변경 시 증가) */
+    Long getChangeSeq();
+
+    /** 최신 스케줄 ID, 또는 max(updated_at) 의 epoch 마이크로초. 행이 없으면 null */
+    Long getStamp();
+}
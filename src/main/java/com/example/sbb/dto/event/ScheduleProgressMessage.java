@@ -6,18 +6,26 @@ public record ScheduleProgressMessage(Long teamId,
                                       String status,
                                       Integer progress,
                                       String message,
-                                      ScheduleResponse schedule) {
+                                      ScheduleResponse schedule,
+                                      String jobId) {
 
     public static ScheduleProgressMessage progress(Long teamId, int progress, String message) {
-        return new ScheduleProgressMessage(teamId, "PROGRESS", progress, message, null);
+        return new ScheduleProgressMessage(teamId, "PROGRESS", progress, message, null, null);
     }
 
     public static ScheduleProgressMessage completed(Long teamId, ScheduleResponse schedule) {
-        return new ScheduleProgressMessage(teamId, "COMPLETED", 100, "Optimization completed", schedule);
+        return new ScheduleProgressMessage(teamId, "COMPLETED", 100, "Optimization completed", schedule, null);
     }
 
     public static ScheduleProgressMessage failed(Long teamId, String message) {
-        return new ScheduleProgressMessage(teamId, "FAILED", null, message, null);
+        return new ScheduleProgressMessage(teamId, "FAILED", null, message, null, null);
+    }
+
+    /**
+     * 스케줄 생성 작업(POST /api/schedules/jobs)에서 나온 메시지로 표시
+     */
+    public ScheduleProgressMessage withJobId(String jobId) {
+        return new ScheduleProgressMessage(teamId, status, progress, message, schedule, jobId);
     }
 }
 
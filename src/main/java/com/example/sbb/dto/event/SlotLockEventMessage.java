@@ -0,0 +1,15 @@
+package com.example.sbb.dto.event;
+
+import java.time.OffsetDateTime;
+
+public record SlotLockEventMessage(String action,
+                                   String reason,
+                                   Long teamId,
+                                   String slotKey,
+                                   Long userId,
+                                   OffsetDateTime timestamp) {
+
+    public static SlotLockEventMessage expired(Long teamId, String slotKey, Long userId) {
+        return new SlotLockEventMessage("RELEASED", "EXPIRED", teamId, slotKey, userId, OffsetDateTime.now());
+    }
+}
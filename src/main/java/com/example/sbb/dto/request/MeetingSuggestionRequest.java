@@ -1,5 +1,6 @@
 package com.example.sbb.dto.request;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -25,10 +26,25 @@ public class MeetingSuggestionRequest {
     @Schema(description = "참석자 ID 목록 (선택, 없으면 팀 전체)", example = "[1, 2, 3]")
     private List<Long> participantIds;  // nullable, 없으면 팀 전체
     
+    @Schema(description = "필수 참석자 ID 목록 (선택). 지정하면 정족수 모드로 동작하며 이들은 항상 참석 가능해야 함", example = "[1]")
+    private List<Long> requiredParticipantIds;  // nullable
+
+    @Schema(description = "최소 참석 인원 (선택). 지정하면 정족수 모드로 동작 (필수 참석자 수보다 작으면 필수 참석자 수)", example = "3")
+    @Min(value = 1, message = "최소 참석 인원은 1 이상이어야 합니다")
+    private Integer minAttendees;  // nullable
+
     @Schema(description = "검색 시작일 (선택, 없으면 오늘부터)", example = "2025-11-24")
     private LocalDate preferredStartDate;  // nullable
     
     @Schema(description = "검색 기간 (일, 기본값 14일)", example = "14")
     private Integer searchDays;  // nullable, 기본값 14일
+
+    @Schema(description = "최대 추천 개수 (선택, 기본값 20)", example = "20")
+    @Min(value = 1, message = "최대 추천 개수는 1 이상이어야 합니다")
+    @Max(value = 200, message = "최대 추천 개수는 200 이하여야 합니다")
+    private Integer maxSuggestions;  // nullable, 기본값 20
+
+    @Schema(description = "분할 가능한 작업 배치를 바쁜 시간 대신 선호도 감점으로 처리 (기본값 false)", example = "false")
+    private Boolean softFlexibleTasks;  // nullable, 기본값 false
 }
 
@@ -13,5 +13,6 @@ public class ScheduleCreateRequest {
     private LocalDate rangeEnd;
     private Integer score;  // nullable
     private Long createdBy;  // nullable
+    private String metaheuristic;  // nullable (simulated-annealing | tabu | late-acceptance)
 }
 
@@ -0,0 +1,20 @@
+package com.example.sbb.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "슬롯 락 일괄 갱신/해제 요청 DTO")
+public class SlotLockBatchRequest {
+
+    @Schema(description = "대상 슬롯 키 목록", example = "[\"team:1:20251030:1000\", \"team:1:20251030:1030\"]", required = true)
+    @NotNull(message = "슬롯 키 목록은 필수입니다")
+    private List<String> slotKeys;
+
+    @Schema(description = "리스 TTL (초, 선택). 없거나 최대값을 넘으면 최대값을 사용", example = "30")
+    private Long ttlSeconds;  // nullable, 갱신에만 사용
+}
@@ -16,6 +16,11 @@ import lombok.Setter;
 @AllArgsConstructor
 public class ScheduleGenerateResponse {
     
+    /**
+     * 저장된(또는 재사용한) 스케줄 ID
+     */
+    private Long scheduleId;
+    
     /**
      * FullCalendar 이벤트 형식의 스케줄 목록
      */
@@ -62,6 +67,17 @@ public class ScheduleGenerateResponse {
     public static class UnassignedTask {
         private Long taskId;
         private String reason; // 배치 실패 이유
+        // 사전 검사로 제외된 경우의 상세 (그리디 배치 실패면 null)
+        private Long userId;          // 초과된 담당자 (null 이면 팀 전체)
+        private String windowEnd;     // 초과된 마감 구간의 끝 (ISO 8601)
+        private Integer demandSlots;  // 구간 수요 (30분 슬롯)
+        private Integer capacitySlots; // 구간 용량 (30분 슬롯)
+        private Integer shortageSlots; // 부족한 슬롯 수
+
+        public UnassignedTask(Long taskId, String reason) {
+            this.taskId = taskId;
+            this.reason = reason;
+        }
     }
 }
 
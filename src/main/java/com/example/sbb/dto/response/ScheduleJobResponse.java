@@ -0,0 +1,37 @@
+package com.example.sbb.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "스케줄 생성 작업 상태 응답 DTO")
+public class ScheduleJobResponse {
+
+    @Schema(description = "작업 ID")
+    private String jobId;
+
+    @Schema(description = "팀 ID")
+    private Long teamId;
+
+    @Schema(description = "상태: QUEUED | RUNNING | COMPLETED | FAILED")
+    private String status;
+
+    @Schema(description = "진행률 (0~100)")
+    private Integer progress;
+
+    @Schema(description = "현재 단계 또는 실패 사유")
+    private String message;
+
+    @Schema(description = "스케줄 점수 (완료 시)")
+    private Integer score;
+
+    @Schema(description = "생성 결과 (완료 시, POST /api/schedules/generate 응답과 같은 형식)")
+    private ScheduleGenerateResponse result;
+
+    private OffsetDateTime createdAt;
+    private OffsetDateTime startedAt;
+    private OffsetDateTime finishedAt;
+}
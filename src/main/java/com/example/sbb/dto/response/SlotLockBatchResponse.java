@@ -0,0 +1,23 @@
+package com.example.sbb.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "슬롯 락 일괄 갱신/해제 응답 DTO")
+public class SlotLockBatchResponse {
+
+    @Schema(description = "실제로 갱신(또는 해제)된 슬롯 키. 요청에 있었지만 빠진 키는 더 이상 내 락이 아님")
+    private Set<String> slotKeys;
+
+    @Schema(description = "갱신된 락의 새 만료 시각 (해제 응답에서는 null)")
+    private OffsetDateTime expiresAt;
+}
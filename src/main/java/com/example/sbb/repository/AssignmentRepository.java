@@ -1,6 +1,7 @@
 package com.example.sbb.repository;
 
 import com.example.sbb.domain.Assignment;
+import com.example.sbb.dto.AssignmentBusyBlock;
 import com.example.sbb.dto.response.AssignmentResponse;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -72,6 +73,34 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
                                                        @Param("start") java.time.OffsetDateTime start,
                                                        @Param("end") java.time.OffsetDateTime end);
     
+    /**
+     * 스케줄의 작업 배치 중 [start, end) 와 겹치는 담당자별 구간 (idx_assign_sched_start 범위 조회).
+     * 담당자는 meta 의 userId 이며, 문자열로 비교해 JSON 숫자를 그대로 쓴다.
+     */
+    @Query("""
+        SELECT new com.example.sbb.dto.AssignmentBusyBlock(
+            CAST(FUNCTION('jsonb_extract_path_text', a.meta, 'userId') AS Long),
+            a.startsAt,
+            a.endsAt,
+            COALESCE(t.splittable, false)
+        )
+        FROM Assignment a
+        LEFT JOIN a.task t
+        WHERE a.schedule.id = :scheduleId
+        AND a.startsAt < :end
+        AND a.endsAt > :start
+        AND FUNCTION('jsonb_extract_path_text', a.meta, 'userId') IN :userIds
+    """)
+    List<AssignmentBusyBlock> findBusyBlocks(@Param("scheduleId") Long scheduleId,
+                                             @Param("userIds") List<String> userIds,
+                                             @Param("start") java.time.OffsetDateTime start,
+                                             @Param("end") java.time.OffsetDateTime end);
+    
+    /**
+     * 스케줄의 배치 엔티티 (부분 수리에서 변경분만 지우고 저장할 때 사용).
+     */
+    List<Assignment> findAllBySchedule_Id(Long scheduleId);
+    
     @Modifying
     @Query("""
         DELETE FROM Assignment a
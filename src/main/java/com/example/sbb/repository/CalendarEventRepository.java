@@ -7,10 +7,24 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CalendarEventRepository extends JpaRepository<CalendarEvent, Long> {
+
+    /**
+     * 팀에서 [start, end] 와 겹치는 일정 (free/busy 계산용). idx_event_team_time (team_id, starts_at, ends_at) 으로 처리된다.
+     */
+    @Query("""
+        SELECT e FROM CalendarEvent e
+        WHERE e.team.id = :teamId
+          AND e.startsAt <= :end
+          AND e.endsAt >= :start
+    """)
+    List<CalendarEvent> findOverlapping(@Param("teamId") Long teamId,
+                                        @Param("start") OffsetDateTime start,
+                                        @Param("end") OffsetDateTime end);
     // DTO 프로젝션: 엔티티를 거치지 않고 바로 DTO로 조회 (Lazy loading 문제 원천 제거)
     @Query("""
         SELECT new com.example.sbb.dto.response.CalendarEventResponse(
@@ -141,6 +155,62 @@ public interface CalendarEventRepository extends JpaRepository<CalendarEvent, Lo
         WHERE e.owner.id = :ownerId AND e.startsAt BETWEEN :start AND :end
     """)
     List<CalendarEventResponse> findResponsesByOwnerIdAndRange(@Param("ownerId") Long ownerId, @Param("start") OffsetDateTime start, @Param("end") OffsetDateTime end);
-}
 
+    /**
+     * 여러 일정의 충돌 상대를 한 번에 조회한다. 배열은 같은 길이이며 (원본 ID, 시작, 종료) 한 묶음씩이다.
+     * 기간 겹침(&&)은 idx_event_team_period (team_id, tstzrange) GiST 인덱스로 양쪽 경계를 모두 좁히고,
+     * starts_at < 원본 종료 AND ends_at > 원본 시작 은 같은 결과를 다시 확인한다.
+     * 인덱스 식과 같도록 상한은 GREATEST(starts_at, ends_at) 로 보정한다 (종료가 시작보다 이른 과거 행 대비).
+     */
+    @Query(value = """
+        SELECT w.source_id AS "sourceId", e.id AS "conflictId"
+          FROM unnest(CAST(:sourceIds AS BIGINT[]),
+                      CAST(:startsAt AS TIMESTAMPTZ[]),
+                      CAST(:endsAt AS TIMESTAMPTZ[])) AS w(source_id, starts_at, ends_at)
+          JOIN calendar_event e
+            ON e.team_id = :teamId
+           AND tstzrange(e.starts_at, GREATEST(e.starts_at, e.ends_at))
+               && tstzrange(w.starts_at, GREATEST(w.starts_at, w.ends_at))
+           AND e.starts_at < w.ends_at
+           AND e.ends_at > w.starts_at
+           AND e.id <> w.source_id
+         ORDER BY w.source_id, e.starts_at
+        """, nativeQuery = true)
+    List<ConflictPair> findConflictPairs(@Param("teamId") Long teamId,
+                                         @Param("sourceIds") String[] sourceIds,
+                                         @Param("startsAt") String[] startsAt,
+                                         @Param("endsAt") String[] endsAt);
 
+    @Query("""
+        SELECT new com.example.sbb.dto.response.CalendarEventResponse(
+            e.id,
+            e.team.id,
+            e.team.name,
+            e.owner.id,
+            e.owner.name,
+            e.title,
+            e.startsAt,
+            e.endsAt,
+            e.fixed,
+            e.location,
+            e.attendees,
+            e.notes,
+            e.recurrenceType,
+            e.recurrenceEndDate,
+            e.createdAt,
+            e.updatedAt
+        )
+        FROM CalendarEvent e
+        LEFT JOIN e.team
+        LEFT JOIN e.owner
+        WHERE e.id IN :ids
+    """)
+    List<CalendarEventResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    // 충돌 조회 결과 (원본 일정 ID, 겹치는 일정 ID)
+    interface ConflictPair {
+        Long getSourceId();
+
+        Long getConflictId();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.sbb.repository;
+
+import com.example.sbb.domain.FreeBusyDay;
+import com.example.sbb.domain.FreeBusyDayId;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// free/busy 비트맵 리포지토리 인터페이스
+public interface FreeBusyDayRepository extends JpaRepository<FreeBusyDay, FreeBusyDayId> {
+
+    @Query("""
+        SELECT f FROM FreeBusyDay f
+        WHERE f.id.teamId = :teamId
+          AND f.id.userId IN :userIds
+          AND f.id.day BETWEEN :start AND :end
+          AND f.computedAt > :freshAfter
+        """)
+    List<FreeBusyDay> findFresh(@Param("teamId") Long teamId,
+                                @Param("userIds") Collection<Long> userIds,
+                                @Param("start") LocalDate start,
+                                @Param("end") LocalDate end,
+                                @Param("freshAfter") OffsetDateTime freshAfter);
+
+    /**
+     * 계산한 비트맵 일괄 저장. 읽기 전용 트랜잭션(추천/조회) 안에서도 호출되므로 별도 트랜잭션으로 실행한다.
+     * 배열은 같은 길이이며, 마스크는 16진수 문자열로 넘겨 bytea 로 변환한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = """
+        INSERT INTO free_busy_day (team_id, user_id, day, free_mask, computed_at)
+        SELECT :teamId, t.user_id, t.day, decode(t.mask, 'hex'), :computedAt
+          FROM unnest(CAST(:userIds AS BIGINT[]), CAST(:days AS DATE[]), CAST(:masks AS TEXT[])) AS t(user_id, day, mask)
+        ON CONFLICT (team_id, user_id, day) DO UPDATE
+            SET free_mask = EXCLUDED.free_mask,
+                computed_at = EXCLUDED.computed_at
+        """, nativeQuery = true)
+    int upsertAll(@Param("teamId") Long teamId,
+                  @Param("userIds") String[] userIds,
+                  @Param("days") String[] days,
+                  @Param("masks") String[] masks,
+                  @Param("computedAt") OffsetDateTime computedAt);
+
+    @Modifying
+    @Query("DELETE FROM FreeBusyDay f WHERE f.id.teamId = :teamId")
+    int deleteByTeam(@Param("teamId") Long teamId);
+
+    @Modifying
+    @Query("DELETE FROM FreeBusyDay f WHERE f.id.teamId = :teamId AND f.id.userId IN :userIds")
+    int deleteByUsers(@Param("teamId") Long teamId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("""
+        DELETE FROM FreeBusyDay f
+        WHERE f.id.teamId = :teamId
+          AND f.id.userId IN :userIds
+          AND f.id.day BETWEEN :start AND :end
+        """)
+    int deleteByUsersAndRange(@Param("teamId") Long teamId,
+                              @Param("userIds") Collection<Long> userIds,
+                              @Param("start") LocalDate start,
+                              @Param("end") LocalDate end);
+}
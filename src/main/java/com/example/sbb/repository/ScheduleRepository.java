@@ -30,11 +30,28 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
                                              @Param("rangeStart") LocalDate rangeStart,
                                              @Param("rangeEnd") LocalDate rangeEnd);
     
+    // 기간과 겹치는 가장 최근 스케줄 ID 한 건 (엔티티를 읽지 않음)
+    @Query(value = """
+        SELECT s.id
+          FROM schedule s
+         WHERE s.team_id = :teamId
+           AND s.range_start <= :rangeEnd
+           AND s.range_end >= :rangeStart
+         ORDER BY s.created_at DESC
+         LIMIT 1
+        """, nativeQuery = true)
+    Optional<Long> findLatestIdByTeamIdAndDateRange(@Param("teamId") Long teamId,
+                                                    @Param("rangeStart") LocalDate rangeStart,
+                                                    @Param("rangeEnd") LocalDate rangeEnd);
+
     @Query("""
         SELECT s FROM Schedule s
         WHERE s.team.id = :teamId
         ORDER BY s.createdAt DESC
     """)
     List<Schedule> findByTeamId(@Param("teamId") Long teamId);
+
+    // 팀의 가장 최근 스케줄 한 건 (LIMIT 1, 이력 전체를 읽지 않음)
+    Optional<Schedule> findFirstByTeam_IdOrderByCreatedAtDesc(Long teamId);
 }
 
@@ -1,22 +1,81 @@
 package com.example.sbb.repository;
 
+import com.example.sbb.domain.SlotLease;
 import com.example.sbb.domain.SlotLock;
-import jakarta.persistence.LockModeType;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 // 슬롯 락 리포지토리 인터페이스
 public interface SlotLockRepository extends JpaRepository<SlotLock, String> {
 
-    // 슬롯 락 조회 (락 모드: 비관적 락)
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select sl from SlotLock sl where sl.slotKey = :slotKey")
-    Optional<SlotLock> findBySlotKeyForUpdate(@Param("slotKey") String slotKey);
+    /**
+     * 슬롯 락 획득을 한 문장으로 처리한다 (조회/잠금/저장 왕복 없음).
+     * 비어 있으면 삽입, 만료되었거나 내 락이면 갱신하고, 다른 사용자의 유효한 락이면 아무 행도 반환하지 않는다.
+     * 소유자가 바뀔 때만 새 펜싱 토큰을 쓰고 재진입은 기존 토큰을 유지한다.
+     * user_id 가 null 인 시스템 락도 같은 규칙을 따르도록 IS NOT DISTINCT FROM 으로 비교한다.
+     *
+     * @return 획득 성공 시 펜싱 토큰, 실패 시 empty
+     */
+    @Query(value = """
+        INSERT INTO slot_lock (slot_key, user_id, expires_at, fencing_token)
+        VALUES (:slotKey, CAST(:userId AS BIGINT), :expiresAt, nextval('slot_lock_fencing_seq'))
+        ON CONFLICT (slot_key) DO UPDATE
+            SET user_id = EXCLUDED.user_id,
+                expires_at = EXCLUDED.expires_at,
+                fencing_token = CASE
+                    WHEN slot_lock.user_id IS NOT DISTINCT FROM EXCLUDED.user_id
+                         AND slot_lock.fencing_token IS NOT NULL
+                        THEN slot_lock.fencing_token
+                    ELSE EXCLUDED.fencing_token
+                END
+            WHERE slot_lock.expires_at <= :now
+               OR slot_lock.user_id IS NOT DISTINCT FROM EXCLUDED.user_id
+        RETURNING fencing_token
+        """, nativeQuery = true)
+    Optional<Long> acquireLease(@Param("slotKey") String slotKey,
+                                @Param("userId") Long userId,
+                                @Param("expiresAt") OffsetDateTime expiresAt,
+                                @Param("now") OffsetDateTime now);
+
+    // 내 락이면 만료 시간만 연장
+    @Modifying
+    @Query(value = """
+        UPDATE slot_lock
+           SET expires_at = :expiresAt
+         WHERE slot_key = :slotKey
+           AND user_id IS NOT DISTINCT FROM CAST(:userId AS BIGINT)
+        """, nativeQuery = true)
+    int renewLease(@Param("slotKey") String slotKey,
+                   @Param("userId") Long userId,
+                   @Param("expiresAt") OffsetDateTime expiresAt);
+
+    // 여러 슬롯 락 일괄 갱신 (하트비트). 실제로 연장된 키만 반환
+    @Query(value = """
+        UPDATE slot_lock
+           SET expires_at = :expiresAt
+         WHERE slot_key = ANY(:slotKeys)
+           AND user_id IS NOT DISTINCT FROM CAST(:userId AS BIGINT)
+        RETURNING slot_key
+        """, nativeQuery = true)
+    List<String> renewLeases(@Param("slotKeys") String[] slotKeys,
+                             @Param("userId") Long userId,
+                             @Param("expiresAt") OffsetDateTime expiresAt);
+
+    // 여러 슬롯 락 일괄 해제. 실제로 삭제된 키만 반환
+    @Query(value = """
+        DELETE FROM slot_lock
+         WHERE slot_key = ANY(:slotKeys)
+           AND user_id IS NOT DISTINCT FROM CAST(:userId AS BIGINT)
+        RETURNING slot_key
+        """, nativeQuery = true)
+    List<String> releaseLeases(@Param("slotKeys") String[] slotKeys,
+                               @Param("userId") Long userId);
 
     // 슬롯 락 삭제 (사용자 ID 또는 사용자 ID가 없는 경우)
     @Modifying
@@ -30,9 +89,64 @@ public interface SlotLockRepository extends JpaRepository<SlotLock, String> {
         """)
     int deleteBySlotKeyAndUserId(@Param("slotKey") String slotKey, @Param("userId") Long userId);
 
-    // 만료된 슬롯 락 삭제
+    /**
+     * 만료된 슬롯 락을 expires_at 인덱스 순서로 최대 :limit 건만 삭제한다.
+     * 다른 트랜잭션이 잡고 있는 행은 건너뛰므로 여러 인스턴스가 동시에 정리해도 서로 기다리지 않는다.
+     */
+    @Transactional
+    @Query(value = """
+        DELETE FROM slot_lock
+         WHERE slot_key IN (
+               SELECT slot_key
+                 FROM slot_lock
+                WHERE expires_at <= :now
+                ORDER BY expires_at
+                LIMIT :limit
+                  FOR UPDATE SKIP LOCKED)
+        RETURNING slot_key
+        """, nativeQuery = true)
+    List<String> deleteExpiredChunk(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    // 타이밍 휠 만료 처리: 아직 만료 상태일 때만 삭제 (그 사이 갱신/재획득되었으면 empty)
+    @Query(value = """
+        DELETE FROM slot_lock
+         WHERE slot_key = :slotKey
+           AND expires_at <= :now
+        RETURNING slot_key
+        """, nativeQuery = true)
+    Optional<String> deleteIfExpired(@Param("slotKey") String slotKey, @Param("now") OffsetDateTime now);
+
+    // 펜싱 토큰 블록 예약 (반환값: 예약한 블록의 마지막 토큰). 인메모리 리스 모드 전용
+    @Query(value = "SELECT setval('slot_lock_fencing_seq', nextval('slot_lock_fencing_seq') + :blockSize - 1)",
+            nativeQuery = true)
+    long reserveFencingTokens(@Param("blockSize") int blockSize);
+
+    // 인메모리 리스 write-behind: 현재 리스 상태를 그대로 덮어쓴다
     @Modifying
-    @Query("delete from SlotLock sl where sl.expiresAt <= :now")
-    int deleteExpired(@Param("now") OffsetDateTime now);
-}
+    @Query(value = """
+        INSERT INTO slot_lock (slot_key, user_id, expires_at, fencing_token)
+        VALUES (:slotKey, CAST(:userId AS BIGINT), :expiresAt, :fencingToken)
+        ON CONFLICT (slot_key) DO UPDATE
+            SET user_id = EXCLUDED.user_id,
+                expires_at = EXCLUDED.expires_at,
+                fencing_token = EXCLUDED.fencing_token
+        """, nativeQuery = true)
+    int upsertLease(@Param("slotKey") String slotKey,
+                    @Param("userId") Long userId,
+                    @Param("expiresAt") OffsetDateTime expiresAt,
+                    @Param("fencingToken") Long fencingToken);
+
+    // 인메모리 리스 write-behind: 해제/만료된 리스 삭제
+    @Modifying
+    @Query("delete from SlotLock sl where sl.slotKey = :slotKey")
+    int deleteBySlotKey(@Param("slotKey") String slotKey);
 
+    // 재시작 시 인메모리 리스 복구용 활성 리스 조회
+    @Query("""
+        select new com.example.sbb.domain.SlotLease(sl.slotKey, u.id, sl.expiresAt, sl.fencingToken)
+        from SlotLock sl
+        left join sl.user u
+        where sl.expiresAt > :now
+        """)
+    List<SlotLease> findActiveLeases(@Param("now") OffsetDateTime now);
+}
@@ -1,12 +1,49 @@
 package com.example.sbb.repository;
 
 import com.example.sbb.domain.Team;
+import com.example.sbb.dto.TeamVersion;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * 팀 Repository
  */
 public interface TeamRepository extends JpaRepository<Team, Long> {
-}
 
+    // 작업 목록 버전: 변경 카운터 + max(updated_at) (idx_task_team_updated 끝 한 건)
+    @Query(value = """
+        SELECT t.change_seq AS "changeSeq",
+               (SELECT CAST(floor(extract(epoch FROM max(k.updated_at)) * 1000000) AS BIGINT)
+                  FROM task k
+                 WHERE k.team_id = t.id) AS "stamp"
+          FROM team t
+         WHERE t.id = :teamId
+        """, nativeQuery = true)
+    Optional<TeamVersion> findTaskVersion(@Param("teamId") Long teamId);
+
+    // 이벤트 목록 버전: 변경 카운터 + max(updated_at) (idx_event_team_updated 끝 한 건)
+    @Query(value = """
+        SELECT t.change_seq AS "changeSeq",
+               (SELECT CAST(floor(extract(epoch FROM max(e.updated_at)) * 1000000) AS BIGINT)
+                  FROM calendar_event e
+                 WHERE e.team_id = t.id) AS "stamp"
+          FROM team t
+         WHERE t.id = :teamId
+        """, nativeQuery = true)
+    Optional<TeamVersion> findEventVersion(@Param("teamId") Long teamId);
 
+    // 최신 스케줄 버전: 변경 카운터 + 가장 최근 생성된 스케줄 ID (idx_sched_team_created 끝 한 건)
+    @Query(value = """
+        SELECT t.change_seq AS "changeSeq",
+               (SELECT s.id
+                  FROM schedule s
+                 WHERE s.team_id = t.id
+                 ORDER BY s.created_at DESC
+                 LIMIT 1) AS "stamp"
+          FROM team t
+         WHERE t.id = :teamId
+        """, nativeQuery = true)
+    Optional<TeamVersion> findLatestScheduleVersion(@Param("teamId") Long teamId);
+}
@@ -9,6 +9,8 @@ public interface WorkHourRepository extends JpaRepository<WorkHour, Long> {
 
     List<WorkHour> findByTeam_Id(Long teamId);
 
+    boolean existsByTeam_Id(Long teamId);
+
     Optional<WorkHour> findByTeam_IdAndUser_IdAndDow(Long teamId, Long userId, Integer dow);
 
     Optional<WorkHour> findByTeam_IdAndUserIsNullAndDow(Long teamId, Integer dow);
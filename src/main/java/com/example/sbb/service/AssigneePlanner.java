@@ -0,0 +1,173 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.util.MinCostFlow;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 담당자 미지정 작업의 담당자를 최소 비용 유량으로 한 번에 정한다.
+ *
+ * 그리디가 사용자 맵 순서대로 첫 번째로 들어가는 사람을 고르면 앞 사용자에게 몰리므로,
+ * 작업 수요(30분 슬롯)를 사용자별 마감 구간 용량으로 흘려 보내 전체 배치량을 먼저 최대화하고,
+ * 그 안에서 선호도가 낮은 시간대와 한 사람에게 몰리는 부하를 비용으로 줄인다.
+ *
+ * 네트워크
+ * - source -> 작업: 용량 = 필요 슬롯
+ * - 작업 -> (사용자, 마감 구간): 비용 = (1 - 마감 전 평균 선호도) * 10. 담당자 지정 작업은 담당자에게만 비용 0
+ * - (사용자, 구간 i) -> (사용자, 구간 i-1): 마감이 늦은 작업은 앞 구간 슬롯도 쓸 수 있음
+ * - (사용자, 구간 i) -> 사용자: 용량 = 구간 i 에만 속한 슬롯 수
+ * - 사용자 -> sink: 2시간 단위로 나눈 간선, 뒤로 갈수록 비싸게 (볼록 비용이라 부하가 고르게 퍼짐)
+ *
+ * 마감 구간은 날짜별로 묶고 그 날짜의 가장 이른 마감 시각을 경계로 쓴다 (보수적).
+ * 한 작업이 여러 사용자로 나뉘어 흐르면 가장 많이 흐른 사용자를 고른다. 실제 슬롯 배치는 GreedyScheduler 가 한다.
+ */
+@Slf4j
+@Component
+public class AssigneePlanner {
+
+    private static final double MIN_PREFERENCE = 0.05;  // GreedyScheduler 와 같은 슬롯 필터
+    private static final int PREFERENCE_COST_SCALE = 10;
+    private static final int LOAD_CHUNK_SLOTS = 4;      // 부하 비용 구간 (2시간)
+    private static final int LOAD_COST_STEP = 2;        // 구간마다 슬롯당 비용 증가폭
+
+    /**
+     * @return 담당자 미지정 작업 ID -> 추천 담당자 ID (유량이 흐르지 않은 작업은 빠진다)
+     */
+    public Map<Long, Long> plan(List<Task> tasks, Map<Long, List<TimeSlot>> availableSlots) {
+        if (tasks.stream().noneMatch(t -> t.getAssignee() == null) || availableSlots.isEmpty()) {
+            return Map.of();
+        }
+        long startedAt = System.nanoTime();
+
+        List<Long> userIds = new ArrayList<>(availableSlots.keySet());
+        userIds.sort(Comparator.naturalOrder());
+        Map<Long, Integer> userIndex = new HashMap<>();
+        for (int u = 0; u < userIds.size(); u++) {
+            userIndex.put(userIds.get(u), u);
+        }
+        SlotCapacity[] users = new SlotCapacity[userIds.size()];
+        for (int u = 0; u < users.length; u++) {
+            users[u] = SlotCapacity.of(availableSlots.get(userIds.get(u)), MIN_PREFERENCE);
+        }
+
+        // 마감 구간: 날짜별 가장 이른 마감 시각, 마감 없는 작업은 마지막 구간(전체)
+        TreeMap<LocalDate, OffsetDateTime> cutoffByDate = new TreeMap<>();
+        boolean hasOpenEnded = false;
+        for (Task task : tasks) {
+            if (task.getDueAt() == null) {
+                hasOpenEnded = true;
+            } else {
+                cutoffByDate.merge(dateOf(task.getDueAt()), task.getDueAt(),
+                    (a, b) -> a.isBefore(b) ? a : b);
+            }
+        }
+        List<LocalDate> bucketDates = new ArrayList<>(cutoffByDate.keySet());
+        int buckets = bucketDates.size() + (hasOpenEnded ? 1 : 0);
+        long[] cutoffs = new long[buckets];
+        Map<LocalDate, Integer> bucketIndex = new HashMap<>();
+        for (int b = 0; b < bucketDates.size(); b++) {
+            cutoffs[b] = cutoffByDate.get(bucketDates.get(b)).toEpochSecond();
+            bucketIndex.put(bucketDates.get(b), b);
+        }
+        if (hasOpenEnded) {
+            cutoffs[buckets - 1] = Long.MAX_VALUE;
+        }
+
+        // 노드: source, sink, 작업, (사용자, 구간), 사용자
+        int source = 0;
+        int sink = 1;
+        int taskBase = 2;
+        int bucketBase = taskBase + tasks.size();
+        int userBase = bucketBase + users.length * buckets;
+        MinCostFlow flow = new MinCostFlow(userBase + users.length);
+
+        for (int u = 0; u < users.length; u++) {
+            int previousCount = 0;
+            for (int b = 0; b < buckets; b++) {
+                int node = bucketBase + u * buckets + b;
+                if (b > 0) {
+                    flow.addEdge(node, node - 1, Integer.MAX_VALUE, 0);
+                }
+                int count = users[u].countBefore(cutoffs[b]);
+                if (count > previousCount) {
+                    flow.addEdge(node, userBase + u, count - previousCount, 0);
+                }
+                previousCount = count;
+            }
+            int total = users[u].size();
+            for (int chunk = 0; chunk * LOAD_CHUNK_SLOTS < total; chunk++) {
+                int cap = Math.min(LOAD_CHUNK_SLOTS, total - chunk * LOAD_CHUNK_SLOTS);
+                flow.addEdge(userBase + u, sink, cap, (long) chunk * LOAD_COST_STEP);
+            }
+        }
+
+        Map<Integer, int[]> candidateEdges = new HashMap<>();
+        for (int t = 0; t < tasks.size(); t++) {
+            Task task = tasks.get(t);
+            int required = FeasibilityAnalyzer.requiredSlots(task);
+            int taskNode = taskBase + t;
+            int bucket = task.getDueAt() == null
+                ? buckets - 1
+                : bucketIndex.get(dateOf(task.getDueAt()));
+            if (task.getAssignee() != null) {
+                // 담당자 지정 작업은 담당자 용량만 미리 차지
+                Integer u = userIndex.get(task.getAssignee().getId());
+                if (u != null) {
+                    flow.addEdge(source, taskNode, required, 0);
+                    flow.addEdge(taskNode, bucketBase + u * buckets + bucket, required, 0);
+                }
+                continue;
+            }
+            flow.addEdge(source, taskNode, required, 0);
+            int[] edges = new int[users.length];
+            Arrays.fill(edges, -1);
+            for (int u = 0; u < users.length; u++) {
+                int count = users[u].countBefore(cutoffs[bucket]);
+                if (count == 0) {
+                    continue;
+                }
+                long preferenceCost = Math.round((1 - users[u].averagePreference(count)) * PREFERENCE_COST_SCALE);
+                edges[u] = flow.addEdge(taskNode, bucketBase + u * buckets + bucket, required, Math.max(0, preferenceCost));
+            }
+            candidateEdges.put(t, edges);
+        }
+
+        long[] result = flow.solve(source, sink);
+
+        Map<Long, Long> plan = new HashMap<>();
+        candidateEdges.forEach((t, edges) -> {
+            int best = -1;
+            long bestFlow = 0;
+            for (int u = 0; u < edges.length; u++) {
+                if (edges[u] >= 0 && flow.flow(edges[u]) > bestFlow) {
+                    bestFlow = flow.flow(edges[u]);
+                    best = u;
+                }
+            }
+            if (best >= 0) {
+                plan.put(tasks.get(t).getId(), userIds.get(best));
+            }
+        });
+
+        log.info("담당자 배정 계획: 미지정 작업={}, 배정={}, 사용자={}, 유량={}, 비용={}, {}ms",
+            candidateEdges.size(), plan.size(), users.length, result[0], result[1],
+            (System.nanoTime() - startedAt) / 1_000_000);
+        return plan;
+    }
+
+    private static LocalDate dateOf(OffsetDateTime dateTime) {
+        return dateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
+    }
+}
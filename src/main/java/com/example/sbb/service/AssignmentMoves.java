@@ -0,0 +1,104 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.TimeSlot;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이웃 연산 공용 도우미 (복제, 겹침, meta 의 담당자, 이동 해시)
+ */
+final class AssignmentMoves {
+
+    private AssignmentMoves() {
+    }
+
+    /**
+     * 전체를 복제하고 index 위치만 새 시간대로 옮긴다
+     */
+    static List<Assignment> relocate(List<Assignment> assignments, int index, TimeSlot first, TimeSlot last) {
+        List<Assignment> copy = new ArrayList<>(assignments.size());
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment clone = cloneAssignment(assignments.get(i));
+            if (i == index) {
+                clone.setStartsAt(first.getStartTime());
+                clone.setEndsAt(last.getEndTime());
+                clone.setSlotIndex(first.getSlotIndex());
+            }
+            copy.add(clone);
+        }
+        return copy;
+    }
+
+    static Assignment cloneAssignment(Assignment original) {
+        Assignment clone = new Assignment();
+        clone.setSchedule(original.getSchedule());
+        clone.setTask(original.getTask());
+        clone.setTitle(original.getTitle());
+        clone.setStartsAt(original.getStartsAt());
+        clone.setEndsAt(original.getEndsAt());
+        clone.setSource(original.getSource());
+        clone.setSlotIndex(original.getSlotIndex());
+        clone.setMeta(original.getMeta());
+        return clone;
+    }
+
+    static boolean isOverlapping(Assignment a1, Assignment a2) {
+        return a1.getStartsAt().isBefore(a2.getEndsAt()) && a1.getEndsAt().isAfter(a2.getStartsAt());
+    }
+
+    static int requiredSlots(Assignment assignment) {
+        long durationMinutes = Duration.between(assignment.getStartsAt(), assignment.getEndsAt()).toMinutes();
+        return SlotGrid.BASE.slotsFor(durationMinutes);
+    }
+
+    /**
+     * 배치 index 를 startsAt 에 두는 이동의 해시
+     */
+    static long positionKey(int index, OffsetDateTime startsAt) {
+        return 31L * index + startsAt.toEpochSecond();
+    }
+
+    /**
+     * Assignment의 meta에서 userId 추출 ("userId":N 뒤에 다른 필드가 와도 숫자만 읽는다)
+     */
+    static Long userIdFromMeta(Assignment assignment) {
+        String meta = assignment.getMeta();
+        if (meta == null) {
+            return null;
+        }
+        int index = meta.indexOf("\"userId\":");
+        if (index == -1) {
+            return null;
+        }
+        int start = index + 9;
+        while (start < meta.length() && meta.charAt(start) == ' ') {
+            start++;
+        }
+        int end = start;
+        while (end < meta.length() && Character.isDigit(meta.charAt(end))) {
+            end++;
+        }
+        return end > start ? Long.parseLong(meta.substring(start, end)) : null;
+    }
+
+    /**
+     * 같은 담당자의 다른 배치와 겹치는지 (index 위치 배치는 제외)
+     */
+    static boolean overlapsSameUser(List<Assignment> assignments, int index, Long userId,
+                                    OffsetDateTime startsAt, OffsetDateTime endsAt) {
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment other = assignments.get(i);
+            if (i == index || !userId.equals(userIdFromMeta(other))) {
+                continue;
+            }
+            if (startsAt.isBefore(other.getEndsAt()) && endsAt.isAfter(other.getStartsAt())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
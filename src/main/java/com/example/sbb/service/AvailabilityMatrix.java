@@ -0,0 +1,199 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.SlotGrid;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * 참석자 x 날짜별 가용 슬롯 비트마스크.
+ * 하루 48개(30분 단위) 슬롯을 long 하나의 하위 48비트로 표현하고(bit i = slotIndex i),
+ * 날짜/슬롯별로 가능한 참석자들의 선호도 합을 함께 보관한다.
+ *
+ * 공통 가용 시간은 마스크 AND, 연속 구간은 {@link #runStarts(long, int)}의 shift-and 로 찾는다.
+ */
+final class AvailabilityMatrix {
+
+    static final int SLOTS_PER_DAY = SlotGrid.BASE.getSlotsPerDay();
+    private static final long ALL_SLOTS = (1L << SLOTS_PER_DAY) - 1;
+
+    private final LocalDate startDate;
+    private final int days;
+    private final int participants;
+    // [participant * days + day]
+    private final long[] masks;
+    // [day * SLOTS_PER_DAY + slot] 가능한 참석자들의 선호도 합
+    private final double[] preferenceSums;
+    // [day * SLOTS_PER_DAY + slot] 가능한 참석자 수
+    private final int[] availableCounts;
+
+    AvailabilityMatrix(LocalDate startDate, LocalDate endDate, int participants) {
+        this.startDate = startDate;
+        this.days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        this.participants = participants;
+        this.masks = new long[participants * days];
+        this.preferenceSums = new double[days * SLOTS_PER_DAY];
+        this.availableCounts = new int[days * SLOTS_PER_DAY];
+    }
+
+    /**
+     * FreeBusyCache 의 사용자별 날짜 마스크로부터 만든다. 선호도는 날짜/슬롯마다 한 번만 계산한다.
+     */
+    static AvailabilityMatrix fromMasks(Map<Long, long[]> availability,
+                                        List<Long> participantIds,
+                                        LocalDate startDate,
+                                        LocalDate endDate,
+                                        ToDoubleBiFunction<LocalDate, Integer> preference) {
+        AvailabilityMatrix matrix = new AvailabilityMatrix(startDate, endDate, participantIds.size());
+        for (int day = 0; day < matrix.days; day++) {
+            long union = 0;
+            for (int p = 0; p < participantIds.size(); p++) {
+                long[] masks = availability.get(participantIds.get(p));
+                if (masks != null && day < masks.length) {
+                    long mask = masks[day] & ALL_SLOTS;
+                    matrix.masks[p * matrix.days + day] = mask;
+                    union |= mask;
+                }
+            }
+            LocalDate date = matrix.dateOf(day);
+            int base = day * SLOTS_PER_DAY;
+            while (union != 0) {
+                int slot = Long.numberOfTrailingZeros(union);
+                union &= union - 1;
+                double slotPreference = preference.applyAsDouble(date, slot);
+                for (int p = 0; p < participantIds.size(); p++) {
+                    if ((matrix.masks[p * matrix.days + day] & (1L << slot)) != 0) {
+                        matrix.preferenceSums[base + slot] += slotPreference;
+                        matrix.availableCounts[base + slot]++;
+                    }
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * 참석자가 가능한 슬롯이면 그 슬롯의 선호도 합에서 amount 를 뺀다 (소프트 충돌 감점).
+     */
+    void penalize(int participant, int day, int slotIndex, double amount) {
+        if ((masks[participant * days + day] & (1L << slotIndex)) != 0) {
+            preferenceSums[day * SLOTS_PER_DAY + slotIndex] -= amount;
+        }
+    }
+
+    long mask(int participant, int day) {
+        return masks[participant * days + day];
+    }
+
+    /**
+     * 모든 참석자가 가능한 슬롯 마스크 (하나라도 비면 바로 0).
+     */
+    long commonMask(int day) {
+        long common = ALL_SLOTS;
+        for (int p = 0; p < participants && common != 0; p++) {
+            common &= masks[p * days + day];
+        }
+        return participants == 0 ? 0 : common;
+    }
+
+    /**
+     * 주어진 참석자들이 모두 가능한 슬롯 마스크 (대상이 없으면 모든 슬롯).
+     */
+    long commonMask(int day, int[] participantIndexes) {
+        long common = ALL_SLOTS;
+        for (int i = 0; i < participantIndexes.length && common != 0; i++) {
+            common &= masks[participantIndexes[i] * days + day];
+        }
+        return common;
+    }
+
+    /**
+     * 길이 length 인 구간마다 구간 내 슬롯별 가능 인원의 최솟값 (단조 덱 슬라이딩 윈도 최솟값).
+     * 구간 전체에 참석 가능한 인원은 이 값을 넘을 수 없으므로 정족수 후보를 미리 거르는 상한으로 쓴다.
+     * 반환 배열의 s 번째 값이 구간 [s, s+length) 의 최솟값이다.
+     */
+    int[] windowMinCounts(int day, int length) {
+        int windows = SLOTS_PER_DAY - length + 1;
+        int[] result = new int[Math.max(0, windows)];
+        int base = day * SLOTS_PER_DAY;
+        int[] deque = new int[SLOTS_PER_DAY];
+        int head = 0;
+        int tail = 0;
+        for (int s = 0; s < SLOTS_PER_DAY; s++) {
+            int count = availableCounts[base + s];
+            while (tail > head && availableCounts[base + deque[tail - 1]] >= count) {
+                tail--;
+            }
+            deque[tail++] = s;
+            if (deque[head] <= s - length) {
+                head++;
+            }
+            int start = s - length + 1;
+            if (start >= 0) {
+                result[start] = availableCounts[base + deque[head]];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 날짜별 가능 인원의 누적합. countPrefix[e] - countPrefix[s] 가 슬롯 [s, e) 의 참석자-슬롯 수다.
+     */
+    int[] countPrefix(int day) {
+        int[] prefix = new int[SLOTS_PER_DAY + 1];
+        int base = day * SLOTS_PER_DAY;
+        for (int s = 0; s < SLOTS_PER_DAY; s++) {
+            prefix[s + 1] = prefix[s] + availableCounts[base + s];
+        }
+        return prefix;
+    }
+
+    /**
+     * 날짜별 선호도 합의 누적합. prefix[e] - prefix[s] 가 슬롯 [s, e) 의 합이다.
+     */
+    double[] preferencePrefix(int day) {
+        double[] prefix = new double[SLOTS_PER_DAY + 1];
+        int base = day * SLOTS_PER_DAY;
+        for (int s = 0; s < SLOTS_PER_DAY; s++) {
+            prefix[s + 1] = prefix[s] + preferenceSums[base + s];
+        }
+        return prefix;
+    }
+
+    LocalDate dateOf(int day) {
+        return startDate.plusDays(day);
+    }
+
+    int days() {
+        return days;
+    }
+
+    int participants() {
+        return participants;
+    }
+
+    /**
+     * 슬롯 [fromSlot, toSlot) 이 켜진 마스크.
+     */
+    static long slotRange(int fromSlot, int toSlot) {
+        if (toSlot <= fromSlot) {
+            return 0;
+        }
+        long upTo = toSlot >= SLOTS_PER_DAY ? ALL_SLOTS : (1L << toSlot) - 1;
+        return upTo & ~((1L << fromSlot) - 1);
+    }
+
+    /**
+     * mask 에서 길이 length 의 연속 구간이 시작할 수 있는 위치를 비트로 반환한다.
+     * bit s 가 켜져 있으면 슬롯 s..s+length-1 이 모두 켜져 있다. 48비트 밖은 항상 0이라 하루를 넘는 구간은 나오지 않는다.
+     */
+    static long runStarts(long mask, int length) {
+        long runs = mask;
+        for (int i = 1; i < length && runs != 0; i++) {
+            runs &= mask >>> i;
+        }
+        return runs;
+    }
+}
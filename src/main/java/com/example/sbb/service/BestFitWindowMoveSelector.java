@@ -0,0 +1,106 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.TimeSlot;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 배치 하나를 담당자의 빈 구간 중 가장 잘 맞는 곳(남는 슬롯이 가장 적은 곳, 같으면 선호도가 높은 곳)으로 옮긴다.
+ * 조각난 빈 시간을 채워 긴 구간을 남겨 두므로, 임의 이동보다 다른 작업이 들어갈 자리를 덜 망가뜨린다.
+ */
+@Component
+@Order(3)
+public class BestFitWindowMoveSelector implements MoveSelector {
+
+    @Override
+    public Move select(List<Assignment> assignments, Map<Long, List<TimeSlot>> availableSlots, Random random) {
+        List<Integer> taskIndexes = new ArrayList<>();
+        for (int i = 0; i < assignments.size(); i++) {
+            if (assignments.get(i).getTask() != null) {
+                taskIndexes.add(i);
+            }
+        }
+        if (taskIndexes.isEmpty()) {
+            return null;
+        }
+        int index = taskIndexes.get(random.nextInt(taskIndexes.size()));
+        Assignment selected = assignments.get(index);
+        Long userId = AssignmentMoves.userIdFromMeta(selected);
+        List<TimeSlot> userSlots = userId != null ? availableSlots.get(userId) : null;
+        if (userSlots == null || userSlots.isEmpty()) {
+            return null;
+        }
+        
+        int requiredSlots = AssignmentMoves.requiredSlots(selected);
+        OffsetDateTime dueAt = selected.getTask().getDueAt();
+        
+        // 같은 담당자의 다른 배치가 차지하지 않은 슬롯만 (날짜, 슬롯 순)
+        List<Assignment> sameUser = new ArrayList<>();
+        for (int i = 0; i < assignments.size(); i++) {
+            if (i != index && userId.equals(AssignmentMoves.userIdFromMeta(assignments.get(i)))) {
+                sameUser.add(assignments.get(i));
+            }
+        }
+        Set<String> seen = new HashSet<>();
+        List<TimeSlot> free = new ArrayList<>();
+        for (TimeSlot slot : userSlots) {
+            if (seen.add(slot.getSlotKey()) && sameUser.stream().noneMatch(other ->
+                    slot.getStartTime().isBefore(other.getEndsAt()) && slot.getEndTime().isAfter(other.getStartsAt()))) {
+                free.add(slot);
+            }
+        }
+        free.sort(Comparator.comparing(TimeSlot::getDate).thenComparing(TimeSlot::getSlotIndex));
+        
+        // 연속 구간마다 필요한 길이가 들어가는지 보고 최적 구간 선택
+        List<TimeSlot> best = null;
+        int bestSlack = Integer.MAX_VALUE;
+        double bestPreference = -1;
+        int runStart = 0;
+        for (int i = 1; i <= free.size(); i++) {
+            boolean breaks = i == free.size()
+                || !free.get(i).getDate().equals(free.get(i - 1).getDate())
+                || free.get(i).getSlotIndex() != free.get(i - 1).getSlotIndex() + 1;
+            if (!breaks) {
+                continue;
+            }
+            List<TimeSlot> window = free.subList(runStart, i);
+            runStart = i;
+            if (window.size() < requiredSlots) {
+                continue;
+            }
+            // 구간 안에서 선호도 합이 가장 높은 위치 (마감일 전에 끝나야 함)
+            for (int offset = 0; offset + requiredSlots <= window.size(); offset++) {
+                List<TimeSlot> placement = window.subList(offset, offset + requiredSlots);
+                if (dueAt != null && !placement.get(requiredSlots - 1).getEndTime().isBefore(dueAt)) {
+                    break;
+                }
+                int slack = window.size() - requiredSlots;
+                double preference = placement.stream().mapToDouble(TimeSlot::getPreferenceScore).sum();
+                if (slack < bestSlack || (slack == bestSlack && preference > bestPreference)) {
+                    best = placement;
+                    bestSlack = slack;
+                    bestPreference = preference;
+                }
+            }
+        }
+        if (best == null || best.get(0).getStartTime().isEqual(selected.getStartsAt())) {
+            return null;
+        }
+        
+        TimeSlot first = best.get(0);
+        TimeSlot last = best.get(best.size() - 1);
+        return new Move(
+            AssignmentMoves.relocate(assignments, index, first, last),
+            AssignmentMoves.positionKey(index, first.getStartTime()),
+            AssignmentMoves.positionKey(index, selected.getStartsAt()));
+    }
+}
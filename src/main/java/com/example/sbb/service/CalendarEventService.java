@@ -18,8 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,15 +29,18 @@ public class CalendarEventService {
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final CollaborationEventPublisher eventPublisher;
+    private final FreeBusyCache freeBusyCache;
 
     public CalendarEventService(CalendarEventRepository calendarEventRepository,
                                 TeamRepository teamRepository,
                                 UserRepository userRepository,
-                                CollaborationEventPublisher eventPublisher) {
+                                CollaborationEventPublisher eventPublisher,
+                                FreeBusyCache freeBusyCache) {
         this.calendarEventRepository = calendarEventRepository;
         this.teamRepository = teamRepository;
         this.userRepository = userRepository;
         this.eventPublisher = eventPublisher;
+        this.freeBusyCache = freeBusyCache;
     }
 
     @Transactional
@@ -87,10 +91,11 @@ public class CalendarEventService {
         
         // 반복이 없으면 단일 이벤트만 생성
         CalendarEvent saved = calendarEventRepository.save(e);
+        freeBusyCache.invalidateEvent(saved);
         CalendarEventResponse response = toResponse(saved);
         eventPublisher.publishCalendarEvent(CalendarEventMessage.created(response));
         publishCalendarNotification(saved, "CALENDAR_CREATED", "새 일정 생성", "일정 '" + saved.getTitle() + "' 이(가) 생성되었습니다.");
-        publishConflicts(saved);
+        publishConflicts(List.of(saved));
         return response;
     }
 
@@ -126,6 +131,8 @@ public class CalendarEventService {
             .orElseThrow(() -> new IllegalArgumentException("이벤트를 찾을 수 없습니다: " + id));
         OffsetDateTime originalStartsAt = e.getStartsAt();
         OffsetDateTime originalEndsAt = e.getEndsAt();
+        // 변경 전 시간/참석자 기준으로 먼저 무효화 (변경 후 기준은 저장 뒤)
+        freeBusyCache.invalidateEvent(e);
 
         // 일정 시간 검증: 종료 시간은 시작 시간 이후여야 함
         OffsetDateTime startsAt = request.getStartsAt() != null ? request.getStartsAt() : e.getStartsAt();
@@ -148,10 +155,11 @@ public class CalendarEventService {
         if (request.getRecurrenceEndDate() != null) e.setRecurrenceEndDate(request.getRecurrenceEndDate());
         e.setUpdatedAt(OffsetDateTime.now());
         CalendarEvent saved = calendarEventRepository.save(e);
+        freeBusyCache.invalidateEvent(saved);
         CalendarEventResponse response = toResponse(saved);
         eventPublisher.publishCalendarEvent(CalendarEventMessage.updated(response));
         publishUpdateNotifications(e, request, originalStartsAt, originalEndsAt);
-        publishConflicts(saved);
+        publishConflicts(List.of(saved));
         return response;
     }
 
@@ -160,6 +168,7 @@ public class CalendarEventService {
         CalendarEvent event = calendarEventRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("이벤트를 찾을 수 없습니다: " + id));
         calendarEventRepository.delete(event);
+        freeBusyCache.invalidateEvent(event);
         Long teamId = event.getTeam() != null ? event.getTeam().getId() : null;
         eventPublisher.publishCalendarEvent(CalendarEventMessage.deleted(teamId, id));
         publishCalendarNotification(event, "CALENDAR_DELETED", "일정 삭제", "일정 '" + event.getTitle() + "' 이(가) 삭제되었습니다.");
@@ -243,6 +252,8 @@ public class CalendarEventService {
         
         // 모든 반복 일정 저장
         List<CalendarEvent> savedEvents = calendarEventRepository.saveAll(events);
+        // 모든 발생분이 같은 참석자라 반복 템플릿 기준으로 한 번만 무효화 (해당 사용자 전체 날짜)
+        freeBusyCache.invalidateEvent(template);
         
         // 첫 번째 이벤트를 응답으로 반환
         CalendarEventResponse response = toResponse(savedEvents.get(0));
@@ -250,8 +261,9 @@ public class CalendarEventService {
         // 각 이벤트에 대해 알림 발행
         for (CalendarEvent saved : savedEvents) {
             eventPublisher.publishCalendarEvent(CalendarEventMessage.created(toResponse(saved)));
-            publishConflicts(saved);
         }
+        // 모든 발생분의 충돌을 한 번의 조회로 검사
+        publishConflicts(savedEvents);
         
         publishCalendarNotification(template, "CALENDAR_CREATED", "새 반복 일정 생성", 
             "반복 일정 '" + template.getTitle() + "' " + count + "개가 생성되었습니다.");
@@ -259,36 +271,59 @@ public class CalendarEventService {
         return response;
     }
 
-    private void publishConflicts(CalendarEvent event) {
-        if (event.getTeam() == null) {
+    private void publishConflicts(List<CalendarEvent> events) {
+        List<CalendarEvent> targets = events.stream()
+            .filter(e -> e.getTeam() != null && e.getId() != null)
+            .collect(Collectors.toList());
+        if (targets.isEmpty()) {
             return;
         }
-        // DTO 프로젝션으로 조회하여 충돌 검사 (성능 최적화)
-        List<CalendarEventResponse> allResponses = calendarEventRepository.findResponsesByTeamId(event.getTeam().getId());
-        List<CalendarEventResponse> conflicts = allResponses.stream()
-            .filter(existing -> !Objects.equals(existing.getId(), event.getId()))
-            .filter(existing -> isOverlappingResponse(existing, event))
-            .collect(Collectors.toList());
-        if (!conflicts.isEmpty()) {
-            CalendarEventResponse source = toResponse(event);
-            String message = "일정 '" + event.getTitle() + "' 이(가) 다른 일정과 충돌합니다.";
-            ConflictAlertMessage conflictAlert = ConflictAlertMessage.calendarConflict(
-                event.getTeam().getId(),
-                source,
-                conflicts,
-                message
-            );
-            eventPublisher.publishConflictAlert(conflictAlert);
+        // 일괄/반복 생성은 같은 팀이므로 팀별로 한 번씩 충돌 쌍을 조회 (기간 GiST 인덱스)
+        Map<Long, List<CalendarEvent>> byTeam = targets.stream()
+            .collect(Collectors.groupingBy(e -> e.getTeam().getId(), LinkedHashMap::new, Collectors.toList()));
+        for (Map.Entry<Long, List<CalendarEvent>> entry : byTeam.entrySet()) {
+            Long teamId = entry.getKey();
+            List<CalendarEvent> teamEvents = entry.getValue();
+            List<CalendarEventRepository.ConflictPair> pairs = calendarEventRepository.findConflictPairs(
+                teamId,
+                teamEvents.stream().map(e -> e.getId().toString()).toArray(String[]::new),
+                teamEvents.stream().map(e -> e.getStartsAt().toString()).toArray(String[]::new),
+                teamEvents.stream().map(e -> e.getEndsAt().toString()).toArray(String[]::new));
+            if (pairs.isEmpty()) {
+                continue;
+            }
+            Map<Long, CalendarEventResponse> conflictsById = calendarEventRepository.findResponsesByIds(
+                    pairs.stream().map(CalendarEventRepository.ConflictPair::getConflictId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(CalendarEventResponse::getId, r -> r));
+            Map<Long, List<CalendarEventResponse>> conflictsBySource = new LinkedHashMap<>();
+            for (CalendarEventRepository.ConflictPair pair : pairs) {
+                CalendarEventResponse conflict = conflictsById.get(pair.getConflictId());
+                if (conflict != null) {
+                    conflictsBySource.computeIfAbsent(pair.getSourceId(), k -> new ArrayList<>()).add(conflict);
+                }
+            }
+            for (CalendarEvent event : teamEvents) {
+                List<CalendarEventResponse> conflicts = conflictsBySource.get(event.getId());
+                if (conflicts == null) {
+                    continue;
+                }
+                CalendarEventResponse source = toResponse(event);
+                String message = "일정 '" + event.getTitle() + "' 이(가) 다른 일정과 충돌합니다.";
+                ConflictAlertMessage conflictAlert = ConflictAlertMessage.calendarConflict(
+                    teamId,
+                    source,
+                    conflicts,
+                    message
+                );
+                eventPublisher.publishConflictAlert(conflictAlert);
+            }
         }
     }
 
     private boolean isOverlapping(CalendarEvent existing, CalendarEvent target) {
         return existing.getStartsAt().isBefore(target.getEndsAt()) && existing.getEndsAt().isAfter(target.getStartsAt());
     }
-    
-    private boolean isOverlappingResponse(CalendarEventResponse existing, CalendarEvent target) {
-        return existing.getStartsAt().isBefore(target.getEndsAt()) && existing.getEndsAt().isAfter(target.getStartsAt());
-    }
 
     private void publishCalendarNotification(CalendarEvent event, String category, String title, String content) {
         if (event.getTeam() != null) {
@@ -1,28 +1,38 @@
 package com.example.sbb.service;
 
+import com.example.sbb.config.StompPayloadEncoder;
+import com.example.sbb.config.StompPayloadEncoder.EncodedPayload;
 import com.example.sbb.dto.event.CalendarEventMessage;
 import com.example.sbb.dto.event.CollaborationNotificationMessage;
 import com.example.sbb.dto.event.ConflictAlertMessage;
 import com.example.sbb.dto.event.ScheduleProgressMessage;
+import com.example.sbb.dto.event.SlotLockEventMessage;
 import com.example.sbb.dto.event.TaskEventMessage;
 import com.example.sbb.dto.response.ScheduleResponse;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Component
 public class CollaborationEventPublisher {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final StompPayloadEncoder payloadEncoder;
 
-    public CollaborationEventPublisher(SimpMessagingTemplate messagingTemplate) {
+    public CollaborationEventPublisher(SimpMessagingTemplate messagingTemplate, StompPayloadEncoder payloadEncoder) {
         this.messagingTemplate = messagingTemplate;
+        this.payloadEncoder = payloadEncoder;
     }
 
     public void publishTaskEvent(TaskEventMessage message) {
-        messagingTemplate.convertAndSend("/topic/tasks", message);
+        // 같은 페이로드를 두 토픽으로 보내므로 한 번만 인코딩해 재사용한다.
+        EncodedPayload encoded = payloadEncoder.encode(message);
+        send("/topic/tasks", message, encoded);
         if (message.teamId() != null) {
-            messagingTemplate.convertAndSend("/topic/tasks/" + message.teamId(), message);
+            send("/topic/tasks/" + message.teamId(), message, encoded);
         }
         if (message.task() != null && message.taskId() != null) {
             publishDetailUpdate("task", message.taskId(), message.task());
@@ -31,9 +41,9 @@ public class CollaborationEventPublisher {
 
     public void publishCalendarEvent(CalendarEventMessage message) {
         if (message.teamId() != null) {
-            messagingTemplate.convertAndSend("/topic/calendar/" + message.teamId(), message);
+            send("/topic/calendar/" + message.teamId(), message);
         } else {
-            messagingTemplate.convertAndSend("/topic/calendar", message);
+            send("/topic/calendar", message);
         }
         if (message.event() != null && message.eventId() != null) {
             publishDetailUpdate("event", message.eventId(), message.event());
@@ -42,9 +52,9 @@ public class CollaborationEventPublisher {
 
     public void publishScheduleProgress(ScheduleProgressMessage message) {
         if (message.teamId() != null) {
-            messagingTemplate.convertAndSend("/topic/schedules/" + message.teamId(), message);
+            send("/topic/schedules/" + message.teamId(), message);
         } else {
-            messagingTemplate.convertAndSend("/topic/schedules", message);
+            send("/topic/schedules", message);
         }
     }
 
@@ -52,38 +62,67 @@ public class CollaborationEventPublisher {
         if (schedule == null || schedule.getTeamId() == null) {
             return;
         }
-        messagingTemplate.convertAndSend("/topic/schedule." + schedule.getTeamId(), schedule);
+        send("/topic/schedule." + schedule.getTeamId(), schedule);
     }
 
     public void publishConflictAlert(ConflictAlertMessage message) {
         if (message.teamId() != null) {
-            messagingTemplate.convertAndSend("/topic/conflicts/" + message.teamId(), message);
+            send("/topic/conflicts/" + message.teamId(), message);
         } else {
-            messagingTemplate.convertAndSend("/topic/conflicts", message);
+            send("/topic/conflicts", message);
         }
     }
 
     public void publishNotification(CollaborationNotificationMessage message) {
+        EncodedPayload encoded = payloadEncoder.encode(message);
         if ("USER".equalsIgnoreCase(message.scope()) && message.targetId() != null) {
             String userTopic = "/topic/notifications/user/" + message.targetId();
-            System.out.println("[Notification] Publishing to user topic: " + userTopic + ", message: " + message.title());
-            messagingTemplate.convertAndSend(userTopic, message);
+            if (log.isDebugEnabled()) {
+                log.debug("알림 발행: topic={}, title={}", userTopic, message.title());
+            }
+            send(userTopic, message, encoded);
         }
         if (message.teamId() != null) {
             String teamTopic = "/topic/notifications/team/" + message.teamId();
-            System.out.println("[Notification] Publishing to team topic: " + teamTopic + ", message: " + message.title());
-            messagingTemplate.convertAndSend(teamTopic, message);
+            if (log.isDebugEnabled()) {
+                log.debug("알림 발행: topic={}, title={}", teamTopic, message.title());
+            }
+            send(teamTopic, message, encoded);
         } else if (!StringUtils.hasText(message.scope()) || "BROADCAST".equalsIgnoreCase(message.scope())) {
-            System.out.println("[Notification] Publishing to broadcast topic: /topic/notifications, message: " + message.title());
-            messagingTemplate.convertAndSend("/topic/notifications", message);
+            if (log.isDebugEnabled()) {
+                log.debug("알림 발행: topic=/topic/notifications, title={}", message.title());
+            }
+            send("/topic/notifications", message, encoded);
+        }
+    }
+
+    public void publishLockEvent(SlotLockEventMessage message) {
+        if (message.teamId() == null) {
+            return;
         }
+        send("/topic/locks/" + message.teamId(), message);
     }
 
     public void publishDetailUpdate(String entityType, Long entityId, Object payload) {
         if (entityType == null || entityId == null) {
             return;
         }
-        messagingTemplate.convertAndSend("/topic/detail/" + entityType + "/" + entityId, payload);
+        send("/topic/detail/" + entityType + "/" + entityId, payload);
+    }
+
+    private void send(String destination, Object payload) {
+        send(destination, payload, payloadEncoder.encode(payload));
+    }
+
+    /**
+     * 미리 인코딩한 페이로드로 발행한다. 인코딩할 수 없는 페이로드는 기존 변환 경로로 보낸다.
+     */
+    private void send(String destination, Object payload, EncodedPayload encoded) {
+        if (encoded == null) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+        messagingTemplate.send(destination, payloadEncoder.toMessage(encoded));
     }
 }
 
@@ -0,0 +1,109 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.SlotLockProperties;
+import com.example.sbb.domain.SlotLease;
+import com.example.sbb.repository.SlotLockRepository;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// DB(slot_lock 테이블) 기반 슬롯 락 저장소 - 기본 모드
+// 획득/갱신은 각각 네이티브 문장 하나로 끝나며, user_id 는 그대로 바인딩하므로 사용자 조회가 필요 없다.
+@Component
+@RequiredArgsConstructor
+public class DatabaseSlotLockStore implements SlotLockStore {
+
+    private final SlotLockRepository slotLockRepository;
+    private final SlotLockProperties properties;
+
+    // 슬롯 락 시도 (INSERT ... ON CONFLICT DO UPDATE ... RETURNING)
+    @Override
+    @Transactional
+    public OptionalLong tryAcquire(String slotKey, Long userId, Duration ttl) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        return slotLockRepository.acquireLease(slotKey, userId, now.plus(ttl), now)
+                .map(OptionalLong::of)
+                .orElseGet(OptionalLong::empty);
+    }
+
+    // 슬롯 락 갱신 (내 락일 때만 만료 시간 연장)
+    @Override
+    @Transactional
+    public boolean renewLock(String slotKey, Long userId, Duration ttl) {
+        OffsetDateTime expiresAt = OffsetDateTime.now(ZoneOffset.UTC).plus(ttl);
+        return slotLockRepository.renewLease(slotKey, userId, expiresAt) > 0;
+    }
+
+    // 슬롯 락 해제
+    @Override
+    @Transactional
+    public boolean releaseLock(String slotKey, Long userId) {
+        return slotLockRepository.deleteBySlotKeyAndUserId(slotKey, userId) > 0;
+    }
+
+    // 여러 슬롯 락 일괄 갱신 (UPDATE ... WHERE slot_key = ANY(...) 한 문장)
+    @Override
+    @Transactional
+    public Set<String> renewLocks(Collection<String> slotKeys, Long userId, Duration ttl) {
+        OffsetDateTime expiresAt = OffsetDateTime.now(ZoneOffset.UTC).plus(ttl);
+        return new HashSet<>(slotLockRepository.renewLeases(slotKeys.toArray(String[]::new), userId, expiresAt));
+    }
+
+    // 여러 슬롯 락 일괄 해제 (DELETE ... WHERE slot_key = ANY(...) 한 문장)
+    @Override
+    @Transactional
+    public Set<String> releaseLocks(Collection<String> slotKeys, Long userId) {
+        return new HashSet<>(slotLockRepository.releaseLeases(slotKeys.toArray(String[]::new), userId));
+    }
+
+    // 만료된 슬롯 락 삭제 (청크마다 별도 트랜잭션, 주기당 최대 청크 수 제한)
+    @Override
+    public int cleanExpiredLocks() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        int chunkSize = Math.max(1, properties.getCleanupChunkSize());
+        int deleted = 0;
+        for (int chunk = 0; chunk < properties.getCleanupMaxChunks(); chunk++) {
+            int removed = slotLockRepository.deleteExpiredChunk(now, chunkSize).size();
+            deleted += removed;
+            if (removed < chunkSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    // 만료 시각이 된 슬롯 락 삭제 (조건부 DELETE 한 문장)
+    @Override
+    @Transactional
+    public boolean expireLease(String slotKey) {
+        return slotLockRepository.deleteIfExpired(slotKey, OffsetDateTime.now(ZoneOffset.UTC)).isPresent();
+    }
+
+    // 활성 슬롯 락 전체 조회
+    @Override
+    @Transactional(readOnly = true)
+    public List<SlotLease> findActiveLeases() {
+        return slotLockRepository.findActiveLeases(OffsetDateTime.now(ZoneOffset.UTC));
+    }
+
+    // 슬롯 락 조회
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SlotLease> findLease(String slotKey) {
+        return slotLockRepository.findById(slotKey)
+                .map(lock -> new SlotLease(
+                        lock.getSlotKey(),
+                        lock.getUser() != null ? lock.getUser().getId() : null,
+                        lock.getExpiresAt(),
+                        lock.getFencingToken()));
+    }
+}
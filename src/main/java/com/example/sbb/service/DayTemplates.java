@@ -0,0 +1,100 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.WorkHour;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컴파일된 주간 근무시간: 요일별 슬롯 마스크 (bit i = 30분 슬롯 i, index 0 = 월요일).
+ * 팀 기본 근무시간(사용자 없는 행)은 한 벌만 두고, 개인 근무시간은 사용자별로 둔다.
+ * 사용자의 요일 마스크는 "개인 | 팀 기본"이며, 팀 기본과 개인 근무시간이 겹치면 합쳐진다.
+ *
+ * 만든 뒤에는 바뀌지 않으므로 WorkHourTemplateCache 가 팀별로 공유한다.
+ */
+final class DayTemplates {
+
+    /** 근무시간 설정이 없는 팀의 기본값 (9시-18시, 월-일, 주말은 선호도 낮음) */
+    static final int DEFAULT_START_MIN = 540;
+    static final int DEFAULT_END_MIN = 1080;
+
+    private final long[] teamDefault;                // 요일별 팀 기본 마스크
+    private final Map<Long, long[]> personal;        // userId -> 요일별 "개인 | 팀 기본" 마스크
+
+    private DayTemplates(long[] teamDefault, Map<Long, long[]> personal) {
+        this.teamDefault = teamDefault;
+        this.personal = personal;
+    }
+
+    /**
+     * WorkHour 행을 한 번 훑어 요일 마스크로 컴파일
+     *
+     * @param teamDefaults false 면 팀 기본 행은 무시 (적용할 사용자를 모를 때)
+     */
+    static DayTemplates compile(List<WorkHour> workHours, boolean teamDefaults) {
+        long[] teamDefault = new long[7];
+        Map<Long, long[]> personal = new LinkedHashMap<>();
+        for (WorkHour workHour : workHours) {
+            // DB는 1-7 (월-일)
+            int dowIndex = workHour.getDow() - 1;
+            if (dowIndex < 0 || dowIndex > 6) {
+                continue;
+            }
+            long mask = AvailabilityMatrix.slotRange(
+                SlotGrid.BASE.indexOf(workHour.getStartMin()), SlotGrid.BASE.indexOf(workHour.getEndMin()));
+
+            if (workHour.getUser() != null) {
+                personal.computeIfAbsent(workHour.getUser().getId(), k -> new long[7])[dowIndex] |= mask;
+            } else if (teamDefaults) {
+                teamDefault[dowIndex] |= mask;
+            }
+        }
+        for (long[] week : personal.values()) {
+            for (int i = 0; i < 7; i++) {
+                week[i] |= teamDefault[i];
+            }
+        }
+        return new DayTemplates(teamDefault, personal);
+    }
+
+    /**
+     * 팀에 근무시간 설정이 없을 때 쓰는 행 (스냅샷에도 이 행이 기록된다)
+     */
+    static List<WorkHour> defaultWorkHours() {
+        List<WorkHour> defaults = new ArrayList<>();
+        for (int dow = 1; dow <= 7; dow++) {
+            WorkHour defaultWorkHour = new WorkHour();
+            defaultWorkHour.setUser(null);
+            defaultWorkHour.setDow(dow);
+            defaultWorkHour.setStartMin(DEFAULT_START_MIN);
+            defaultWorkHour.setEndMin(DEFAULT_END_MIN);
+            defaults.add(defaultWorkHour);
+        }
+        return defaults;
+    }
+
+    /**
+     * 개인 근무시간이 있는 사용자 (행 순서대로)
+     */
+    Set<Long> personalUserIds() {
+        return personal.keySet();
+    }
+
+    /**
+     * 그 날짜의 근무 슬롯 마스크 (근무시간이 없는 사용자는 팀 기본)
+     */
+    long mask(Long userId, LocalDate date) {
+        return week(userId)[date.getDayOfWeek().getValue() - 1];
+    }
+
+    /**
+     * 사용자의 월-일 마스크 (복사본이 아니므로 수정하지 말 것)
+     */
+    long[] week(Long userId) {
+        return personal.getOrDefault(userId, teamDefault);
+    }
+}
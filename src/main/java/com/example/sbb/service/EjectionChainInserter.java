@@ -0,0 +1,417 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.EjectionChainProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그리디가 배치하지 못한 작업을 ejection chain 으로 끼워 넣는다.
+ *
+ * 작업이 들어갈 연속 구간을 막고 있는 배치가 한 작업뿐이고, 그 작업이 우선순위가 낮거나 마감이 늦으면
+ * 그 작업을 빼내 자리를 차지한 뒤 빼낸 작업을 같은 방식으로 다시 넣는다 (깊이 제한).
+ * 사슬 끝에서 빈 자리를 찾으면 확정하고, 못 찾으면 모두 되돌린다. 이미 배치된 작업이 빠지는 일은 없다.
+ *
+ * 점유 인덱스는 (사용자, 날짜)마다 사용 가능/점유 마스크(long, bit i = slotIndex i)와 슬롯별 점유 작업 ID 라
+ * 구간 하나를 확인하는 비용은 마스크 연산 몇 번이다. 전체 탐색은 시간 예산 안에서만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EjectionChainInserter {
+
+    private static final double MIN_PREFERENCE = 0.05;  // GreedyScheduler 와 같은 슬롯 필터
+    private static final int SLOT_SECONDS = 30 * 60;
+
+    private final GreedyScheduler greedyScheduler;
+    private final EjectionChainProperties properties;
+
+    /**
+     * 배치되지 않은 작업을 밀어내기 사슬로 넣어 본다.
+     *
+     * @param tasks 배치 대상 작업 (배치된 작업 포함)
+     * @param assignments 그리디 결과
+     * @return 옮기지 않은 작업은 기존 Assignment 를 그대로, 새로 넣거나 옮긴 작업은 새 Assignment 로 채운 목록
+     */
+    public List<Assignment> insertUnplaced(
+            List<Task> tasks,
+            List<Assignment> assignments,
+            Map<Long, List<TimeSlot>> availableSlots,
+            Schedule schedule) {
+
+        if (!properties.isEnabled()) {
+            return assignments;
+        }
+        Map<Long, List<Assignment>> originalByTask = new LinkedHashMap<>();
+        for (Assignment assignment : assignments) {
+            if (assignment.getTask() != null) {
+                originalByTask.computeIfAbsent(assignment.getTask().getId(), k -> new ArrayList<>()).add(assignment);
+            }
+        }
+        List<Task> unplaced = tasks.stream()
+            .filter(t -> !originalByTask.containsKey(t.getId()))
+            .sorted(Comparator.comparing(Task::getPriority).thenComparing(EjectionChainInserter::dueOrMax))
+            .collect(Collectors.toList());
+        if (unplaced.isEmpty()) {
+            return assignments;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.getTimeBudgetMs() * 1_000_000L;
+        Occupancy occupancy = new Occupancy(availableSlots);
+        originalByTask.values().forEach(occupancy::placeOriginal);
+
+        int rescued = 0;
+        for (Task task : unplaced) {
+            if (System.nanoTime() > deadline) {
+                log.info("ejection chain 시간 예산 초과: 남은 작업은 건너뜀");
+                break;
+            }
+            Set<Long> chain = new HashSet<>();
+            chain.add(task.getId());
+            if (insert(task, properties.getMaxDepth(), occupancy, new ArrayDeque<>(), chain, deadline)) {
+                rescued++;
+            }
+        }
+
+        log.info("ejection chain 삽입 완료: 미배치 작업={}, 삽입={}, {}ms",
+            unplaced.size(), rescued, (System.nanoTime() - startedAt) / 1_000_000);
+        if (rescued == 0) {
+            return assignments;
+        }
+
+        List<Assignment> result = new ArrayList<>();
+        for (Assignment assignment : assignments) {
+            if (assignment.getTask() == null || occupancy.isOriginal(assignment.getTask().getId())) {
+                result.add(assignment);
+            }
+        }
+        for (Placement placement : occupancy.placements.values()) {
+            if (!placement.original) {
+                result.addAll(greedyScheduler.createAssignments(placement.task, placement.timeSlots(), schedule));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 빈 자리에 넣거나, 한 작업만 막고 있는 구간을 차지하고 그 작업을 재귀적으로 다시 넣는다.
+     * 실패하면 이 호출에서 바꾼 점유를 모두 되돌린다.
+     *
+     * @param chain 이번 사슬에서 이미 움직인 작업 (다시 밀어내지 않음)
+     */
+    private boolean insert(Task task, int depth, Occupancy occupancy, Deque<Runnable> undo,
+                           Set<Long> chain, long deadline) {
+        int required = FeasibilityAnalyzer.requiredSlots(task);
+        List<Cell> free = occupancy.findFree(task, required);
+        if (free != null) {
+            occupancy.place(task, free, undo);
+            return true;
+        }
+        if (depth == 0 || System.nanoTime() > deadline) {
+            return false;
+        }
+
+        List<Ejection> ejections = occupancy.findEjections(task, required,
+            other -> !chain.contains(other.getId()) && isDisplaceable(task, other));
+        ejections.sort(Comparator
+            .comparingInt((Ejection e) -> FeasibilityAnalyzer.requiredSlots(e.blocker))
+            .thenComparing(Comparator.comparingDouble((Ejection e) -> e.preference).reversed()));
+
+        for (Ejection ejection : ejections.subList(0, Math.min(ejections.size(), properties.getMaxCandidates()))) {
+            int mark = undo.size();
+            occupancy.remove(ejection.blocker.getId(), undo);
+            occupancy.place(task, ejection.cells, undo);
+            chain.add(ejection.blocker.getId());
+            if (insert(ejection.blocker, depth - 1, occupancy, undo, chain, deadline)) {
+                return true;
+            }
+            chain.remove(ejection.blocker.getId());
+            while (undo.size() > mark) {
+                undo.pop().run();
+            }
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * other 가 task 보다 우선순위가 낮거나(숫자가 큼) 마감이 늦으면 밀어낼 수 있다
+     */
+    static boolean isDisplaceable(Task task, Task other) {
+        return other.getPriority() > task.getPriority() || dueOrMax(other).isAfter(dueOrMax(task));
+    }
+
+    private static OffsetDateTime dueOrMax(Task task) {
+        return task.getDueAt() != null ? task.getDueAt() : OffsetDateTime.MAX;
+    }
+
+    /**
+     * (사용자, 날짜)별 점유 인덱스
+     */
+    private static final class Occupancy {
+        private final Map<Long, TreeMap<LocalDate, Day>> daysByUser = new LinkedHashMap<>();
+        private final Map<Long, Placement> placements = new HashMap<>();
+
+        Occupancy(Map<Long, List<TimeSlot>> availableSlots) {
+            availableSlots.keySet().stream().sorted().forEach(userId -> {
+                for (TimeSlot slot : availableSlots.get(userId)) {
+                    if (slot.getPreferenceScore() > MIN_PREFERENCE) {
+                        Day day = day(userId, slot.getDate());
+                        if (day.slots[slot.getSlotIndex()] == null) {
+                            day.slots[slot.getSlotIndex()] = slot;
+                            day.usable |= 1L << slot.getSlotIndex();
+                        }
+                    }
+                }
+            });
+        }
+
+        private Day day(Long userId, LocalDate date) {
+            return daysByUser.computeIfAbsent(userId, k -> new TreeMap<>())
+                .computeIfAbsent(date, d -> new Day(d));
+        }
+
+        /**
+         * 그리디 결과 배치를 점유로 기록한다. 담당자를 알 수 없는 배치는 밀어낼 수 없는 작업으로만 남긴다.
+         */
+        void placeOriginal(List<Assignment> taskAssignments) {
+            Task task = taskAssignments.get(0).getTask();
+            List<Cell> cells = new ArrayList<>();
+            for (Assignment assignment : taskAssignments) {
+                Long userId = AssignmentMoves.userIdFromMeta(assignment);
+                if (userId == null) {
+                    continue;
+                }
+                OffsetDateTime startsAt = assignment.getStartsAt().withOffsetSameInstant(ZoneOffset.UTC);
+                Day day = day(userId, startsAt.toLocalDate());
+                long fromSec = Duration.between(day.start, startsAt).getSeconds();
+                long toSec = Duration.between(day.start, assignment.getEndsAt()).getSeconds();
+                int toSlot = (int) Math.min(AvailabilityMatrix.SLOTS_PER_DAY, (toSec + SLOT_SECONDS - 1) / SLOT_SECONDS);
+                for (int s = (int) (fromSec / SLOT_SECONDS); s < toSlot; s++) {
+                    cells.add(new Cell(day, s));
+                }
+            }
+            placements.put(task.getId(), new Placement(task, cells, true));
+            mark(cells, task.getId());
+        }
+
+        boolean isOriginal(Long taskId) {
+            Placement placement = placements.get(taskId);
+            return placement != null && placement.original;
+        }
+
+        /**
+         * 비어 있는 가장 이른 연속 구간, 분할 가능한 작업은 없으면 한 사용자의 가장 이른 빈 슬롯들
+         */
+        List<Cell> findFree(Task task, int required) {
+            for (Long userId : candidateUsers(task)) {
+                for (Day day : daysByUser.get(userId).values()) {
+                    long starts = AvailabilityMatrix.runStarts(day.free() & day.before(task.getDueAt()), required);
+                    if (starts != 0) {
+                        return day.cells(Long.numberOfTrailingZeros(starts), required);
+                    }
+                }
+            }
+            if (!task.isSplittable()) {
+                return null;
+            }
+            for (Long userId : candidateUsers(task)) {
+                List<Cell> cells = new ArrayList<>();
+                for (Day day : daysByUser.get(userId).values()) {
+                    long free = day.free() & day.before(task.getDueAt());
+                    while (free != 0 && cells.size() < required) {
+                        int slot = Long.numberOfTrailingZeros(free);
+                        cells.add(new Cell(day, slot));
+                        free &= free - 1;
+                    }
+                    if (cells.size() == required) {
+                        return cells;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 한 작업만 막고 있고 그 작업을 밀어낼 수 있는 연속 구간들
+         */
+        List<Ejection> findEjections(Task task, int required, Predicate<Task> displaceable) {
+            List<Ejection> ejections = new ArrayList<>();
+            for (Long userId : candidateUsers(task)) {
+                for (Day day : daysByUser.get(userId).values()) {
+                    long usable = day.usable & day.before(task.getDueAt());
+                    long blocked = AvailabilityMatrix.runStarts(usable, required)
+                        & ~AvailabilityMatrix.runStarts(usable & ~day.occupied, required);
+                    while (blocked != 0) {
+                        int start = Long.numberOfTrailingZeros(blocked);
+                        blocked &= blocked - 1;
+                        Long owner = day.singleOwner(start, required);
+                        if (owner == null) {
+                            continue;
+                        }
+                        Task blocker = placements.get(owner).task;
+                        if (displaceable.test(blocker)) {
+                            ejections.add(new Ejection(blocker, day.cells(start, required), day.preference(start, required)));
+                        }
+                    }
+                }
+            }
+            return ejections;
+        }
+
+        private List<Long> candidateUsers(Task task) {
+            if (task.getAssignee() != null) {
+                Long assigneeId = task.getAssignee().getId();
+                return daysByUser.containsKey(assigneeId) ? List.of(assigneeId) : List.of();
+            }
+            return new ArrayList<>(daysByUser.keySet());
+        }
+
+        void place(Task task, List<Cell> cells, Deque<Runnable> undo) {
+            placements.put(task.getId(), new Placement(task, cells, false));
+            mark(cells, task.getId());
+            undo.push(() -> {
+                placements.remove(task.getId());
+                clear(cells);
+            });
+        }
+
+        void remove(Long taskId, Deque<Runnable> undo) {
+            Placement placement = placements.remove(taskId);
+            clear(placement.cells);
+            undo.push(() -> {
+                placements.put(taskId, placement);
+                mark(placement.cells, taskId);
+            });
+        }
+
+        private static void mark(List<Cell> cells, Long taskId) {
+            for (Cell cell : cells) {
+                cell.day.occupied |= 1L << cell.slot;
+                cell.day.owners[cell.slot] = taskId;
+            }
+        }
+
+        private static void clear(List<Cell> cells) {
+            for (Cell cell : cells) {
+                cell.day.occupied &= ~(1L << cell.slot);
+                cell.day.owners[cell.slot] = null;
+            }
+        }
+    }
+
+    /**
+     * 한 사용자의 하루
+     */
+    private static final class Day {
+        private final OffsetDateTime start;
+        private final TimeSlot[] slots = new TimeSlot[AvailabilityMatrix.SLOTS_PER_DAY];
+        private final Long[] owners = new Long[AvailabilityMatrix.SLOTS_PER_DAY];
+        private long usable;
+        private long occupied;
+
+        Day(LocalDate date) {
+            this.start = date.atStartOfDay().atOffset(ZoneOffset.UTC);
+        }
+
+        long free() {
+            return usable & ~occupied;
+        }
+
+        /**
+         * 종료 시각이 dueAt 보다 이른 슬롯 마스크
+         */
+        long before(OffsetDateTime dueAt) {
+            if (dueAt == null) {
+                return AvailabilityMatrix.slotRange(0, AvailabilityMatrix.SLOTS_PER_DAY);
+            }
+            long seconds = Duration.between(start, dueAt).getSeconds();
+            if (seconds <= SLOT_SECONDS) {
+                return 0;
+            }
+            // (i + 1) * 30분 < dueAt 인 슬롯 i 의 개수
+            long count = (seconds + SLOT_SECONDS - 1) / SLOT_SECONDS - 1;
+            return AvailabilityMatrix.slotRange(0, (int) Math.min(count, AvailabilityMatrix.SLOTS_PER_DAY));
+        }
+
+        /**
+         * [start, start + length) 의 점유 작업이 하나뿐이면 그 ID
+         */
+        Long singleOwner(int start, int length) {
+            Long owner = null;
+            for (int s = start; s < start + length; s++) {
+                Long current = owners[s];
+                if (current == null) {
+                    continue;
+                }
+                if (owner != null && !owner.equals(current)) {
+                    return null;
+                }
+                owner = current;
+            }
+            return owner;
+        }
+
+        double preference(int start, int length) {
+            double sum = 0;
+            for (int s = start; s < start + length; s++) {
+                sum += slots[s].getPreferenceScore();
+            }
+            return sum;
+        }
+
+        List<Cell> cells(int start, int length) {
+            List<Cell> cells = new ArrayList<>(length);
+            for (int s = start; s < start + length; s++) {
+                cells.add(new Cell(this, s));
+            }
+            return cells;
+        }
+    }
+
+    private record Cell(Day day, int slot) {
+    }
+
+    private record Ejection(Task blocker, List<Cell> cells, double preference) {
+    }
+
+    private static final class Placement {
+        private final Task task;
+        private final List<Cell> cells;
+        private final boolean original;
+
+        Placement(Task task, List<Cell> cells, boolean original) {
+            this.task = task;
+            this.cells = cells;
+            this.original = original;
+        }
+
+        List<TimeSlot> timeSlots() {
+            return cells.stream().map(cell -> cell.day.slots[cell.slot]).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 전 실행 가능성 검사.
+ *
+ * 사용자별 가용 슬롯의 종료 시각을 정렬해 두고(SlotCapacity) "마감일 전에 끝나는 슬롯 수"(용량)를 이분 탐색으로 구한 뒤,
+ * 마감일 순(EDF)으로 작업 수요를 누적해 용량을 넘는 마감 구간을 찾는다. 정렬 비용을 빼면 선형이다.
+ *
+ * 1. 단건: 어떤 후보 사용자도 마감일 전까지 필요한 슬롯(분할 불가면 연속 구간)을 갖지 못하는 작업
+ * 2. 담당자별: 담당자에게 지정된 작업의 누적 수요가 마감 구간 용량을 넘으면 덜 중요한 작업부터 제외
+ * 3. 팀 전체: 담당자 미지정 작업까지 합친 누적 수요가 팀 전체 용량을 넘으면 미지정 작업부터 제외
+ *
+ * 용량 조건은 필요조건이라 여기서 통과해도 그리디 배치가 실패할 수 있지만, 여기서 걸러진 작업은 어떤 배치로도 들어가지 않는다.
+ * 슬롯 필터(선호도 0.05 이하 제외, 마감일 이전 종료)는 GreedyScheduler 와 같다.
+ */
+@Slf4j
+@Component
+public class FeasibilityAnalyzer {
+
+    private static final double MIN_PREFERENCE = 0.05;
+
+    public Result analyze(List<Task> tasks, Map<Long, List<TimeSlot>> availableSlots) {
+        Map<Long, SlotCapacity> capacities = new HashMap<>();
+        availableSlots.forEach((userId, slots) -> capacities.put(userId, SlotCapacity.of(slots, MIN_PREFERENCE)));
+        SlotCapacity team = SlotCapacity.merge(capacities.values());
+
+        Map<Long, Infeasibility> infeasible = new LinkedHashMap<>();
+
+        // 1. 단건 검사
+        for (Task task : tasks) {
+            Infeasibility reason = checkAlone(task, capacities);
+            if (reason != null) {
+                infeasible.put(task.getId(), reason);
+            }
+        }
+
+        // 2. 담당자별 EDF
+        Map<Long, List<Task>> byAssignee = tasks.stream()
+            .filter(t -> !infeasible.containsKey(t.getId()) && assigneeOf(t) != null)
+            .collect(Collectors.groupingBy(FeasibilityAnalyzer::assigneeOf));
+        byAssignee.forEach((userId, userTasks) ->
+            shedOverload(userTasks, capacities.get(userId), userId, t -> true, infeasible));
+
+        // 3. 팀 전체 EDF (미지정 작업만 제외 대상)
+        List<Task> remaining = tasks.stream()
+            .filter(t -> !infeasible.containsKey(t.getId()))
+            .collect(Collectors.toList());
+        shedOverload(remaining, team, null, t -> assigneeOf(t) == null, infeasible);
+
+        List<Task> feasible = tasks.stream()
+            .filter(t -> !infeasible.containsKey(t.getId()))
+            .collect(Collectors.toList());
+        if (!infeasible.isEmpty()) {
+            log.info("실행 불가능 작업 {}개 사전 제외: {}", infeasible.size(), infeasible.keySet());
+        }
+        return new Result(feasible, infeasible);
+    }
+
+    private Infeasibility checkAlone(Task task, Map<Long, SlotCapacity> capacities) {
+        int required = requiredSlots(task);
+        OffsetDateTime dueAt = task.getDueAt();
+        Long assignee = assigneeOf(task);
+        if (assignee != null && !capacities.containsKey(assignee)) {
+            return new Infeasibility(
+                String.format("담당자(userId=%d)의 가용 시간이 없습니다", assignee),
+                assignee, dueAt, required, 0, required);
+        }
+
+        Iterable<SlotCapacity> candidates = assignee != null ? List.of(capacities.get(assignee)) : capacities.values();
+        int best = 0;
+        for (SlotCapacity capacity : candidates) {
+            int available = task.isSplittable() ? capacity.countBefore(dueAt) : capacity.longestRunBefore(dueAt);
+            if (available >= required) {
+                return null;
+            }
+            best = Math.max(best, available);
+        }
+        String window = dueAt != null ? "마감일(" + dueAt + ")까지" : "스케줄 범위 안에";
+        String reason = task.isSplittable()
+            ? String.format("%s 가용 슬롯 %d개 < 필요 %d개 (%d개 부족)", window, best, required, required - best)
+            : String.format("%s 연속 %d개 슬롯 구간이 없습니다 (최대 연속 %d개)", window, required, best);
+        return new Infeasibility(reason, assignee, dueAt, required, best, required - best);
+    }
+
+    /**
+     * 마감일 순으로 수요를 누적하다 용량을 넘으면, 지금까지 본 제외 가능 작업 중 덜 중요한(priority 값이 큰) 것,
+     * 같으면 긴 것부터 빼서 용량 안으로 맞춘다.
+     */
+    private void shedOverload(List<Task> tasks, SlotCapacity capacity, Long userId,
+                              Predicate<Task> sheddable, Map<Long, Infeasibility> infeasible) {
+        if (capacity == null || tasks.isEmpty()) {
+            return;
+        }
+        List<Task> ordered = tasks.stream()
+            .sorted(Comparator.comparing(Task::getDueAt, Comparator.nullsLast(Comparator.naturalOrder())))
+            .collect(Collectors.toList());
+        PriorityQueue<Task> candidates = new PriorityQueue<>(Comparator
+            .comparing(Task::getPriority, Comparator.reverseOrder())
+            .thenComparing(FeasibilityAnalyzer::requiredSlots, Comparator.reverseOrder()));
+
+        long demand = 0;
+        for (Task task : ordered) {
+            demand += requiredSlots(task);
+            if (sheddable.test(task)) {
+                candidates.add(task);
+            }
+            int available = capacity.countBefore(task.getDueAt());
+            long overflow = demand - available;
+            while (demand > available && !candidates.isEmpty()) {
+                Task shed = candidates.poll();
+                demand -= requiredSlots(shed);
+                String owner = userId != null ? "담당자(userId=" + userId + ")의 " : "팀 전체 ";
+                String window = task.getDueAt() != null ? task.getDueAt() + " 마감 구간" : "스케줄 범위";
+                infeasible.put(shed.getId(), new Infeasibility(
+                    String.format("%s%s 초과 예약: 수요 %d슬롯 / 용량 %d슬롯 (%d슬롯 부족)",
+                        owner, window, demand + requiredSlots(shed), available, overflow),
+                    userId, task.getDueAt(), (int) (demand + requiredSlots(shed)), available, (int) overflow));
+            }
+        }
+    }
+
+    static int requiredSlots(Task task) {
+        return SlotGrid.BASE.slotsFor(task.getDurationMin());
+    }
+
+    private static Long assigneeOf(Task task) {
+        return task.getAssignee() != null ? task.getAssignee().getId() : null;
+    }
+
+    /**
+     * 사전 검사 결과: 배치를 시도할 작업과 제외된 작업별 사유
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final List<Task> feasibleTasks;
+        private final Map<Long, Infeasibility> infeasible;
+    }
+
+    /**
+     * 제외 사유. userId 가 null 이면 팀 전체 용량 기준이다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Infeasibility {
+        private final String reason;
+        private final Long userId;
+        private final OffsetDateTime windowEnd;
+        private final int demandSlots;
+        private final int capacitySlots;
+        private final int shortageSlots;
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.FreeBusyProperties;
+import com.example.sbb.domain.CalendarEvent;
+import com.example.sbb.domain.FreeBusyDay;
+import com.example.sbb.repository.CalendarEventRepository;
+import com.example.sbb.repository.FreeBusyDayRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 팀/사용자/날짜별 가용 슬롯 비트맵(bit i = 30분 슬롯 i) 캐시.
+ *
+ * 미팅 추천과 스케줄 생성이 매번 근무시간/캘린더 이벤트로 슬롯을 다시 만들지 않도록,
+ * 없는 (사용자, 날짜)만 팀의 컴파일된 근무시간(WorkHourTemplateCache)과 이벤트로 계산해 채운다 (슬롯 객체 없이 마스크로 바로 계산).
+ * 근무시간/이벤트 변경 시 영향받는 범위를 무효화하며, 메모리 무효화는 커밋 이후에 한 번 더 수행한다.
+ * 팀별 세대 번호가 계산 도중 바뀌었으면(무효화가 끼어들면) 계산 결과를 저장하지 않는다.
+ * TTL 은 읽을 때만 보므로, 지난 날짜처럼 다시 읽히지 않는 항목은 주기적 정리(evictExpired)로 지운다.
+ *
+ * free-busy.persistent=true 이면 free_busy_day 테이블을 2차 저장소로 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FreeBusyCache {
+
+    private static final int MASK_BYTES = AvailabilityMatrix.SLOTS_PER_DAY / 8;
+
+    private final WorkHourTemplateCache workHourTemplateCache;
+    private final CalendarEventRepository calendarEventRepository;
+    private final FreeBusyDayRepository freeBusyDayRepository;
+    private final TimeSlotGenerator timeSlotGenerator;
+    private final FreeBusyProperties properties;
+
+    private final Map<Long, TeamDays> teams = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자별 날짜 마스크 배열 (index d = rangeStart + d 일). 요청한 모든 사용자가 결과에 들어간다.
+     */
+    public Map<Long, long[]> availability(Long teamId, List<Long> userIds, LocalDate rangeStart, LocalDate rangeEnd) {
+        int days = (int) ChronoUnit.DAYS.between(rangeStart, rangeEnd) + 1;
+        long firstDay = rangeStart.toEpochDay();
+        long nowMs = System.currentTimeMillis();
+        long freshAfterMs = nowMs - properties.getTtlSeconds() * 1000;
+
+        TeamDays team = teams.computeIfAbsent(teamId, k -> new TeamDays());
+        long generation = team.generation.get();
+
+        Map<Long, long[]> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            long[] masks = team.read(userId, firstDay, days, freshAfterMs);
+            if (masks != null) {
+                result.put(userId, masks);
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        if (properties.isPersistent()) {
+            loadPersisted(teamId, missing, rangeStart, rangeEnd, days, freshAfterMs, team, generation, result);
+            if (missing.isEmpty()) {
+                return result;
+            }
+        }
+
+        log.debug("free/busy 캐시 미스: teamId={}, users={}, range={} ~ {}", teamId, missing.size(), rangeStart, rangeEnd);
+        Map<Long, long[]> computed = compute(teamId, new ArrayList<>(missing), rangeStart, rangeEnd);
+        result.putAll(computed);
+        if (team.generation.get() == generation) {
+            computed.forEach((userId, masks) -> team.write(userId, firstDay, masks, nowMs));
+            if (properties.isPersistent()) {
+                persist(teamId, computed, rangeStart);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 팀 전체 무효화 (팀 기본 근무시간 변경 등)
+     */
+    public void invalidateTeam(Long teamId) {
+        if (teamId == null) {
+            return;
+        }
+        if (properties.isPersistent()) {
+            freeBusyDayRepository.deleteByTeam(teamId);
+        }
+        evictAfterCommit(teamId, () -> teams.remove(teamId));
+    }
+
+    /**
+     * 사용자 무효화. from/to 가 null 이면 모든 날짜 (개인 근무시간, 반복 이벤트 변경 등)
+     */
+    public void invalidateUsers(Long teamId, Collection<Long> userIds, LocalDate from, LocalDate to) {
+        if (teamId == null || userIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = List.copyOf(userIds);
+        if (properties.isPersistent()) {
+            if (from == null || to == null) {
+                freeBusyDayRepository.deleteByUsers(teamId, targets);
+            } else {
+                freeBusyDayRepository.deleteByUsersAndRange(teamId, targets, from, to);
+            }
+        }
+        evictAfterCommit(teamId, () -> {
+            TeamDays team = teams.get(teamId);
+            if (team != null) {
+                team.evict(targets, from, to);
+            }
+        });
+    }
+
+    /**
+     * 캘린더 이벤트가 차단하는 사용자/날짜 무효화. 수정 시에는 변경 전/후 상태로 각각 호출한다.
+     */
+    public void invalidateEvent(CalendarEvent event) {
+        if (event.getTeam() == null) {
+            return;
+        }
+        List<Long> userIds = timeSlotGenerator.blockedUserIds(event);
+        if (event.getRecurrenceType() != null || event.getStartsAt() == null || event.getEndsAt() == null) {
+            invalidateUsers(event.getTeam().getId(), userIds, null, null);
+        } else {
+            invalidateUsers(event.getTeam().getId(), userIds,
+                event.getStartsAt().toLocalDate(), event.getEndsAt().toLocalDate());
+        }
+    }
+
+    /**
+     * 만료된 (사용자, 날짜) 항목을 지우고, 비게 된 사용자/팀도 지운다
+     */
+    @Scheduled(fixedDelayString = "${free-busy.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long freshAfterMs = System.currentTimeMillis() - properties.getTtlSeconds() * 1000;
+        teams.values().removeIf(team -> team.evictExpired(freshAfterMs));
+    }
+
+    // 메모리에 있는 (사용자, 날짜) 항목 수
+    int cachedDays() {
+        return teams.values().stream().mapToInt(TeamDays::size).sum();
+    }
+
+    // 세대 번호를 올려 진행 중인 계산이 옛 데이터를 저장하지 못하게 하고, 커밋 후 한 번 더 비운다
+    private void evictAfterCommit(Long teamId, Runnable eviction) {
+        Runnable evict = () -> {
+            TeamDays team = teams.get(teamId);
+            if (team != null) {
+                team.generation.incrementAndGet();
+            }
+            eviction.run();
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    private Map<Long, long[]> compute(Long teamId, List<Long> userIds, LocalDate rangeStart, LocalDate rangeEnd) {
+        DayTemplates templates = workHourTemplateCache.templates(teamId);
+
+        OffsetDateTime startDateTime = rangeStart.atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime endDateTime = rangeEnd.atTime(23, 59, 59).atOffset(ZoneOffset.UTC);
+        List<CalendarEvent> calendarEvents = calendarEventRepository.findOverlapping(teamId, startDateTime, endDateTime);
+
+        return timeSlotGenerator.availabilityMasks(templates, calendarEvents, rangeStart, rangeEnd, userIds);
+    }
+
+    private void loadPersisted(Long teamId, Set<Long> missing, LocalDate rangeStart, LocalDate rangeEnd, int days,
+                               long freshAfterMs, TeamDays team, long generation, Map<Long, long[]> result) {
+        OffsetDateTime freshAfter = OffsetDateTime.ofInstant(Instant.ofEpochMilli(freshAfterMs), ZoneOffset.UTC);
+        Map<Long, long[]> loaded = new HashMap<>();
+        Map<Long, Integer> found = new HashMap<>();
+        Map<Long, Long> oldest = new HashMap<>();
+        for (FreeBusyDay row : freeBusyDayRepository.findFresh(teamId, missing, rangeStart, rangeEnd, freshAfter)) {
+            Long userId = row.getId().getUserId();
+            int d = (int) ChronoUnit.DAYS.between(rangeStart, row.getId().getDay());
+            loaded.computeIfAbsent(userId, k -> new long[days])[d] = decode(row.getFreeMask());
+            found.merge(userId, 1, Integer::sum);
+            oldest.merge(userId, row.getComputedAt().toInstant().toEpochMilli(), Math::min);
+        }
+        long firstDay = rangeStart.toEpochDay();
+        for (Map.Entry<Long, long[]> entry : loaded.entrySet()) {
+            Long userId = entry.getKey();
+            if (found.get(userId) != days) {
+                continue;
+            }
+            result.put(userId, entry.getValue());
+            missing.remove(userId);
+            if (team.generation.get() == generation) {
+                team.write(userId, firstDay, entry.getValue(), oldest.get(userId));
+            }
+        }
+    }
+
+    private void persist(Long teamId, Map<Long, long[]> computed, LocalDate rangeStart) {
+        int rows = computed.values().stream().mapToInt(m -> m.length).sum();
+        String[] userIds = new String[rows];
+        String[] days = new String[rows];
+        String[] masks = new String[rows];
+        int i = 0;
+        for (Map.Entry<Long, long[]> entry : computed.entrySet()) {
+            long[] userMasks = entry.getValue();
+            for (int d = 0; d < userMasks.length; d++, i++) {
+                userIds[i] = entry.getKey().toString();
+                days[i] = rangeStart.plusDays(d).toString();
+                masks[i] = toHex(userMasks[d]);
+            }
+        }
+        try {
+            freeBusyDayRepository.upsertAll(teamId, userIds, days, masks, OffsetDateTime.now(ZoneOffset.UTC));
+        } catch (RuntimeException e) {
+            // 영속 계층은 보조 수단이므로 실패해도 메모리 캐시와 응답에는 영향 없음
+            log.warn("free/busy 비트맵 저장 실패: teamId={}", teamId, e);
+        }
+    }
+
+    static String toHex(long mask) {
+        StringBuilder hex = new StringBuilder(MASK_BYTES * 2);
+        for (int b = 0; b < MASK_BYTES; b++) {
+            int value = (int) (mask >>> (8 * b)) & 0xFF;
+            hex.append(Character.forDigit(value >>> 4, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    static long decode(byte[] bytes) {
+        long mask = 0;
+        for (int b = 0; b < Math.min(bytes.length, MASK_BYTES); b++) {
+            mask |= (bytes[b] & 0xFFL) << (8 * b);
+        }
+        return mask;
+    }
+
+    /**
+     * 한 팀의 사용자별 epochDay → 마스크
+     */
+    private static final class TeamDays {
+
+        private final AtomicLong generation = new AtomicLong();
+        private final Map<Long, Map<Long, DayMask>> users = new ConcurrentHashMap<>();
+
+        // 범위 전체가 신선하게 있으면 마스크 배열, 하나라도 없으면 null
+        long[] read(Long userId, long firstDay, int days, long freshAfterMs) {
+            Map<Long, DayMask> userDays = users.get(userId);
+            if (userDays == null) {
+                return null;
+            }
+            long[] masks = new long[days];
+            for (int d = 0; d < days; d++) {
+                DayMask day = userDays.get(firstDay + d);
+                if (day == null || day.computedAtMs() <= freshAfterMs) {
+                    return null;
+                }
+                masks[d] = day.mask();
+            }
+            return masks;
+        }
+
+        void write(Long userId, long firstDay, long[] masks, long computedAtMs) {
+            Map<Long, DayMask> userDays = users.computeIfAbsent(userId, k -> new ConcurrentHashMap<>());
+            for (int d = 0; d < masks.length; d++) {
+                userDays.put(firstDay + d, new DayMask(masks[d], computedAtMs));
+            }
+        }
+
+        // 비었으면 true (팀째로 지워도 됨). 진행 중인 계산이 지워진 팀에 써도 다시 읽히지 않을 뿐이다
+        boolean evictExpired(long freshAfterMs) {
+            users.values().removeIf(userDays -> {
+                userDays.values().removeIf(day -> day.computedAtMs() <= freshAfterMs);
+                return userDays.isEmpty();
+            });
+            return users.isEmpty();
+        }
+
+        int size() {
+            return users.values().stream().mapToInt(Map::size).sum();
+        }
+
+        void evict(List<Long> userIds, LocalDate from, LocalDate to) {
+            for (Long userId : userIds) {
+                if (from == null || to == null) {
+                    users.remove(userId);
+                    continue;
+                }
+                Map<Long, DayMask> userDays = users.get(userId);
+                if (userDays != null) {
+                    for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+                        userDays.remove(day);
+                    }
+                }
+            }
+        }
+    }
+
+    private record DayMask(long mask, long computedAtMs) {
+    }
+}
@@ -3,11 +3,13 @@ package com.example.sbb.service;
 import com.example.sbb.domain.Assignment;
 import com.example.sbb.domain.AssignmentSource;
 import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.SlotGrid;
 import com.example.sbb.domain.Task;
 import com.example.sbb.domain.TimeSlot;
 import com.example.sbb.repository.AssignmentRepository;
 import com.example.sbb.repository.ScheduleRepository;
 import com.example.sbb.repository.TaskRepository;
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -18,7 +20,6 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 그리디 스케줄러
@@ -32,6 +33,13 @@ public class GreedyScheduler {
     private final TaskRepository taskRepository;
     private final ScheduleRepository scheduleRepository;
     private final AssignmentRepository assignmentRepository;
+    
+    // 마감 임박 판단 기준 시각 (재현 실행에서는 캡처 시각으로 고정)
+    private Clock clock = Clock.systemUTC();
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
 
     /**
      * 그리디 알고리즘으로 작업을 배치합니다.
@@ -41,11 +49,23 @@ public class GreedyScheduler {
      * @param schedule 스케줄 엔티티
      * @return 생성된 Assignment 목록
      */
-    @Transactional
     public List<Assignment> scheduleTasks(
             List<Task> tasks,
             Map<Long, List<TimeSlot>> availableSlots,
             Schedule schedule) {
+        return scheduleTasks(tasks, availableSlots, schedule, Map.of());
+    }
+
+    /**
+     * 담당자 미지정 작업에 추천 담당자를 먼저 시도하는 그리디 배치
+     * 
+     * @param plannedAssignees 작업 ID -> 먼저 시도할 사용자 ID (AssigneePlanner 결과). 실패하면 나머지 사용자 순서대로 시도
+     */
+    public List<Assignment> scheduleTasks(
+            List<Task> tasks,
+            Map<Long, List<TimeSlot>> availableSlots,
+            Schedule schedule,
+            Map<Long, Long> plannedAssignees) {
         
         log.info("그리디 배치 시작: 작업 수={}, 사용자 수={}", tasks.size(), availableSlots.size());
         
@@ -72,15 +92,17 @@ public class GreedyScheduler {
         
         log.info("작업 정렬 완료");
         
-        // 2. 사용자별 슬롯을 날짜와 인덱스 순으로 정렬
+        // 2. 사용자별 슬롯을 날짜와 인덱스 순으로 정렬 (LazySlotList 는 이미 정렬되어 있고, 정렬하면 모든 날짜가 만들어지므로 그대로 둠)
         Map<Long, List<TimeSlot>> sortedSlots = availableSlots.entrySet().stream()
             .collect(Collectors.toMap(
                 Map.Entry::getKey,
-                entry -> entry.getValue().stream()
-                    .sorted(Comparator
-                        .comparing(TimeSlot::getDate)
-                        .thenComparing(TimeSlot::getSlotIndex))
-                    .collect(Collectors.toList()),
+                entry -> entry.getValue() instanceof LazySlotList
+                    ? entry.getValue()
+                    : entry.getValue().stream()
+                        .sorted(Comparator
+                            .comparing(TimeSlot::getDate)
+                            .thenComparing(TimeSlot::getSlotIndex))
+                        .collect(Collectors.toList()),
                 (e1, e2) -> e1,
                 LinkedHashMap::new
             ));
@@ -92,7 +114,8 @@ public class GreedyScheduler {
         int failCount = 0;
         
         for (Task task : sortedTasks) {
-            List<Assignment> taskAssignments = tryAssignTask(task, sortedSlots, usedSlots, schedule);
+            List<Assignment> taskAssignments = tryAssignTask(
+                task, sortedSlots, usedSlots, schedule, plannedAssignees.get(task.getId()));
             if (taskAssignments != null && !taskAssignments.isEmpty()) {
                 assignments.addAll(taskAssignments);
                 successCount++;
@@ -117,13 +140,14 @@ public class GreedyScheduler {
             Task task,
             Map<Long, List<TimeSlot>> availableSlots,
             Map<Long, List<TimeSlot>> usedSlots,
-            Schedule schedule) {
+            Schedule schedule,
+            Long plannedUserId) {
         
         // 작업에 할당된 사용자 확인
         Long targetUserId = task.getAssignee() != null ? task.getAssignee().getId() : null;
         
         // 필요한 슬롯 수 계산 (30분 단위)
-        int requiredSlots = (int) Math.ceil(task.getDurationMin() / 30.0);
+        int requiredSlots = SlotGrid.BASE.slotsFor(task.getDurationMin());
         
         // 마감일 확인
         OffsetDateTime dueAt = task.getDueAt();
@@ -132,6 +156,10 @@ public class GreedyScheduler {
         List<Long> candidateUserIds = targetUserId != null 
             ? List.of(targetUserId)
             : new ArrayList<>(availableSlots.keySet());
+        // 추천 담당자가 있으면 맨 앞에서 시도
+        if (targetUserId == null && plannedUserId != null && candidateUserIds.remove(plannedUserId)) {
+            candidateUserIds.add(0, plannedUserId);
+        }
         
         log.info("작업 배치 시작: taskId={}, title={}, dueAt={}, durationMin={}, requiredSlots={}, splittable={}, candidateUsers={}", 
             task.getId(), task.getTitle(), dueAt, task.getDurationMin(), requiredSlots, task.isSplittable(), candidateUserIds.size());
@@ -196,9 +224,14 @@ public class GreedyScheduler {
             Task task,
             Schedule schedule) {
         
+        // 마감이 있으면 마감 전에 시작하는 슬롯만 후보 (아래 마감일 필터와 같은 조건, 뒤쪽 날짜는 만들지 않음)
+        List<TimeSlot> candidateSlots = dueAt != null && availableSlots instanceof LazySlotList lazy
+            ? lazy.headBefore(dueAt)
+            : availableSlots;
+        
         // 사용 가능한 슬롯에서 이미 사용된 슬롯 제외
         // 선호도 기반 필터링: 새벽 시간(0.05)만 제외, 나머지는 선호도 점수로 정렬
-        List<TimeSlot> freeSlots = availableSlots.stream()
+        List<TimeSlot> freeSlots = candidateSlots.stream()
             .filter(slot -> !usedSlots.contains(slot))
             .filter(slot -> {
                 double score = slot.getPreferenceScore();
@@ -239,7 +272,7 @@ public class GreedyScheduler {
                 // 분할 불가능: 슬롯의 시작 시간 + requiredSlots * 30분이 마감일 이전이어야 함
                 freeSlots = freeSlots.stream()
                     .filter(slot -> {
-                        OffsetDateTime taskEndTime = slot.getStartTime().plusMinutes(requiredSlots * 30L);
+                        OffsetDateTime taskEndTime = slot.getStartTime().plusMinutes((long) requiredSlots * SlotGrid.BASE.getMinutes());
                         boolean isValid = taskEndTime.isBefore(dueAt);
                         if (!isValid) {
                             log.debug("마감일 필터링 (분할 불가): taskId={}, slotStart={}, taskEndTime={}, dueAt={}, requiredSlots={}", 
@@ -347,7 +380,7 @@ public class GreedyScheduler {
         // 마감일이 24시간 이하로 임박한 작업은 preferenceScore 무시하고 가장 빠른 시간대 강제 배치
         boolean isUrgent = false;
         if (dueAt != null) {
-            long hoursUntilDeadline = java.time.Duration.between(OffsetDateTime.now(), dueAt).toHours();
+            long hoursUntilDeadline = java.time.Duration.between(OffsetDateTime.now(clock), dueAt).toHours();
             isUrgent = hoursUntilDeadline <= 24;
         }
         
@@ -446,7 +479,7 @@ public class GreedyScheduler {
         // 마감일이 24시간 이하로 임박한 작업은 preferenceScore 무시하고 가장 빠른 시간대 강제 배치
         boolean isUrgent = false;
         if (dueAt != null) {
-            long hoursUntilDeadline = java.time.Duration.between(OffsetDateTime.now(), dueAt).toHours();
+            long hoursUntilDeadline = java.time.Duration.between(OffsetDateTime.now(clock), dueAt).toHours();
             isUrgent = hoursUntilDeadline <= 24;
         }
         
@@ -527,7 +560,7 @@ public class GreedyScheduler {
     /**
      * Assignment 생성 (분할된 경우 여러 개 반환)
      */
-    private List<Assignment> createAssignments(Task task, List<TimeSlot> slots, Schedule schedule) {
+    List<Assignment> createAssignments(Task task, List<TimeSlot> slots, Schedule schedule) {
         if (slots.isEmpty()) {
             return new ArrayList<>();
         }
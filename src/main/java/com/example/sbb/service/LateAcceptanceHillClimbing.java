@@ -0,0 +1,39 @@
+package com.example.sbb.service;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.springframework.stereotype.Component;
+
+/**
+ * Late acceptance hill climbing: 현재 점수 이상이거나 HISTORY_LENGTH 반복 전의 점수 이상이면 받아들인다.
+ * 온도 같은 조정값 없이 이력 길이 하나로 탐색 폭을 정한다.
+ */
+@Component
+public class LateAcceptanceHillClimbing implements Metaheuristic {
+
+    public static final String NAME = "late-acceptance";
+
+    private static final int HISTORY_LENGTH = 20;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Search start(int initialScore, Random random) {
+        int[] history = new int[HISTORY_LENGTH];
+        Arrays.fill(history, initialScore);
+        return new Search() {
+            private int iteration;
+
+            @Override
+            public boolean accept(int currentScore, int candidateScore, MoveSelector.Move move) {
+                int slot = iteration++ % HISTORY_LENGTH;
+                boolean accept = candidateScore >= currentScore || candidateScore >= history[slot];
+                history[slot] = accept ? candidateScore : currentScore;
+                return accept;
+            }
+        };
+    }
+}
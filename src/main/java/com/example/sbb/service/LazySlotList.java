@@ -0,0 +1,173 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.TimeSlot;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 날짜 마스크(index d = rangeStart + d 일) 위에 얹은 읽기 전용 가용 슬롯 목록. 날짜, 슬롯 순으로 정렬되어 있다.
+ *
+ * 크기는 마스크 비트 수로 바로 알고, TimeSlot 은 그 날짜가 처음 조회될 때 하루치만 만든다.
+ * 용량 계산({@link #capacity})과 날짜 구간 조회({@link #between})는 날짜를 만들지 않는다.
+ * 마감 전 슬롯만 훑는 그리디 배치는 범위 뒤쪽 날짜를 아예 만들지 않는다.
+ * 한 번 만든 날짜는 다시 쓰므로 같은 위치는 항상 같은 객체다 (GreedyScheduler 는 사용한 슬롯을 객체 동일성으로 비교).
+ * 한 요청 안에서만 쓰므로 동기화하지 않는다.
+ */
+final class LazySlotList extends AbstractList<TimeSlot> implements RandomAccess {
+
+    private static final long SLOT_SECONDS = SlotGrid.BASE.getMinutes() * 60L;
+
+    private final Long userId;
+    private final LocalDate rangeStart;
+    private final long[] masks;
+    private final int[] offsets;          // offsets[d] = d 일 이전 슬롯 수, offsets[days] = 전체
+    private final TimeSlot[][] days;      // 만든 날짜만 채워짐
+    private final TimeSlotGenerator generator;
+
+    LazySlotList(Long userId, LocalDate rangeStart, long[] masks, TimeSlotGenerator generator) {
+        this.userId = userId;
+        this.rangeStart = rangeStart;
+        this.masks = masks;
+        this.generator = generator;
+        this.days = new TimeSlot[masks.length][];
+        this.offsets = new int[masks.length + 1];
+        for (int d = 0; d < masks.length; d++) {
+            offsets[d + 1] = offsets[d] + Long.bitCount(masks[d]);
+        }
+    }
+
+    @Override
+    public TimeSlot get(int index) {
+        Objects.checkIndex(index, size());
+        int d = dayOf(index);
+        return day(d)[index - offsets[d]];
+    }
+
+    @Override
+    public int size() {
+        return offsets[masks.length];
+    }
+
+    /**
+     * time 보다 먼저 시작하는 슬롯 수. 날짜를 만들지 않고 마스크만 센다.
+     */
+    int countBefore(OffsetDateTime time) {
+        long seconds = time.toEpochSecond() - rangeStart.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        if (time.getNano() > 0) {
+            seconds++;
+        }
+        // 시작 시각이 time 보다 앞서는 슬롯은 범위 시작부터 올림(seconds / 슬롯 길이)개
+        long slots = -Math.floorDiv(-seconds, SLOT_SECONDS);
+        if (slots <= 0) {
+            return 0;
+        }
+        long d = slots / AvailabilityMatrix.SLOTS_PER_DAY;
+        if (d >= masks.length) {
+            return size();
+        }
+        int slotIndex = (int) (slots % AvailabilityMatrix.SLOTS_PER_DAY);
+        return offsets[(int) d] + Long.bitCount(masks[(int) d] & AvailabilityMatrix.slotRange(0, slotIndex));
+    }
+
+    /**
+     * time 보다 먼저 시작하는 슬롯만 보는 앞부분 (뒤쪽 날짜는 만들지 않음)
+     */
+    List<TimeSlot> headBefore(OffsetDateTime time) {
+        return subList(0, countBefore(time));
+    }
+
+    /**
+     * from ~ to 날짜(포함)의 슬롯만 보는 부분 목록 (다른 날짜는 만들지 않음)
+     */
+    List<TimeSlot> between(LocalDate from, LocalDate to) {
+        int first = dayBound(ChronoUnit.DAYS.between(rangeStart, from));
+        int last = dayBound(ChronoUnit.DAYS.between(rangeStart, to) + 1);
+        return first >= last ? List.of() : subList(offsets[first], offsets[last]);
+    }
+
+    /**
+     * 선호도가 minPreference 보다 큰 슬롯의 용량 뷰. TimeSlot 을 만들지 않고 마스크와 선호도 표만 본다.
+     */
+    SlotCapacity capacity(double minPreference) {
+        SlotCapacity.Builder builder = new SlotCapacity.Builder(size());
+        for (int d = 0; d < masks.length; d++) {
+            LocalDate date = rangeStart.plusDays(d);
+            long dayStart = date.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+            long mask = masks[d];
+            while (mask != 0) {
+                int slotIndex = Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                double preference = generator.preferenceFor(date, slotIndex);
+                if (preference > minPreference) {
+                    long start = dayStart + slotIndex * SLOT_SECONDS;
+                    builder.add(start, start + SLOT_SECONDS, preference);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 지금까지 TimeSlot 을 만든 날짜 수
+     */
+    int materializedDays() {
+        int count = 0;
+        for (TimeSlot[] day : days) {
+            if (day != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int dayBound(long day) {
+        return (int) Math.max(0, Math.min(day, masks.length));
+    }
+
+    // offsets[d] <= index 인 가장 뒤 날짜 (빈 날짜는 다음 날짜와 offset 이 같으므로 건너뛰어짐)
+    private int dayOf(int index) {
+        int lo = 0;
+        int hi = masks.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (offsets[mid] <= index) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    private TimeSlot[] day(int d) {
+        TimeSlot[] slots = days[d];
+        if (slots != null) {
+            return slots;
+        }
+        LocalDate date = rangeStart.plusDays(d);
+        slots = new TimeSlot[offsets[d + 1] - offsets[d]];
+        long mask = masks[d];
+        for (int i = 0; mask != 0; i++) {
+            int slotIndex = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            slots[i] = TimeSlot.builder()
+                .date(date)
+                .slotIndex(slotIndex)
+                .startTime(TimeSlot.calculateStartTime(date, slotIndex))
+                .endTime(TimeSlot.calculateEndTime(date, slotIndex))
+                .available(true)
+                .userId(userId)
+                .preferenceScore(generator.preferenceFor(date, slotIndex))
+                .build();
+        }
+        days[d] = slots;
+        return slots;
+    }
+}
@@ -1,16 +1,17 @@
 package com.example.sbb.service;
 
+import com.example.sbb.config.LocalSearchProperties;
 import com.example.sbb.domain.Assignment;
 import com.example.sbb.domain.Schedule;
 import com.example.sbb.domain.Task;
 import com.example.sbb.domain.TimeSlot;
 import com.example.sbb.repository.AssignmentRepository;
-import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -18,7 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 로컬서치 최적화기
- * 그리디 알고리즘의 결과를 swap/move 연산으로 개선합니다.
+ * 그리디 알고리즘의 결과를 이웃 연산({@link MoveSelector})으로 개선합니다.
+ * 후보 수용 규칙은 {@link Metaheuristic} 전략으로 고르며, 요청 > 팀 설정 > 기본값 순으로 정합니다.
  */
 @Slf4j
 @Component
@@ -27,15 +29,15 @@ public class LocalSearchOptimizer {
 
     private final ScoreCalculator scoreCalculator;
     private final AssignmentRepository assignmentRepository;
-    private final Random random = new Random();
+    private final List<Metaheuristic> metaheuristics;
+    private final List<MoveSelector> moveSelectors;
+    private final LocalSearchProperties properties;
 
-    private static final int MAX_ITERATIONS = 100;        // 최대 반복 횟수
-    private static final int MAX_NO_IMPROVEMENT = 20;     // 개선 없이 연속된 반복 횟수
-    private static final double TEMPERATURE_INITIAL = 100.0; // 시뮬레이티드 어닐링 초기 온도
-    private static final double TEMPERATURE_COOLING = 0.95;  // 냉각률
+    static final int MAX_ITERATIONS = 100;        // 최대 반복 횟수
+    static final int MAX_NO_IMPROVEMENT = 20;     // 개선 없이 연속된 반복 횟수
 
     /**
-     * 로컬서치로 스케줄을 최적화합니다.
+     * 로컬서치로 스케줄을 최적화합니다 (팀 설정 또는 기본 전략).
      * 
      * @param schedule 스케줄
      * @param assignments 현재 배치된 Assignment 목록
@@ -49,81 +51,42 @@ public class LocalSearchOptimizer {
             List<Assignment> assignments,
             List<Task> tasks,
             Map<Long, List<TimeSlot>> availableSlots) {
+        return optimize(schedule, assignments, tasks, availableSlots, null);
+    }
+
+    /**
+     * 로컬서치로 스케줄을 최적화합니다.
+     * 
+     * @param metaheuristicName 요청에서 지정한 전략 이름 (null 이면 팀 설정, 없으면 기본값)
+     */
+    @Transactional
+    public List<Assignment> optimize(
+            Schedule schedule,
+            List<Assignment> assignments,
+            List<Task> tasks,
+            Map<Long, List<TimeSlot>> availableSlots,
+            String metaheuristicName) {
         
-        log.info("로컬서치 최적화 시작: 초기 Assignment 수={}", assignments.size());
-        
-        // 현재 점수 계산
-        int currentScore = scoreCalculator.calculateScore(assignments, tasks, availableSlots);
-        log.info("초기 점수: {}", currentScore);
-        
-        List<Assignment> bestAssignments = new ArrayList<>(assignments);
-        int bestScore = currentScore;
-        
-        int noImprovementCount = 0;
-        double temperature = TEMPERATURE_INITIAL;
+        Long teamId = schedule.getTeam() != null ? schedule.getTeam().getId() : null;
+        Metaheuristic metaheuristic = resolve(
+            metaheuristicName != null ? metaheuristicName : properties.metaheuristicFor(teamId));
+        // 시드를 로그에 남겨 스냅샷 재현 때 같은 탐색을 돌릴 수 있게 함
+        long seed = properties.getSeed() != null ? properties.getSeed() : ThreadLocalRandom.current().nextLong();
+        log.info("로컬서치 최적화 시작: 초기 Assignment 수={}, 전략={}, seed={}",
+            assignments.size(), metaheuristic.name(), seed);
         
-        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
-            // Swap 또는 Move 연산 선택
-            boolean useSwap = random.nextBoolean();
-            
-            List<Assignment> candidateAssignments = useSwap
-                ? trySwap(bestAssignments, availableSlots)
-                : tryMove(bestAssignments, availableSlots);
-            
-            if (candidateAssignments == null) {
-                noImprovementCount++;
-                if (noImprovementCount >= MAX_NO_IMPROVEMENT) {
-                    log.info("개선 없음으로 인한 조기 종료: iteration={}", iteration);
-                    break;
-                }
-                continue;
-            }
-            
-            // 점수 계산
-            int candidateScore = scoreCalculator.calculateScore(candidateAssignments, tasks, availableSlots);
-            
-            // 개선 여부 확인
-            boolean accept = false;
-            if (candidateScore > currentScore) {
-                // 개선됨
-                accept = true;
-            } else {
-                // 시뮬레이티드 어닐링: 나쁜 해도 확률적으로 수용
-                double probability = Math.exp((candidateScore - currentScore) / temperature);
-                if (random.nextDouble() < probability) {
-                    accept = true;
-                }
-            }
-            
-            if (accept) {
-                bestAssignments = candidateAssignments;
-                currentScore = candidateScore;
-                noImprovementCount = 0;
-                
-                if (currentScore > bestScore) {
-                    bestScore = currentScore;
-                    log.debug("최적 해 업데이트: iteration={}, score={}", iteration, bestScore);
-                }
-            } else {
-                noImprovementCount++;
-            }
-            
-            // 온도 냉각
-            temperature *= TEMPERATURE_COOLING;
-            
-            if (noImprovementCount >= MAX_NO_IMPROVEMENT) {
-                log.info("개선 없음으로 인한 조기 종료: iteration={}", iteration);
-                break;
-            }
-        }
+        SearchResult result = search(assignments, tasks, availableSlots, metaheuristic, new Random(seed),
+            MAX_ITERATIONS, MAX_NO_IMPROVEMENT);
         
-        log.info("로컬서치 최적화 완료: 최종 점수={} (초기: {})", bestScore, scoreCalculator.calculateScore(assignments, tasks, availableSlots));
+        log.info("로컬서치 최적화 완료: 최종 점수={} (초기: {}), 평가 수={}",
+            result.getBestScore(), result.getInitialScore(), result.getEvaluations());
         
         // 최적화된 Assignment 저장
-        if (bestScore > scoreCalculator.calculateScore(assignments, tasks, availableSlots)) {
+        if (result.getBestScore() > result.getInitialScore()) {
             // 기존 Assignment 삭제
             assignmentRepository.deleteAll(assignments);
             // 새로운 Assignment 저장
+            List<Assignment> bestAssignments = result.getAssignments();
             bestAssignments.forEach(a -> a.setSchedule(schedule));
             return assignmentRepository.saveAll(bestAssignments);
         }
@@ -132,222 +95,102 @@ public class LocalSearchOptimizer {
     }
 
     /**
-     * Swap 연산: 두 Assignment의 시간대를 교환
+     * 요청이나 팀 설정으로 명시된 전략 이름 (둘 다 없으면 null)
      */
-    private List<Assignment> trySwap(List<Assignment> assignments, Map<Long, List<TimeSlot>> availableSlots) {
-        if (assignments.size() < 2) {
-            return null;
-        }
-        
-        // Task Assignment만 필터링
-        List<Assignment> taskAssignments = assignments.stream()
-            .filter(a -> a.getTask() != null)
-            .collect(java.util.stream.Collectors.toList());
-        
-        if (taskAssignments.size() < 2) {
-            return null;
-        }
-        
-        // 랜덤하게 두 Assignment 선택
-        int idx1 = random.nextInt(taskAssignments.size());
-        int idx2 = random.nextInt(taskAssignments.size());
-        while (idx1 == idx2) {
-            idx2 = random.nextInt(taskAssignments.size());
-        }
-        
-        Assignment a1 = taskAssignments.get(idx1);
-        Assignment a2 = taskAssignments.get(idx2);
-        
-        // 시간대 교환
-        OffsetDateTime tempStart = a1.getStartsAt();
-        OffsetDateTime tempEnd = a1.getEndsAt();
-        Integer tempSlotIndex = a1.getSlotIndex();
-        
-        // 새로운 Assignment 생성 (깊은 복사)
-        List<Assignment> newAssignments = new ArrayList<>();
-        for (Assignment a : assignments) {
-            Assignment newA = cloneAssignment(a);
-            if (a == a1) {
-                newA.setStartsAt(a2.getStartsAt());
-                newA.setEndsAt(a2.getEndsAt());
-                newA.setSlotIndex(a2.getSlotIndex());
-            } else if (a == a2) {
-                newA.setStartsAt(tempStart);
-                newA.setEndsAt(tempEnd);
-                newA.setSlotIndex(tempSlotIndex);
-            }
-            newAssignments.add(newA);
-        }
-        
-        // 제약 조건 검증
-        if (isValidSwap(newAssignments, a1, a2, availableSlots)) {
-            return newAssignments;
-        }
-        
-        return null;
+    public String explicitMetaheuristic(Long teamId, String requested) {
+        return requested != null ? requested : properties.teamOverride(teamId);
     }
 
     /**
-     * Move 연산: Assignment를 다른 시간대로 이동
+     * 전략 이름을 지정하지 않은 optimize 가 쓸 전략 (팀 설정, 없으면 기본값)
      */
-    private List<Assignment> tryMove(List<Assignment> assignments, Map<Long, List<TimeSlot>> availableSlots) {
-        // Task Assignment만 필터링
-        List<Assignment> taskAssignments = assignments.stream()
-            .filter(a -> a.getTask() != null)
-            .collect(java.util.stream.Collectors.toList());
-        
-        if (taskAssignments.isEmpty()) {
-            return null;
-        }
-        
-        // 랜덤하게 Assignment 선택
-        Assignment selected = taskAssignments.get(random.nextInt(taskAssignments.size()));
-        
-        // 사용자 ID 추출
-        Long userId = extractUserIdFromMeta(selected);
-        if (userId == null) {
-            return null;
-        }
-        
-        // 사용 가능한 슬롯 찾기
-        List<TimeSlot> userSlots = availableSlots.get(userId);
-        if (userSlots == null || userSlots.isEmpty()) {
-            return null;
-        }
-        
-        // 랜덤하게 새 슬롯 선택
-        TimeSlot newSlot = userSlots.get(random.nextInt(userSlots.size()));
-        
-        // 필요한 슬롯 수 계산
-        long durationMinutes = java.time.Duration.between(selected.getStartsAt(), selected.getEndsAt()).toMinutes();
-        int requiredSlots = (int) Math.ceil(durationMinutes / 30.0);
-        
-        // 연속된 슬롯 찾기
-        List<TimeSlot> consecutiveSlots = findConsecutiveSlotsFromStart(userSlots, newSlot, requiredSlots);
-        if (consecutiveSlots == null || consecutiveSlots.size() < requiredSlots) {
-            return null;
-        }
-        
-        // 새로운 Assignment 생성
-        List<Assignment> newAssignments = new ArrayList<>();
-        for (Assignment a : assignments) {
-            if (a == selected) {
-                Assignment newA = cloneAssignment(a);
-                newA.setStartsAt(consecutiveSlots.get(0).getStartTime());
-                newA.setEndsAt(consecutiveSlots.get(consecutiveSlots.size() - 1).getEndTime());
-                newA.setSlotIndex(consecutiveSlots.get(0).getSlotIndex());
-                newAssignments.add(newA);
-            } else {
-                newAssignments.add(cloneAssignment(a));
-            }
-        }
-        
-        return newAssignments;
+    public String defaultMetaheuristic(Long teamId) {
+        return properties.metaheuristicFor(teamId);
     }
 
     /**
-     * Assignment 복제
+     * 이름으로 전략을 찾습니다.
+     * 
+     * @throws IllegalArgumentException 등록되지 않은 이름
      */
-    private Assignment cloneAssignment(Assignment original) {
-        Assignment clone = new Assignment();
-        clone.setSchedule(original.getSchedule());
-        clone.setTask(original.getTask());
-        clone.setTitle(original.getTitle());
-        clone.setStartsAt(original.getStartsAt());
-        clone.setEndsAt(original.getEndsAt());
-        clone.setSource(original.getSource());
-        clone.setSlotIndex(original.getSlotIndex());
-        clone.setMeta(original.getMeta());
-        return clone;
+    public Metaheuristic resolve(String name) {
+        return metaheuristics.stream()
+            .filter(m -> m.name().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 로컬서치 전략입니다: " + name));
     }
 
     /**
-     * Swap 연산의 유효성 검증
+     * 저장 없이 탐색만 합니다. 반복마다 전략이 정한 수만큼 후보를 만들고(이웃 연산은 무작위 선택),
+     * 허용된 후보 중 가장 좋은 것을 전략의 수용 규칙에 넘깁니다.
      */
-    private boolean isValidSwap(
+    SearchResult search(
             List<Assignment> assignments,
-            Assignment a1,
-            Assignment a2,
-            Map<Long, List<TimeSlot>> availableSlots) {
+            List<Task> tasks,
+            Map<Long, List<TimeSlot>> availableSlots,
+            Metaheuristic metaheuristic,
+            Random random,
+            int maxIterations,
+            int maxNoImprovement) {
+        
+        int initialScore = scoreCalculator.calculateScore(assignments, tasks, availableSlots);
+        Metaheuristic.Search search = metaheuristic.start(initialScore, random);
+        
+        List<Assignment> current = assignments;
+        int currentScore = initialScore;
+        List<Assignment> best = assignments;
+        int bestScore = initialScore;
+        int evaluations = 0;
+        int noImprovementCount = 0;
         
-        // 간단한 검증: 시간대가 겹치지 않는지 확인
-        for (Assignment a : assignments) {
-            if (a == a1 || a == a2) {
-                continue;
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            MoveSelector.Move chosen = null;
+            int chosenScore = Integer.MIN_VALUE;
+            for (int c = 0; c < search.candidatesPerIteration(); c++) {
+                MoveSelector selector = moveSelectors.get(random.nextInt(moveSelectors.size()));
+                MoveSelector.Move move = selector.select(current, availableSlots, random);
+                if (move == null) {
+                    continue;
+                }
+                int candidateScore = scoreCalculator.calculateScore(move.getAssignments(), tasks, availableSlots);
+                evaluations++;
+                if (candidateScore > chosenScore && search.isAllowed(move, candidateScore, bestScore)) {
+                    chosen = move;
+                    chosenScore = candidateScore;
+                }
             }
             
-            // 시간 겹침 확인
-            if (isOverlapping(a, a1) || isOverlapping(a, a2)) {
-                return false;
+            if (chosen != null && search.accept(currentScore, chosenScore, chosen)) {
+                current = chosen.getAssignments();
+                currentScore = chosenScore;
+                noImprovementCount = 0;
+                if (currentScore > bestScore) {
+                    best = current;
+                    bestScore = currentScore;
+                    log.debug("최적 해 업데이트: iteration={}, score={}", iteration, bestScore);
+                }
+            } else {
+                noImprovementCount++;
             }
-        }
-        
-        return true;
-    }
-
-    /**
-     * 두 Assignment가 시간적으로 겹치는지 확인
-     */
-    private boolean isOverlapping(Assignment a1, Assignment a2) {
-        return a1.getStartsAt().isBefore(a2.getEndsAt()) && a1.getEndsAt().isAfter(a2.getStartsAt());
-    }
-
-    /**
-     * 시작 슬롯부터 연속된 슬롯 찾기
-     */
-    private List<TimeSlot> findConsecutiveSlotsFromStart(List<TimeSlot> availableSlots, TimeSlot startSlot, int count) {
-        List<TimeSlot> result = new ArrayList<>();
-        result.add(startSlot);
-        
-        TimeSlot current = startSlot;
-        for (int i = 1; i < count; i++) {
-            TimeSlot next = findNextConsecutiveSlot(availableSlots, current);
-            if (next == null) {
-                return null;
+            
+            if (noImprovementCount >= maxNoImprovement) {
+                log.info("개선 없음으로 인한 조기 종료: iteration={}", iteration);
+                break;
             }
-            result.add(next);
-            current = next;
         }
         
-        return result;
+        return new SearchResult(best, initialScore, bestScore, evaluations);
     }
 
     /**
-     * 다음 연속 슬롯 찾기
+     * 탐색 결과 (최고 해와 점수, 후보 평가 횟수)
      */
-    private TimeSlot findNextConsecutiveSlot(List<TimeSlot> availableSlots, TimeSlot current) {
-        return availableSlots.stream()
-            .filter(slot -> current.isConsecutive(slot))
-            .findFirst()
-            .orElse(null);
-    }
-
-    /**
-     * Assignment의 meta에서 userId 추출
-     */
-    private Long extractUserIdFromMeta(Assignment assignment) {
-        if (assignment.getMeta() == null) {
-            return null;
-        }
-        
-        try {
-            String meta = assignment.getMeta();
-            int userIdIndex = meta.indexOf("\"userId\":");
-            if (userIdIndex == -1) {
-                return null;
-            }
-            
-            int start = userIdIndex + 9;
-            int end = meta.indexOf("}", start);
-            if (end == -1) {
-                end = meta.length();
-            }
-            
-            String userIdStr = meta.substring(start, end).trim().replace(",", "").replace("}", "");
-            return Long.parseLong(userIdStr);
-        } catch (Exception e) {
-            return null;
-        }
+    @Getter
+    @AllArgsConstructor
+    static class SearchResult {
+        private final List<Assignment> assignments;
+        private final int initialScore;
+        private final int bestScore;
+        private final int evaluations;
     }
 }
-
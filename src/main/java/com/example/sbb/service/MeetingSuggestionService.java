@@ -1,25 +1,28 @@
 package com.example.sbb.service;
 
-import com.example.sbb.domain.CalendarEvent;
-import com.example.sbb.domain.Team;
 import com.example.sbb.domain.TeamMember;
 import com.example.sbb.domain.TimeSlot;
 import com.example.sbb.domain.User;
-import com.example.sbb.domain.WorkHour;
+import com.example.sbb.dto.AssignmentBusyBlock;
 import com.example.sbb.dto.request.MeetingSuggestionRequest;
 import com.example.sbb.dto.response.MeetingSuggestionResponse;
 import com.example.sbb.repository.AssignmentRepository;
-import com.example.sbb.repository.CalendarEventRepository;
+import com.example.sbb.repository.ScheduleRepository;
 import com.example.sbb.repository.TeamMemberRepository;
 import com.example.sbb.repository.TeamRepository;
-import com.example.sbb.repository.WorkHourRepository;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -36,11 +39,26 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MeetingSuggestionService {
 
+    private static final int DEFAULT_MAX_SUGGESTIONS = 20;
+
+    // 소프트 모드에서 유연한 작업 배치와 겹치는 참석자-슬롯의 선호도 감점 비율
+    private static final double SOFT_ASSIGNMENT_PENALTY_RATIO = 0.5;
+
+    // 선호도 점수 내림차순 → 시간순
+    private static final Comparator<MeetingSuggestionResponse.SuggestedTimeSlot> SUGGESTION_ORDER = Comparator
+        .comparing(MeetingSuggestionResponse.SuggestedTimeSlot::getPreferenceScore).reversed()
+        .thenComparing(MeetingSuggestionResponse.SuggestedTimeSlot::getStartsAt);
+
+    // 정족수 모드: 참석 인원 내림차순 → 선호도 내림차순 → 시간순
+    private static final Comparator<MeetingSuggestionResponse.SuggestedTimeSlot> QUORUM_ORDER = Comparator
+        .comparing(MeetingSuggestionResponse.SuggestedTimeSlot::getAvailableParticipants).reversed()
+        .thenComparing(SUGGESTION_ORDER);
+
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
-    private final WorkHourRepository workHourRepository;
-    private final CalendarEventRepository calendarEventRepository;
+    private final ScheduleRepository scheduleRepository;
     private final AssignmentRepository assignmentRepository;
+    private final FreeBusyCache freeBusyCache;
     private final TimeSlotGenerator timeSlotGenerator;
 
     /**
@@ -55,11 +73,18 @@ public class MeetingSuggestionService {
             request.getTeamId(), request.getDurationMin(), request.getParticipantIds());
         
         // 1. 팀 조회
-        Team team = teamRepository.findById(request.getTeamId())
-            .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다: " + request.getTeamId()));
+        if (!teamRepository.existsById(request.getTeamId())) {
+            throw new IllegalArgumentException("팀을 찾을 수 없습니다: " + request.getTeamId());
+        }
         
-        // 2. 참석자 목록 결정
-        List<Long> participantIds = determineParticipants(request.getTeamId(), request.getParticipantIds());
+        // 2. 참석자 목록 결정 (필수 참석자는 참석자 목록에 항상 포함)
+        List<Long> requiredIds = request.getRequiredParticipantIds() != null
+            ? request.getRequiredParticipantIds().stream().distinct().collect(Collectors.toList())
+            : List.of();
+        Set<Long> mergedParticipants = new LinkedHashSet<>(
+            determineParticipants(request.getTeamId(), request.getParticipantIds()));
+        mergedParticipants.addAll(requiredIds);
+        List<Long> participantIds = new ArrayList<>(mergedParticipants);
         log.info("참석자 수: {}", participantIds.size());
         
         // 3. 검색 기간 결정
@@ -71,80 +96,36 @@ public class MeetingSuggestionService {
         
         log.info("검색 기간: {} ~ {}", startDate, endDate);
         
-        // 4. 참석자들의 근무시간 수집
-        List<WorkHour> allWorkHours = workHourRepository.findByTeam_Id(request.getTeamId());
-        log.info("팀의 전체 근무시간 설정 수: {}", allWorkHours.size());
-        
-        // 참석자별 근무시간 + 팀 기본 근무시간(user_id가 null인 것)
-        List<WorkHour> workHours = allWorkHours.stream()
-            .filter(wh -> {
-                if (wh.getUser() == null) {
-                    // 팀 기본 근무시간은 모든 참석자에게 적용
-                    return true;
-                }
-                // 개인 근무시간은 참석자 목록에 있는 경우만
-                return participantIds.contains(wh.getUser().getId());
-            })
-            .collect(Collectors.toList());
-        
-        log.info("필터링된 근무시간 설정 수: {}", workHours.size());
+        // 4. 참석자별 날짜 가용 마스크 (free/busy 캐시, 없는 사용자/날짜만 근무시간과 캘린더 이벤트로 계산)
+        Map<Long, long[]> availability = freeBusyCache.availability(
+            request.getTeamId(), participantIds, startDate, endDate);
         
-        // 근무시간이 없으면 기본 근무시간 생성 (9시-18시, 월-일)
-        if (workHours.isEmpty() && !participantIds.isEmpty()) {
-            log.warn("근무시간 설정이 없어 기본 근무시간(9시-18시, 월-일)을 사용합니다.");
-            // 기본 근무시간: 9시(540분) ~ 18시(1080분), 월요일(1) ~ 일요일(7)
-            // team 변수는 이미 58번째 줄에서 선언되어 있음
-            
-            // 주말 포함 모든 요일에 기본 근무시간 생성 (주말은 선호도가 낮게 설정됨)
-            for (int dow = 1; dow <= 7; dow++) { // 월요일(1) ~ 일요일(7) - DB 형식
-                WorkHour defaultWorkHour = new WorkHour();
-                defaultWorkHour.setTeam(team);
-                defaultWorkHour.setUser(null); // 팀 기본 근무시간
-                defaultWorkHour.setDow(dow); // DB 형식: 1=월요일, 7=일요일
-                defaultWorkHour.setStartMin(540); // 9시
-                defaultWorkHour.setEndMin(1080);  // 18시
-                workHours.add(defaultWorkHour);
-            }
-            log.info("기본 근무시간 생성 완료: {}개 (월-일, 9시-18시, 주말은 선호도 낮음)", workHours.size());
-        }
-        
-        // 5. 참석자들의 기존 일정 수집 (CalendarEvent, Assignment)
-        OffsetDateTime startDateTime = startDate.atStartOfDay().atOffset(ZoneOffset.UTC);
-        OffsetDateTime endDateTime = endDate.atTime(23, 59, 59).atOffset(ZoneOffset.UTC);
-        
-        List<CalendarEvent> calendarEvents = calendarEventRepository.findAll().stream()
-            .filter(e -> e.getTeam().getId().equals(request.getTeamId()))
-            .filter(e -> isEventInRange(e, startDateTime, endDateTime))
-            .filter(e -> isEventRelevantToParticipants(e, participantIds))
-            .collect(Collectors.toList());
+        // 5. 활성 스케줄의 작업 배치를 바쁜 시간으로 반영 (한 번의 범위 조회)
+        //    소프트 모드에서는 분할 가능한 작업을 막지 않고 선호도만 감점
+        boolean softFlexible = Boolean.TRUE.equals(request.getSoftFlexibleTasks());
+        long[] softMasks = foldAssignments(request.getTeamId(), participantIds, availability, startDate, endDate, softFlexible);
         
-        // 6. 가능한 시간 슬롯 생성 (참석자 목록 전달하여 팀 기본 근무시간 적용)
-        Map<Long, List<TimeSlot>> availableSlots = timeSlotGenerator.generateAvailableSlots(
-            workHours, calendarEvents, startDate, endDate, participantIds);
-        
-        // 7. 모든 참석자가 동시에 가능한 시간대 찾기
+        // 6. 모든 참석자가 동시에 가능한 시간대 찾기 (참석자 x 날짜 비트마스크 AND)
         int requiredSlots = (int) Math.ceil(request.getDurationMin() / 30.0);
-        List<MeetingSuggestionResponse.SuggestedTimeSlot> suggestions = 
-            findCommonAvailableSlots(availableSlots, participantIds, requiredSlots);
-        
-        // 8. 중복 제거 및 정렬
-        // 같은 시작 시간의 중복 제거
-        Map<String, MeetingSuggestionResponse.SuggestedTimeSlot> uniqueSuggestions = new java.util.LinkedHashMap<>();
-        for (MeetingSuggestionResponse.SuggestedTimeSlot suggestion : suggestions) {
-            String key = suggestion.getStartsAt().toString();
-            // 이미 있으면 선호도가 높은 것으로 유지
-            if (!uniqueSuggestions.containsKey(key) || 
-                uniqueSuggestions.get(key).getPreferenceScore() < suggestion.getPreferenceScore()) {
-                uniqueSuggestions.put(key, suggestion);
-            }
+        int limit = request.getMaxSuggestions() != null ? request.getMaxSuggestions() : DEFAULT_MAX_SUGGESTIONS;
+        AvailabilityMatrix matrix = AvailabilityMatrix.fromMasks(
+            availability, participantIds, startDate, endDate, timeSlotGenerator::preferenceFor);
+        if (softMasks != null) {
+            applySoftPenalties(matrix, softMasks);
+        }
+
+        // 7. 선호도 내림차순 → 시간순 상위 limit 개 (시작 시각은 날짜/슬롯마다 하나라 중복 없음)
+        //    정족수 모드는 참석 인원 내림차순이 먼저
+        List<MeetingSuggestionResponse.SuggestedTimeSlot> finalSuggestions;
+        if (request.getMinAttendees() != null || !requiredIds.isEmpty()) {
+            int[] requiredIndexes = requiredIds.stream().mapToInt(participantIds::indexOf).toArray();
+            int minAttendees = Math.min(participantIds.size(),
+                Math.max(requiredIds.size(), request.getMinAttendees() != null ? request.getMinAttendees() : 1));
+            log.info("정족수 모드: 필수 참석자 {}명, 최소 참석 인원 {}명", requiredIds.size(), minAttendees);
+            finalSuggestions = findQuorumAvailableSlots(matrix, requiredIndexes, minAttendees, requiredSlots, limit);
+        } else {
+            finalSuggestions = findCommonAvailableSlots(matrix, requiredSlots, limit);
         }
-        
-        // 선호도 점수 내림차순 → 시간순으로 정렬
-        List<MeetingSuggestionResponse.SuggestedTimeSlot> finalSuggestions = 
-            new ArrayList<>(uniqueSuggestions.values());
-        finalSuggestions.sort(Comparator
-            .comparing(MeetingSuggestionResponse.SuggestedTimeSlot::getPreferenceScore).reversed()
-            .thenComparing(MeetingSuggestionResponse.SuggestedTimeSlot::getStartsAt));
         
         log.info("추천된 시간대 수: {}", finalSuggestions.size());
         
@@ -167,154 +148,215 @@ public class MeetingSuggestionService {
     }
 
     /**
-     * 이벤트가 날짜 범위와 겹치는지 확인
+     * 검색 기간과 겹치는 최신 스케줄의 작업 배치를 참석자 마스크에 반영한다.
+     * 하드 충돌은 availability 의 해당 비트를 끄고, 소프트 충돌(분할 가능 작업)은
+     * [참석자 * 일수 + 날짜] 마스크로 모아 반환한다 (소프트 모드가 아니면 null).
      */
-    private boolean isEventInRange(CalendarEvent event, OffsetDateTime start, OffsetDateTime end) {
-        if (event.getRecurrenceType() == null) {
-            return !event.getEndsAt().isBefore(start) && !event.getStartsAt().isAfter(end);
+    private long[] foldAssignments(Long teamId, List<Long> participantIds, Map<Long, long[]> availability,
+                                   LocalDate startDate, LocalDate endDate, boolean softFlexible) {
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        long[] softMasks = softFlexible ? new long[participantIds.size() * days] : null;
+        Optional<Long> scheduleId = scheduleRepository.findLatestIdByTeamIdAndDateRange(teamId, startDate, endDate);
+        if (scheduleId.isEmpty() || participantIds.isEmpty()) {
+            return softMasks;
+        }
+
+        OffsetDateTime rangeStart = startDate.atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime rangeEnd = endDate.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        List<AssignmentBusyBlock> blocks = assignmentRepository.findBusyBlocks(
+            scheduleId.get(),
+            participantIds.stream().map(String::valueOf).toList(),
+            rangeStart,
+            rangeEnd);
+        log.info("활성 스케줄 작업 배치 반영: scheduleId={}, blocks={}", scheduleId.get(), blocks.size());
+
+        Map<Long, Integer> indexOf = new HashMap<>();
+        for (int p = 0; p < participantIds.size(); p++) {
+            indexOf.put(participantIds.get(p), p);
+        }
+        for (AssignmentBusyBlock block : blocks) {
+            Integer p = indexOf.get(block.getUserId());
+            long[] masks = availability.get(block.getUserId());
+            if (p == null || masks == null) {
+                continue;
+            }
+            boolean soft = softFlexible && Boolean.TRUE.equals(block.getSplittable());
+            OffsetDateTime from = block.getStartsAt().withOffsetSameInstant(ZoneOffset.UTC);
+            OffsetDateTime to = block.getEndsAt().withOffsetSameInstant(ZoneOffset.UTC);
+            for (LocalDate date = from.toLocalDate(); date.atStartOfDay().atOffset(ZoneOffset.UTC).isBefore(to);
+                    date = date.plusDays(1)) {
+                int day = (int) ChronoUnit.DAYS.between(startDate, date);
+                if (day < 0 || day >= days) {
+                    continue;
+                }
+                int fromSlot = date.equals(from.toLocalDate()) ? (from.getHour() * 60 + from.getMinute()) / 30 : 0;
+                int toSlot = date.equals(to.toLocalDate())
+                    ? (to.getHour() * 60 + to.getMinute() + 29) / 30
+                    : AvailabilityMatrix.SLOTS_PER_DAY;
+                long busy = AvailabilityMatrix.slotRange(fromSlot, toSlot);
+                if (soft) {
+                    softMasks[p * days + day] |= busy;
+                } else {
+                    masks[day] &= ~busy;
+                }
+            }
+        }
+        return softMasks;
+    }
+
+    // 소프트 충돌 참석자-슬롯마다 선호도의 일정 비율을 감점 (같은 슬롯이 여러 작업과 겹쳐도 한 번)
+    private void applySoftPenalties(AvailabilityMatrix matrix, long[] softMasks) {
+        int days = matrix.days();
+        for (int p = 0; p < matrix.participants(); p++) {
+            for (int day = 0; day < days; day++) {
+                long soft = softMasks[p * days + day];
+                LocalDate date = matrix.dateOf(day);
+                while (soft != 0) {
+                    int slot = Long.numberOfTrailingZeros(soft);
+                    soft &= soft - 1;
+                    matrix.penalize(p, day, slot, timeSlotGenerator.preferenceFor(date, slot) * SOFT_ASSIGNMENT_PENALTY_RATIO);
+                }
+            }
         }
-        // 반복 이벤트는 원본 이벤트만 확인 (TimeSlotGenerator에서 처리)
-        return !event.getEndsAt().isBefore(start) && !event.getStartsAt().isAfter(end);
     }
 
     /**
-     * 이벤트가 참석자들과 관련이 있는지 확인
+     * 모든 참석자가 동시에 가능한 시간대 찾기
+     * 날짜마다 참석자 마스크를 AND 한 뒤 shift-and 로 requiredSlots 연속 구간의 시작 위치를 구하고,
+     * 선호도 평균은 날짜별 누적합으로 O(1)에 계산한다. 상위 limit 개만 크기 제한 힙에 유지한다.
      */
-    private boolean isEventRelevantToParticipants(CalendarEvent event, List<Long> participantIds) {
-        // 소유자가 참석자 목록에 있으면 관련 있음
-        if (event.getOwner() != null && participantIds.contains(event.getOwner().getId())) {
-            return true;
+    List<MeetingSuggestionResponse.SuggestedTimeSlot> findCommonAvailableSlots(
+            AvailabilityMatrix matrix,
+            int requiredSlots,
+            int limit) {
+
+        int participantCount = matrix.participants();
+        if (participantCount == 0 || requiredSlots <= 0 || requiredSlots > AvailabilityMatrix.SLOTS_PER_DAY || limit <= 0) {
+            return new ArrayList<>();
         }
-        
-        // 참석자 목록에 참석자가 있으면 관련 있음
-        if (event.getAttendees() != null && !event.getAttendees().trim().isEmpty()) {
-            try {
-                Set<Long> eventAttendees = java.util.Arrays.stream(event.getAttendees().split(","))
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .map(Long::parseLong)
-                    .collect(Collectors.toSet());
-                
-                return participantIds.stream().anyMatch(eventAttendees::contains);
-            } catch (Exception e) {
-                log.warn("이벤트 참석자 파싱 실패: {}", event.getAttendees(), e);
+
+        PriorityQueue<MeetingSuggestionResponse.SuggestedTimeSlot> top = new PriorityQueue<>(limit + 1, SUGGESTION_ORDER.reversed());
+        for (int day = 0; day < matrix.days(); day++) {
+            long starts = AvailabilityMatrix.runStarts(matrix.commonMask(day), requiredSlots);
+            if (starts == 0) {
+                continue;
+            }
+            LocalDate date = matrix.dateOf(day);
+            double[] prefix = matrix.preferencePrefix(day);
+            while (starts != 0) {
+                int startSlotIndex = Long.numberOfTrailingZeros(starts);
+                starts &= starts - 1;
+
+                // 평균 선호도 = (구간 내 참석자 선호도 합) / (참석자 수 x 슬롯 수)
+                // 누적합 차이의 부동소수 오차로 동점 순서가 흔들리지 않도록 소수 6자리로 맞춘다.
+                double avgPreference = roundScore((prefix[startSlotIndex + requiredSlots] - prefix[startSlotIndex])
+                    / ((double) participantCount * requiredSlots));
+
+                OffsetDateTime startsAt = TimeSlot.calculateStartTime(date, startSlotIndex);
+                offer(top, limit, SUGGESTION_ORDER, new MeetingSuggestionResponse.SuggestedTimeSlot(
+                    startsAt,
+                    startsAt.plusMinutes(requiredSlots * 30L),
+                    participantCount,
+                    participantCount,
+                    avgPreference));
             }
         }
-        
-        return false;
+
+        List<MeetingSuggestionResponse.SuggestedTimeSlot> suggestions = new ArrayList<>(top);
+        suggestions.sort(SUGGESTION_ORDER);
+        return suggestions;
     }
 
     /**
-     * 모든 참석자가 동시에 가능한 시간대 찾기
+     * 정족수 모드: 필수 참석자 전원 + 최소 minAttendees 명이 구간 전체에 참석 가능한 시간대 찾기
+     * 1) 필수 참석자 마스크 AND + shift-and 로 후보 시작 위치를 구하고
+     * 2) 슬롯별 가능 인원 배열의 슬라이딩 윈도 최솟값(구간 참석 인원의 상한)으로 후보를 거른 뒤
+     * 3) 남은 후보에 대해서만 참석자별 연속 구간 비트를 세어 정확한 참석 인원을 구한다.
+     * 선호도는 구간 내 가능한 참석자-슬롯의 평균이다.
      */
-    private List<MeetingSuggestionResponse.SuggestedTimeSlot> findCommonAvailableSlots(
-            Map<Long, List<TimeSlot>> availableSlots,
-            List<Long> participantIds,
-            int requiredSlots) {
-        
-        List<MeetingSuggestionResponse.SuggestedTimeSlot> suggestions = new ArrayList<>();
-        
-        if (participantIds.isEmpty() || availableSlots.isEmpty()) {
-            return suggestions;
+    List<MeetingSuggestionResponse.SuggestedTimeSlot> findQuorumAvailableSlots(
+            AvailabilityMatrix matrix,
+            int[] requiredIndexes,
+            int minAttendees,
+            int requiredSlots,
+            int limit) {
+
+        int participantCount = matrix.participants();
+        if (participantCount == 0 || requiredSlots <= 0 || requiredSlots > AvailabilityMatrix.SLOTS_PER_DAY
+                || limit <= 0 || minAttendees > participantCount) {
+            return new ArrayList<>();
         }
-        
-        // 각 참석자의 가능한 슬롯을 날짜별로 그룹화
-        Map<LocalDate, Map<Integer, Set<Long>>> slotsByDateAndTime = new java.util.HashMap<>();
-        
-        for (Long userId : participantIds) {
-            List<TimeSlot> userSlots = availableSlots.get(userId);
-            if (userSlots == null) {
+
+        PriorityQueue<MeetingSuggestionResponse.SuggestedTimeSlot> top = new PriorityQueue<>(limit + 1, QUORUM_ORDER.reversed());
+        int[] attendance = new int[AvailabilityMatrix.SLOTS_PER_DAY];
+        for (int day = 0; day < matrix.days(); day++) {
+            long candidates = AvailabilityMatrix.runStarts(matrix.commonMask(day, requiredIndexes), requiredSlots);
+            if (candidates == 0) {
                 continue;
             }
-            
-            for (TimeSlot slot : userSlots) {
-                if (!slot.isAvailable()) {
-                    continue;
+            int[] upperBound = matrix.windowMinCounts(day, requiredSlots);
+            for (long bits = candidates; bits != 0; bits &= bits - 1) {
+                int start = Long.numberOfTrailingZeros(bits);
+                if (upperBound[start] < minAttendees) {
+                    candidates &= ~(1L << start);
                 }
-                
-                slotsByDateAndTime
-                    .computeIfAbsent(slot.getDate(), k -> new java.util.HashMap<>())
-                    .computeIfAbsent(slot.getSlotIndex(), k -> new java.util.HashSet<>())
-                    .add(userId);
             }
-        }
-        
-        // 각 날짜에 대해 연속 슬롯 찾기
-        for (Map.Entry<LocalDate, Map<Integer, Set<Long>>> dateEntry : slotsByDateAndTime.entrySet()) {
-            LocalDate date = dateEntry.getKey();
-            Map<Integer, Set<Long>> slotsByTime = dateEntry.getValue();
-            
-            // 연속 슬롯 찾기
-            for (int startSlotIndex = 0; startSlotIndex <= 48 - requiredSlots; startSlotIndex++) {
-                // 람다 표현식에서 사용하기 위해 final 변수로 복사
-                final int finalStartSlotIndex = startSlotIndex;
-                
-                // requiredSlots만큼 연속 슬롯이 있는지 확인
-                boolean allConsecutiveAvailable = true;
-                List<Integer> slotIndices = new ArrayList<>();
-                
-                for (int i = 0; i < requiredSlots; i++) {
-                    int slotIndex = finalStartSlotIndex + i;
-                    Set<Long> availableUsers = slotsByTime.get(slotIndex);
-                    
-                    // 모든 참석자가 이 슬롯에 가능한지 확인
-                    if (availableUsers == null || !availableUsers.containsAll(participantIds)) {
-                        allConsecutiveAvailable = false;
-                        break;
-                    }
-                    
-                    slotIndices.add(slotIndex);
+            if (candidates == 0) {
+                continue;
+            }
+
+            Arrays.fill(attendance, 0);
+            for (int p = 0; p < participantCount; p++) {
+                for (long runs = AvailabilityMatrix.runStarts(matrix.mask(p, day), requiredSlots) & candidates;
+                     runs != 0; runs &= runs - 1) {
+                    attendance[Long.numberOfTrailingZeros(runs)]++;
                 }
-                
-                if (allConsecutiveAvailable) {
-                    // 첫 번째 참석자의 슬롯을 가져와서 시간 정보 추출
-                    TimeSlot firstSlot = availableSlots.get(participantIds.get(0)).stream()
-                        .filter(slot -> slot.getDate().equals(date) 
-                            && slot.getSlotIndex() == finalStartSlotIndex
-                            && slot.isAvailable())
-                        .findFirst()
-                        .orElse(null);
-                    
-                    if (firstSlot != null) {
-                        // 마지막 슬롯 시간 계산
-                        OffsetDateTime startsAt = firstSlot.getStartTime();
-                        OffsetDateTime endsAt = startsAt.plusMinutes(requiredSlots * 30L);
-                        
-                        // 평균 선호도 점수 계산
-                        double avgPreference = slotIndices.stream()
-                            .mapToDouble(slotIndex -> {
-                                // 각 참석자의 선호도 점수 평균
-                                return participantIds.stream()
-                                    .mapToDouble(userId -> {
-                                        TimeSlot slot = availableSlots.get(userId).stream()
-                                            .filter(s -> s.getDate().equals(date) 
-                                                && s.getSlotIndex() == slotIndex
-                                                && s.isAvailable())
-                                            .findFirst()
-                                            .orElse(null);
-                                        return slot != null ? slot.getPreferenceScore() : 0.0;
-                                    })
-                                    .average()
-                                    .orElse(0.0);
-                            })
-                            .average()
-                            .orElse(0.0);
-                        
-                        MeetingSuggestionResponse.SuggestedTimeSlot suggestion = 
-                            new MeetingSuggestionResponse.SuggestedTimeSlot();
-                        suggestion.setStartsAt(startsAt);
-                        suggestion.setEndsAt(endsAt);
-                        suggestion.setAvailableParticipants(participantIds.size());
-                        suggestion.setTotalParticipants(participantIds.size());
-                        suggestion.setPreferenceScore(avgPreference);
-                        
-                        suggestions.add(suggestion);
-                    }
+            }
+
+            LocalDate date = matrix.dateOf(day);
+            double[] preferencePrefix = matrix.preferencePrefix(day);
+            int[] countPrefix = matrix.countPrefix(day);
+            for (long bits = candidates; bits != 0; bits &= bits - 1) {
+                int start = Long.numberOfTrailingZeros(bits);
+                if (attendance[start] < minAttendees) {
+                    continue;
                 }
+                int end = start + requiredSlots;
+                double avgPreference = roundScore((preferencePrefix[end] - preferencePrefix[start])
+                    / (countPrefix[end] - countPrefix[start]));
+
+                OffsetDateTime startsAt = TimeSlot.calculateStartTime(date, start);
+                offer(top, limit, QUORUM_ORDER, new MeetingSuggestionResponse.SuggestedTimeSlot(
+                    startsAt,
+                    startsAt.plusMinutes(requiredSlots * 30L),
+                    attendance[start],
+                    participantCount,
+                    avgPreference));
             }
         }
-        
+
+        List<MeetingSuggestionResponse.SuggestedTimeSlot> suggestions = new ArrayList<>(top);
+        suggestions.sort(QUORUM_ORDER);
         return suggestions;
     }
+
+    private static double roundScore(double score) {
+        return Math.round(score * 1_000_000d) / 1_000_000d;
+    }
+
+    /**
+     * 크기 제한 힙에 추가. 힙의 머리는 현재 상위 limit 개 중 가장 나쁜 후보다.
+     */
+    private static void offer(PriorityQueue<MeetingSuggestionResponse.SuggestedTimeSlot> top,
+                              int limit,
+                              Comparator<MeetingSuggestionResponse.SuggestedTimeSlot> order,
+                              MeetingSuggestionResponse.SuggestedTimeSlot candidate) {
+        if (top.size() < limit) {
+            top.add(candidate);
+        } else if (order.compare(candidate, top.peek()) < 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
 }
 
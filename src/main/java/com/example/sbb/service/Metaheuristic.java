@@ -0,0 +1,42 @@
+package com.example.sbb.service;
+
+import java.util.Random;
+
+/**
+ * 로컬서치 수용 전략.
+ * 빈 자체는 상태가 없고, 최적화 한 번마다 {@link #start(int, Random)}로 탐색 상태를 새로 만든다.
+ */
+public interface Metaheuristic {
+
+    /**
+     * 설정/요청에서 고르는 이름 (예: simulated-annealing)
+     */
+    String name();
+
+    Search start(int initialScore, Random random);
+
+    /**
+     * 한 번의 최적화 동안의 탐색 상태
+     */
+    interface Search {
+
+        /**
+         * 반복마다 만들어 볼 후보 수. 허용된 후보 중 점수가 가장 높은 하나를 {@link #accept}에 넘긴다.
+         */
+        default int candidatesPerIteration() {
+            return 1;
+        }
+
+        /**
+         * 후보를 고려 대상에 넣을지 (타부 목록 등). bestScore 는 지금까지의 최고 점수다.
+         */
+        default boolean isAllowed(MoveSelector.Move move, int candidateScore, int bestScore) {
+            return true;
+        }
+
+        /**
+         * 후보를 현재 해로 받아들일지
+         */
+        boolean accept(int currentScore, int candidateScore, MoveSelector.Move move);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.TimeSlot;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로컬서치 이웃 연산. 현재 배치에서 후보 배치 하나를 만든다.
+ * 후보 목록은 원본과 같은 순서의 복제본이어야 한다 (순서가 배치 식별자로 쓰인다).
+ */
+public interface MoveSelector {
+
+    /**
+     * 후보 배치. 만들 수 없으면 null
+     */
+    Move select(List<Assignment> assignments, Map<Long, List<TimeSlot>> availableSlots, Random random);
+
+    /**
+     * 후보 배치와 이동 식별 해시.
+     * key 는 "이 배치를 이 위치로" 옮기는 이동, reverseKey 는 그 이동을 되돌리는 이동이다 (타부 목록용).
+     */
+    @Getter
+    @AllArgsConstructor
+    final class Move {
+        private final List<Assignment> assignments;
+        private final long key;
+        private final long reverseKey;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.TimeSlot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Move 연산: 작업 배치 하나를 담당자의 임의 가용 슬롯에서 시작하는 연속 구간으로 이동
+ */
+@Component
+@Order(2)
+public class RelocateMoveSelector implements MoveSelector {
+
+    @Override
+    public Move select(List<Assignment> assignments, Map<Long, List<TimeSlot>> availableSlots, Random random) {
+        List<Integer> taskIndexes = new ArrayList<>();
+        for (int i = 0; i < assignments.size(); i++) {
+            if (assignments.get(i).getTask() != null) {
+                taskIndexes.add(i);
+            }
+        }
+        if (taskIndexes.isEmpty()) {
+            return null;
+        }
+        
+        // 랜덤하게 Assignment 선택
+        int index = taskIndexes.get(random.nextInt(taskIndexes.size()));
+        Assignment selected = assignments.get(index);
+        
+        Long userId = AssignmentMoves.userIdFromMeta(selected);
+        if (userId == null) {
+            return null;
+        }
+        List<TimeSlot> userSlots = availableSlots.get(userId);
+        if (userSlots == null || userSlots.isEmpty()) {
+            return null;
+        }
+        
+        // 랜덤하게 새 시작 슬롯 선택 후 필요한 만큼 연속 슬롯 찾기
+        TimeSlot newSlot = userSlots.get(random.nextInt(userSlots.size()));
+        int requiredSlots = AssignmentMoves.requiredSlots(selected);
+        List<TimeSlot> consecutiveSlots = findConsecutiveSlotsFromStart(userSlots, newSlot, requiredSlots);
+        if (consecutiveSlots == null) {
+            return null;
+        }
+        TimeSlot first = consecutiveSlots.get(0);
+        TimeSlot last = consecutiveSlots.get(consecutiveSlots.size() - 1);
+        if (first.getStartTime().isEqual(selected.getStartsAt())
+                || AssignmentMoves.overlapsSameUser(assignments, index, userId, first.getStartTime(), last.getEndTime())) {
+            return null;
+        }
+        
+        return new Move(
+            AssignmentMoves.relocate(assignments, index, first, last),
+            AssignmentMoves.positionKey(index, first.getStartTime()),
+            AssignmentMoves.positionKey(index, selected.getStartsAt()));
+    }
+
+    /**
+     * 시작 슬롯부터 연속된 슬롯 찾기
+     */
+    private List<TimeSlot> findConsecutiveSlotsFromStart(List<TimeSlot> availableSlots, TimeSlot startSlot, int count) {
+        List<TimeSlot> result = new ArrayList<>();
+        result.add(startSlot);
+        
+        TimeSlot current = startSlot;
+        for (int i = 1; i < count; i++) {
+            TimeSlot next = findNextConsecutiveSlot(availableSlots, current);
+            if (next == null) {
+                return null;
+            }
+            result.add(next);
+            current = next;
+        }
+        
+        return result;
+    }
+
+    /**
+     * 다음 연속 슬롯 찾기
+     */
+    private TimeSlot findNextConsecutiveSlot(List<TimeSlot> availableSlots, TimeSlot current) {
+        return availableSlots.stream()
+            .filter(slot -> current.isConsecutive(slot) && slot.getSlotIndex() == current.getSlotIndex() + 1)
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.RollingHorizonProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 범위 스케줄을 겹치는 구간(rolling horizon)으로 나눠 푼다.
+ *
+ * 1. 담당자 미지정 작업은 AssigneePlanner 로 전체 범위에서 담당자를 먼저 정한다.
+ *    그러면 사용자마다 용량을 나눠 쓰는 작업이 없으므로 사용자별 부분 문제는 서로 영향이 없어 병렬로 푼다.
+ * 2. 사용자별로 windowDays 구간을 stepDays 씩 옮기며 마감 순으로 그리디 배치하고, 앞 stepDays 일에 끝난 배치만 확정한다.
+ *    확정하지 않은 작업은 다음 구간에서 다시 푼다. 분할 가능한 작업은 확정 구간에 들어간 부분만 확정하고 나머지 시간을 넘긴다.
+ *    직전 구간에서 남은 빈 슬롯(windowDays 일치)은 다음 구간에서도 쓴다.
+ *    구간 슬롯은 날짜 색인으로 바로 잘라 오고, 사용한 슬롯은 날짜별 비트 마스크로 기록한다.
+ * 3. 사용자별로 넣지 못한 작업과 담당자를 정하지 못한 작업은 남은 슬롯 전체에서 한 번 더 그리디 배치하고,
+ *    마지막으로 EjectionChainInserter 로 밀어내기 삽입을 시도한다.
+ *
+ * 구간 하나의 크기가 범위 길이와 무관하므로 시간과 메모리가 범위 길이에 비례한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollingHorizonScheduler {
+
+    private final AssigneePlanner assigneePlanner;
+    private final GreedyScheduler greedyScheduler;
+    private final EjectionChainInserter ejectionChainInserter;
+    private final RollingHorizonProperties properties;
+
+    /**
+     * 범위를 나눠서 풀어야 하는지
+     */
+    public boolean applies(LocalDate rangeStart, LocalDate rangeEnd) {
+        return properties.isEnabled()
+            && ChronoUnit.DAYS.between(rangeStart, rangeEnd) + 1 >= properties.getMinRangeDays();
+    }
+
+    /**
+     * 구간별로 배치한다.
+     *
+     * @return 생성된 Assignment 목록 (Assignment.task 는 모두 입력 작업 객체)
+     */
+    public List<Assignment> scheduleTasks(
+            List<Task> tasks,
+            Map<Long, List<TimeSlot>> availableSlots,
+            Schedule schedule,
+            LocalDate rangeStart,
+            LocalDate rangeEnd) {
+
+        long startedAt = System.nanoTime();
+        Map<Long, Long> plannedAssignees = assigneePlanner.plan(tasks, availableSlots);
+
+        // 사용자별 작업 (담당자 또는 추천 담당자), 둘 다 없으면 전체 단계로
+        Map<Long, List<Task>> tasksByUser = new LinkedHashMap<>();
+        List<Task> leftover = new ArrayList<>();
+        for (Task task : tasks) {
+            Long userId = task.getAssignee() != null
+                ? task.getAssignee().getId()
+                : plannedAssignees.get(task.getId());
+            if (userId != null && availableSlots.containsKey(userId)) {
+                tasksByUser.computeIfAbsent(userId, k -> new ArrayList<>()).add(task);
+            } else {
+                leftover.add(task);
+            }
+        }
+
+        List<UserResult> results = tasksByUser.entrySet().parallelStream()
+            .map(entry -> solveUser(entry.getKey(), entry.getValue(), availableSlots.get(entry.getKey()),
+                schedule, rangeStart, rangeEnd))
+            .collect(Collectors.toList());
+
+        List<Assignment> assignments = new ArrayList<>();
+        Map<Long, UserResult> resultsByUser = new HashMap<>();
+        for (UserResult result : results) {
+            assignments.addAll(result.committed);
+            resultsByUser.put(result.userId, result);
+            leftover.addAll(result.failed);
+        }
+
+        // 남은 슬롯 전체에서 한 번 더 배치 (사용자별 단계가 없던 사용자는 슬롯 목록 그대로)
+        if (!leftover.isEmpty()) {
+            Map<Long, List<TimeSlot>> remainingSlots = new LinkedHashMap<>();
+            availableSlots.forEach((userId, slots) -> {
+                UserResult result = resultsByUser.get(userId);
+                remainingSlots.put(userId, result == null ? slots : slots.stream()
+                    .filter(slot -> !result.isUsed(slot))
+                    .collect(Collectors.toList()));
+            });
+            assignments.addAll(greedyScheduler.scheduleTasks(leftover, remainingSlots, schedule, plannedAssignees));
+        }
+
+        // 남은 시간만큼 새로 만든 작업 객체를 원래 작업으로 되돌림
+        Map<Long, Task> originals = tasks.stream().collect(Collectors.toMap(Task::getId, t -> t, (a, b) -> a));
+        assignments.forEach(a -> a.setTask(originals.get(a.getTask().getId())));
+
+        assignments = ejectionChainInserter.insertUnplaced(tasks, assignments, availableSlots, schedule);
+
+        log.info("rolling horizon 배치 완료: 작업={}, 사용자={}, 전체 단계 작업={}, Assignment={}, {}ms",
+            tasks.size(), tasksByUser.size(), leftover.size(), assignments.size(),
+            (System.nanoTime() - startedAt) / 1_000_000);
+        return assignments;
+    }
+
+    /**
+     * 한 사용자의 작업을 구간을 옮기며 배치한다
+     */
+    private UserResult solveUser(
+            Long userId,
+            List<Task> userTasks,
+            List<TimeSlot> userSlots,
+            Schedule schedule,
+            LocalDate rangeStart,
+            LocalDate rangeEnd) {
+
+        int windowDays = properties.getWindowDays();
+        int stepDays = Math.max(1, Math.min(properties.getStepDays(), windowDays));
+        // LazySlotList 는 이미 날짜, 슬롯 순이고 구간마다 그 날짜만 꺼내 쓰므로 정렬하지 않는다 (정렬하면 모든 날짜가 만들어짐)
+        List<TimeSlot> slots = userSlots instanceof LazySlotList
+            ? userSlots
+            : userSlots.stream()
+                .sorted(Comparator.comparing(TimeSlot::getDate).thenComparing(TimeSlot::getSlotIndex))
+                .collect(Collectors.toList());
+        int days = (int) ChronoUnit.DAYS.between(rangeStart, rangeEnd) + 1;
+        int[] dayStarts = slots instanceof LazySlotList ? null : dayStarts(slots, rangeStart, days);
+
+        UserResult result = new UserResult(userId, rangeStart, days);
+        List<Task> pending = new ArrayList<>(userTasks);
+        for (LocalDate windowStart = rangeStart;
+                !pending.isEmpty() && !windowStart.isAfter(rangeEnd);
+                windowStart = windowStart.plusDays(stepDays)) {
+            LocalDate windowEnd = min(windowStart.plusDays(windowDays - 1L), rangeEnd);
+            boolean last = !windowEnd.isBefore(rangeEnd);
+            LocalDate prefixEnd = last ? windowEnd : windowStart.plusDays(stepDays - 1L);
+            LocalDate carryFrom = windowStart.minusDays(windowDays);
+
+            // 이번 구간 안에 마감인 작업 (마지막 구간은 전부)
+            List<Task> windowTasks = pending.stream()
+                .filter(t -> last || (t.getDueAt() != null && !dueDate(t).isAfter(windowEnd)))
+                .collect(Collectors.toList());
+            if (windowTasks.isEmpty()) {
+                continue;
+            }
+            List<TimeSlot> candidates = slots instanceof LazySlotList lazy
+                ? lazy.between(carryFrom, windowEnd)
+                : slots.subList(
+                    dayStarts[dayBound(rangeStart, carryFrom, days)],
+                    dayStarts[dayBound(rangeStart, windowEnd.plusDays(1), days)]);
+            List<TimeSlot> windowSlots = candidates.stream()
+                .filter(slot -> !result.isUsed(slot))
+                .collect(Collectors.toList());
+
+            Map<Long, List<TimeSlot>> windowSlotMap = new HashMap<>();
+            windowSlotMap.put(userId, windowSlots);
+            Map<Long, List<Assignment>> placedByTask = greedyScheduler
+                .scheduleTasks(windowTasks, windowSlotMap, schedule).stream()
+                .collect(Collectors.groupingBy(a -> a.getTask().getId(), LinkedHashMap::new, Collectors.toList()));
+
+            Set<Long> windowTaskIds = windowTasks.stream().map(Task::getId).collect(Collectors.toSet());
+            pending.removeIf(t -> windowTaskIds.contains(t.getId()));
+            OffsetDateTime frozenUntil = prefixEnd.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+            for (Task task : windowTasks) {
+                boolean dueInPrefix = task.getDueAt() != null && !dueDate(task).isAfter(prefixEnd);
+                List<Assignment> parts = placedByTask.get(task.getId());
+                if (parts == null) {
+                    if (last || dueInPrefix) {
+                        result.failed.add(task);
+                    } else {
+                        pending.add(task);
+                    }
+                    continue;
+                }
+                List<Assignment> frozen = parts.stream()
+                    .filter(a -> !a.getEndsAt().isAfter(frozenUntil))
+                    .collect(Collectors.toList());
+                if (last || dueInPrefix || frozen.size() == parts.size()) {
+                    result.commit(parts);
+                } else if (task.isSplittable() && !frozen.isEmpty()) {
+                    // 확정 구간에 들어간 부분만 확정하고 남은 시간은 다음 구간으로
+                    result.commit(frozen);
+                    int doneMinutes = frozen.stream()
+                        .mapToInt(a -> (int) Duration.between(a.getStartsAt(), a.getEndsAt()).toMinutes())
+                        .sum();
+                    pending.add(remainderOf(task, task.getDurationMin() - doneMinutes));
+                } else {
+                    pending.add(task);
+                }
+            }
+        }
+        result.failed.addAll(pending);
+        return result;
+    }
+
+    /**
+     * 남은 시간만큼의 작업 (배치 후 원래 작업으로 되돌린다)
+     */
+    private static Task remainderOf(Task task, int remainingMinutes) {
+        Task remainder = new Task();
+        remainder.setId(task.getId());
+        remainder.setTeam(task.getTeam());
+        remainder.setAssignee(task.getAssignee());
+        remainder.setTitle(task.getTitle());
+        remainder.setDurationMin(remainingMinutes);
+        remainder.setDueAt(task.getDueAt());
+        remainder.setPriority(task.getPriority());
+        remainder.setSplittable(task.isSplittable());
+        remainder.setTags(task.getTags());
+        return remainder;
+    }
+
+    /**
+     * 날짜 순 슬롯에서 rangeStart + d 일 이후 첫 슬롯 위치 (d = 0 ~ days)
+     */
+    private static int[] dayStarts(List<TimeSlot> slots, LocalDate rangeStart, int days) {
+        int[] starts = new int[days + 1];
+        int i = 0;
+        for (int d = 0; d <= days; d++) {
+            LocalDate date = rangeStart.plusDays(d);
+            while (i < slots.size() && slots.get(i).getDate().isBefore(date)) {
+                i++;
+            }
+            starts[d] = i;
+        }
+        return starts;
+    }
+
+    private static int dayBound(LocalDate rangeStart, LocalDate date, int days) {
+        return (int) Math.max(0, Math.min(ChronoUnit.DAYS.between(rangeStart, date), days));
+    }
+
+    private static LocalDate dueDate(Task task) {
+        return task.getDueAt().withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * 사용자별 결과 (확정 배치, 날짜별 사용한 슬롯 마스크, 넣지 못한 작업)
+     */
+    private static final class UserResult {
+        private final Long userId;
+        private final LocalDate rangeStart;
+        private final long[] used;        // [rangeStart 부터의 날짜] 사용한 슬롯 비트
+        private final List<Assignment> committed = new ArrayList<>();
+        private final List<Task> failed = new ArrayList<>();
+
+        UserResult(Long userId, LocalDate rangeStart, int days) {
+            this.userId = userId;
+            this.rangeStart = rangeStart;
+            this.used = new long[days];
+        }
+
+        void commit(List<Assignment> assignments) {
+            for (Assignment assignment : assignments) {
+                committed.add(assignment);
+                OffsetDateTime startsAt = assignment.getStartsAt().withOffsetSameInstant(ZoneOffset.UTC);
+                long day = ChronoUnit.DAYS.between(rangeStart, startsAt.toLocalDate());
+                if (day < 0 || day >= used.length) {
+                    continue;
+                }
+                int from = SlotGrid.BASE.indexOf(startsAt);
+                int slots = SlotGrid.BASE.slotsFor(Duration.between(assignment.getStartsAt(), assignment.getEndsAt()).toMinutes());
+                used[(int) day] |= AvailabilityMatrix.slotRange(from, from + slots);
+            }
+        }
+
+        boolean isUsed(TimeSlot slot) {
+            long day = ChronoUnit.DAYS.between(rangeStart, slot.getDate());
+            return day >= 0 && day < used.length && (used[(int) day] & (1L << slot.getSlotIndex())) != 0;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.SchedulingJobProperties;
+import com.example.sbb.dto.response.ScheduleGenerateResponse;
+import com.example.sbb.dto.response.ScheduleJobResponse;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 스케줄 생성 작업 (POST /api/schedules/jobs).
+ *
+ * 요청 스레드에서는 팀 스케줄 락(schedule:team:{id})만 잡고 작업을 솔버 풀에 넣은 뒤 바로 돌아간다.
+ * 솔버 풀은 pool-size 스레드와 queue-capacity 대기열로 제한되며, 가득 차면 TaskRejectedException(503)으로 거절한다.
+ * 작업이 대기/실행 중인 동안 락 리스는 renew-interval-ms 마다 연장되고, 끝나면 해제된다.
+ * 연장에 실패하면(리스가 만료되어 다른 작업이 잡았을 수 있음) 작업을 실패로 끝내고, 솔버 트랜잭션은 커밋 직전에
+ * 리스를 한 번 더 연장해 보고 실패하면 롤백한다. 두 작업이 같은 팀 스케줄을 동시에 저장하지 않게 하기 위함이다.
+ * 진행률과 완료/실패는 /topic/schedules/{teamId} 로 jobId 와 함께 발행한다.
+ *
+ * 작업 상태는 이 인스턴스 메모리에만 있으며 retention-minutes 가 지나면 지운다.
+ */
+@Slf4j
+@Service
+public class ScheduleJobService {
+
+    private static final String LOCK_KEY_PREFIX = "schedule:team:";
+    private static final String LEASE_LOST_MESSAGE = "팀 스케줄 락을 잃어 작업을 중단했습니다. 다시 시도해 주세요.";
+
+    private final SchedulingService schedulingService;
+    private final ScheduleService scheduleService;
+    private final SlotLockService slotLockService;
+    private final ScheduleOptimizationService scheduleOptimizationService;
+    private final LocalSearchOptimizer localSearchOptimizer;
+    private final SchedulingJobProperties properties;
+    private final ThreadPoolTaskExecutor solverExecutor;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public ScheduleJobService(
+            SchedulingService schedulingService,
+            ScheduleService scheduleService,
+            SlotLockService slotLockService,
+            ScheduleOptimizationService scheduleOptimizationService,
+            LocalSearchOptimizer localSearchOptimizer,
+            SchedulingJobProperties properties) {
+        this.schedulingService = schedulingService;
+        this.scheduleService = scheduleService;
+        this.slotLockService = slotLockService;
+        this.scheduleOptimizationService = scheduleOptimizationService;
+        this.localSearchOptimizer = localSearchOptimizer;
+        this.properties = properties;
+        // @Async 기본 실행기를 대체하지 않도록 빈으로 등록하지 않는다
+        this.solverExecutor = new ThreadPoolTaskExecutor();
+        solverExecutor.setCorePoolSize(properties.getPoolSize());
+        solverExecutor.setMaxPoolSize(properties.getPoolSize());
+        solverExecutor.setQueueCapacity(properties.getQueueCapacity());
+        solverExecutor.setThreadNamePrefix("schedule-solver-");
+        solverExecutor.initialize();
+    }
+
+    /**
+     * 팀 락을 잡고 작업을 솔버 풀에 넣는다
+     *
+     * @return 다른 작업/사용자가 팀 락을 잡고 있으면 empty (423)
+     * @throws IllegalArgumentException 알 수 없는 로컬서치 전략
+     * @throws TaskRejectedException 솔버 대기열이 가득 참
+     */
+    public Optional<ScheduleJobResponse> submit(
+            Long teamId, LocalDate rangeStart, LocalDate rangeEnd, Long userId, String metaheuristic) {
+        // 잘못된 전략 이름은 접수 전에 거절
+        String strategy = localSearchOptimizer.explicitMetaheuristic(teamId, metaheuristic);
+        if (strategy != null) {
+            localSearchOptimizer.resolve(strategy);
+        }
+
+        String slotKey = LOCK_KEY_PREFIX + teamId;
+        if (!slotLockService.tryLock(slotKey, userId, lockTtl())) {
+            return Optional.empty();
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), teamId, userId, slotKey);
+        jobs.put(job.id, job);
+        try {
+            solverExecutor.execute(() -> run(job, rangeStart, rangeEnd, metaheuristic));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            slotLockService.releaseLock(slotKey, userId);
+            log.warn("솔버 대기열이 가득 차 스케줄 생성 작업 거절: teamId={}", teamId);
+            throw e;
+        }
+        log.info("스케줄 생성 작업 접수: jobId={}, teamId={}, range={} ~ {}", job.id, teamId, rangeStart, rangeEnd);
+        return Optional.of(job.toResponse());
+    }
+
+    public Optional<ScheduleJobResponse> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toResponse);
+    }
+
+    /**
+     * 대기/실행 중인 작업의 팀 락 리스 연장. 연장에 실패하면(이미 만료되어 다른 사용자가 잡았을 수 있음)
+     * 작업에 표시해 다음 진행 단계나 커밋 직전에 실패로 끝나게 한다.
+     */
+    @Scheduled(fixedDelayString = "${scheduling.jobs.renew-interval-ms:10000}")
+    public void renewLeases() {
+        for (Job job : jobs.values()) {
+            if (job.isFinished()) {
+                continue;
+            }
+            if (!job.leaseLost && !slotLockService.renewLock(job.slotKey, job.userId, lockTtl())) {
+                job.leaseLost = true;
+                log.warn("스케줄 생성 작업의 팀 락 연장 실패, 작업 중단: jobId={}, teamId={}", job.id, job.teamId);
+            }
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 끝난 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${scheduling.jobs.renew-interval-ms:10000}")
+    public void purgeFinished() {
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(properties.getRetentionMinutes());
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        solverExecutor.shutdown();
+    }
+
+    private void run(Job job, LocalDate rangeStart, LocalDate rangeEnd, String metaheuristic) {
+        job.start();
+        ScheduleGenerateResponse result;
+        try {
+            result = schedulingService.generateScheduleSync(
+                job.teamId, rangeStart, rangeEnd, job.userId, metaheuristic,
+                (progress, message) -> {
+                    guardLease(job);
+                    job.progress(progress, message);
+                    scheduleOptimizationService.publishProgress(job.teamId, job.id, progress, message);
+                });
+            job.complete(result);
+        } catch (Exception e) {
+            log.error("스케줄 생성 작업 실패: jobId={}, teamId={}", job.id, job.teamId, e);
+            job.fail(e.getMessage());
+            scheduleOptimizationService.publishFailure(job.teamId, job.id, "스케줄 생성 중 오류 발생: " + e.getMessage());
+            return;
+        } finally {
+            // 리스를 잃었으면 지금 락은 다른 작업의 것일 수 있으므로 해제하지 않는다
+            if (!job.leaseLost) {
+                slotLockService.releaseLock(job.slotKey, job.userId);
+            }
+        }
+        log.info("스케줄 생성 작업 완료: jobId={}, teamId={}, score={}", job.id, job.teamId, result.getScore());
+        try {
+            scheduleOptimizationService.publishCompletion(job.teamId, job.id,
+                result.getScheduleId() != null ? scheduleService.getScheduleById(result.getScheduleId()) : null);
+        } catch (RuntimeException e) {
+            // 작업 상태는 이미 완료이므로 조회 API 로 결과를 받을 수 있음
+            log.warn("스케줄 생성 작업 완료 알림 실패: jobId={}, teamId={}", job.id, job.teamId, e);
+        }
+    }
+
+    /**
+     * 진행 콜백(솔버 트랜잭션 안)에서 호출. 리스를 잃었으면 예외로 중단하고,
+     * 처음 호출될 때 커밋 직전 리스 확인을 등록한다 (실패하면 예외로 롤백).
+     */
+    private void guardLease(Job job) {
+        if (job.leaseLost) {
+            throw new IllegalStateException(LEASE_LOST_MESSAGE);
+        }
+        if (job.commitGuarded || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        job.commitGuarded = true;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (job.leaseLost || !slotLockService.renewLock(job.slotKey, job.userId, lockTtl())) {
+                    job.leaseLost = true;
+                    throw new IllegalStateException(LEASE_LOST_MESSAGE);
+                }
+            }
+        });
+    }
+
+    private Duration lockTtl() {
+        return Duration.ofSeconds(properties.getLockTtlSeconds());
+    }
+
+    /**
+     * 작업 상태 (솔버 스레드가 쓰고 요청 스레드가 읽음)
+     */
+    private static final class Job {
+
+        private final String id;
+        private final Long teamId;
+        private final Long userId;
+        private final String slotKey;
+        private final OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC);
+
+        private volatile String status = "QUEUED";
+        private volatile int progress;
+        private volatile String message = "대기 중";
+        private volatile ScheduleGenerateResponse result;
+        private volatile OffsetDateTime startedAt;
+        private volatile OffsetDateTime finishedAt;
+        // 리스 연장 실패 (스케줄러 스레드가 쓰고 솔버 스레드가 읽음)
+        private volatile boolean leaseLost;
+        // 커밋 직전 리스 확인 등록 여부 (솔버 스레드 전용)
+        private boolean commitGuarded;
+
+        private Job(String id, Long teamId, Long userId, String slotKey) {
+            this.id = id;
+            this.teamId = teamId;
+            this.userId = userId;
+            this.slotKey = slotKey;
+        }
+
+        void start() {
+            startedAt = OffsetDateTime.now(ZoneOffset.UTC);
+            message = "실행 중";
+            status = "RUNNING";
+        }
+
+        void progress(int progress, String message) {
+            this.progress = progress;
+            this.message = message;
+        }
+
+        void complete(ScheduleGenerateResponse result) {
+            this.result = result;
+            progress = 100;
+            message = "완료";
+            finishedAt = OffsetDateTime.now(ZoneOffset.UTC);
+            status = "COMPLETED";
+        }
+
+        void fail(String reason) {
+            message = reason;
+            finishedAt = OffsetDateTime.now(ZoneOffset.UTC);
+            status = "FAILED";
+        }
+
+        boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        ScheduleJobResponse toResponse() {
+            ScheduleJobResponse response = new ScheduleJobResponse();
+            response.setJobId(id);
+            response.setTeamId(teamId);
+            response.setStatus(status);
+            response.setProgress(progress);
+            response.setMessage(message);
+            response.setResult(result);
+            response.setScore(result != null ? result.getScore() : null);
+            response.setCreatedAt(createdAt);
+            response.setStartedAt(startedAt);
+            response.setFinishedAt(finishedAt);
+            return response;
+        }
+    }
+}
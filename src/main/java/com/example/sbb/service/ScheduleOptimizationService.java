@@ -15,13 +15,21 @@ public class ScheduleOptimizationService {
     }
 
     public void publishProgress(Long teamId, int progress, String message) {
+        publishProgress(teamId, null, progress, message);
+    }
+
+    public void publishProgress(Long teamId, String jobId, int progress, String message) {
         ScheduleProgressMessage progressMessage = ScheduleProgressMessage.progress(teamId, progress, message);
-        eventPublisher.publishScheduleProgress(progressMessage);
+        eventPublisher.publishScheduleProgress(progressMessage.withJobId(jobId));
     }
 
     public void publishCompletion(Long teamId, ScheduleResponse schedule) {
+        publishCompletion(teamId, null, schedule);
+    }
+
+    public void publishCompletion(Long teamId, String jobId, ScheduleResponse schedule) {
         ScheduleProgressMessage completion = ScheduleProgressMessage.completed(teamId, schedule);
-        eventPublisher.publishScheduleProgress(completion);
+        eventPublisher.publishScheduleProgress(completion.withJobId(jobId));
         if (schedule != null) {
             eventPublisher.publishScheduleBroadcast(schedule);
             eventPublisher.publishNotification(
@@ -35,8 +43,12 @@ public class ScheduleOptimizationService {
     }
 
     public void publishFailure(Long teamId, String reason) {
+        publishFailure(teamId, null, reason);
+    }
+
+    public void publishFailure(Long teamId, String jobId, String reason) {
         ScheduleProgressMessage failure = ScheduleProgressMessage.failed(teamId, reason);
-        eventPublisher.publishScheduleProgress(failure);
+        eventPublisher.publishScheduleProgress(failure.withJobId(jobId));
         eventPublisher.publishNotification(
             CollaborationNotificationMessage.team(
                 teamId,
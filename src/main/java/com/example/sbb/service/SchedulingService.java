@@ -1,8 +1,11 @@
 package com.example.sbb.service;
 
+import com.example.sbb.config.SchedulingRepairProperties;
 import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.AssignmentSource;
 import com.example.sbb.domain.CalendarEvent;
 import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.SlotGrid;
 import com.example.sbb.domain.Task;
 import com.example.sbb.domain.Team;
 import com.example.sbb.domain.TimeSlot;
@@ -21,8 +24,20 @@ import com.example.sbb.repository.WorkHourRepository;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -38,6 +53,11 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SchedulingService {
 
+    /**
+     * 분할 배치 제목 접미사 (GreedyScheduler: "제목 (부분 N)")
+     */
+    private static final Pattern PART_SUFFIX = Pattern.compile(" \\(부분 \\d+\\)$");
+
     private final TaskRepository taskRepository;
     private final WorkHourRepository workHourRepository;
     private final CalendarEventRepository calendarEventRepository;
@@ -48,9 +68,17 @@ public class SchedulingService {
     private final ScheduleOptimizationService scheduleOptimizationService;
     private final ScheduleService scheduleService;
     private final TimeSlotGenerator timeSlotGenerator;
+    private final FreeBusyCache freeBusyCache;
+    private final FeasibilityAnalyzer feasibilityAnalyzer;
+    private final AssigneePlanner assigneePlanner;
     private final GreedyScheduler greedyScheduler;
+    private final EjectionChainInserter ejectionChainInserter;
+    private final RollingHorizonScheduler rollingHorizonScheduler;
     private final ScoreCalculator scoreCalculator;
     private final LocalSearchOptimizer localSearchOptimizer;
+    private final SolverInputFingerprint solverInputFingerprint;
+    private final SlotGridRefiner slotGridRefiner;
+    private final SchedulingRepairProperties repairProperties;
 
     /**
      * 스케줄 생성에 필요한 입력 데이터를 수집합니다.
@@ -139,35 +167,24 @@ public class SchedulingService {
                 .map(tm -> tm.getUser().getId())
                 .collect(java.util.stream.Collectors.toList());
             
-            // 근무시간이 없으면 기본 근무시간 생성
-            List<WorkHour> workHours = input.getWorkHours();
-            if (workHours.isEmpty() && !teamMemberIds.isEmpty()) {
-                log.warn("근무시간 설정이 없어 기본 근무시간(9시-18시, 월-일)을 사용합니다.");
-                Team team = teamRepository.findById(teamId)
-                    .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다: " + teamId));
-                
-                // 주말 포함 모든 요일에 기본 근무시간 생성 (주말은 선호도가 낮게 설정됨)
-                for (int dow = 1; dow <= 7; dow++) { // 월요일(1) ~ 일요일(7) - DB 형식
-                    WorkHour defaultWorkHour = new WorkHour();
-                    defaultWorkHour.setTeam(team);
-                    defaultWorkHour.setUser(null); // 팀 기본 근무시간
-                    defaultWorkHour.setDow(dow); // DB 형식: 1=월요일, 7=일요일
-                    defaultWorkHour.setStartMin(540); // 9시
-                    defaultWorkHour.setEndMin(1080);  // 18시
-                    workHours.add(defaultWorkHour);
-                }
-                log.info("기본 근무시간 생성 완료: {}개 (월-일, 9시-18시, 주말은 선호도 낮음)", workHours.size());
-            }
-            
-            Map<Long, List<TimeSlot>> availableSlots = timeSlotGenerator.generateAvailableSlots(
-                workHours,
-                input.getCalendarEvents(),
-                rangeStart,
-                rangeEnd,
-                teamMemberIds
-            );
+            // 팀원별 가용 슬롯 (free/busy 캐시, 근무시간이 없으면 기본 9시-18시, 팀 슬롯 단위가 거칠면 그 단위로)
+            SlotGrid grid = slotGridRefiner.gridFor(teamId);
+            Map<Long, long[]> availability = slotGridRefiner.coarsen(
+                freeBusyCache.availability(teamId, teamMemberIds, rangeStart, rangeEnd), grid);
+            Map<Long, List<TimeSlot>> availableSlots = timeSlotGenerator.slotsFromMasks(availability, rangeStart);
             scheduleOptimizationService.publishProgress(teamId, 40, "시간 슬롯 생성 완료");
             
+            // 입력이 최근 스케줄과 같으면 (제목/태그만 바뀐 경우 등) 다시 풀지 않고 재사용
+            String fingerprint = SolverInputFingerprint.compute(rangeStart, rangeEnd, input.getTasks(), availability,
+                localSearchOptimizer.defaultMetaheuristic(teamId), grid);
+            Schedule previous = reusableSchedule(teamId, rangeStart, rangeEnd, fingerprint);
+            if (previous != null) {
+                refreshTitles(assignmentRepository.findAllBySchedule_Id(previous.getId()));
+                scheduleOptimizationService.publishCompletion(teamId, scheduleService.getScheduleById(previous.getId()));
+                log.info("입력이 같아 기존 스케줄 재사용: teamId={}, scheduleId={}", teamId, previous.getId());
+                return;
+            }
+            
             // Day 17: 그리디 배치
             scheduleOptimizationService.publishProgress(teamId, 50, "작업 배치 중...");
             
@@ -180,6 +197,7 @@ public class SchedulingService {
             schedule.setRangeStart(rangeStart);
             schedule.setRangeEnd(rangeEnd);
             schedule.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+            schedule.setInputFingerprint(fingerprint);
             
             // createdBy 설정
             if (userId != null) {
@@ -190,12 +208,28 @@ public class SchedulingService {
             
             schedule = scheduleRepository.save(schedule);
             
-            // 그리디 배치 실행
-            List<Assignment> assignments = greedyScheduler.scheduleTasks(
-                input.getTasks(),
-                availableSlots,
-                schedule
-            );
+            // 실행 불가능한 작업은 배치 전에 제외
+            FeasibilityAnalyzer.Result feasibility = feasibilityAnalyzer.analyze(input.getTasks(), availableSlots);
+            
+            List<Assignment> assignments;
+            if (rollingHorizonScheduler.applies(rangeStart, rangeEnd)) {
+                // 긴 범위는 겹치는 구간으로 나눠 마감 순으로 풂
+                assignments = rollingHorizonScheduler.scheduleTasks(
+                    feasibility.getFeasibleTasks(), availableSlots, schedule, rangeStart, rangeEnd);
+            } else {
+                // 그리디 배치 실행 (담당자 미지정 작업은 최소 비용 유량으로 담당자를 먼저 정함)
+                Map<Long, Long> plannedAssignees = assigneePlanner.plan(feasibility.getFeasibleTasks(), availableSlots);
+                assignments = greedyScheduler.scheduleTasks(
+                    feasibility.getFeasibleTasks(),
+                    availableSlots,
+                    schedule,
+                    plannedAssignees
+                );
+                
+                // 그리디가 넣지 못한 작업은 우선순위가 낮거나 마감이 늦은 배치를 밀어내며 다시 시도
+                assignments = ejectionChainInserter.insertUnplaced(
+                    feasibility.getFeasibleTasks(), assignments, availableSlots, schedule);
+            }
             
             // Assignment 저장
             assignmentRepository.saveAll(assignments);
@@ -213,6 +247,12 @@ public class SchedulingService {
             List<Assignment> optimizedAssignments = localSearchOptimizer.optimize(
                 schedule, assignments, input.getTasks(), availableSlots);
             
+            // 팀 슬롯 단위가 더 세밀하면 배치 주변만 세밀 격자로 다듬음
+            if (grid.getMinutes() < SlotGrid.BASE.getMinutes()) {
+                optimizedAssignments = assignmentRepository.saveAll(slotGridRefiner.refine(
+                    optimizedAssignments, feasibility.getFeasibleTasks(), availability, rangeStart, grid, schedule));
+            }
+            
             // 최적화 후 점수 재계산
             int finalScore = scoreCalculator.calculateScore(optimizedAssignments, input.getTasks(), availableSlots);
             schedule.setScore(finalScore);
@@ -234,6 +274,257 @@ public class SchedulingService {
         }
     }
 
+    /**
+     * 작업 일부만 바뀌었을 때 현재 스케줄을 부분 수리합니다 (비동기 실행).
+     * 수리할 수 없거나 점수가 임계값 이상 떨어지면 같은 범위로 전체 재생성합니다.
+     *
+     * @param teamId 팀 ID
+     * @param changedTaskIds 생성/수정/삭제된 작업 ID
+     * @param rangeStart 전체 재생성 시 시작일
+     * @param rangeEnd 전체 재생성 시 종료일
+     * @param userId 생성자 사용자 ID (nullable)
+     */
+    @Async
+    @Transactional
+    public void repairSchedule(Long teamId, Collection<Long> changedTaskIds,
+                               LocalDate rangeStart, LocalDate rangeEnd, Long userId) {
+        log.info("스케줄 부분 수리 시작: teamId={}, changedTasks={}", teamId, changedTaskIds);
+        
+        boolean repaired;
+        try {
+            repaired = repairProperties.isEnabled() && repairInPlace(teamId, Set.copyOf(changedTaskIds));
+        } catch (RuntimeException e) {
+            log.error("스케줄 부분 수리 실패: teamId={}", teamId, e);
+            scheduleOptimizationService.publishFailure(teamId, "스케줄 수리 중 오류 발생: " + e.getMessage());
+            throw e;
+        }
+        
+        if (!repaired) {
+            // 같은 트랜잭션/스레드에서 그대로 전체 재생성
+            generateSchedule(teamId, rangeStart, rangeEnd, userId);
+        }
+    }
+
+    /**
+     * 현재(가장 최근) 스케줄을 제자리에서 수리합니다.
+     * 1. 바뀐 작업과, 다시 계산한 가용 시간/다른 배치와 겹치게 된 작업의 배치를 푼다
+     * 2. 남은 배치가 차지한 슬롯을 뺀 빈 슬롯에 풀린 작업을 그리디로 다시 놓는다
+     * 3. 점수가 현재 점수보다 임계 비율 이상 떨어지면 아무것도 저장하지 않고 false
+     * 4. 풀린 배치만 지우고 새 배치만 저장한 뒤, 영향받은 사용자/날짜로 좁혀 로컬서치
+     *
+     * @return 수리했으면 true, 전체 재생성이 필요하면 false
+     */
+    private boolean repairInPlace(Long teamId, Set<Long> changedTaskIds) {
+        Schedule schedule = scheduleRepository.findFirstByTeam_IdOrderByCreatedAtDesc(teamId).orElse(null);
+        if (schedule == null) {
+            log.info("수리할 스케줄이 없어 전체 재생성: teamId={}", teamId);
+            return false;
+        }
+        LocalDate rangeStart = schedule.getRangeStart();
+        LocalDate rangeEnd = schedule.getRangeEnd();
+        
+        SchedulingInput input = collectInputData(teamId, rangeStart, rangeEnd);
+        Map<Long, Task> tasksById = input.getTasks().stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity(), (a, b) -> a));
+        for (Long taskId : changedTaskIds) {
+            // 남아 있는데 범위 밖이면 마감일이 스케줄 범위를 벗어난 것이므로 범위부터 다시 잡아야 함
+            if (!tasksById.containsKey(taskId) && taskRepository.existsById(taskId)) {
+                log.info("변경된 작업이 스케줄 범위를 벗어나 전체 재생성: teamId={}, taskId={}", teamId, taskId);
+                return false;
+            }
+        }
+        
+        List<Long> teamMemberIds = teamMemberRepository.findByTeamId(teamId).stream()
+            .map(tm -> tm.getUser().getId())
+            .collect(Collectors.toList());
+        SlotGrid grid = slotGridRefiner.gridFor(teamId);
+        Map<Long, long[]> availability = slotGridRefiner.coarsen(
+            freeBusyCache.availability(teamId, teamMemberIds, rangeStart, rangeEnd), grid);
+        
+        // 배치에 영향 없는 변경(제목 등)이면 제목만 맞추고 끝
+        String fingerprint = SolverInputFingerprint.compute(rangeStart, rangeEnd, input.getTasks(), availability,
+            localSearchOptimizer.defaultMetaheuristic(teamId), grid);
+        if (solverInputFingerprint.matches(schedule.getInputFingerprint(), fingerprint)) {
+            refreshTitles(assignmentRepository.findAllBySchedule_Id(schedule.getId()));
+            scheduleOptimizationService.publishCompletion(teamId, scheduleService.getScheduleById(schedule.getId()));
+            log.info("입력이 같아 스케줄 수리 생략: teamId={}, scheduleId={}", teamId, schedule.getId());
+            return true;
+        }
+        
+        // 1. 풀 작업 결정: 시작 시간 순으로 점유해 보며 더 이상 들어가지 않는 작업을 찾는다
+        List<Assignment> current = assignmentRepository.findAllBySchedule_Id(schedule.getId()).stream()
+            .sorted(Comparator.comparing(Assignment::getStartsAt))
+            .collect(Collectors.toList());
+        // (팀 격자가 세밀하면 그 격자 칸으로 점유해 15분 경계로 붙은 배치를 충돌로 보지 않는다)
+        Set<Long> unassignedTaskIds = new HashSet<>(changedTaskIds);
+        SlotGridRefiner.FreeCells probe = slotGridRefiner.freeCells(availability, rangeStart, grid);
+        for (Assignment assignment : current) {
+            Long taskId = taskIdOf(assignment);
+            if (taskId == null || unassignedTaskIds.contains(taskId)) {
+                continue;
+            }
+            if (!tasksById.containsKey(taskId) || !occupy(probe, assignment)) {
+                unassignedTaskIds.add(taskId);
+            }
+        }
+        
+        // 남는 배치만 다시 점유 (풀린 작업이 먼저 잡아 둔 슬롯은 돌려받는다)
+        SlotGridRefiner.FreeCells remaining = slotGridRefiner.freeCells(availability, rangeStart, grid);
+        List<Assignment> kept = new ArrayList<>();
+        List<Assignment> removed = new ArrayList<>();
+        for (Assignment assignment : current) {
+            Long taskId = taskIdOf(assignment);
+            boolean orphan = taskId == null && assignment.getSource() == AssignmentSource.TASK;
+            if (orphan || (taskId != null && unassignedTaskIds.contains(taskId))) {
+                removed.add(assignment);
+            } else {
+                kept.add(assignment);
+                occupy(remaining, assignment);
+            }
+        }
+        
+        // 2. 빈 슬롯에 그리디 재배치
+        List<Task> toPlace = unassignedTaskIds.stream()
+            .map(tasksById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        Map<Long, long[]> remainingMasks = remaining.toBaseMasks();
+        Map<Long, List<TimeSlot>> freeSlots = timeSlotGenerator.slotsFromMasks(remainingMasks, rangeStart);
+        List<Assignment> placed = greedyScheduler.scheduleTasks(toPlace, freeSlots, schedule);
+        
+        // 3. 점수 확인
+        Map<Long, List<TimeSlot>> availableSlots = timeSlotGenerator.slotsFromMasks(availability, rangeStart);
+        List<Assignment> repairedAssignments = new ArrayList<>(kept);
+        repairedAssignments.addAll(placed);
+        int repairScore = scoreCalculator.calculateScore(repairedAssignments, input.getTasks(), availableSlots);
+        Integer previousScore = schedule.getScore();
+        if (previousScore != null
+                && repairScore < previousScore * (1 - repairProperties.getMaxScoreDropRatio())) {
+            log.info("수리 점수 하락으로 전체 재생성: teamId={}, score={} (기존: {})", teamId, repairScore, previousScore);
+            return false;
+        }
+        
+        // 4. 변경분만 저장 후 영향 범위 로컬서치
+        assignmentRepository.deleteAll(removed);
+        placed = assignmentRepository.saveAll(placed);
+        
+        Set<Long> affectedUsers = new HashSet<>();
+        Set<LocalDate> affectedDays = new HashSet<>();
+        for (List<Assignment> changed : List.of(removed, placed)) {
+            for (Assignment assignment : changed) {
+                Long assignee = userIdOf(assignment);
+                if (assignee != null) {
+                    affectedUsers.add(assignee);
+                }
+                affectedDays.add(assignment.getStartsAt().withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+            }
+        }
+        Map<Long, List<TimeSlot>> scopedSlots = new HashMap<>();
+        for (Long assignee : affectedUsers) {
+            List<TimeSlot> slots = freeSlots.getOrDefault(assignee, List.of()).stream()
+                .filter(slot -> affectedDays.contains(slot.getDate()))
+                .collect(Collectors.toList());
+            if (!slots.isEmpty()) {
+                scopedSlots.put(assignee, slots);
+            }
+        }
+        if (!placed.isEmpty()) {
+            placed = localSearchOptimizer.optimize(schedule, placed, toPlace, scopedSlots);
+        }
+        
+        // 팀 슬롯 단위가 더 세밀하면 다시 놓은 배치도 세밀 격자로 다듬음 (남긴 배치가 차지한 칸은 제외)
+        if (grid.getMinutes() < SlotGrid.BASE.getMinutes()) {
+            placed = assignmentRepository.saveAll(slotGridRefiner.refine(
+                placed, toPlace, remainingMasks, rangeStart, grid, schedule));
+        }
+        
+        repairedAssignments = new ArrayList<>(kept);
+        repairedAssignments.addAll(placed);
+        int finalScore = scoreCalculator.calculateScore(repairedAssignments, input.getTasks(), availableSlots);
+        schedule.setScore(finalScore);
+        schedule.setInputFingerprint(fingerprint);
+        schedule = scheduleRepository.save(schedule);
+        
+        ScheduleResponse scheduleResponse = scheduleService.getScheduleById(schedule.getId());
+        scheduleOptimizationService.publishCompletion(teamId, scheduleResponse);
+        
+        log.info("스케줄 부분 수리 완료: teamId={}, scheduleId={}, removed={}, placed={}, score={} (기존: {})",
+            teamId, schedule.getId(), removed.size(), placed.size(), finalScore, previousScore);
+        return true;
+    }
+
+    /**
+     * 배치가 차지하는 칸을 담당자 빈칸에서 지운다. 범위 밖이거나 이미 빈 칸이 아니면 false (빈칸은 그대로).
+     * 담당자를 알 수 없는 배치는 확인할 수 없으므로 그대로 둔다.
+     */
+    private static boolean occupy(SlotGridRefiner.FreeCells cells, Assignment assignment) {
+        Long userId = userIdOf(assignment);
+        return userId == null || cells.tryOccupy(userId, assignment.getStartsAt(), assignment.getEndsAt());
+    }
+
+    /**
+     * 같은 범위의 최근 스케줄이 같은 입력으로 만들어졌으면 반환 (비교 결과는 지표에 기록)
+     */
+    private Schedule reusableSchedule(Long teamId, LocalDate rangeStart, LocalDate rangeEnd, String fingerprint) {
+        Schedule latest = scheduleRepository.findFirstByTeam_IdOrderByCreatedAtDesc(teamId).orElse(null);
+        String previous = latest != null
+                && rangeStart.equals(latest.getRangeStart())
+                && rangeEnd.equals(latest.getRangeEnd())
+            ? latest.getInputFingerprint()
+            : null;
+        return solverInputFingerprint.matches(previous, fingerprint) ? latest : null;
+    }
+
+    /**
+     * 재사용하는 배치의 제목을 현재 작업 제목으로 맞춘다 (제목은 지문에 없음). 바뀐 배치만 저장한다.
+     */
+    private List<Assignment> refreshTitles(List<Assignment> assignments) {
+        List<Assignment> renamed = new ArrayList<>();
+        for (Assignment assignment : assignments) {
+            if (assignment.getTask() == null || assignment.getTitle() == null) {
+                continue;
+            }
+            Matcher part = PART_SUFFIX.matcher(assignment.getTitle());
+            String title = assignment.getTask().getTitle() + (part.find() ? part.group() : "");
+            if (!title.equals(assignment.getTitle())) {
+                assignment.setTitle(title);
+                renamed.add(assignment);
+            }
+        }
+        if (!renamed.isEmpty()) {
+            assignmentRepository.saveAll(renamed);
+        }
+        return assignments;
+    }
+
+    private static Long taskIdOf(Assignment assignment) {
+        return assignment.getTask() != null ? assignment.getTask().getId() : null;
+    }
+
+    /**
+     * meta 의 userId (GreedyScheduler 가 "userId":N 으로 기록)
+     */
+    private static Long userIdOf(Assignment assignment) {
+        String meta = assignment.getMeta();
+        if (meta == null) {
+            return null;
+        }
+        int index = meta.indexOf("\"userId\":");
+        if (index == -1) {
+            return null;
+        }
+        int start = index + 9;
+        int end = start;
+        while (end < meta.length() && (Character.isDigit(meta.charAt(end)) || meta.charAt(end) == ' ')) {
+            end++;
+        }
+        try {
+            return Long.parseLong(meta.substring(start, end).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * 스케줄 생성 메인 메서드 (동기 실행, FullCalendar 형식 반환)
      * 
@@ -246,9 +537,39 @@ public class SchedulingService {
     @Transactional
     public ScheduleGenerateResponse generateScheduleSync(
             Long teamId, LocalDate rangeStart, LocalDate rangeEnd, Long userId) {
+        return generateScheduleSync(teamId, rangeStart, rangeEnd, userId, null);
+    }
+
+    /**
+     * 스케줄 생성 (동기 실행, 로컬서치 전략 지정)
+     * 
+     * @param metaheuristic 로컬서치 전략 이름 (nullable). 요청이나 팀 설정에 전략이 있을 때만 로컬서치를 돌린다
+     */
+    @Transactional
+    public ScheduleGenerateResponse generateScheduleSync(
+            Long teamId, LocalDate rangeStart, LocalDate rangeEnd, Long userId, String metaheuristic) {
+        return generateScheduleSync(teamId, rangeStart, rangeEnd, userId, metaheuristic, (progress, message) -> { });
+    }
+
+    /**
+     * 스케줄 생성 (동기 실행, 단계별 진행률 콜백). 작업 API(ScheduleJobService)가 진행률을 작업 상태에 반영할 때 쓴다.
+     * 
+     * @param progress (진행률 0~100, 메시지) 콜백
+     */
+    @Transactional
+    public ScheduleGenerateResponse generateScheduleSync(
+            Long teamId, LocalDate rangeStart, LocalDate rangeEnd, Long userId, String metaheuristic,
+            BiConsumer<Integer, String> progress) {
         log.info("스케줄 생성 시작 (동기): teamId={}, range={} ~ {}", teamId, rangeStart, rangeEnd);
         
+        // 로컬서치 전략 (잘못된 이름은 저장 전에 거절)
+        String strategy = localSearchOptimizer.explicitMetaheuristic(teamId, metaheuristic);
+        if (strategy != null) {
+            localSearchOptimizer.resolve(strategy);
+        }
+        
         // 입력 데이터 수집
+        progress.accept(10, "입력 데이터 수집 중...");
         SchedulingInput input = collectInputData(teamId, rangeStart, rangeEnd);
         
         // 팀 멤버 ID 목록 가져오기 (팀 기본 근무시간 적용용)
@@ -256,34 +577,29 @@ public class SchedulingService {
             .map(tm -> tm.getUser().getId())
             .collect(java.util.stream.Collectors.toList());
         
-        // 근무시간이 없으면 기본 근무시간 생성
-        List<WorkHour> workHours = input.getWorkHours();
-        if (workHours.isEmpty() && !teamMemberIds.isEmpty()) {
-            log.warn("근무시간 설정이 없어 기본 근무시간(9시-18시, 월-금)을 사용합니다.");
-            Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다: " + teamId));
-            
-            // 주말 포함 모든 요일에 기본 근무시간 생성 (주말은 선호도가 낮게 설정됨)
-            for (int dow = 1; dow <= 7; dow++) { // 월요일(1) ~ 일요일(7) - DB 형식
-                WorkHour defaultWorkHour = new WorkHour();
-                defaultWorkHour.setTeam(team);
-                defaultWorkHour.setUser(null); // 팀 기본 근무시간
-                defaultWorkHour.setDow(dow); // DB 형식: 1=월요일, 7=일요일
-                defaultWorkHour.setStartMin(540); // 9시
-                defaultWorkHour.setEndMin(1080);  // 18시
-                workHours.add(defaultWorkHour);
-            }
-            log.info("기본 근무시간 생성 완료: {}개 (월-일, 9시-18시, 주말은 선호도 낮음)", workHours.size());
-        }
+        // 팀원별 가용 슬롯 (free/busy 캐시, 근무시간이 없으면 기본 9시-18시, 팀 슬롯 단위가 거칠면 그 단위로)
+        progress.accept(30, "시간 슬롯 생성 중...");
+        SlotGrid grid = slotGridRefiner.gridFor(teamId);
+        Map<Long, long[]> availability = slotGridRefiner.coarsen(
+            freeBusyCache.availability(teamId, teamMemberIds, rangeStart, rangeEnd), grid);
+        Map<Long, List<TimeSlot>> availableSlots = timeSlotGenerator.slotsFromMasks(availability, rangeStart);
         
-        // 슬롯 생성
-        Map<Long, List<TimeSlot>> availableSlots = timeSlotGenerator.generateAvailableSlots(
-            workHours,
-            input.getCalendarEvents(),
-            rangeStart,
-            rangeEnd,
-            teamMemberIds
-        );
+        // 입력이 최근 스케줄과 같으면 다시 풀지 않고 기존 배치로 응답
+        String fingerprint = SolverInputFingerprint.compute(
+            rangeStart, rangeEnd, input.getTasks(), availability, strategy, grid);
+        Schedule previous = reusableSchedule(teamId, rangeStart, rangeEnd, fingerprint);
+        if (previous != null) {
+            List<Assignment> reused = refreshTitles(assignmentRepository.findAllBySchedule_Id(previous.getId()));
+            FeasibilityAnalyzer.Result feasibility = feasibilityAnalyzer.analyze(input.getTasks(), availableSlots);
+            int score = previous.getScore() != null
+                ? previous.getScore()
+                : scoreCalculator.calculateScore(reused, input.getTasks(), availableSlots);
+            log.info("입력이 같아 기존 스케줄 재사용 (동기): teamId={}, scheduleId={}, assignments={}",
+                teamId, previous.getId(), reused.size());
+            ScheduleGenerateResponse response = toGenerateResponse(input, feasibility, reused, score);
+            response.setScheduleId(previous.getId());
+            return response;
+        }
         
         // Schedule 엔티티 생성
         Team team = teamRepository.findById(teamId)
@@ -294,6 +610,7 @@ public class SchedulingService {
         schedule.setRangeStart(rangeStart);
         schedule.setRangeEnd(rangeEnd);
         schedule.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        schedule.setInputFingerprint(fingerprint);
         
         if (userId != null) {
             User creator = new User();
@@ -307,21 +624,64 @@ public class SchedulingService {
         assignmentRepository.deleteByTeamId(teamId);
         log.info("기존 Assignment 삭제 완료: teamId={}", teamId);
         
-        // 그리디 배치 실행
-        List<Assignment> assignments = greedyScheduler.scheduleTasks(
-            input.getTasks(),
-            availableSlots,
-            schedule
-        );
+        // 실행 불가능한 작업은 배치 전에 제외 (마감 구간별 용량 검사)
+        progress.accept(50, "작업 배치 중...");
+        FeasibilityAnalyzer.Result feasibility = feasibilityAnalyzer.analyze(input.getTasks(), availableSlots);
+        
+        List<Assignment> assignments;
+        if (rollingHorizonScheduler.applies(rangeStart, rangeEnd)) {
+            // 긴 범위는 겹치는 구간으로 나눠 마감 순으로 풂
+            assignments = rollingHorizonScheduler.scheduleTasks(
+                feasibility.getFeasibleTasks(), availableSlots, schedule, rangeStart, rangeEnd);
+        } else {
+            // 그리디 배치 실행 (담당자 미지정 작업은 최소 비용 유량으로 담당자를 먼저 정함)
+            Map<Long, Long> plannedAssignees = assigneePlanner.plan(feasibility.getFeasibleTasks(), availableSlots);
+            assignments = greedyScheduler.scheduleTasks(
+                feasibility.getFeasibleTasks(),
+                availableSlots,
+                schedule,
+                plannedAssignees
+            );
+            
+            // 그리디가 넣지 못한 작업은 우선순위가 낮거나 마감이 늦은 배치를 밀어내며 다시 시도
+            assignments = ejectionChainInserter.insertUnplaced(
+                feasibility.getFeasibleTasks(), assignments, availableSlots, schedule);
+        }
         
         // Assignment 저장
         assignmentRepository.saveAll(assignments);
         
+        // 로컬서치 개선 (전략이 지정된 경우)
+        progress.accept(70, "작업 배치 완료");
+        if (strategy != null) {
+            progress.accept(80, "로컬서치 최적화 중...");
+            assignments = localSearchOptimizer.optimize(
+                schedule, assignments, input.getTasks(), availableSlots, strategy);
+        }
+        
+        // 팀 슬롯 단위가 더 세밀하면 배치 주변만 세밀 격자로 다듬음
+        if (grid.getMinutes() < SlotGrid.BASE.getMinutes()) {
+            assignments = assignmentRepository.saveAll(slotGridRefiner.refine(
+                assignments, feasibility.getFeasibleTasks(), availability, rangeStart, grid, schedule));
+        }
+        
         // 점수 계산
         int score = scoreCalculator.calculateScore(assignments, input.getTasks(), availableSlots);
         schedule.setScore(score);
         schedule = scheduleRepository.save(schedule);
         
+        ScheduleGenerateResponse response = toGenerateResponse(input, feasibility, assignments, score);
+        response.setScheduleId(schedule.getId());
+        log.info("스케줄 생성 완료 (동기): teamId={}, scheduleId={}, assignments={}, unassigned={}, score={}", 
+            teamId, schedule.getId(), assignments.size(), response.getUnassignedTasks().size(), score);
+        return response;
+    }
+
+    /**
+     * 배치 결과를 FullCalendar 형식 응답으로 변환
+     */
+    private ScheduleGenerateResponse toGenerateResponse(
+            SchedulingInput input, FeasibilityAnalyzer.Result feasibility, List<Assignment> assignments, int score) {
         // 배치되지 않은 작업 찾기
         List<Long> assignedTaskIds = assignments.stream()
             .filter(a -> a.getTask() != null)
@@ -332,14 +692,21 @@ public class SchedulingService {
         List<ScheduleGenerateResponse.UnassignedTask> unassignedTasks = input.getTasks().stream()
             .filter(task -> !assignedTaskIds.contains(task.getId()))
             .map(task -> {
-                String reason = "마감일까지 충분한 시간 부족";
-                if (task.getDueAt() == null) {
-                    reason = "사용 가능한 시간 슬롯 부족";
-                } else {
-                    // 마감일이 지났는지 확인
-                    if (task.getDueAt().isBefore(OffsetDateTime.now())) {
-                        reason = "마감일이 이미 지났습니다";
-                    }
+                FeasibilityAnalyzer.Infeasibility infeasibility = feasibility.getInfeasible().get(task.getId());
+                if (infeasibility != null) {
+                    return new ScheduleGenerateResponse.UnassignedTask(
+                        task.getId(),
+                        infeasibility.getReason(),
+                        infeasibility.getUserId(),
+                        infeasibility.getWindowEnd() != null ? infeasibility.getWindowEnd().toString() : null,
+                        infeasibility.getDemandSlots(),
+                        infeasibility.getCapacitySlots(),
+                        infeasibility.getShortageSlots());
+                }
+                // 사전 검사는 통과했으므로 다른 작업과 슬롯을 나눠 쓰다 자리가 모자란 경우
+                String reason = "다른 작업 배치 후 남은 시간 슬롯 부족";
+                if (task.getDueAt() != null && task.getDueAt().isBefore(OffsetDateTime.now())) {
+                    reason = "마감일이 이미 지났습니다";
                 }
                 return new ScheduleGenerateResponse.UnassignedTask(task.getId(), reason);
             })
@@ -384,9 +751,6 @@ public class SchedulingService {
             })
             .collect(java.util.stream.Collectors.toList());
         
-        log.info("스케줄 생성 완료 (동기): teamId={}, scheduleId={}, assignments={}, unassigned={}, score={}", 
-            teamId, schedule.getId(), assignments.size(), unassignedTasks.size(), score);
-        
         ScheduleGenerateResponse response = new ScheduleGenerateResponse();
         response.setSchedule(scheduleEvents);
         response.setEvents(calendarEvents);
@@ -111,6 +111,8 @@ public class ScoreCalculator {
             if (userId != null) {
                 List<TimeSlot> userSlots = availableSlots.get(userId);
                 if (userSlots != null) {
+                    // 배치가 끝나기 전에 시작하는 슬롯만 보면 충분하다 (LazySlotList 는 뒤쪽 날짜를 만들지 않음)
+                    userSlots = slotsStartingBy(userSlots, assignment.getEndsAt());
                     // Assignment가 여러 슬롯에 걸쳐 있을 수 있으므로, 시작 시간과 종료 시간이 포함되는 슬롯들을 찾음
                     boolean inAvailableSlot = userSlots.stream()
                         .anyMatch(slot -> {
@@ -343,7 +345,7 @@ public class ScoreCalculator {
             }
             
             // Assignment의 시작 시간과 일치하는 슬롯 찾기
-            TimeSlot matchingSlot = userSlots.stream()
+            TimeSlot matchingSlot = slotsStartingBy(userSlots, assignment.getStartsAt()).stream()
                 .filter(slot -> slot.getStartTime().equals(assignment.getStartsAt()))
                 .findFirst()
                 .orElse(null);
@@ -430,5 +432,11 @@ public class ScoreCalculator {
             return null;
         }
     }
-}
 
+    /**
+     * time 이전(같은 시각 포함)에 시작하는 슬롯. LazySlotList 는 그 앞부분만 보고, 그 외 목록은 그대로 둔다.
+     */
+    private static List<TimeSlot> slotsStartingBy(List<TimeSlot> slots, OffsetDateTime time) {
+        return slots instanceof LazySlotList lazy ? lazy.headBefore(time.plusNanos(1)) : slots;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sbb.service;
+
+import java.util.Random;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시뮬레이티드 어닐링: 나쁜 해도 exp(점수 차 / 온도) 확률로 받아들이고, 반복마다 온도를 낮춘다.
+ */
+@Component
+public class SimulatedAnnealing implements Metaheuristic {
+
+    public static final String NAME = "simulated-annealing";
+
+    private static final double TEMPERATURE_INITIAL = 100.0; // 초기 온도
+    private static final double TEMPERATURE_COOLING = 0.95;  // 냉각률
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Search start(int initialScore, Random random) {
+        return new Search() {
+            private double temperature = TEMPERATURE_INITIAL;
+
+            @Override
+            public boolean accept(int currentScore, int candidateScore, MoveSelector.Move move) {
+                boolean accept = candidateScore > currentScore
+                    || random.nextDouble() < Math.exp((candidateScore - currentScore) / temperature);
+                temperature *= TEMPERATURE_COOLING;
+                return accept;
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.TimeSlot;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 가용 슬롯의 용량 뷰: 선호도 하한을 넘는 슬롯의 종료 시각(epoch 초) 정렬 배열,
+ * 각 위치까지의 최대 연속 슬롯 수, 선호도 누적합.
+ *
+ * LazySlotList 는 날짜 마스크와 선호도 표만으로 만들어 TimeSlot 을 만들지 않는다.
+ * 그 외 목록은 (날짜, 슬롯)으로 중복을 없애고 (팀 기본 + 개인 근무시간이 겹치면 같은 슬롯이 여러 번 나옴) 시작 시각 순으로 정렬한다.
+ */
+final class SlotCapacity {
+
+    private final long[] ends;
+    private final int[] longestRun;
+    private final double[] preferencePrefix;
+
+    private SlotCapacity(long[] ends, int[] longestRun, double[] preferencePrefix) {
+        this.ends = ends;
+        this.longestRun = longestRun;
+        this.preferencePrefix = preferencePrefix;
+    }
+
+    static SlotCapacity of(List<TimeSlot> slots, double minPreference) {
+        if (slots instanceof LazySlotList lazy) {
+            return lazy.capacity(minPreference);
+        }
+        Set<String> seen = new HashSet<>();
+        List<TimeSlot> usable = new ArrayList<>();
+        for (TimeSlot slot : slots) {
+            if (slot.getPreferenceScore() > minPreference && seen.add(slot.getDate() + "#" + slot.getSlotIndex())) {
+                usable.add(slot);
+            }
+        }
+        usable.sort(Comparator.comparing(TimeSlot::getStartTime));
+        Builder builder = new Builder(usable.size());
+        for (TimeSlot slot : usable) {
+            builder.add(slot.getStartTime().toEpochSecond(), slot.getEndTime().toEpochSecond(), slot.getPreferenceScore());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 여러 사용자의 종료 시각을 합친 용량 (수량만 봄, 연속 구간과 선호도는 없음)
+     */
+    static SlotCapacity merge(Iterable<SlotCapacity> capacities) {
+        int size = 0;
+        for (SlotCapacity capacity : capacities) {
+            size += capacity.ends.length;
+        }
+        long[] ends = new long[size];
+        int offset = 0;
+        for (SlotCapacity capacity : capacities) {
+            System.arraycopy(capacity.ends, 0, ends, offset, capacity.ends.length);
+            offset += capacity.ends.length;
+        }
+        Arrays.sort(ends);
+        return new SlotCapacity(ends, new int[size], new double[size + 1]);
+    }
+
+    int size() {
+        return ends.length;
+    }
+
+    /**
+     * cutoff(epoch 초) 보다 먼저 끝나는 슬롯 수
+     */
+    int countBefore(long cutoff) {
+        int lo = 0;
+        int hi = ends.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] < cutoff) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * dueAt 보다 먼저 끝나는 슬롯 수 (dueAt 이 null 이면 전체)
+     */
+    int countBefore(OffsetDateTime dueAt) {
+        return dueAt == null ? ends.length : countBefore(dueAt.toEpochSecond());
+    }
+
+    /**
+     * dueAt 보다 먼저 끝나는 슬롯 중 가장 긴 연속 슬롯 수
+     */
+    int longestRunBefore(OffsetDateTime dueAt) {
+        int count = countBefore(dueAt);
+        return count == 0 ? 0 : longestRun[count - 1];
+    }
+
+    /**
+     * 먼저 끝나는 count 개 슬롯의 평균 선호도
+     */
+    double averagePreference(int count) {
+        return count == 0 ? 0 : preferencePrefix[count] / count;
+    }
+
+    /**
+     * 시작 시각 순으로 슬롯을 받아 용량을 만든다
+     */
+    static final class Builder {
+        private final long[] ends;
+        private final int[] longestRun;
+        private final double[] preferencePrefix;
+        private int size;
+        private int run;
+        private int best;
+
+        Builder(int capacity) {
+            this.ends = new long[capacity];
+            this.longestRun = new int[capacity];
+            this.preferencePrefix = new double[capacity + 1];
+        }
+
+        void add(long start, long end, double preference) {
+            run = size > 0 && ends[size - 1] == start ? run + 1 : 1;
+            best = Math.max(best, run);
+            ends[size] = end;
+            longestRun[size] = best;
+            preferencePrefix[size + 1] = preferencePrefix[size] + preference;
+            size++;
+        }
+
+        SlotCapacity build() {
+            return new SlotCapacity(
+                Arrays.copyOf(ends, size), Arrays.copyOf(longestRun, size), Arrays.copyOf(preferencePrefix, size + 1));
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.SlotGridProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.AssignmentSource;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.Task;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀 슬롯 단위(SlotGrid)를 30분 솔버 결과에 반영한다.
+ *
+ * - 60분처럼 기본 격자보다 거친 팀: {@link #coarsen} 으로 거친 칸이 통째로 빈 시간만 남긴 마스크로 푼다.
+ * - 15분처럼 세밀한 팀: 30분 격자로 먼저 풀고(coarse), {@link #refine} 이 배치 주변만 세밀 격자로 다듬는다 (fine).
+ *   1. 작업마다 30분 올림으로 더 잡힌 시간을 마지막 조각에서 잘라 세밀 격자 올림 길이로 맞춘다
+ *   2. 잘라서 생긴 틈은 바로 뒤에 붙어 있던 배치를 당겨 메운다 (원래 붙어 있던 경우만)
+ *   3. 그렇게 모인 세밀 격자 빈칸에 배치되지 못한 작업을 마감 순으로 한 번 더 넣어 본다
+ *   배치 수와 날짜 수에 비례하는 한 번의 훑기라 솔버 시간은 격자 배율만큼 늘지 않는다.
+ * - 스케줄 수리는 남길 배치를 {@link #freeCells} 로 세밀 격자 칸에 점유해 본다 (15분 경계로 붙은 배치끼리 충돌로 보지 않음).
+ *
+ * 가용 시간 마스크는 30분 단위 그대로이므로 일정 경계의 15분 정밀도는 반영되지 않는다 (걸친 30분 칸은 통째로 바쁨).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotGridRefiner {
+
+    private final SlotGridProperties properties;
+
+    public SlotGrid gridFor(Long teamId) {
+        return properties.gridFor(teamId);
+    }
+
+    /**
+     * 기본 격자보다 거친 격자면 칸 전체가 빈 경우만 남긴 마스크를 새로 만든다 (그 외에는 입력 그대로)
+     */
+    public Map<Long, long[]> coarsen(Map<Long, long[]> availability, SlotGrid grid) {
+        if (grid.getMinutes() <= SlotGrid.BASE.getMinutes()) {
+            return availability;
+        }
+        int factor = SlotGrid.BASE.factor(grid);
+        long cell = (1L << factor) - 1;
+        Map<Long, long[]> coarse = new HashMap<>();
+        availability.forEach((userId, days) -> {
+            long[] masks = new long[days.length];
+            for (int d = 0; d < days.length; d++) {
+                for (int from = 0; from < AvailabilityMatrix.SLOTS_PER_DAY; from += factor) {
+                    long bits = cell << from;
+                    if ((days[d] & bits) == bits) {
+                        masks[d] |= bits;
+                    }
+                }
+            }
+            coarse.put(userId, masks);
+        });
+        return coarse;
+    }
+
+    /**
+     * 배치를 점유해 볼 빈칸. 팀 격자가 기본 격자보다 세밀하면 그 격자로, 아니면 기본 격자로 나눈다.
+     *
+     * @param availability 사용자별 날짜 가용 마스크 (rangeStart 기준, 30분 단위)
+     */
+    FreeCells freeCells(Map<Long, long[]> availability, LocalDate rangeStart, SlotGrid grid) {
+        return new FreeCells(availability, rangeStart,
+            grid.getMinutes() < SlotGrid.BASE.getMinutes() ? grid : SlotGrid.BASE);
+    }
+
+    /**
+     * 세밀한 격자 팀의 배치를 다듬는다. 기본 격자 이상이거나 refine 이 꺼져 있으면 그대로 반환한다.
+     * 입력 배치는 제자리에서 시각만 바뀌고, 새로 넣은 배치는 목록 끝에 붙는다.
+     *
+     * @param availability 배치 전 사용자별 날짜 가용 마스크 (rangeStart 기준, 30분 단위)
+     * @param tasks 배치 대상 작업 (배치되지 않은 작업을 다시 넣을 후보)
+     */
+    public List<Assignment> refine(
+            List<Assignment> assignments,
+            List<Task> tasks,
+            Map<Long, long[]> availability,
+            LocalDate rangeStart,
+            SlotGrid grid,
+            Schedule schedule) {
+
+        if (!properties.isRefine() || grid.getMinutes() >= SlotGrid.BASE.getMinutes()) {
+            return assignments;
+        }
+        long startedAt = System.nanoTime();
+        Map<Assignment, OffsetDateTime> coarseEnds = new HashMap<>();
+        assignments.forEach(a -> coarseEnds.put(a, a.getEndsAt()));
+
+        int trimmedMinutes = trim(assignments, grid);
+        int closedGaps = closeGaps(assignments, coarseEnds);
+
+        FreeCells free = new FreeCells(availability, rangeStart, grid);
+        for (Assignment assignment : assignments) {
+            Long userId = AssignmentMoves.userIdFromMeta(assignment);
+            if (userId != null) {
+                free.occupy(userId, assignment.getStartsAt(), assignment.getEndsAt());
+            }
+        }
+        List<Assignment> refined = new ArrayList<>(assignments);
+        List<Assignment> inserted = placeUnplaced(tasks, assignments, free, grid, schedule);
+        refined.addAll(inserted);
+
+        log.info("{} 격자 다듬기 완료: 줄인 시간={}분, 당긴 배치={}, 추가 배치={}, {}ms",
+            grid, trimmedMinutes, closedGaps, inserted.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return refined;
+    }
+
+    /**
+     * 작업별 배치 길이 합을 세밀 격자 올림 길이로 줄인다 (마지막 조각에서)
+     *
+     * @return 줄인 총 분
+     */
+    private static int trim(List<Assignment> assignments, SlotGrid grid) {
+        Map<Long, List<Assignment>> byTask = assignments.stream()
+            .filter(a -> a.getTask() != null && a.getSource() == AssignmentSource.TASK)
+            .collect(Collectors.groupingBy(a -> a.getTask().getId(), LinkedHashMap::new, Collectors.toList()));
+        int trimmed = 0;
+        for (List<Assignment> parts : byTask.values()) {
+            Task task = parts.get(0).getTask();
+            if (task.getDurationMin() == null) {
+                continue;
+            }
+            long placedMinutes = parts.stream().mapToLong(SlotGridRefiner::minutesOf).sum();
+            long excess = placedMinutes - grid.roundUp(task.getDurationMin());
+            Assignment last = parts.stream().max(Comparator.comparing(Assignment::getEndsAt)).get();
+            if (excess > 0 && minutesOf(last) > excess) {
+                last.setEndsAt(last.getEndsAt().minusMinutes(excess));
+                trimmed += (int) excess;
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * 줄이기 전에 바로 앞 배치와 붙어 있던 배치를 앞 배치의 새 끝으로 당긴다 (같은 담당자, 같은 날)
+     *
+     * @return 당긴 배치 수
+     */
+    private static int closeGaps(List<Assignment> assignments, Map<Assignment, OffsetDateTime> coarseEnds) {
+        Map<String, List<Assignment>> byUserDay = new HashMap<>();
+        for (Assignment assignment : assignments) {
+            Long userId = AssignmentMoves.userIdFromMeta(assignment);
+            if (userId != null) {
+                String key = userId + ":" + assignment.getStartsAt().withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
+                byUserDay.computeIfAbsent(key, k -> new ArrayList<>()).add(assignment);
+            }
+        }
+        int moved = 0;
+        for (List<Assignment> day : byUserDay.values()) {
+            day.sort(Comparator.comparing(Assignment::getStartsAt));
+            for (int i = 1; i < day.size(); i++) {
+                Assignment previous = day.get(i - 1);
+                Assignment current = day.get(i);
+                boolean wasAdjacent = !coarseEnds.get(previous).isBefore(current.getStartsAt());
+                long gap = Duration.between(previous.getEndsAt(), current.getStartsAt()).toMinutes();
+                if (wasAdjacent && gap > 0) {
+                    current.setStartsAt(current.getStartsAt().minusMinutes(gap));
+                    current.setEndsAt(current.getEndsAt().minusMinutes(gap));
+                    current.setSlotIndex(SlotGrid.BASE.indexOf(current.getStartsAt()));
+                    moved++;
+                }
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * 배치되지 않은 작업을 세밀 격자 빈칸에 통째로 넣는다 (마감 빠른 순, 담당자가 있으면 담당자만, 가장 이른 자리)
+     */
+    private static List<Assignment> placeUnplaced(
+            List<Task> tasks, List<Assignment> assignments, FreeCells free, SlotGrid grid, Schedule schedule) {
+
+        Set<Long> placedTaskIds = new HashSet<>();
+        assignments.stream().filter(a -> a.getTask() != null).forEach(a -> placedTaskIds.add(a.getTask().getId()));
+        List<Task> unplaced = tasks.stream()
+            .filter(t -> !placedTaskIds.contains(t.getId()))
+            .filter(t -> t.getDurationMin() != null && t.getDurationMin() > 0 && t.getDueAt() != null)
+            .sorted(Comparator.comparing(Task::getDueAt).thenComparing(Task::getPriority))
+            .collect(Collectors.toList());
+
+        List<Assignment> inserted = new ArrayList<>();
+        for (Task task : unplaced) {
+            int cells = grid.slotsFor(task.getDurationMin());
+            List<Long> candidates = task.getAssignee() != null
+                ? List.of(task.getAssignee().getId())
+                : free.userIds();
+            OffsetDateTime bestStart = null;
+            Long bestUser = null;
+            for (Long userId : candidates) {
+                OffsetDateTime start = free.earliestRun(userId, cells, task.getDueAt());
+                if (start != null && (bestStart == null || start.isBefore(bestStart))) {
+                    bestStart = start;
+                    bestUser = userId;
+                }
+            }
+            if (bestStart == null) {
+                continue;
+            }
+            OffsetDateTime endsAt = bestStart.plusMinutes((long) cells * grid.getMinutes());
+            free.occupy(bestUser, bestStart, endsAt);
+
+            Assignment assignment = new Assignment();
+            assignment.setSchedule(schedule);
+            assignment.setTask(task);
+            assignment.setTitle(task.getTitle());
+            assignment.setStartsAt(bestStart);
+            assignment.setEndsAt(endsAt);
+            assignment.setSource(AssignmentSource.TASK);
+            assignment.setSlotIndex(SlotGrid.BASE.indexOf(bestStart));
+            assignment.setMeta(String.format("{\"slots\":%d,\"split\":false,\"userId\":%d,\"splitIndex\":0}",
+                SlotGrid.BASE.slotsFor(task.getDurationMin()), bestUser));
+            inserted.add(assignment);
+        }
+        return inserted;
+    }
+
+    private static long minutesOf(Assignment assignment) {
+        return Duration.between(assignment.getStartsAt(), assignment.getEndsAt()).toMinutes();
+    }
+
+    /**
+     * 사용자 x 날짜별 세밀 격자 빈칸 (30분 마스크의 칸을 factor 개로 쪼갬)
+     */
+    static final class FreeCells {
+        private final LocalDate rangeStart;
+        private final SlotGrid grid;
+        private final Map<Long, BitSet[]> cells = new TreeMap<>();
+
+        FreeCells(Map<Long, long[]> availability, LocalDate rangeStart, SlotGrid grid) {
+            this.rangeStart = rangeStart;
+            this.grid = grid;
+            int factor = grid.factor(SlotGrid.BASE);
+            availability.forEach((userId, days) -> {
+                BitSet[] byDay = new BitSet[days.length];
+                for (int d = 0; d < days.length; d++) {
+                    BitSet day = new BitSet(grid.getSlotsPerDay());
+                    long mask = days[d];
+                    for (int slot = Long.numberOfTrailingZeros(mask); slot < 64; slot = Long.numberOfTrailingZeros(mask)) {
+                        day.set(slot * factor, (slot + 1) * factor);
+                        mask &= mask - 1;
+                    }
+                    byDay[d] = day;
+                }
+                cells.put(userId, byDay);
+            });
+        }
+
+        List<Long> userIds() {
+            return new ArrayList<>(cells.keySet());
+        }
+
+        void occupy(Long userId, OffsetDateTime startsAt, OffsetDateTime endsAt) {
+            BitSet[] byDay = cells.get(userId);
+            OffsetDateTime start = startsAt.withOffsetSameInstant(ZoneOffset.UTC);
+            int day = (int) ChronoUnit.DAYS.between(rangeStart, start.toLocalDate());
+            if (byDay == null || day < 0 || day >= byDay.length) {
+                return;
+            }
+            int from = grid.indexOf(start);
+            int to = from + grid.slotsFor(Duration.between(startsAt, endsAt).toMinutes());
+            byDay[day].clear(from, Math.min(to, grid.getSlotsPerDay()));
+        }
+
+        /**
+         * 배치가 덮는 칸이 모두 비어 있으면 점유하고 true. 범위 밖이거나 하루를 넘기거나 이미 찬 칸이 있으면 false (그대로 둠)
+         */
+        boolean tryOccupy(Long userId, OffsetDateTime startsAt, OffsetDateTime endsAt) {
+            BitSet[] byDay = cells.get(userId);
+            OffsetDateTime start = startsAt.withOffsetSameInstant(ZoneOffset.UTC);
+            int day = (int) ChronoUnit.DAYS.between(rangeStart, start.toLocalDate());
+            if (byDay == null || day < 0 || day >= byDay.length) {
+                return false;
+            }
+            OffsetDateTime dayStart = start.toLocalDate().atStartOfDay().atOffset(ZoneOffset.UTC);
+            int from = grid.indexOf(start);
+            int to = grid.slotsFor(Duration.between(dayStart, endsAt).toMinutes());
+            if (to > grid.getSlotsPerDay() || byDay[day].nextClearBit(from) < to) {
+                return false;
+            }
+            byDay[day].clear(from, to);
+            return true;
+        }
+
+        /**
+         * 30분 가용 마스크로 되돌린다 (30분 칸 안의 세밀 칸이 모두 빈 경우만 빈 칸)
+         */
+        Map<Long, long[]> toBaseMasks() {
+            int factor = grid.factor(SlotGrid.BASE);
+            Map<Long, long[]> masks = new HashMap<>();
+            cells.forEach((userId, byDay) -> {
+                long[] days = new long[byDay.length];
+                for (int d = 0; d < byDay.length; d++) {
+                    for (int slot = 0; slot < AvailabilityMatrix.SLOTS_PER_DAY; slot++) {
+                        if (byDay[d].nextClearBit(slot * factor) >= (slot + 1) * factor) {
+                            days[d] |= 1L << slot;
+                        }
+                    }
+                }
+                masks.put(userId, days);
+            });
+            return masks;
+        }
+
+        /**
+         * 마감 전에 끝나는 연속 빈칸 중 가장 이른 시작 시각 (없으면 null)
+         */
+        OffsetDateTime earliestRun(Long userId, int length, OffsetDateTime dueAt) {
+            BitSet[] byDay = cells.get(userId);
+            if (byDay == null) {
+                return null;
+            }
+            for (int d = 0; d < byDay.length; d++) {
+                LocalDate date = rangeStart.plusDays(d);
+                BitSet day = byDay[d];
+                int from = day.nextSetBit(0);
+                while (from >= 0) {
+                    int to = day.nextClearBit(from);
+                    if (to - from >= length) {
+                        OffsetDateTime startsAt = grid.startTime(date, from);
+                        if (!startsAt.plusMinutes((long) length * grid.getMinutes()).isBefore(dueAt)) {
+                            return null;
+                        }
+                        return startsAt;
+                    }
+                    from = day.nextSetBit(to);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.SlotLockProperties;
+import com.example.sbb.domain.SlotLease;
+import com.example.sbb.util.HierarchicalTimingWheel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 인스턴스가 발급/갱신한 슬롯 리스의 만료 시각을 계층형 타이밍 휠로 추적한다.
+ *
+ * 키마다 가장 최근에 등록한 리스만 유효하며, 갱신/해제로 대체된 휠 항목은 만료 시점에 버려진다.
+ * 여기서 돌려주는 리스는 "만료되었을 수 있는" 후보일 뿐이므로, 실제 만료 여부는
+ * {@link SlotLockService#expireLease(SlotLease)} 가 저장소에서 다시 확인한다.
+ */
+@Component
+public class SlotLeaseExpiryTracker {
+
+    private final Map<String, SlotLease> tracked = new ConcurrentHashMap<>();
+    private final HierarchicalTimingWheel<SlotLease> wheel;
+
+    public SlotLeaseExpiryTracker(SlotLockProperties properties) {
+        this.wheel = new HierarchicalTimingWheel<>(
+                Math.max(1, properties.getExpiryTickMs()),
+                properties.getExpiryWheelSize(),
+                properties.getExpiryWheelLevels(),
+                System.currentTimeMillis());
+    }
+
+    public void track(SlotLease lease) {
+        tracked.put(lease.slotKey(), lease);
+        synchronized (wheel) {
+            wheel.add(lease, lease.expiresAt().toInstant().toEpochMilli());
+        }
+    }
+
+    public void untrack(String slotKey) {
+        tracked.remove(slotKey);
+    }
+
+    /**
+     * nowMs 까지 휠을 진행시키고, 대체되지 않은 채 만료 시각이 된 리스를 돌려준다.
+     */
+    public List<SlotLease> pollExpired(long nowMs) {
+        List<SlotLease> candidates = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(nowMs, candidates::add);
+        }
+        List<SlotLease> expired = new ArrayList<>(candidates.size());
+        for (SlotLease lease : candidates) {
+            // 마지막으로 등록한 리스와 같을 때만 제거 (그 사이 갱신되었으면 새 항목이 남는다)
+            if (tracked.remove(lease.slotKey(), lease)) {
+                expired.add(lease);
+            }
+        }
+        return expired;
+    }
+
+    public int trackedCount() {
+        return tracked.size();
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.SlotLockProperties;
+import com.example.sbb.domain.SlotLease;
+import com.example.sbb.repository.SlotLockRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인메모리 슬롯 리스 관리자 (slot-lock.mode=MEMORY).
+ *
+ * 획득/갱신/해제는 스트라이프 락으로 보호되는 메모리 맵에서만 처리해 DB 왕복 없이 끝나고,
+ * 변경된 키는 write-behind 로 주기적으로 slot_lock 에 모아서 반영한다.
+ * 재시작 시에는 slot_lock 의 활성 리스를 다시 읽어 복구한다.
+ *
+ * 펜싱 토큰은 slot_lock_fencing_seq 에서 블록 단위로 미리 예약해 두고 메모리에서 나눠 주므로,
+ * 재시작 후에도 이전에 발급한 토큰보다 작은 값이 나오지 않는다.
+ * 리스의 원본이 이 프로세스 메모리이므로 MEMORY 모드는 단일 인스턴스 배포 전용이다.
+ */
+@Slf4j
+@Component
+public class SlotLeaseManager implements SlotLockStore {
+
+    private final SlotLockRepository slotLockRepository;
+    private final SlotLockProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, SlotLease> leases = new ConcurrentHashMap<>();
+    private final Set<String> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock[] stripes;
+    private final int stripeMask;
+
+    // 예약된 펜싱 토큰 구간 [nextToken, tokenLimit]
+    // 블록 예약이 DB 를 타므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어에 고정되지 않도록)
+    private final ReentrantLock tokenLock = new ReentrantLock();
+    private long nextToken = 1;
+    private long tokenLimit = 0;
+
+    public SlotLeaseManager(SlotLockRepository slotLockRepository,
+                            SlotLockProperties properties,
+                            PlatformTransactionManager transactionManager) {
+        this.slotLockRepository = slotLockRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, properties.getStripes() - 1)) << 1;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    @Override
+    public OptionalLong tryAcquire(String slotKey, Long userId, Duration ttl) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        ReentrantLock stripe = stripeFor(slotKey);
+        stripe.lock();
+        try {
+            SlotLease current = leases.get(slotKey);
+            long token;
+            if (current != null && !current.isExpired(now)) {
+                if (!current.isOwnedBy(userId)) {
+                    return OptionalLong.empty();
+                }
+                token = current.fencingToken(); // 내 락 재진입은 토큰 유지
+            } else {
+                token = nextFencingToken(); // 비어 있거나 만료 → 새 소유자
+            }
+            leases.put(slotKey, new SlotLease(slotKey, userId, now.plus(ttl), token));
+            dirtyKeys.add(slotKey);
+            return OptionalLong.of(token);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public boolean renewLock(String slotKey, Long userId, Duration ttl) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        ReentrantLock stripe = stripeFor(slotKey);
+        stripe.lock();
+        try {
+            SlotLease current = leases.get(slotKey);
+            if (current == null || !current.isOwnedBy(userId)) {
+                return false;
+            }
+            leases.put(slotKey, new SlotLease(slotKey, userId, now.plus(ttl), current.fencingToken()));
+            dirtyKeys.add(slotKey);
+            return true;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public boolean releaseLock(String slotKey, Long userId) {
+        ReentrantLock stripe = stripeFor(slotKey);
+        stripe.lock();
+        try {
+            SlotLease current = leases.get(slotKey);
+            if (current == null || !current.isOwnedBy(userId)) {
+                return false;
+            }
+            leases.remove(slotKey);
+            dirtyKeys.add(slotKey);
+            return true;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public Set<String> renewLocks(Collection<String> slotKeys, Long userId, Duration ttl) {
+        Set<String> renewed = new HashSet<>();
+        for (String slotKey : slotKeys) {
+            if (renewLock(slotKey, userId, ttl)) {
+                renewed.add(slotKey);
+            }
+        }
+        return renewed;
+    }
+
+    @Override
+    public Set<String> releaseLocks(Collection<String> slotKeys, Long userId) {
+        Set<String> released = new HashSet<>();
+        for (String slotKey : slotKeys) {
+            if (releaseLock(slotKey, userId)) {
+                released.add(slotKey);
+            }
+        }
+        return released;
+    }
+
+    @Override
+    public int cleanExpiredLocks() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        int removed = 0;
+        for (SlotLease lease : leases.values()) {
+            if (!lease.isExpired(now)) {
+                continue;
+            }
+            ReentrantLock stripe = stripeFor(lease.slotKey());
+            stripe.lock();
+            try {
+                // 스트라이프 락을 잡은 뒤 다시 확인 (그 사이 갱신/재획득되었을 수 있음)
+                SlotLease current = leases.get(lease.slotKey());
+                if (current != null && current.isExpired(now)) {
+                    leases.remove(lease.slotKey());
+                    dirtyKeys.add(lease.slotKey());
+                    removed++;
+                }
+            } finally {
+                stripe.unlock();
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean expireLease(String slotKey) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        ReentrantLock stripe = stripeFor(slotKey);
+        stripe.lock();
+        try {
+            SlotLease current = leases.get(slotKey);
+            if (current == null || !current.isExpired(now)) {
+                return false;
+            }
+            leases.remove(slotKey);
+            dirtyKeys.add(slotKey);
+            return true;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public List<SlotLease> findActiveLeases() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        return leases.values().stream()
+                .filter(lease -> !lease.isExpired(now))
+                .toList();
+    }
+
+    @Override
+    public Optional<SlotLease> findLease(String slotKey) {
+        return Optional.ofNullable(leases.get(slotKey));
+    }
+
+    /**
+     * 변경된 리스를 slot_lock 에 반영한다. 같은 키의 여러 변경은 마지막 상태 한 번으로 합쳐진다.
+     */
+    @Scheduled(fixedDelayString = "${slot-lock.write-behind-interval-ms:500}")
+    public void flush() {
+        if (!properties.isMemoryMode()) {
+            return;
+        }
+        // 획득 경로에서 DB 를 기다리지 않도록 토큰 블록을 미리 채워 둔다.
+        refillTokensIfLow();
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (Iterator<String> it = dirtyKeys.iterator(); it.hasNext(); ) {
+            keys.add(it.next());
+            it.remove();
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (String key : keys) {
+                    SlotLease lease = leases.get(key);
+                    if (lease != null && !lease.isExpired(now)) {
+                        slotLockRepository.upsertLease(key, lease.userId(), lease.expiresAt(), lease.fencingToken());
+                    } else {
+                        slotLockRepository.deleteBySlotKey(key);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            dirtyKeys.addAll(keys);
+            log.warn("슬롯 리스 write-behind 실패: keys={}", keys.size(), e);
+        }
+    }
+
+    /**
+     * 재시작 시 slot_lock 의 활성 리스를 메모리로 복구한다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!properties.isMemoryMode()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<SlotLease> active = transactionTemplate.execute(status -> slotLockRepository.findActiveLeases(now));
+        if (active != null) {
+            active.forEach(lease -> leases.put(lease.slotKey(), lease));
+        }
+        reserveTokenBlock();
+        log.info("인메모리 슬롯 리스 복구 완료: {}건", leases.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private long nextFencingToken() {
+        tokenLock.lock();
+        try {
+            if (nextToken > tokenLimit) {
+                reserveTokenBlock();
+            }
+            return nextToken++;
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    private void refillTokensIfLow() {
+        tokenLock.lock();
+        try {
+            if (tokenLimit - nextToken < properties.getFencingTokenBlockSize() / 4) {
+                reserveTokenBlock();
+            }
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    /**
+     * 시퀀스에서 새 블록을 예약하고 남은 구간은 버린다 (시퀀스가 단조 증가하므로 토큰 순서는 유지된다).
+     */
+    private void reserveTokenBlock() {
+        tokenLock.lock();
+        try {
+            int blockSize = Math.max(1, properties.getFencingTokenBlockSize());
+            Long upper = transactionTemplate.execute(status -> slotLockRepository.reserveFencingTokens(blockSize));
+            if (upper == null) {
+                throw new IllegalStateException("Failed to reserve fencing tokens");
+            }
+            nextToken = upper - blockSize + 1;
+            tokenLimit = upper;
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(String slotKey) {
+        int h = slotKey.hashCode();
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+}
@@ -1,41 +1,75 @@
 package com.example.sbb.service;
 
-import java.time.Duration;
+import com.example.sbb.domain.SlotLease;
+import com.example.sbb.dto.event.SlotLockEventMessage;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 // 슬롯 락 유지 관리 작업 클래스
+// - 타이밍 휠 틱마다 만료 시각이 된 리스를 정리하고 팀 토픽으로 해제 이벤트를 보낸다.
+// - 주기적 정리는 휠이 모르는 리스(다른 인스턴스 장애 등)를 위한 안전망이며,
+//   SKIP LOCKED 청크 삭제라 여러 인스턴스가 동시에 돌아도 되므로 별도의 작업 락을 잡지 않는다.
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SlotLockMaintenanceJob {
 
-    // 슬롯 락 유지 관리 작업 슬롯 키
-    private static final String JOB_SLOT_KEY = "job:slot-lock:cleanup";
-    // 슬롯 락 유지 관리 작업 슬롯 TTL
-    private static final Duration JOB_TTL = Duration.ofMinutes(1);
+    // 슬롯 키에서 팀 ID 추출 (예: "work-hours:team:3", "calendar:event:create:team:3:window:...")
+    private static final Pattern TEAM_IN_SLOT_KEY = Pattern.compile("(?:^|:)team:(\\d+)(?::|$)");
 
     // 슬롯 락 서비스
     private final SlotLockService slotLockService;
+    // 만료 추적기
+    private final SlotLeaseExpiryTracker expiryTracker;
+    // 협업 이벤트 발행기
+    private final CollaborationEventPublisher eventPublisher;
 
-    // 슬롯 락 유지 관리 작업 슬롯 키 조회
+    // 만료 시각이 된 리스 정리 + 해제 이벤트 발행
+    @Scheduled(fixedRateString = "${slot-lock.expiry-tick-ms:1000}")
+    public void expireDueLeases() {
+        List<SlotLease> due = expiryTracker.pollExpired(System.currentTimeMillis());
+        for (SlotLease lease : due) {
+            try {
+                if (slotLockService.expireLease(lease)) {
+                    publishExpired(lease);
+                }
+            } catch (RuntimeException e) {
+                // 삭제하지 못한 리스는 주기적 정리 작업이 처리한다
+                log.warn("슬롯 리스 만료 처리 실패: slotKey={}", lease.slotKey(), e);
+            }
+        }
+    }
+
+    // 만료된 슬롯 락 일괄 정리 (청크 단위)
     @Scheduled(fixedDelayString = "${slot-lock.cleanup-interval-ms:60000}")
     public void cleanExpiredLocksSafely() {
-        // 슬롯 락 유지 관리 작업 슬롯 키 시도
-        if (!slotLockService.tryLock(JOB_SLOT_KEY, null, JOB_TTL)) {
-            return;
+        int deleted = slotLockService.cleanExpiredLocks();
+        if (deleted > 0) {
+            log.debug("Slot lock cleanup removed {} entries", deleted);
+        }
+    }
+
+    private void publishExpired(SlotLease lease) {
+        Long teamId = teamIdOf(lease.slotKey());
+        if (teamId != null) {
+            eventPublisher.publishLockEvent(SlotLockEventMessage.expired(teamId, lease.slotKey(), lease.userId()));
+        }
+    }
+
+    static Long teamIdOf(String slotKey) {
+        Matcher matcher = TEAM_IN_SLOT_KEY.matcher(slotKey);
+        if (!matcher.find()) {
+            return null;
         }
-        // 슬롯 락 유지 관리 작업 슬롯 키 시도
         try {
-            // 슬롯 락 유지 관리 작업 슬롯 키 삭제
-            int deleted = slotLockService.cleanExpiredLocks();
-            log.debug("Slot lock cleanup removed {} entries", deleted);
-        } finally {
-            // 슬롯 락 유지 관리 작업 슬롯 키 해제
-            slotLockService.releaseLock(JOB_SLOT_KEY, null);
+            return Long.parseLong(matcher.group(1));
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 }
-
@@ -1,105 +1,155 @@
 package com.example.sbb.service;
 
-import com.example.sbb.domain.SlotLock;
-import com.example.sbb.domain.User;
-import com.example.sbb.repository.SlotLockRepository;
-import com.example.sbb.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
+import com.example.sbb.config.SlotLockProperties;
+import com.example.sbb.domain.SlotLease;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.Objects;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 // 슬롯 락 서비스 클래스
+// slot-lock.mode 에 따라 DB 저장소 또는 인메모리 리스 관리자로 위임한다.
+// 인메모리 모드에서는 트랜잭션/커넥션 없이 처리되도록 이 클래스에는 @Transactional 을 두지 않는다.
+// 획득/갱신한 리스는 SlotLeaseExpiryTracker 에 등록해 만료 즉시 정리/알림할 수 있게 한다.
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SlotLockService {
 
-    private final SlotLockRepository slotLockRepository;
-    private final UserRepository userRepository;
+    private final DatabaseSlotLockStore databaseSlotLockStore;
+    private final SlotLeaseManager slotLeaseManager;
+    private final SlotLockProperties properties;
+    private final SlotLeaseExpiryTracker expiryTracker;
 
     // 슬롯 락 시도
-    @Transactional
     public boolean tryLock(String slotKey, Long userId, Duration ttl) {
-        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
-        OffsetDateTime expiresAt = now.plus(ttl);
-        User userRef = userId != null ? getUserReference(userId) : null;
-
-        // 슬롯 락 조회
-        Optional<SlotLock> existingLock = slotLockRepository.findBySlotKeyForUpdate(slotKey);
-        // 슬롯 락이 없으면 새로 생성
-        if (existingLock.isEmpty()) {
-            SlotLock newLock = new SlotLock();
-            newLock.setSlotKey(slotKey);
-            newLock.setUser(userRef); // 사용자 참조 설정
-            newLock.setExpiresAt(expiresAt); // 만료 시간 설정
-            slotLockRepository.save(newLock); // 슬롯 락 저장
-            return true;
-        }
-        // 슬롯 락이 있으면 소유자 확인
-        SlotLock lock = existingLock.get(); // 슬롯 락 가져오기
-        Long currentOwnerId = lock.getUser() != null ? lock.getUser().getId() : null;
-
-        // 내 락이면 TTL 갱신신
-        if (Objects.equals(currentOwnerId, userId)) {
-            lock.setExpiresAt(expiresAt);
-            return true;
-        }
+        return tryAcquire(slotKey, userId, ttl).isPresent();
+    }
 
-        // 슬롯 락이 만료되었으면 소유자 변경(내 락이 아니면 소유자 변경)
-        if (!lock.getExpiresAt().isAfter(now)) {
-            lock.setUser(userRef); // 사용자 참조 설정
-            lock.setExpiresAt(expiresAt); // 만료 시간 설정
-            slotLockRepository.save(lock); // 슬롯 락 저장
-            return true;
+    // 슬롯 락 시도 (성공 시 펜싱 토큰 반환)
+    public OptionalLong tryAcquire(String slotKey, Long userId, Duration ttl) {
+        OptionalLong token = store().tryAcquire(slotKey, userId, ttl);
+        if (token.isPresent()) {
+            expiryTracker.track(new SlotLease(slotKey, userId, expiresAt(ttl), token.getAsLong()));
         }
-        // 슬롯 락이 있고 소유자가 다르면 실패
-        return false;
+        return token;
     }
 
     // 슬롯 락 갱신
-    @Transactional
     public boolean renewLock(String slotKey, Long userId, Duration ttl) {
-        // 현재 시간 가져오기
-        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
-        OffsetDateTime expiresAt = now.plus(ttl);
-        // 슬롯 락 조회
-        return slotLockRepository.findBySlotKeyForUpdate(slotKey)
-                .filter(lock -> Objects.equals(lock.getUser() != null ? lock.getUser().getId() : null, userId))
-                .map(lock -> {
-                    lock.setExpiresAt(expiresAt);
-                    return true;
-                })
-                .orElse(false);
+        boolean renewed = store().renewLock(slotKey, userId, ttl);
+        if (renewed) {
+            expiryTracker.track(new SlotLease(slotKey, userId, expiresAt(ttl), null));
+        }
+        return renewed;
     }
 
     // 슬롯 락 해제
-    @Transactional
     public boolean releaseLock(String slotKey, Long userId) {
-        return slotLockRepository.deleteBySlotKeyAndUserId(slotKey, userId) > 0;
+        boolean released = store().releaseLock(slotKey, userId);
+        if (released) {
+            expiryTracker.untrack(slotKey);
+        }
+        return released;
+    }
+
+    // 여러 슬롯 락 일괄 갱신 (실제로 연장된 키만 반환)
+    public Set<String> renewLocks(Collection<String> slotKeys, Long userId, Duration ttl) {
+        Set<String> keys = distinctKeys(slotKeys);
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> renewed = store().renewLocks(keys, userId, ttl);
+        OffsetDateTime expiresAt = expiresAt(ttl);
+        renewed.forEach(slotKey -> expiryTracker.track(new SlotLease(slotKey, userId, expiresAt, null)));
+        return renewed;
+    }
+
+    // 여러 슬롯 락 일괄 해제 (실제로 해제된 키만 반환)
+    public Set<String> releaseLocks(Collection<String> slotKeys, Long userId) {
+        Set<String> keys = distinctKeys(slotKeys);
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> released = store().releaseLocks(keys, userId);
+        released.forEach(expiryTracker::untrack);
+        return released;
+    }
+
+    /**
+     * 타이밍 휠에서 만료 시각이 된 리스를 저장소에서 다시 확인해 정리한다.
+     * 실제로 만료되어 삭제했으면 true. 다른 인스턴스에서 갱신된 리스는 현재 만료 시각으로 다시 추적한다.
+     */
+    public boolean expireLease(SlotLease due) {
+        if (store().expireLease(due.slotKey())) {
+            return true;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        store().findLease(due.slotKey())
+                .filter(lease -> !lease.isExpired(now))
+                .ifPresent(expiryTracker::track);
+        return false;
+    }
+
+    // 재시작 시 남아 있는 활성 리스를 만료 추적 대상으로 등록 (MEMORY 모드 복구 이후 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void trackActiveLeases() {
+        try {
+            store().findActiveLeases().forEach(expiryTracker::track);
+        } catch (RuntimeException e) {
+            // 추적하지 못한 리스는 주기적 정리 작업이 삭제한다
+            log.warn("활성 슬롯 리스 만료 추적 등록 실패", e);
+        }
     }
 
     // 만료된 슬롯 락 삭제
-    @Transactional
     public int cleanExpiredLocks() {
-        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
-        return slotLockRepository.deleteExpired(now);
+        return store().cleanExpiredLocks();
     }
 
     // 슬롯 락 조회
-    @Transactional(readOnly = true)
-    public Optional<SlotLock> findLock(String slotKey) {
-        return slotLockRepository.findById(slotKey);
+    public Optional<SlotLease> findLock(String slotKey) {
+        return store().findLease(slotKey);
     }
 
-    // 사용자 참조 가져오기
-    private User getUserReference(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found: " + userId));
+    // 클라이언트가 요청한 리스 TTL 을 허용 범위로 맞춘다 (없으면 최대값)
+    public Duration leaseTtl(Long ttlSeconds) {
+        long max = properties.getMaxLeaseTtlSeconds();
+        if (ttlSeconds == null || ttlSeconds <= 0 || ttlSeconds > max) {
+            return Duration.ofSeconds(max);
+        }
+        return Duration.ofSeconds(ttlSeconds);
+    }
+
+    private OffsetDateTime expiresAt(Duration ttl) {
+        return OffsetDateTime.now(ZoneOffset.UTC).plus(ttl);
     }
-}
 
+    private Set<String> distinctKeys(Collection<String> slotKeys) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (slotKeys != null) {
+            for (String slotKey : slotKeys) {
+                if (slotKey != null && !slotKey.isBlank()) {
+                    keys.add(slotKey);
+                }
+            }
+        }
+        if (keys.size() > properties.getMaxBatchKeys()) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 슬롯 키는 최대 " + properties.getMaxBatchKeys() + "개입니다.");
+        }
+        return keys;
+    }
+
+    private SlotLockStore store() {
+        return properties.isMemoryMode() ? slotLeaseManager : databaseSlotLockStore;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.SlotLease;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 슬롯 락 저장소 계약. DB 모드({@link DatabaseSlotLockStore})와
+ * 인메모리 리스 모드({@link SlotLeaseManager})가 같은 의미를 보장한다.
+ * - 비어 있거나 만료된 락, 또는 내 락이면 획득 성공
+ * - 새 소유자가 생길 때만 펜싱 토큰이 증가하고, 내 락 재진입은 토큰을 유지
+ * - 일괄 갱신/해제는 요청한 키 중 내 락인 키만 처리하고 처리된 키를 반환
+ */
+public interface SlotLockStore {
+
+    OptionalLong tryAcquire(String slotKey, Long userId, Duration ttl);
+
+    boolean renewLock(String slotKey, Long userId, Duration ttl);
+
+    boolean releaseLock(String slotKey, Long userId);
+
+    Set<String> renewLocks(Collection<String> slotKeys, Long userId, Duration ttl);
+
+    Set<String> releaseLocks(Collection<String> slotKeys, Long userId);
+
+    int cleanExpiredLocks();
+
+    /**
+     * 리스가 지금도 만료 상태이면 삭제하고 true. 갱신/재획득되었거나 이미 없으면 false.
+     */
+    boolean expireLease(String slotKey);
+
+    List<SlotLease> findActiveLeases();
+
+    Optional<SlotLease> findLease(String slotKey);
+}
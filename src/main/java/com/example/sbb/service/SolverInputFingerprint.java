@@ -0,0 +1,142 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 솔버 입력 지문.
+ * 배치 결과에 영향을 주는 값만 SHA-256 으로 묶는다: 범위, 로컬서치 전략, 슬롯 단위, 작업(id, 소요 시간, 마감, 우선순위, 분할 여부, 담당자),
+ * 사용자별 날짜 가용 마스크(근무시간과 일정 시간이 모두 반영된 FreeBusyCache 결과).
+ * 작업 제목, 태그처럼 배치와 무관한 변경은 지문이 바뀌지 않으므로 다시 풀지 않고 기존 결과를 재사용한다.
+ *
+ * 재사용 여부는 scheduling.fingerprint.lookups{result=hit|miss} 카운터와 scheduling.fingerprint.hit.ratio 게이지로 노출한다.
+ */
+@Component
+public class SolverInputFingerprint {
+
+    /**
+     * 지문에 넣는 필드가 바뀌면 올린다 (이전 지문과 절대 일치하지 않게)
+     */
+    private static final int VERSION = 2;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong lookupCount = new AtomicLong();
+
+    public SolverInputFingerprint(MeterRegistry registry) {
+        this.hits = Counter.builder("scheduling.fingerprint.lookups")
+            .description("입력 지문 비교 횟수 (hit: 기존 스케줄 재사용)")
+            .tag("result", "hit")
+            .register(registry);
+        this.misses = Counter.builder("scheduling.fingerprint.lookups")
+            .description("입력 지문 비교 횟수 (hit: 기존 스케줄 재사용)")
+            .tag("result", "miss")
+            .register(registry);
+        Gauge.builder("scheduling.fingerprint.hit.ratio", this, SolverInputFingerprint::hitRatio)
+            .description("입력 지문 재사용 비율")
+            .register(registry);
+    }
+
+    /**
+     * 기존 지문과 비교하고 결과를 지표에 기록한다
+     *
+     * @return 같으면 true (기존 결과 재사용)
+     */
+    public boolean matches(String previous, String current) {
+        boolean hit = previous != null && previous.equals(current);
+        (hit ? hits : misses).increment();
+        lookupCount.incrementAndGet();
+        if (hit) {
+            hitCount.incrementAndGet();
+        }
+        return hit;
+    }
+
+    double hitRatio() {
+        long lookups = lookupCount.get();
+        return lookups == 0 ? 0.0 : (double) hitCount.get() / lookups;
+    }
+
+    /**
+     * 입력 지문 (hex 64자). 작업 순서와 맵 순서에는 영향받지 않는다.
+     *
+     * @param availability 사용자별 날짜 가용 마스크 (rangeStart 기준)
+     * @param metaheuristic 로컬서치 전략 (nullable)
+     * @param grid 팀 슬롯 단위
+     */
+    public static String compute(
+            LocalDate rangeStart,
+            LocalDate rangeEnd,
+            List<Task> tasks,
+            Map<Long, long[]> availability,
+            String metaheuristic,
+            SlotGrid grid) {
+
+        MessageDigest digest = sha256();
+        try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            out.writeInt(VERSION);
+            out.writeLong(rangeStart.toEpochDay());
+            out.writeLong(rangeEnd.toEpochDay());
+            out.writeUTF(metaheuristic != null ? metaheuristic : "");
+            out.writeInt(grid.getMinutes());
+
+            List<Task> sorted = tasks.stream()
+                .sorted(Comparator.comparing(Task::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+            out.writeInt(sorted.size());
+            for (Task task : sorted) {
+                out.writeLong(orMinus(task.getId()));
+                out.writeInt(task.getDurationMin() != null ? task.getDurationMin() : -1);
+                out.writeLong(task.getDueAt() != null ? task.getDueAt().toEpochSecond() : Long.MIN_VALUE);
+                out.writeInt(task.getPriority() != null ? task.getPriority() : -1);
+                out.writeBoolean(task.isSplittable());
+                out.writeLong(task.getAssignee() != null ? orMinus(task.getAssignee().getId()) : -1L);
+            }
+
+            Map<Long, long[]> byUser = new TreeMap<>(availability);
+            out.writeInt(byUser.size());
+            for (Map.Entry<Long, long[]> entry : byUser.entrySet()) {
+                out.writeLong(entry.getKey());
+                long[] days = entry.getValue();
+                out.writeInt(days.length);
+                for (long mask : days) {
+                    out.writeLong(mask);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static long orMinus(Long value) {
+        return value != null ? value : -1L;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.EjectionChainProperties;
+import com.example.sbb.config.LocalSearchProperties;
+import com.example.sbb.config.RollingHorizonProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.CalendarEvent;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.domain.User;
+import com.example.sbb.domain.WorkHour;
+import com.example.sbb.dto.SolverSnapshot;
+import com.example.sbb.util.SolverSnapshotCodec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스냅샷을 운영의 동기 생성 경로와 같은 단계로 다시 돌린다 (저장 없음).
+ * TimeSlotGenerator -> FeasibilityAnalyzer -> (AssigneePlanner, GreedyScheduler, EjectionChainInserter 또는 RollingHorizonScheduler)
+ * -> ScoreCalculator -> LocalSearchOptimizer 순서이며, 단계별 시간과 점수를 보고한다.
+ *
+ * 마감 임박 판단은 캡처 시각으로, 로컬서치 난수는 스냅샷 시드로 고정하므로 같은 스냅샷은 같은 결과를 낸다
+ * (ejection chain 시간 예산을 넘기는 큰 입력만 예외).
+ *
+ * 실행: java -cp build/classes/java/main:<runtime classpath> com.example.sbb.service.SolverReplay a.json.gz [b.json.gz ...]
+ */
+public final class SolverReplay {
+
+    private final TimeSlotGenerator timeSlotGenerator = new TimeSlotGenerator();
+    private final FeasibilityAnalyzer feasibilityAnalyzer = new FeasibilityAnalyzer();
+    private final AssigneePlanner assigneePlanner = new AssigneePlanner();
+    private final GreedyScheduler greedyScheduler = new GreedyScheduler(null, null, null);
+    private final EjectionChainInserter ejectionChainInserter =
+        new EjectionChainInserter(greedyScheduler, new EjectionChainProperties());
+    private final RollingHorizonScheduler rollingHorizonScheduler = new RollingHorizonScheduler(
+        assigneePlanner, greedyScheduler, ejectionChainInserter, new RollingHorizonProperties());
+    private final ScoreCalculator scoreCalculator = new ScoreCalculator();
+    private final LocalSearchOptimizer localSearchOptimizer = new LocalSearchOptimizer(
+        scoreCalculator, null,
+        List.of(new SimulatedAnnealing(), new TabuSearch(), new LateAcceptanceHillClimbing()),
+        List.of(new SwapMoveSelector(), new RelocateMoveSelector(), new BestFitWindowMoveSelector()),
+        new LocalSearchProperties());
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("사용법: SolverReplay <snapshot.json.gz> [...]");
+            System.exit(1);
+        }
+        SolverReplay replay = new SolverReplay();
+        for (String arg : args) {
+            try (InputStream in = Files.newInputStream(Path.of(arg))) {
+                System.out.println(arg + " " + replay.replay(SolverSnapshotCodec.read(in)));
+            }
+        }
+    }
+
+    public Report replay(SolverSnapshot snapshot) {
+        greedyScheduler.setClock(Clock.fixed(snapshot.getCapturedAt().toInstant(), ZoneOffset.UTC));
+        Map<String, Double> phaseMillis = new LinkedHashMap<>();
+        LocalDate rangeStart = snapshot.getRangeStart();
+        LocalDate rangeEnd = snapshot.getRangeEnd();
+        List<Task> tasks = toTasks(snapshot);
+        Schedule schedule = new Schedule();
+
+        // FreeBusyCache 와 같은 경로: 날짜 마스크 -> 슬롯
+        Map<Long, List<TimeSlot>> availableSlots = timed(phaseMillis, "slots", () ->
+            timeSlotGenerator.slotsFromMasks(timeSlotGenerator.availabilityMasks(
+                toWorkHours(snapshot), toEvents(snapshot), rangeStart, rangeEnd, snapshot.getMemberIds()), rangeStart));
+
+        FeasibilityAnalyzer.Result feasibility = timed(phaseMillis, "feasibility",
+            () -> feasibilityAnalyzer.analyze(tasks, availableSlots));
+
+        List<Assignment> placed = timed(phaseMillis, "placement", () -> {
+            if (rollingHorizonScheduler.applies(rangeStart, rangeEnd)) {
+                return rollingHorizonScheduler.scheduleTasks(
+                    feasibility.getFeasibleTasks(), availableSlots, schedule, rangeStart, rangeEnd);
+            }
+            Map<Long, Long> plannedAssignees = assigneePlanner.plan(feasibility.getFeasibleTasks(), availableSlots);
+            List<Assignment> greedy = greedyScheduler.scheduleTasks(
+                feasibility.getFeasibleTasks(), availableSlots, schedule, plannedAssignees);
+            return ejectionChainInserter.insertUnplaced(
+                feasibility.getFeasibleTasks(), greedy, availableSlots, schedule);
+        });
+
+        int placementScore = timed(phaseMillis, "score",
+            () -> scoreCalculator.calculateScore(placed, tasks, availableSlots));
+
+        LocalSearchOptimizer.SearchResult searched = timed(phaseMillis, "localSearch",
+            () -> localSearchOptimizer.search(placed, tasks, availableSlots,
+                localSearchOptimizer.resolve(snapshot.getMetaheuristic()), new Random(snapshot.getSeed()),
+                LocalSearchOptimizer.MAX_ITERATIONS, LocalSearchOptimizer.MAX_NO_IMPROVEMENT));
+
+        int placedTasks = (int) searched.getAssignments().stream()
+            .filter(a -> a.getTask() != null)
+            .map(a -> a.getTask().getId())
+            .distinct()
+            .count();
+        return new Report(phaseMillis, tasks.size(), placedTasks, searched.getAssignments().size(),
+            placementScore, searched.getBestScore());
+    }
+
+    private static <T> T timed(Map<String, Double> phaseMillis, String phase, Supplier<T> body) {
+        long startedAt = System.nanoTime();
+        T result = body.get();
+        phaseMillis.put(phase, (System.nanoTime() - startedAt) / 1_000_000.0);
+        return result;
+    }
+
+    private static List<Task> toTasks(SolverSnapshot snapshot) {
+        List<Task> tasks = new ArrayList<>();
+        for (SolverSnapshot.TaskRow row : snapshot.getTasks()) {
+            Task task = new Task();
+            task.setId(row.getId());
+            task.setTitle(row.getTitle());
+            task.setDurationMin(row.getDurationMin());
+            task.setDueAt(row.getDueAt());
+            task.setPriority(row.getPriority());
+            task.setSplittable(row.isSplittable());
+            task.setAssignee(user(row.getAssigneeId()));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static List<WorkHour> toWorkHours(SolverSnapshot snapshot) {
+        List<WorkHour> workHours = new ArrayList<>();
+        for (SolverSnapshot.WorkHourRow row : snapshot.getWorkHours()) {
+            WorkHour workHour = new WorkHour();
+            workHour.setUser(user(row.getUserId()));
+            workHour.setDow(row.getDow());
+            workHour.setStartMin(row.getStartMin());
+            workHour.setEndMin(row.getEndMin());
+            workHours.add(workHour);
+        }
+        return workHours;
+    }
+
+    private static List<CalendarEvent> toEvents(SolverSnapshot snapshot) {
+        List<CalendarEvent> events = new ArrayList<>();
+        for (SolverSnapshot.EventRow row : snapshot.getEvents()) {
+            CalendarEvent event = new CalendarEvent();
+            event.setTitle("snapshot");
+            event.setAttendees(row.getUserIds().stream().map(String::valueOf).collect(Collectors.joining(",")));
+            event.setStartsAt(row.getStartsAt());
+            event.setEndsAt(row.getEndsAt());
+            event.setFixed(row.isFixed());
+            event.setRecurrenceType(row.getRecurrenceType());
+            event.setRecurrenceEndDate(row.getRecurrenceEndDate());
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static User user(Long id) {
+        if (id == null) {
+            return null;
+        }
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    /**
+     * 재현 결과 (단계별 ms, 배치 수, 배치 직후/로컬서치 후 점수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Report {
+        private final Map<String, Double> phaseMillis;
+        private final int tasks;
+        private final int placedTasks;
+        private final int assignments;
+        private final int placementScore;
+        private final int finalScore;
+
+        @Override
+        public String toString() {
+            String phases = phaseMillis.entrySet().stream()
+                .map(e -> String.format("%s=%.1fms", e.getKey(), e.getValue()))
+                .collect(Collectors.joining(" "));
+            return String.format("tasks=%d placed=%d assignments=%d score=%d->%d %s",
+                tasks, placedTasks, assignments, placementScore, finalScore, phases);
+        }
+    }
+}
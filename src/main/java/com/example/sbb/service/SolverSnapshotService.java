@@ -0,0 +1,88 @@
+package com.example.sbb.service;
+
+import com.example.sbb.config.LocalSearchProperties;
+import com.example.sbb.domain.CalendarEvent;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.WorkHour;
+import com.example.sbb.dto.SchedulingInput;
+import com.example.sbb.dto.SolverSnapshot;
+import com.example.sbb.repository.TeamMemberRepository;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀의 스케줄러 입력을 스냅샷으로 떠 둔다 (SolverReplay 로 재현).
+ * 근무시간/이벤트는 FreeBusyCache 가 슬롯을 만들 때와 같은 규칙으로 담는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SolverSnapshotService {
+
+    private final SchedulingService schedulingService;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TimeSlotGenerator timeSlotGenerator;
+    private final LocalSearchProperties localSearchProperties;
+
+    /**
+     * @param seed 로컬서치 시드 (null 이면 새로 뽑음). 운영 로그의 seed 를 넣으면 같은 탐색이 재현된다
+     */
+    @Transactional(readOnly = true)
+    public SolverSnapshot capture(Long teamId, LocalDate rangeStart, LocalDate rangeEnd, Long seed) {
+        SchedulingInput input = schedulingService.collectInputData(teamId, rangeStart, rangeEnd);
+
+        SolverSnapshot snapshot = new SolverSnapshot();
+        snapshot.setTeamId(teamId);
+        snapshot.setRangeStart(rangeStart);
+        snapshot.setRangeEnd(rangeEnd);
+        snapshot.setCapturedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        snapshot.setSeed(seed != null ? seed : ThreadLocalRandom.current().nextLong());
+        snapshot.setMetaheuristic(localSearchProperties.metaheuristicFor(teamId));
+        snapshot.setMemberIds(teamMemberRepository.findByTeamId(teamId).stream()
+            .map(tm -> tm.getUser().getId())
+            .collect(Collectors.toList()));
+
+        for (Task task : input.getTasks()) {
+            snapshot.getTasks().add(new SolverSnapshot.TaskRow(
+                task.getId(),
+                task.getTitle(),
+                task.getDurationMin(),
+                task.getDueAt(),
+                task.getPriority(),
+                task.isSplittable(),
+                task.getAssignee() != null ? task.getAssignee().getId() : null));
+        }
+        // 근무시간이 없는 팀은 FreeBusyCache 와 같은 기본값
+        List<WorkHour> workHours = input.getWorkHours().isEmpty()
+            ? DayTemplates.defaultWorkHours()
+            : input.getWorkHours();
+        for (WorkHour workHour : workHours) {
+            snapshot.getWorkHours().add(new SolverSnapshot.WorkHourRow(
+                workHour.getUser() != null ? workHour.getUser().getId() : null,
+                workHour.getDow(),
+                workHour.getStartMin(),
+                workHour.getEndMin()));
+        }
+        for (CalendarEvent event : input.getCalendarEvents()) {
+            snapshot.getEvents().add(new SolverSnapshot.EventRow(
+                timeSlotGenerator.blockedUserIds(event),
+                event.getStartsAt(),
+                event.getEndsAt(),
+                event.isFixed(),
+                event.getRecurrenceType(),
+                event.getRecurrenceEndDate()));
+        }
+
+        log.info("스케줄러 입력 스냅샷: teamId={}, range={} ~ {}, tasks={}, events={}, seed={}",
+            teamId, rangeStart, rangeEnd, snapshot.getTasks().size(), snapshot.getEvents().size(), snapshot.getSeed());
+        return snapshot;
+    }
+}
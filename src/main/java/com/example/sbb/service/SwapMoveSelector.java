@@ -0,0 +1,75 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.TimeSlot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Swap 연산: 두 작업 배치의 시간대를 교환
+ */
+@Component
+@Order(1)
+public class SwapMoveSelector implements MoveSelector {
+
+    @Override
+    public Move select(List<Assignment> assignments, Map<Long, List<TimeSlot>> availableSlots, Random random) {
+        // Task Assignment만 대상
+        List<Integer> taskIndexes = new ArrayList<>();
+        for (int i = 0; i < assignments.size(); i++) {
+            if (assignments.get(i).getTask() != null) {
+                taskIndexes.add(i);
+            }
+        }
+        if (taskIndexes.size() < 2) {
+            return null;
+        }
+        
+        // 랜덤하게 두 Assignment 선택 (i1 < i2)
+        int pick1 = random.nextInt(taskIndexes.size());
+        int pick2 = random.nextInt(taskIndexes.size() - 1);
+        if (pick2 >= pick1) {
+            pick2++;
+        }
+        int i1 = taskIndexes.get(Math.min(pick1, pick2));
+        int i2 = taskIndexes.get(Math.max(pick1, pick2));
+        Assignment a1 = assignments.get(i1);
+        Assignment a2 = assignments.get(i2);
+        
+        List<Assignment> newAssignments = new ArrayList<>(assignments.size());
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment newA = AssignmentMoves.cloneAssignment(assignments.get(i));
+            if (i == i1) {
+                newA.setStartsAt(a2.getStartsAt());
+                newA.setEndsAt(a2.getEndsAt());
+                newA.setSlotIndex(a2.getSlotIndex());
+            } else if (i == i2) {
+                newA.setStartsAt(a1.getStartsAt());
+                newA.setEndsAt(a1.getEndsAt());
+                newA.setSlotIndex(a1.getSlotIndex());
+            }
+            newAssignments.add(newA);
+        }
+        
+        // 교환한 두 배치가 다른 배치와 겹치면 무효
+        Assignment moved1 = newAssignments.get(i1);
+        Assignment moved2 = newAssignments.get(i2);
+        for (int i = 0; i < newAssignments.size(); i++) {
+            if (i == i1 || i == i2) {
+                continue;
+            }
+            Assignment other = newAssignments.get(i);
+            if (AssignmentMoves.isOverlapping(other, moved1) || AssignmentMoves.isOverlapping(other, moved2)) {
+                return null;
+            }
+        }
+        
+        long key = 31 * AssignmentMoves.positionKey(i1, a2.getStartsAt()) + AssignmentMoves.positionKey(i2, a1.getStartsAt());
+        long reverseKey = 31 * AssignmentMoves.positionKey(i1, a1.getStartsAt()) + AssignmentMoves.positionKey(i2, a2.getStartsAt());
+        return new Move(newAssignments, key, reverseKey);
+    }
+}
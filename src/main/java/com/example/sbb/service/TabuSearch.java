@@ -0,0 +1,55 @@
+package com.example.sbb.service;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타부 서치: 반복마다 후보 여러 개 중 허용된 가장 좋은 후보로 (나빠지더라도) 옮기고,
+ * 그 이동을 되돌리는 이동(배치 위치 해시)을 일정 기간 금지해 같은 자리를 맴돌지 않게 한다.
+ * 금지된 이동이라도 지금까지의 최고 점수를 넘으면 허용한다 (aspiration).
+ */
+@Component
+public class TabuSearch implements Metaheuristic {
+
+    public static final String NAME = "tabu";
+
+    private static final int TABU_TENURE = 15;             // 금지 유지 반복 수
+    private static final int CANDIDATES_PER_ITERATION = 8; // 반복마다 평가할 후보 수
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Search start(int initialScore, Random random) {
+        return new Search() {
+            private final ArrayDeque<Long> order = new ArrayDeque<>();
+            private final Set<Long> tabu = new HashSet<>();
+
+            @Override
+            public int candidatesPerIteration() {
+                return CANDIDATES_PER_ITERATION;
+            }
+
+            @Override
+            public boolean isAllowed(MoveSelector.Move move, int candidateScore, int bestScore) {
+                return !tabu.contains(move.getKey()) || candidateScore > bestScore;
+            }
+
+            @Override
+            public boolean accept(int currentScore, int candidateScore, MoveSelector.Move move) {
+                if (tabu.add(move.getReverseKey())) {
+                    order.addLast(move.getReverseKey());
+                    if (order.size() > TABU_TENURE) {
+                        tabu.remove(order.removeFirst());
+                    }
+                }
+                return true;
+            }
+        };
+    }
+}
@@ -14,6 +14,8 @@ import com.example.sbb.repository.UserRepository;
 import java.time.LocalDate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -95,8 +97,8 @@ public class TaskService {
         eventPublisher.publishTaskEvent(message);
         publishTaskCreatedNotification(task);
         
-        // 작업 생성 후 자동 스케줄 재생성
-        triggerScheduleRegeneration(saved.getTeam().getId(), saved.getDueAt());
+        // 작업 생성 후 자동 스케줄 수리 (필요하면 전체 재생성)
+        triggerScheduleRegeneration(saved.getTeam().getId(), saved.getDueAt(), saved.getId());
         
         return response;
     }
@@ -154,8 +156,8 @@ public class TaskService {
         eventPublisher.publishTaskEvent(message);
         publishTaskUpdatedNotification(task, previousAssigneeId);
         
-        // 작업 수정 후 자동 스케줄 재생성
-        triggerScheduleRegeneration(saved.getTeam().getId(), saved.getDueAt());
+        // 작업 수정 후 자동 스케줄 수리 (필요하면 전체 재생성)
+        triggerScheduleRegeneration(saved.getTeam().getId(), saved.getDueAt(), saved.getId());
         
         return response;
     }
@@ -178,8 +180,8 @@ public class TaskService {
                     "작업 '" + task.getTitle() + "' 이(가) 삭제되었습니다.")
             );
             
-            // 작업 삭제 후 자동 스케줄 재생성
-            triggerScheduleRegeneration(teamId, dueAt);
+            // 작업 삭제 후 자동 스케줄 수리 (필요하면 전체 재생성)
+            triggerScheduleRegeneration(teamId, dueAt, id);
         }
     }
 
@@ -314,7 +316,7 @@ public class TaskService {
             );
             
             // 반복 작업 생성 후 자동 스케줄 재생성
-            triggerScheduleRegeneration(template.getTeam().getId(), template.getDueAt());
+            triggerScheduleRegeneration(template.getTeam().getId(), template.getDueAt(), null);
         }
         
         return response;
@@ -323,8 +325,9 @@ public class TaskService {
     /**
      * 작업 변경 후 자동 스케줄 재생성 트리거
      * 작업의 마감일을 기준으로 적절한 범위의 스케줄을 재생성합니다.
+     * 작업 하나만 바뀌었으면(changedTaskId) 현재 스케줄을 부분 수리하고, 수리할 수 없을 때만 이 범위로 전체 재생성합니다.
      */
-    private void triggerScheduleRegeneration(Long teamId, OffsetDateTime taskDueAt) {
+    private void triggerScheduleRegeneration(Long teamId, OffsetDateTime taskDueAt, Long changedTaskId) {
         if (teamId == null) {
             return;
         }
@@ -361,8 +364,24 @@ public class TaskService {
             // 현재 사용자 ID 가져오기 (없으면 null)
             Long userId = com.example.sbb.controller.support.AuthenticatedUserResolver.getUserId().orElse(null);
             
-            // 비동기로 스케줄 재생성
-            schedulingService.generateSchedule(teamId, rangeStart, rangeEnd, userId);
+            // 비동기로 스케줄 수리/재생성 (수리는 바뀐 작업을 다시 읽으므로 커밋 이후에 시작)
+            Runnable dispatch = () -> {
+                if (changedTaskId != null) {
+                    schedulingService.repairSchedule(teamId, List.of(changedTaskId), rangeStart, rangeEnd, userId);
+                } else {
+                    schedulingService.generateSchedule(teamId, rangeStart, rangeEnd, userId);
+                }
+            };
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        dispatch.run();
+                    }
+                });
+            } else {
+                dispatch.run();
+            }
             
         } catch (Exception e) {
             // 스케줄 재생성 실패는 로그만 남기고 작업 자체는 성공 처리
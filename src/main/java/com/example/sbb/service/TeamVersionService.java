@@ -0,0 +1,49 @@
+package com.example.sbb.service;
+
+import com.example.sbb.dto.TeamVersion;
+import com.example.sbb.repository.TeamRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 폴링 조회(작업 목록, 이벤트 목록, 최신 스케줄)의 ETag.
+ *
+ * 팀 변경 카운터(team.change_seq, 트리거가 커밋 시 트랜잭션마다 바뀐 팀을 한 번 증가)와 최신 스케줄 ID 또는 max(updated_at) 로 만든다.
+ * 엔티티를 읽지 않는 단일 쿼리이므로 304 응답은 이 조회 한 번으로 끝난다.
+ * 본문보다 먼저 조회해야 한다: 그 사이 변경이 커밋되면 본문이 태그보다 새로울 뿐 (다음 폴링에서 다시 받음)
+ * 태그보다 오래된 본문이 나가지는 않는다.
+ * 팀이 없으면 empty 를 돌려준다 (태그 없이 기존 응답 그대로).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamVersionService {
+
+    private final TeamRepository teamRepository;
+
+    public Optional<String> taskListTag(Long teamId) {
+        return teamRepository.findTaskVersion(teamId).map(version -> tag("tasks", teamId, version));
+    }
+
+    public Optional<String> eventListTag(Long teamId) {
+        return teamRepository.findEventVersion(teamId).map(version -> tag("events", teamId, version));
+    }
+
+    /**
+     * 최신 스케줄 버전 (getStamp() 가 스케줄 ID, 스케줄이 없으면 null)
+     */
+    public Optional<TeamVersion> latestScheduleVersion(Long teamId) {
+        return teamRepository.findLatestScheduleVersion(teamId);
+    }
+
+    public static String latestScheduleTag(Long teamId, TeamVersion version) {
+        return tag("schedule", teamId, version);
+    }
+
+    static String tag(String kind, Long teamId, TeamVersion version) {
+        long stamp = version.getStamp() != null ? version.getStamp() : 0L;
+        return kind + "-" + teamId + "-" + version.getChangeSeq() + "-" + stamp;
+    }
+}
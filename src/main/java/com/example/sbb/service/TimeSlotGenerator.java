@@ -1,15 +1,19 @@
 package com.example.sbb.service;
 
 import com.example.sbb.domain.CalendarEvent;
+import com.example.sbb.domain.SlotGrid;
 import com.example.sbb.domain.TimeSlot;
 import com.example.sbb.domain.WorkHour;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,13 +22,20 @@ import org.springframework.stereotype.Component;
 /**
  * 시간 슬롯 생성기
  * 근무시간을 기반으로 30분 단위 슬롯을 생성하고, 캘린더 이벤트로 인한 차단을 처리합니다.
+ *
+ * 근무시간은 (사용자, 요일)별 마스크(DayTemplates, 팀별로 WorkHourTemplateCache 에 보관)로 컴파일하고,
+ * 이벤트는 (사용자, 날짜)별 차단 마스크로 모은 뒤 날짜마다 "근무 마스크 & ~차단 마스크"로 가용 슬롯을 구한다.
+ * 선호도는 요일 x 슬롯 표로 미리 계산해 두며, TimeSlot 객체는 LazySlotList 가 날짜를 처음 조회할 때 만든다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TimeSlotGenerator {
 
-    private static final int SLOTS_PER_DAY = 48; // 24시간 * 2 (30분 단위)
+    private static final long SLOT_SECONDS = SlotGrid.BASE.getMinutes() * 60L;
+
+    // 근무시간 안 슬롯 선호도 [요일(0=월)][slotIndex]. 선호도는 요일과 슬롯으로만 정해지므로 모든 사용자가 같은 표를 쓴다.
+    private static final double[][] WORK_HOUR_PREFERENCES = workHourPreferences();
 
     /**
      * 날짜 범위에 대해 사용자별 사용 가능한 시간 슬롯을 생성합니다.
@@ -46,6 +57,8 @@ public class TimeSlotGenerator {
     
     /**
      * 날짜 범위에 대해 사용자별 사용 가능한 시간 슬롯을 생성합니다.
+     * 근무시간이 하나라도 적용되는 사용자는 (가용 슬롯이 없어도) 결과에 들어가며,
+     * 팀 기본과 개인 근무시간이 겹치는 슬롯은 한 번만 나온다.
      * 
      * @param workHours 근무시간 설정 목록
      * @param calendarEvents 캘린더 이벤트 목록 (고정/반복)
@@ -63,135 +76,74 @@ public class TimeSlotGenerator {
         
         log.info("시간 슬롯 생성 시작: range={} ~ {}", rangeStart, rangeEnd);
         
-        // 1. 근무시간 기반으로 기본 슬롯 생성
-        Map<Long, List<TimeSlot>> userSlots = generateSlotsFromWorkHours(workHours, rangeStart, rangeEnd, targetUserIds);
-        log.info("근무시간 기반 슬롯 생성 완료: {}명의 사용자", userSlots.size());
-        
-        // 2. 캘린더 이벤트로 인한 슬롯 차단
-        blockSlotsByEvents(userSlots, calendarEvents, rangeStart, rangeEnd);
-        log.info("이벤트 기반 슬롯 차단 완료");
+        DayTemplates templates = DayTemplates.compile(workHours, targetUserIds != null);
+        Set<Long> userIds = new LinkedHashSet<>(templates.personalUserIds());
+        if (targetUserIds != null) {
+            userIds.addAll(targetUserIds);
+        }
+        Map<Long, long[]> masks = availabilityMasks(
+            templates, calendarEvents, rangeStart, rangeEnd, new ArrayList<>(userIds));
         
-        // 3. 사용 가능한 슬롯만 필터링
-        Map<Long, List<TimeSlot>> availableSlots = userSlots.entrySet().stream()
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> entry.getValue().stream()
-                    .filter(TimeSlot::isAvailable)
-                    .collect(Collectors.toList())
-            ));
+        Map<Long, List<TimeSlot>> availableSlots = new HashMap<>();
+        masks.forEach((userId, days) ->
+            availableSlots.put(userId, new ArrayList<>(new LazySlotList(userId, rangeStart, days, this))));
         
         int totalAvailable = availableSlots.values().stream()
             .mapToInt(List::size)
             .sum();
-        log.info("사용 가능한 슬롯 수: {}", totalAvailable);
+        log.info("사용 가능한 슬롯 수: {}명, {}개", availableSlots.size(), totalAvailable);
         
         return availableSlots;
     }
 
     /**
-     * 근무시간 설정을 기반으로 슬롯 생성
+     * 사용자별 날짜 가용 마스크 (index d = rangeStart + d 일, bit i = slotIndex i). TimeSlot 은 만들지 않는다.
+     * 요청한 모든 사용자가 결과에 들어가며, 근무시간이 없는 사용자는 0 으로 채워진다.
      */
-    private Map<Long, List<TimeSlot>> generateSlotsFromWorkHours(
+    public Map<Long, long[]> availabilityMasks(
             List<WorkHour> workHours,
+            List<CalendarEvent> calendarEvents,
             LocalDate rangeStart,
             LocalDate rangeEnd,
-            List<Long> targetUserIds) {
+            List<Long> userIds) {
+        return availabilityMasks(DayTemplates.compile(workHours, true), calendarEvents, rangeStart, rangeEnd, userIds);
+    }
+
+    /**
+     * 컴파일된 주간 근무시간으로 날짜 가용 마스크 계산. 요일 마스크를 범위 길이만큼 배열 복사하고 이벤트 차단만 지운다.
+     */
+    Map<Long, long[]> availabilityMasks(
+            DayTemplates templates,
+            List<CalendarEvent> calendarEvents,
+            LocalDate rangeStart,
+            LocalDate rangeEnd,
+            List<Long> userIds) {
         
-        Map<Long, List<TimeSlot>> userSlots = new HashMap<>();
+        int days = (int) ChronoUnit.DAYS.between(rangeStart, rangeEnd) + 1;
+        Map<Long, long[]> blocked = blockedMasks(calendarEvents, rangeStart, rangeEnd, days);
         
-        // 날짜별로 순회
-        LocalDate currentDate = rangeStart;
-        while (!currentDate.isAfter(rangeEnd)) {
-            int dayOfWeek = currentDate.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
-            int dowIndex = dayOfWeek - 1; // 0=월요일, 6=일요일
-            
-            // 주말 처리: 기본적으로 불가능한 시간으로 설정 (필요 시 옵션으로 변경 가능)
-            boolean isWeekend = dayOfWeek == 6 || dayOfWeek == 7; // 토요일 또는 일요일
-            
-            // 각 근무시간 설정에 대해
-            for (WorkHour workHour : workHours) {
-                // 요일이 일치하는지 확인
-                // DB는 1-7 (월-일)을 사용하지만, dowIndex는 0-6 (월-일)이므로 변환
-                int workHourDow = workHour.getDow() - 1; // DB의 1-7을 0-6으로 변환
-                if (workHourDow != dowIndex) {
-                    continue;
-                }
-                
-                Long userId = workHour.getUser() != null ? workHour.getUser().getId() : null;
-                
-                // 근무시간 범위 내의 슬롯 생성 (7시-22시 제한 제거, 모든 시간대 허용)
-                int startSlot = minutesToSlotIndex(workHour.getStartMin());
-                int endSlot = minutesToSlotIndex(workHour.getEndMin());
-                
-                // 디버깅: 근무시간 로그
-                if (log.isDebugEnabled()) {
-                    log.debug("근무시간 설정: userId={}, dow={}, startMin={} (slot {}), endMin={} (slot {})", 
-                        userId, workHour.getDow(), workHour.getStartMin(), startSlot, workHour.getEndMin(), endSlot);
-                }
-                
-                if (userId == null) {
-                    // 팀 기본 근무시간 (targetUserIds의 모든 사용자에게 적용)
-                    if (targetUserIds != null && !targetUserIds.isEmpty()) {
-                        for (Long targetUserId : targetUserIds) {
-                            List<TimeSlot> slots = userSlots.computeIfAbsent(targetUserId, k -> new ArrayList<>());
-                            
-                            for (int slotIndex = startSlot; slotIndex < endSlot; slotIndex++) {
-                                OffsetDateTime startTime = TimeSlot.calculateStartTime(currentDate, slotIndex);
-                                
-                                // 선호도 계산 (근무시간 내, 주말 여부 고려)
-                                double preferenceScore = calculatePreference(startTime, true, isWeekend);
-                                
-                                TimeSlot slot = TimeSlot.builder()
-                                    .date(currentDate)
-                                    .slotIndex(slotIndex)
-                                    .startTime(startTime)
-                                    .endTime(TimeSlot.calculateEndTime(currentDate, slotIndex))
-                                    .available(true)
-                                    .userId(targetUserId)
-                                    .preferenceScore(preferenceScore)
-                                    .build();
-                                slots.add(slot);
-                            }
-                        }
-                    }
-                    // targetUserIds가 null이면 건너뛰기 (기존 동작 유지)
-                    continue;
-                }
-                
-                // 개인 근무시간
-                List<TimeSlot> slots = userSlots.computeIfAbsent(userId, k -> new ArrayList<>());
-                
-                for (int slotIndex = startSlot; slotIndex < endSlot; slotIndex++) {
-                    OffsetDateTime startTime = TimeSlot.calculateStartTime(currentDate, slotIndex);
-                    
-                    // 선호도 계산 (근무시간 내, 주말 여부 고려)
-                    double preferenceScore = calculatePreference(startTime, true, isWeekend);
-                    
-                    TimeSlot slot = TimeSlot.builder()
-                        .date(currentDate)
-                        .slotIndex(slotIndex)
-                        .startTime(startTime)
-                        .endTime(TimeSlot.calculateEndTime(currentDate, slotIndex))
-                        .available(true)
-                        .userId(userId)
-                        .preferenceScore(preferenceScore)
-                        .build();
-                    slots.add(slot);
+        int firstDow = rangeStart.getDayOfWeek().getValue() - 1;
+        
+        Map<Long, long[]> masks = new HashMap<>();
+        for (Long userId : userIds) {
+            long[] week = templates.week(userId);
+            long[] userMasks = new long[days];
+            for (int d = 0; d < Math.min(7, days); d++) {
+                userMasks[d] = week[(firstDow + d) % 7];
+            }
+            // 7일 주기이므로 앞부분을 두 배씩 이어 붙인다
+            for (int filled = 7; filled < days; filled *= 2) {
+                System.arraycopy(userMasks, 0, userMasks, filled, Math.min(filled, days - filled));
+            }
+            long[] userBlocked = blocked.get(userId);
+            if (userBlocked != null) {
+                for (int d = 0; d < days; d++) {
+                    userMasks[d] &= ~userBlocked[d];
                 }
             }
-            
-            currentDate = currentDate.plusDays(1);
+            masks.put(userId, userMasks);
         }
-        
-        return userSlots;
-    }
-
-    /**
-     * 분(minutes)을 슬롯 인덱스로 변환
-     * 예: 0분 -> 0, 30분 -> 1, 60분 -> 2, ...
-     */
-    private int minutesToSlotIndex(int minutes) {
-        return minutes / 30;
+        return masks;
     }
 
     /**
@@ -201,7 +153,7 @@ public class TimeSlotGenerator {
      * - 주말: 낮은 점수 (0.3)
      * - 새벽(22:00-07:00): 매우 낮은 점수 (0.05, 거의 hard 제약)
      */
-    private double calculatePreference(OffsetDateTime startTime, boolean isWorkHour, boolean isWeekend) {
+    private static double calculatePreference(OffsetDateTime startTime, boolean isWorkHour, boolean isWeekend) {
         int hour = startTime.getHour();
         
         // 새벽 시간 (22:00-07:00): 매우 낮은 점수 (거의 hard 제약)
@@ -242,119 +194,71 @@ public class TimeSlotGenerator {
         
         return baseScore;
     }
-    
-    /**
-     * 오버로드: 주말 여부를 모를 때 (기본값: 평일)
-     */
-    private double calculatePreference(OffsetDateTime startTime, boolean isWorkHour) {
-        return calculatePreference(startTime, isWorkHour, false);
-    }
 
     /**
-     * 캘린더 이벤트로 인한 슬롯 차단
+     * 캘린더 이벤트로 차단되는 사용자별 날짜 마스크
+     * 이벤트 발생일마다 겹치는 슬롯 비트만 계산하므로 슬롯 수와 무관하다.
      */
-    private void blockSlotsByEvents(
-            Map<Long, List<TimeSlot>> userSlots,
+    private Map<Long, long[]> blockedMasks(
             List<CalendarEvent> calendarEvents,
             LocalDate rangeStart,
-            LocalDate rangeEnd) {
+            LocalDate rangeEnd,
+            int days) {
         
+        Map<Long, long[]> blocked = new HashMap<>();
         for (CalendarEvent event : calendarEvents) {
-            // 고정 이벤트 처리
+            OffsetDateTime eventStart = event.getStartsAt();
+            OffsetDateTime eventEnd = event.getEndsAt();
+            List<Long> affectedUserIds = blockedUserIds(event);
+            
             if (event.getRecurrenceType() == null) {
-                blockSlotsForSingleEvent(userSlots, event);
-            } else {
-                // 반복 이벤트 처리
-                blockSlotsForRecurringEvent(userSlots, event, rangeStart, rangeEnd);
+                // 고정 이벤트: 시작일의 슬롯만 차단
+                block(blocked, affectedUserIds, eventStart.toLocalDate(), eventStart, eventEnd, rangeStart, days);
+                continue;
             }
-        }
-    }
-
-    /**
-     * 단일 이벤트로 인한 슬롯 차단
-     * 이벤트와 겹치는 모든 슬롯을 차단
-     */
-    private void blockSlotsForSingleEvent(Map<Long, List<TimeSlot>> userSlots, CalendarEvent event) {
-        LocalDate eventDate = event.getStartsAt().toLocalDate();
-        OffsetDateTime eventStart = event.getStartsAt();
-        OffsetDateTime eventEnd = event.getEndsAt();
-        
-        // 이벤트 참석자 확인
-        List<Long> affectedUserIds = getAffectedUserIds(event);
-        if (affectedUserIds.isEmpty()) {
-            // 참석자가 없으면 소유자만 영향
-            if (event.getOwner() != null) {
-                affectedUserIds = List.of(event.getOwner().getId());
-            }
-        }
-        
-        for (Long userId : affectedUserIds) {
-            List<TimeSlot> slots = userSlots.get(userId);
-            if (slots == null) continue;
             
-            for (TimeSlot slot : slots) {
-                if (slot.getDate().equals(eventDate)) {
-                    // 슬롯과 이벤트가 겹치는지 확인 (완전히 겹치거나 부분적으로 겹치면 차단)
-                    // slot.startTime < eventEnd && slot.endTime > eventStart
-                    if (slot.getStartTime().isBefore(eventEnd) && slot.getEndTime().isAfter(eventStart)) {
-                        slot.setAvailable(false);
-                        log.debug("슬롯 차단: userId={}, date={}, slotIndex={}, event={}", 
-                            userId, eventDate, slot.getSlotIndex(), event.getTitle());
-                    }
-                }
+            // 반복 이벤트: 각 발생일에 원본 이벤트의 시간대로 차단
+            List<LocalDate> occurrenceDates = expandRecurringEvent(
+                eventStart.toLocalDate(), event.getRecurrenceType(), event.getRecurrenceEndDate(), rangeStart, rangeEnd);
+            for (LocalDate occurrenceDate : occurrenceDates) {
+                OffsetDateTime occurrenceStart = occurrenceDate.atTime(eventStart.toLocalTime())
+                    .atOffset(eventStart.getOffset());
+                OffsetDateTime occurrenceEnd = occurrenceDate.atTime(eventEnd.toLocalTime())
+                    .atOffset(eventEnd.getOffset());
+                block(blocked, affectedUserIds, occurrenceDate, occurrenceStart, occurrenceEnd, rangeStart, days);
             }
         }
+        return blocked;
     }
 
     /**
-     * 반복 이벤트로 인한 슬롯 차단
-     * 각 발생일에 대해 이벤트 시간대로 슬롯 차단
+     * date 의 슬롯 중 [start, end) 와 겹치는 슬롯을 차단
+     * (slot.startTime < end && slot.endTime > start)
      */
-    private void blockSlotsForRecurringEvent(
-            Map<Long, List<TimeSlot>> userSlots,
-            CalendarEvent event,
+    private void block(
+            Map<Long, long[]> blocked,
+            List<Long> userIds,
+            LocalDate date,
+            OffsetDateTime start,
+            OffsetDateTime end,
             LocalDate rangeStart,
-            LocalDate rangeEnd) {
-        
-        String recurrenceType = event.getRecurrenceType();
-        OffsetDateTime recurrenceEnd = event.getRecurrenceEndDate();
-        LocalDate eventStartDate = event.getStartsAt().toLocalDate();
-        OffsetDateTime eventStart = event.getStartsAt();
-        OffsetDateTime eventEnd = event.getEndsAt();
+            int days) {
         
-        // 반복 이벤트 확장
-        List<LocalDate> occurrenceDates = expandRecurringEvent(
-            eventStartDate, recurrenceType, recurrenceEnd, rangeStart, rangeEnd);
-        
-        List<Long> affectedUserIds = getAffectedUserIds(event);
-        if (affectedUserIds.isEmpty() && event.getOwner() != null) {
-            affectedUserIds = List.of(event.getOwner().getId());
+        int d = (int) ChronoUnit.DAYS.between(rangeStart, date);
+        if (d < 0 || d >= days || userIds.isEmpty()) {
+            return;
         }
-        
-        for (LocalDate occurrenceDate : occurrenceDates) {
-            // 각 발생일에 대해 이벤트 시간대로 슬롯 차단
-            // 시간 부분은 원본 이벤트의 시간을 사용
-            OffsetDateTime occurrenceStart = occurrenceDate.atTime(eventStart.toLocalTime())
-                .atOffset(eventStart.getOffset());
-            OffsetDateTime occurrenceEnd = occurrenceDate.atTime(eventEnd.toLocalTime())
-                .atOffset(eventEnd.getOffset());
-            
-            for (Long userId : affectedUserIds) {
-                List<TimeSlot> slots = userSlots.get(userId);
-                if (slots == null) continue;
-                
-                for (TimeSlot slot : slots) {
-                    if (slot.getDate().equals(occurrenceDate)) {
-                        // 슬롯과 이벤트가 겹치는지 확인
-                        if (slot.getStartTime().isBefore(occurrenceEnd) && 
-                            slot.getEndTime().isAfter(occurrenceStart)) {
-                            slot.setAvailable(false);
-                            log.debug("반복 이벤트 슬롯 차단: userId={}, date={}, slotIndex={}, event={}", 
-                                userId, occurrenceDate, slot.getSlotIndex(), event.getTitle());
-                        }
-                    }
-                }
-            }
+        long dayStart = date.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        long fromSeconds = start.toEpochSecond() - dayStart;
+        long toSeconds = end.toEpochSecond() - dayStart + (end.getNano() > 0 ? 1 : 0);
+        int fromSlot = (int) Math.max(0, Math.min(AvailabilityMatrix.SLOTS_PER_DAY, Math.floorDiv(fromSeconds, SLOT_SECONDS)));
+        int toSlot = (int) Math.max(0, Math.min(AvailabilityMatrix.SLOTS_PER_DAY, -Math.floorDiv(-toSeconds, SLOT_SECONDS)));
+        long mask = AvailabilityMatrix.slotRange(fromSlot, toSlot);
+        if (mask == 0) {
+            return;
+        }
+        for (Long userId : userIds) {
+            blocked.computeIfAbsent(userId, k -> new long[days])[d] |= mask;
         }
     }
 
@@ -418,10 +322,52 @@ public class TimeSlotGenerator {
     }
 
     /**
-     * LocalTime을 슬롯 인덱스로 변환
+     * 이벤트로 슬롯이 차단되는 사용자 ID 목록 (참석자, 없으면 소유자)
+     * FreeBusyCache 무효화 범위를 정할 때도 같은 규칙을 쓴다.
      */
-    private int timeToSlotIndex(java.time.LocalTime time) {
-        return (time.getHour() * 2) + (time.getMinute() / 30);
+    List<Long> blockedUserIds(CalendarEvent event) {
+        List<Long> affectedUserIds = getAffectedUserIds(event);
+        if (affectedUserIds.isEmpty() && event.getOwner() != null) {
+            return List.of(event.getOwner().getId());
+        }
+        return affectedUserIds;
+    }
+
+    /**
+     * 근무시간 안의 가용 슬롯 선호도 (generateAvailableSlots 가 만드는 슬롯과 같은 값)
+     */
+    public double preferenceFor(LocalDate date, int slotIndex) {
+        return WORK_HOUR_PREFERENCES[date.getDayOfWeek().getValue() - 1][slotIndex];
+    }
+
+    private static double[][] workHourPreferences() {
+        // 2024-01-01 은 월요일
+        LocalDate monday = LocalDate.of(2024, 1, 1);
+        double[][] preferences = new double[7][AvailabilityMatrix.SLOTS_PER_DAY];
+        for (int dow = 0; dow < 7; dow++) {
+            LocalDate date = monday.plusDays(dow);
+            for (int slotIndex = 0; slotIndex < AvailabilityMatrix.SLOTS_PER_DAY; slotIndex++) {
+                preferences[dow][slotIndex] = calculatePreference(
+                    TimeSlot.calculateStartTime(date, slotIndex), true, dow >= 5);
+            }
+        }
+        return preferences;
+    }
+
+    /**
+     * 날짜별 가용 슬롯 비트마스크(bit i = slotIndex i)를 슬롯 목록으로 펼친다.
+     * masks 의 d 번째 값이 rangeStart + d 일이며, 가용 슬롯이 하나도 없는 사용자는 결과에서 빠진다.
+     * 목록은 날짜, 슬롯 순으로 정렬된 LazySlotList 라서 날짜별 TimeSlot 은 처음 조회될 때 만들어진다.
+     */
+    public Map<Long, List<TimeSlot>> slotsFromMasks(Map<Long, long[]> masks, LocalDate rangeStart) {
+        Map<Long, List<TimeSlot>> availableSlots = new HashMap<>();
+        for (Map.Entry<Long, long[]> entry : masks.entrySet()) {
+            LazySlotList slots = new LazySlotList(entry.getKey(), rangeStart, entry.getValue(), this);
+            if (!slots.isEmpty()) {
+                availableSlots.put(entry.getKey(), slots);
+            }
+        }
+        return availableSlots;
     }
 
     /**
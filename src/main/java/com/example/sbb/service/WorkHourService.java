@@ -11,6 +11,8 @@ import com.example.sbb.repository.UserRepository;
 import com.example.sbb.repository.WorkHourRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +33,8 @@ public class WorkHourService {
     private final WorkHourRepository workHourRepository;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
+    private final FreeBusyCache freeBusyCache;
+    private final WorkHourTemplateCache workHourTemplateCache;
 
     /**
      * 팀의 근무시간 목록 조회
@@ -63,6 +67,7 @@ public class WorkHourService {
         
         Team team = teamRepository.findById(teamId)
             .orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다: " + teamId));
+        boolean hadWorkHours = workHourRepository.existsByTeam_Id(teamId);
         
         List<WorkHour> toCreate = new ArrayList<>();
         
@@ -100,6 +105,7 @@ public class WorkHourService {
         
         List<WorkHour> saved = workHourRepository.saveAll(toCreate);
         log.info("근무시간 일괄 생성: teamId={}, count={}", teamId, saved.size());
+        invalidateFreeBusy(teamId, !hadWorkHours, requests.stream().map(WorkHourCreateRequest::getUserId).toList());
         
         return saved.stream()
             .map(this::toResponse)
@@ -136,6 +142,8 @@ public class WorkHourService {
                 });
         }
         
+        boolean hadWorkHours = workHourRepository.existsByTeam_Id(request.getTeamId());
+        
         WorkHour workHour = new WorkHour();
         workHour.setTeam(team);
         workHour.setUser(resolveUser(request.getUserId()));
@@ -148,6 +156,7 @@ public class WorkHourService {
         log.info("근무시간 생성: id={}, teamId={}, userId={}, dow={}, startMin={}, endMin={}", 
             saved.getId(), request.getTeamId(), request.getUserId(), request.getDow(), 
             request.getStartMin(), request.getEndMin());
+        invalidateFreeBusy(request.getTeamId(), !hadWorkHours, Collections.singletonList(request.getUserId()));
         
         return toResponse(saved);
     }
@@ -200,6 +209,7 @@ public class WorkHourService {
         log.info("근무시간 수정: id={}, teamId={}, userId={}, dow={}, startMin={}, endMin={}", 
             saved.getId(), workHour.getTeam().getId(), newUserId, request.getDow(), 
             request.getStartMin(), request.getEndMin());
+        invalidateFreeBusy(workHour.getTeam().getId(), false, Arrays.asList(oldUserId, newUserId));
         
         return toResponse(saved);
     }
@@ -218,6 +228,9 @@ public class WorkHourService {
             workHour.getDow());
         
         workHourRepository.delete(workHour);
+        Long teamId = workHour.getTeam().getId();
+        invalidateFreeBusy(teamId, !workHourRepository.existsByTeam_Id(teamId),
+            Collections.singletonList(idOrNull(workHour.getUser())));
     }
 
     @Transactional
@@ -238,6 +251,7 @@ public class WorkHourService {
                 LinkedHashMap::new
             ));
 
+        boolean hadWorkHours = !existingByKey.isEmpty();
         List<WorkHour> toPersist = new ArrayList<>();
         for (WorkHourUpdateRequest update : updates) {
             validateUpdate(update);
@@ -261,11 +275,26 @@ public class WorkHourService {
         }
 
         List<WorkHour> saved = workHourRepository.saveAll(toPersist);
+        invalidateFreeBusy(teamId, !hadWorkHours, updates.stream().map(WorkHourUpdateRequest::getUserId).toList());
         return saved.stream()
             .map(this::toResponse)
             .collect(Collectors.toList());
     }
 
+    /**
+     * free/busy 캐시 무효화: 개인 근무시간은 해당 사용자만, 팀 기본 근무시간이 관련되거나
+     * 팀의 근무시간 유무가 바뀌면(기본 9시-18시 적용 여부) 팀 전체.
+     * 컴파일된 주간 근무시간은 팀 단위라 항상 팀 전체를 비운다.
+     */
+    private void invalidateFreeBusy(Long teamId, boolean teamWide, List<Long> userIds) {
+        workHourTemplateCache.invalidate(teamId);
+        if (teamWide || userIds.contains(null)) {
+            freeBusyCache.invalidateTeam(teamId);
+        } else {
+            freeBusyCache.invalidateUsers(teamId, userIds, null, null);
+        }
+    }
+
     /**
      * 근무시간 검증 (공통)
      */
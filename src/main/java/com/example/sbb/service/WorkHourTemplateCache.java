@@ -0,0 +1,60 @@
+package com.example.sbb.service;
+
+import com.example.sbb.domain.WorkHour;
+import com.example.sbb.repository.WorkHourRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 팀별 컴파일된 주간 근무시간(DayTemplates) 캐시.
+ *
+ * 스케줄 생성과 미팅 추천이 free/busy 를 다시 계산할 때마다 WorkHour 행을 읽어 컴파일하지 않도록 팀 단위로 보관한다.
+ * 근무시간 설정이 없는 팀은 기본 근무시간(9시-18시, 월-일)으로 컴파일한다.
+ * WorkHourService 의 생성/수정/삭제/일괄 저장이 팀 단위로 무효화하며, 커밋 이후에 한 번 더 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkHourTemplateCache {
+
+    private final WorkHourRepository workHourRepository;
+
+    private final Map<Long, DayTemplates> templates = new ConcurrentHashMap<>();
+
+    DayTemplates templates(Long teamId) {
+        return templates.computeIfAbsent(teamId, this::compile);
+    }
+
+    /**
+     * 팀 근무시간 변경 시 호출
+     */
+    public void invalidate(Long teamId) {
+        if (teamId == null) {
+            return;
+        }
+        templates.remove(teamId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    templates.remove(teamId);
+                }
+            });
+        }
+    }
+
+    private DayTemplates compile(Long teamId) {
+        List<WorkHour> workHours = workHourRepository.findByTeam_Id(teamId);
+        if (workHours.isEmpty()) {
+            log.warn("근무시간 설정이 없어 기본 근무시간(9시-18시, 월-일)을 사용합니다: teamId={}", teamId);
+            workHours = DayTemplates.defaultWorkHours();
+        }
+        return DayTemplates.compile(workHours, true);
+    }
+}
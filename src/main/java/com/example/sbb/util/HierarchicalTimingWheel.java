@@ -0,0 +1,119 @@
+package com.example.sbb.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠. 만료 시각을 틱 단위로 버킷에 넣고, 시간이 흐르면 상위 단계 버킷을 하위 단계로 내려보낸다.
+ * 등록/만료 모두 O(1)(캐스케이드 제외)이라 리스가 많아도 틱마다 전체를 훑지 않는다.
+ *
+ * - 단계 l 의 버킷 하나는 wheelSize^l 틱을 담당하고, 단계 전체는 wheelSize^(l+1) 틱을 덮는다.
+ * - 최상위 단계 범위를 넘는 항목은 마지막 버킷에 두었다가 캐스케이드 시 실제 만료 시각으로 다시 배치한다.
+ * - 취소는 지원하지 않는다. 호출 측이 만료된 항목이 아직 유효한지 확인하는 지연 삭제 방식을 쓴다.
+ *
+ * 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final List<List<Entry<T>>>[] buckets;
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+        if (tickMs <= 0 || levels <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMs > 0, levels > 0, wheelSize 는 2 이상의 2의 거듭제곱이어야 합니다.");
+        }
+        if (Integer.numberOfTrailingZeros(wheelSize) * levels >= 62) {
+            throw new IllegalArgumentException("타이밍 휠 범위가 너무 큽니다.");
+        }
+        this.tickMs = tickMs;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.buckets = new List[levels];
+        for (int l = 0; l < levels; l++) {
+            List<List<Entry<T>>> level = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                level.add(new ArrayList<>());
+            }
+            buckets[l] = level;
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * 항목을 등록한다. 이미 지난 시각이면 다음 틱에 만료된다.
+     */
+    public void add(T item, long deadlineMs) {
+        place(new Entry<>(item, Math.max(ceilTick(deadlineMs), currentTick + 1)));
+        size++;
+    }
+
+    /**
+     * nowMs 까지 시간을 진행시키며 만료 시각이 된 항목을 consumer 로 넘긴다.
+     */
+    public void advance(long nowMs, Consumer<T> expired) {
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // 상위 단계부터 내려보내야 같은 틱에 하위 버킷으로 들어온 항목도 함께 처리된다.
+            for (int l = levels - 1; l > 0; l--) {
+                if ((currentTick & ((1L << (bits * l)) - 1)) == 0) {
+                    cascade(l, (int) ((currentTick >>> (bits * l)) & mask));
+                }
+            }
+            List<Entry<T>> due = buckets[0].get((int) (currentTick & mask));
+            if (due.isEmpty()) {
+                continue;
+            }
+            List<Entry<T>> fired = new ArrayList<>(due);
+            due.clear();
+            for (Entry<T> entry : fired) {
+                size--;
+                expired.accept(entry.item);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int level, int index) {
+        List<Entry<T>> bucket = buckets[level].get(index);
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> moving = new ArrayList<>(bucket);
+        bucket.clear();
+        moving.forEach(this::place);
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        for (int l = 0; l < levels; l++) {
+            if (delta < (1L << (bits * (l + 1)))) {
+                buckets[l].get((int) ((entry.deadlineTick >>> (bits * l)) & mask)).add(entry);
+                return;
+            }
+        }
+        // 최상위 범위 밖: 범위 끝 버킷에 두었다가 캐스케이드 때 다시 배치
+        int top = levels - 1;
+        long clampedTick = currentTick + (1L << (bits * levels)) - 1;
+        buckets[top].get((int) ((clampedTick >>> (bits * top)) & mask)).add(entry);
+    }
+
+    private long ceilTick(long ms) {
+        return (ms + tickMs - 1) / tickMs;
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sbb.util;
+
+import com.example.sbb.dto.SolverSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 스냅샷 파일 형식: gzip 으로 압축한 JSON (*.json.gz).
+ * 읽을 때 버전을 확인해 모르는 형식은 거절한다.
+ */
+public final class SolverSnapshotCodec {
+
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private SolverSnapshotCodec() {
+    }
+
+    public static void write(SolverSnapshot snapshot, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        MAPPER.writeValue(gzip, snapshot);
+        gzip.finish();
+    }
+
+    public static SolverSnapshot read(InputStream in) throws IOException {
+        SolverSnapshot snapshot = MAPPER.readValue(new GZIPInputStream(in), SolverSnapshot.class);
+        if (snapshot.getVersion() != SolverSnapshot.CURRENT_VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + snapshot.getVersion());
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,72 @@
+-- ===========================================
+-- V10 팀 변경 카운터 (조건부 GET 의 ETag)
+-- ===========================================
+
+-- 팀의 작업/이벤트/스케줄/할당이 바뀔 때마다 1씩 증가
+-- 삭제는 max(updated_at) 에 드러나지 않으므로 이 카운터로 잡는다
+ALTER TABLE team ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+
+-- 버전 조회(팀 PK + 아래 인덱스의 끝 한 건)용 인덱스
+CREATE INDEX IF NOT EXISTS idx_task_team_updated ON task (team_id, updated_at);
+CREATE INDEX IF NOT EXISTS idx_sched_team_created ON schedule (team_id, created_at);
+
+CREATE OR REPLACE FUNCTION bump_team_change_seq() RETURNS trigger AS $$
+DECLARE
+    row_team_id BIGINT;
+BEGIN
+    IF TG_TABLE_NAME = 'assignment' THEN
+        SELECT s.team_id INTO row_team_id
+        FROM schedule s
+        WHERE s.id = CASE WHEN TG_OP = 'DELETE' THEN OLD.schedule_id ELSE NEW.schedule_id END;
+    ELSIF TG_OP = 'DELETE' THEN
+        row_team_id := OLD.team_id;
+    ELSE
+        row_team_id := NEW.team_id;
+        -- 다른 팀으로 옮겨진 행은 원래 팀도 바뀐 것
+        IF TG_OP = 'UPDATE' AND OLD.team_id IS DISTINCT FROM NEW.team_id THEN
+            UPDATE team SET change_seq = change_seq + 1 WHERE id = OLD.team_id;
+        END IF;
+    END IF;
+
+    IF row_team_id IS NOT NULL THEN
+        UPDATE team SET change_seq = change_seq + 1 WHERE id = row_team_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 커밋 시점에 실행 (DEFERRABLE INITIALLY DEFERRED):
+-- 팀 행 잠금을 트랜잭션 마지막에 잡으므로 행 잠금 순서가 엇갈려 교착되지 않고, 잠금 시간도 커밋까지로 짧다
+CREATE CONSTRAINT TRIGGER trg_task_change_seq
+    AFTER INSERT OR UPDATE OR DELETE ON task
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION bump_team_change_seq();
+
+CREATE CONSTRAINT TRIGGER trg_event_change_seq
+    AFTER INSERT OR UPDATE OR DELETE ON calendar_event
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION bump_team_change_seq();
+
+CREATE CONSTRAINT TRIGGER trg_schedule_change_seq
+    AFTER INSERT OR UPDATE OR DELETE ON schedule
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION bump_team_change_seq();
+
+CREATE CONSTRAINT TRIGGER trg_assignment_change_seq
+    AFTER INSERT OR UPDATE OR DELETE ON assignment
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION bump_team_change_seq();
+
+-- 작업 목록 응답에 팀 이름이 들어가므로 이름 변경도 반영
+CREATE OR REPLACE FUNCTION bump_team_change_seq_on_rename() RETURNS trigger AS $$
+BEGIN
+    IF NEW.name IS DISTINCT FROM OLD.name THEN
+        NEW.change_seq := OLD.change_seq + 1;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_team_rename_change_seq
+    BEFORE UPDATE OF name ON team
+    FOR EACH ROW EXECUTE FUNCTION bump_team_change_seq_on_rename();
@@ -0,0 +1,13 @@
+-- ===========================================
+-- V11 캘린더 이벤트 기간 GiST 인덱스 (충돌 조회)
+-- ===========================================
+
+-- (team_id, starts_at, ends_at) B-tree 는 starts_at < 창 종료 쪽만 범위를 좁히므로
+-- 이력이 긴 팀에서는 창 이전에 시작한 일정을 거의 다 훑는다.
+-- 기간 겹침(&&)을 GiST 로 찾으면 양쪽 경계가 모두 인덱스로 처리된다.
+-- team_id(B-tree 연산자)를 같은 GiST 인덱스에 넣기 위해 btree_gist 사용 (PostgreSQL 13+ trusted 확장)
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- ends_at < starts_at 인 과거 행도 색인되도록 상한을 GREATEST 로 보정 (그런 행은 빈 기간이 된다)
+CREATE INDEX IF NOT EXISTS idx_event_team_period
+    ON calendar_event USING gist (team_id, tstzrange(starts_at, GREATEST(starts_at, ends_at)));
@@ -0,0 +1,134 @@
+-- ===========================================
+-- V12 팀 변경 카운터를 커밋 시 트랜잭션당 팀별 한 번만 증가
+-- ===========================================
+
+-- V10 의 행 단위 트리거는 배치 저장(반복 일정 500건, 스케줄 할당 수백 건)에서
+-- 행마다 팀 UPDATE 를 하고, 할당은 행마다 스케줄을 다시 조회했다.
+-- 두 단계로 나눈다:
+--   1) 문장 단위 트리거(즉시)는 전이 테이블에서 바뀐 팀만 모아 트랜잭션 로컬 설정 sbb.changed_teams 에 적는다.
+--      팀 행은 건드리지 않으므로 잠금이 없다.
+--   2) 행 단위 지연 제약 트리거(커밋 시)는 처음 실행되는 하나가 모인 팀을 ID 순으로 잠가 한 번씩 올리고
+--      설정을 비운다. 나머지는 빈 설정만 보고 바로 끝난다.
+-- V10 과 같이 팀 행 잠금은 커밋 직전에만 ID 순으로 잡으므로, 긴 트랜잭션(스케줄 생성)이 같은 팀의 다른 쓰기를
+-- 막지 않고, 여러 팀을 다른 순서로 바꾸는 트랜잭션끼리도 교착되지 않는다.
+DROP TRIGGER IF EXISTS trg_task_change_seq ON task;
+DROP TRIGGER IF EXISTS trg_event_change_seq ON calendar_event;
+DROP TRIGGER IF EXISTS trg_schedule_change_seq ON schedule;
+DROP TRIGGER IF EXISTS trg_assignment_change_seq ON assignment;
+DROP FUNCTION IF EXISTS bump_team_change_seq();
+
+-- new_rows / old_rows 는 트리거가 선언한 전이 테이블만 참조하도록 TG_OP 로 나눈다
+-- (UPDATE 는 둘 다: 다른 팀으로 옮겨진 행은 원래 팀도 바뀐 것)
+CREATE OR REPLACE FUNCTION record_team_changes() RETURNS trigger AS $$
+DECLARE
+    team_ids BIGINT[];
+    changed  BIGINT[];
+BEGIN
+    IF TG_TABLE_NAME = 'assignment' THEN
+        IF TG_OP = 'INSERT' THEN
+            SELECT array_agg(DISTINCT s.team_id) INTO team_ids
+            FROM schedule s WHERE s.id IN (SELECT schedule_id FROM new_rows);
+        ELSIF TG_OP = 'DELETE' THEN
+            SELECT array_agg(DISTINCT s.team_id) INTO team_ids
+            FROM schedule s WHERE s.id IN (SELECT schedule_id FROM old_rows);
+        ELSE
+            SELECT array_agg(DISTINCT s.team_id) INTO team_ids
+            FROM schedule s
+            WHERE s.id IN (SELECT schedule_id FROM new_rows UNION SELECT schedule_id FROM old_rows);
+        END IF;
+    ELSIF TG_OP = 'INSERT' THEN
+        SELECT array_agg(DISTINCT team_id) INTO team_ids FROM new_rows;
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT array_agg(DISTINCT team_id) INTO team_ids FROM old_rows;
+    ELSE
+        SELECT array_agg(DISTINCT team_id) INTO team_ids
+        FROM (SELECT team_id FROM new_rows UNION SELECT team_id FROM old_rows) moved;
+    END IF;
+
+    -- 0건 문장
+    IF team_ids IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    -- 세이브포인트 롤백 시 설정도 함께 되돌아간다
+    changed := string_to_array(NULLIF(current_setting('sbb.changed_teams', true), ''), ',')::BIGINT[];
+    team_ids := ARRAY(SELECT unnest(changed) UNION SELECT unnest(team_ids));
+    PERFORM set_config('sbb.changed_teams', array_to_string(team_ids, ','), true);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION flush_team_changes() RETURNS trigger AS $$
+DECLARE
+    team_ids BIGINT[];
+BEGIN
+    team_ids := string_to_array(NULLIF(current_setting('sbb.changed_teams', true), ''), ',')::BIGINT[];
+    IF team_ids IS NULL THEN
+        RETURN NULL;
+    END IF;
+    PERFORM set_config('sbb.changed_teams', '', true);
+
+    -- 한 문장의 UPDATE 는 잠금 순서를 보장하지 않으므로 먼저 ID 순으로 잠근다
+    PERFORM 1 FROM team WHERE id = ANY (team_ids) ORDER BY id FOR NO KEY UPDATE;
+    UPDATE team SET change_seq = change_seq + 1 WHERE id = ANY (team_ids);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 전이 테이블은 이벤트 하나짜리 트리거에만 붙일 수 있으므로 INSERT / UPDATE / DELETE 를 따로 만든다
+-- (지연 제약 트리거는 행 단위만 가능하므로 기록은 일반 문장 단위 트리거가 맡는다)
+CREATE TRIGGER trg_task_change_seq_ins AFTER INSERT ON task
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE TRIGGER trg_task_change_seq_upd AFTER UPDATE ON task
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE TRIGGER trg_task_change_seq_del AFTER DELETE ON task
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE CONSTRAINT TRIGGER trg_task_change_seq_flush
+    AFTER INSERT OR UPDATE OR DELETE ON task
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_team_changes();
+
+CREATE TRIGGER trg_event_change_seq_ins AFTER INSERT ON calendar_event
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE TRIGGER trg_event_change_seq_upd AFTER UPDATE ON calendar_event
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE TRIGGER trg_event_change_seq_del AFTER DELETE ON calendar_event
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE CONSTRAINT TRIGGER trg_event_change_seq_flush
+    AFTER INSERT OR UPDATE OR DELETE ON calendar_event
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_team_changes();
+
+CREATE TRIGGER trg_schedule_change_seq_ins AFTER INSERT ON schedule
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE TRIGGER trg_schedule_change_seq_upd AFTER UPDATE ON schedule
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE TRIGGER trg_schedule_change_seq_del AFTER DELETE ON schedule
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE CONSTRAINT TRIGGER trg_schedule_change_seq_flush
+    AFTER INSERT OR UPDATE OR DELETE ON schedule
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_team_changes();
+
+CREATE TRIGGER trg_assignment_change_seq_ins AFTER INSERT ON assignment
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE TRIGGER trg_assignment_change_seq_upd AFTER UPDATE ON assignment
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE TRIGGER trg_assignment_change_seq_del AFTER DELETE ON assignment
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_team_changes();
+CREATE CONSTRAINT TRIGGER trg_assignment_change_seq_flush
+    AFTER INSERT OR UPDATE OR DELETE ON assignment
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION flush_team_changes();
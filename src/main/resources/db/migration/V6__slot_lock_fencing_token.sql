@@ -0,0 +1,9 @@
+-- ===========================================
+-- V6 Slot lock 펜싱 토큰
+-- ===========================================
+
+-- 소유자가 바뀔 때마다 증가하는 토큰 (DB/인메모리 리스 모드 공용)
+ALTER TABLE slot_lock
+    ADD COLUMN IF NOT EXISTS fencing_token BIGINT;
+
+CREATE SEQUENCE IF NOT EXISTS slot_lock_fencing_seq;
@@ -0,0 +1,14 @@
+-- ===========================================
+-- V7 사용자/날짜별 free/busy 비트맵
+-- ===========================================
+
+-- FreeBusyCache 의 선택적 영속 계층 (free-busy.persistent=true 일 때만 사용)
+-- free_mask: 48개 30분 슬롯 가용 여부, 6바이트 little-endian
+CREATE TABLE IF NOT EXISTS free_busy_day (
+    team_id     BIGINT      NOT NULL REFERENCES team(id) ON DELETE CASCADE,
+    user_id     BIGINT      NOT NULL REFERENCES "user"(id) ON DELETE CASCADE,
+    day         DATE        NOT NULL,
+    free_mask   BYTEA       NOT NULL,
+    computed_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (team_id, user_id, day)
+);
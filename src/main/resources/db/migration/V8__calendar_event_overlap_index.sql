@@ -0,0 +1,11 @@
+-- ===========================================
+-- V8 캘린더 이벤트 겹침 조회 인덱스
+-- ===========================================
+
+-- 충돌 검사(team_id = ? AND starts_at < ? AND ends_at > ?)를 인덱스 범위 조회로 처리
+-- ends_at 까지 포함해 테이블 접근 없이 후보를 거른다
+CREATE INDEX IF NOT EXISTS idx_event_team_time
+    ON calendar_event (team_id, starts_at, ends_at);
+
+-- (team_id, starts_at) 조회는 위 인덱스의 앞부분으로 처리되므로 중복 인덱스 제거
+DROP INDEX IF EXISTS idx_event_team_start;
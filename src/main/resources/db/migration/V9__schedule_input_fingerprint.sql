@@ -0,0 +1,7 @@
+-- ===========================================
+-- V9 스케줄 입력 지문
+-- ===========================================
+
+-- 스케줄을 만든 솔버 입력(작업, 가용 시간, 범위, 전략)의 SHA-256 (hex)
+-- 같은 입력으로 다시 생성/수리를 요청하면 풀지 않고 기존 결과를 재사용한다
+ALTER TABLE schedule ADD COLUMN IF NOT EXISTS input_fingerprint VARCHAR(64);
@@ -0,0 +1,129 @@
+package com.example.sbb.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.domain.AssignmentSource;
+import com.example.sbb.dto.event.ScheduleProgressMessage;
+import com.example.sbb.dto.response.AssignmentResponse;
+import com.example.sbb.dto.response.ScheduleResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * 일반적인 스케줄 완료 페이로드에서 CBOR 가 JSON 보다 작고, 엄격한 content-type 매칭으로 왕복 변환되는지 검증한다.
+ * 배치 수별 전송 바이트와 인코딩 시간 비교는 benchmark 태그라 기본 test 에서 빠진다 (gradle benchmark 로 실행, 결과는 표준 출력).
+ */
+class CborMessageConverterTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final CborMessageConverter cborConverter = new CborMessageConverter();
+
+    @Test
+    void cborIsSmallerThanJson() throws Exception {
+        for (int assignmentCount : new int[] {10, 100, 500}) {
+            ScheduleProgressMessage payload = ScheduleProgressMessage.completed(7L, schedule(assignmentCount));
+
+            byte[] json = jsonMapper.writeValueAsBytes(payload);
+            byte[] cbor = encodeCbor(payload);
+
+            assertThat(cbor.length).isLessThan(json.length);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareEncodeTimeAndSize() throws Exception {
+        for (int assignmentCount : new int[] {10, 100, 500}) {
+            ScheduleProgressMessage payload = ScheduleProgressMessage.completed(7L, schedule(assignmentCount));
+            // 워밍업 뒤 같은 횟수씩 측정
+            for (int i = 0; i < WARMUP; i++) {
+                jsonMapper.writeValueAsBytes(payload);
+                encodeCbor(payload);
+            }
+            int jsonBytes = 0;
+            long jsonNanos = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                jsonBytes = jsonMapper.writeValueAsBytes(payload).length;
+            }
+            jsonNanos = System.nanoTime() - jsonNanos;
+            int cborBytes = 0;
+            long cborNanos = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                cborBytes = encodeCbor(payload).length;
+            }
+            cborNanos = System.nanoTime() - cborNanos;
+
+            assertThat(cborBytes).isLessThan(jsonBytes);
+            System.out.printf("assignments=%d json=%dB cbor=%dB (%.0f%%) json-encode=%.1fus cbor-encode=%.1fus%n",
+                assignmentCount, jsonBytes, cborBytes, 100.0 * cborBytes / jsonBytes,
+                jsonNanos / 1_000.0 / ITERATIONS, cborNanos / 1_000.0 / ITERATIONS);
+        }
+    }
+
+    @Test
+    void cborRoundTripsThroughConverter() {
+        ScheduleProgressMessage payload = ScheduleProgressMessage.completed(7L, schedule(3));
+        Message<byte[]> message = MessageBuilder.withPayload(encodeCbor(payload))
+                .setHeader(MessageHeaders.CONTENT_TYPE, CborMessageConverter.APPLICATION_CBOR)
+                .build();
+
+        Object decoded = cborConverter.fromMessage(message, Map.class);
+
+        assertThat(decoded).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) decoded).get("status")).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void jsonMessagesAreIgnoredByStrictCborConverter() {
+        Message<byte[]> message = MessageBuilder.withPayload("{}".getBytes())
+                .setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+                .build();
+
+        assertThat(cborConverter.fromMessage(message, Map.class)).isNull();
+        assertThat(cborConverter.toMessage(Map.of("a", 1), null)).isNull();
+    }
+
+    private byte[] encodeCbor(Object payload) {
+        MessageHeaders headers = new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, CborMessageConverter.APPLICATION_CBOR));
+        Message<?> message = cborConverter.toMessage(payload, headers);
+        return (byte[]) message.getPayload();
+    }
+
+    private ScheduleResponse schedule(int assignmentCount) {
+        OffsetDateTime base = OffsetDateTime.of(2025, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC);
+        List<AssignmentResponse> assignments = new ArrayList<>();
+        for (int i = 0; i < assignmentCount; i++) {
+            OffsetDateTime startsAt = base.plusMinutes(30L * i);
+            assignments.add(new AssignmentResponse(
+                    (long) i + 1, 11L, (long) i + 100, "작업 " + i, "작업 " + i,
+                    startsAt, startsAt.plusMinutes(60), AssignmentSource.TASK, (i * 2) % 48,
+                    "{\"slots\":2,\"split\":false,\"userId\":" + (i % 5 + 1) + ",\"splitIndex\":0}"));
+        }
+        ScheduleResponse schedule = new ScheduleResponse();
+        schedule.setId(11L);
+        schedule.setTeamId(7L);
+        schedule.setTeamName("플랫폼팀");
+        schedule.setRangeStart(LocalDate.of(2025, 3, 3));
+        schedule.setRangeEnd(LocalDate.of(2025, 3, 16));
+        schedule.setScore(1234);
+        schedule.setCreatedBy(1L);
+        schedule.setCreatedByName("관리자");
+        schedule.setCreatedAt(base);
+        schedule.setAssignments(assignments);
+        return schedule;
+    }
+}
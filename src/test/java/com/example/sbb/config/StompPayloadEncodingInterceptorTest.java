@@ -0,0 +1,156 @@
+package com.example.sbb.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.sbb.config.StompPayloadEncoder.EncodedPayload;
+import com.example.sbb.dto.event.TaskEventMessage;
+import com.example.sbb.service.CollaborationEventPublisher;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+class StompPayloadEncodingInterceptorTest {
+
+    private static final String CBOR_SESSION = "cbor-session";
+    private static final String JSON_SESSION = "json-session";
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final StompPayloadEncodingInterceptor interceptor = new StompPayloadEncodingInterceptor();
+    private final StompPayloadEncoder encoder = new StompPayloadEncoder(
+            new CompositeMessageConverter(List.of(new MappingJackson2MessageConverter())),
+            interceptor, new CborMessageConverter());
+
+    @Test
+    void connect_negotiatesCborOnlyOnNativeWebSocketSessions() {
+        interceptor.preSend(connect(CBOR_SESSION, "cbor", true), channel);
+        // SockJS(/ws) 세션은 텍스트 프레임만 가능하므로 CBOR 를 요청해도 JSON
+        interceptor.preSend(connect("sockjs-session", "CBOR", false), channel);
+        interceptor.preSend(connect(JSON_SESSION, null, true), channel);
+
+        assertThat(interceptor.encodingOf(CBOR_SESSION)).isEqualTo(StompPayloadEncoding.CBOR);
+        assertThat(interceptor.encodingOf("sockjs-session")).isEqualTo(StompPayloadEncoding.JSON);
+        assertThat(interceptor.encodingOf(JSON_SESSION)).isEqualTo(StompPayloadEncoding.JSON);
+        assertThat(interceptor.hasCborSessions()).isTrue();
+    }
+
+    @Test
+    void disconnect_forgetsCborSession() {
+        interceptor.preSend(connect(CBOR_SESSION, "cbor", true), channel);
+
+        interceptor.onDisconnect(new SessionDisconnectEvent(this, disconnectMessage(), CBOR_SESSION, CloseStatus.NORMAL));
+
+        assertThat(interceptor.encodingOf(CBOR_SESSION)).isEqualTo(StompPayloadEncoding.JSON);
+        assertThat(interceptor.hasCborSessions()).isFalse();
+    }
+
+    @Test
+    void encode_skipsCborWhileNoSessionNegotiatedIt() {
+        EncodedPayload encoded = encoder.encode(Map.of("status", "COMPLETED"));
+
+        assertThat(encoded.json()).isNotEmpty();
+        assertThat(encoded.cbor()).isNull();
+    }
+
+    @Test
+    void outbound_swapsPayloadToCborBytesForCborSession() {
+        interceptor.preSend(connect(CBOR_SESSION, "cbor", true), channel);
+        EncodedPayload encoded = encoder.encode(Map.of("status", "COMPLETED"));
+        assertThat(encoded.cbor()).isNotNull();
+
+        Message<?> sent = interceptor.preSend(outbound(encoded, CBOR_SESSION), channel);
+
+        assertThat(sent.getPayload()).isSameAs(encoded.cbor());
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(sent);
+        assertThat(headers.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(headers.getFirstNativeHeader(StompPayloadEncoding.HEADER)).isEqualTo("cbor");
+        assertThat(sent.getHeaders()).doesNotContainKey(StompPayloadEncodingInterceptor.CBOR_PAYLOAD_HEADER);
+    }
+
+    @Test
+    void outbound_keepsJsonPayloadForJsonSession() {
+        interceptor.preSend(connect(CBOR_SESSION, "cbor", true), channel);
+        interceptor.preSend(connect(JSON_SESSION, null, true), channel);
+        EncodedPayload encoded = encoder.encode(Map.of("status", "COMPLETED"));
+
+        Message<?> outbound = outbound(encoded, JSON_SESSION);
+        Message<?> sent = interceptor.preSend(outbound, channel);
+
+        assertThat(sent).isSameAs(outbound);
+        assertThat(sent.getPayload()).isSameAs(encoded.json());
+    }
+
+    @Test
+    void publisher_encodesOncePerEncodingAcrossDestinations() {
+        interceptor.preSend(connect(CBOR_SESSION, "cbor", true), channel);
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        StompPayloadEncoder spyEncoder = spy(encoder);
+        CollaborationEventPublisher publisher = new CollaborationEventPublisher(messagingTemplate, spyEncoder);
+
+        publisher.publishTaskEvent(TaskEventMessage.deleted(5L, 7L));
+
+        verify(spyEncoder, times(1)).encode(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<byte[]>> messages = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/tasks"), messages.capture());
+        verify(messagingTemplate).send(eq("/topic/tasks/7"), messages.capture());
+        Message<byte[]> first = messages.getAllValues().get(0);
+        Message<byte[]> second = messages.getAllValues().get(1);
+        // 목적지마다 같은 JSON/CBOR 바이트를 공유 (다시 직렬화하지 않음)
+        assertThat(second.getPayload()).isSameAs(first.getPayload());
+        assertThat(second.getHeaders().get(StompPayloadEncodingInterceptor.CBOR_PAYLOAD_HEADER))
+                .isSameAs(first.getHeaders().get(StompPayloadEncodingInterceptor.CBOR_PAYLOAD_HEADER))
+                .isNotNull();
+    }
+
+    private static Message<byte[]> connect(String sessionId, String encoding, boolean nativeWebSocket) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (encoding != null) {
+            accessor.setNativeHeader(StompPayloadEncoding.HEADER, encoding);
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        if (nativeWebSocket) {
+            new StompPayloadEncodingInterceptor.BinaryTransportHandshakeInterceptor()
+                    .beforeHandshake(null, null, null, attributes);
+        }
+        accessor.setSessionAttributes(attributes);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> outbound(EncodedPayload encoded, String sessionId) {
+        Message<byte[]> message = encoder.toMessage(encoded);
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination("/topic/tasks");
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> disconnectMessage() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        accessor.setSessionId(CBOR_SESSION);
+        return MessageBuilder.createMessage(new byte[0], new MessageHeaders(accessor.toMap()));
+    }
+}
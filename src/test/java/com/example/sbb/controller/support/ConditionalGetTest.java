@@ -0,0 +1,53 @@
+package com.example.sbb.controller.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class ConditionalGetTest {
+
+    private static final String ETAG = "tasks-1-42-1700000000000000";
+
+    @Test
+    void respond_buildsBodyWithETagWhenNoValidator() {
+        AtomicInteger loads = new AtomicInteger();
+
+        ResponseEntity<List<String>> response = ConditionalGet.respond(null, ETAG, () -> {
+            loads.incrementAndGet();
+            return List.of("a");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + ETAG + "\"");
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache");
+        assertThat(response.getBody()).containsExactly("a");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void respond_returnsNotModifiedWithoutLoadingBody() {
+        AtomicInteger loads = new AtomicInteger();
+
+        ResponseEntity<List<String>> response = ConditionalGet.respond("\"" + ETAG + "\"", ETAG, () -> {
+            loads.incrementAndGet();
+            return List.of("a");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + ETAG + "\"");
+        assertThat(response.getBody()).isNull();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void matches_usesWeakComparisonOverTagList() {
+        assertThat(ConditionalGet.matches("\"other\", W/\"" + ETAG + "\"", ETAG)).isTrue();
+        assertThat(ConditionalGet.matches("*", ETAG)).isTrue();
+        assertThat(ConditionalGet.matches("\"tasks-1-43-1700000000000000\"", ETAG)).isFalse();
+        assertThat(ConditionalGet.matches("", ETAG)).isFalse();
+    }
+}
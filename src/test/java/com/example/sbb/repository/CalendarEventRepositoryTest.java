@@ -0,0 +1,79 @@
+package com.example.sbb.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.sbb.domain.CalendarEvent;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * unnest(CAST(:x AS ...[])) 배열 바인딩과 기간 겹침 조건 (경계 접촉은 충돌 아님, 자기 자신/다른 팀 제외).
+ */
+class CalendarEventRepositoryTest extends PostgresRepositoryTest {
+
+    private static final OffsetDateTime MONDAY_9 = OffsetDateTime.of(2030, 3, 4, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long teamId;
+    private Long otherTeamId;
+
+    @BeforeEach
+    void setUp() {
+        teamId = jdbcTemplate.queryForObject("INSERT INTO team (name) VALUES ('플랫폼팀') RETURNING id", Long.class);
+        otherTeamId = jdbcTemplate.queryForObject("INSERT INTO team (name) VALUES ('다른팀') RETURNING id", Long.class);
+    }
+
+    @Test
+    void findConflictPairs_pairsEachSourceWithOverlappingTeamEvents() {
+        Long standup = insertEvent(teamId, MONDAY_9, MONDAY_9.plusHours(1));
+        Long review = insertEvent(teamId, MONDAY_9.plusMinutes(30), MONDAY_9.plusHours(2));
+        Long lunch = insertEvent(teamId, MONDAY_9.plusHours(3), MONDAY_9.plusHours(4));
+        Long longWorkshop = insertEvent(teamId, MONDAY_9.minusDays(2), MONDAY_9.plusDays(1));  // 창보다 훨씬 먼저 시작
+        insertEvent(teamId, MONDAY_9.plusHours(2), MONDAY_9.plusHours(3));                     // 경계만 맞닿음
+        insertEvent(teamId, MONDAY_9.minusDays(7), MONDAY_9.minusDays(7).plusHours(1));        // 지난 일정
+        insertEvent(otherTeamId, MONDAY_9, MONDAY_9.plusHours(2));                             // 다른 팀
+
+        List<CalendarEventRepository.ConflictPair> pairs = calendarEventRepository.findConflictPairs(
+            teamId,
+            new String[] {standup.toString(), lunch.toString()},
+            new String[] {MONDAY_9.toString(), MONDAY_9.plusHours(3).toString()},
+            new String[] {MONDAY_9.plusHours(1).toString(), MONDAY_9.plusHours(4).toString()});
+
+        assertThat(pairs)
+            .extracting(CalendarEventRepository.ConflictPair::getSourceId, CalendarEventRepository.ConflictPair::getConflictId)
+            .containsExactly(
+                tuple(standup, longWorkshop),
+                tuple(standup, review),
+                tuple(lunch, longWorkshop));
+    }
+
+    @Test
+    void findOverlapping_returnsOnlyTeamEventsTouchingRange() {
+        Long inside = insertEvent(teamId, MONDAY_9, MONDAY_9.plusHours(1));
+        Long spanning = insertEvent(teamId, MONDAY_9.minusDays(1), MONDAY_9.plusDays(1));
+        insertEvent(teamId, MONDAY_9.plusDays(3), MONDAY_9.plusDays(3).plusHours(1));
+        insertEvent(otherTeamId, MONDAY_9, MONDAY_9.plusHours(1));
+
+        List<CalendarEvent> events = calendarEventRepository.findOverlapping(
+            teamId, MONDAY_9.minusHours(1), MONDAY_9.plusHours(8));
+
+        assertThat(events).extracting(CalendarEvent::getId).containsExactlyInAnyOrder(inside, spanning);
+    }
+
+    private Long insertEvent(Long team, OffsetDateTime startsAt, OffsetDateTime endsAt) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO calendar_event (team_id, title, starts_at, ends_at) VALUES (?, '일정', ?, ?) RETURNING id",
+            Long.class, team, startsAt, endsAt);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.sbb.repository;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 네이티브 쿼리/트리거를 실제 PostgreSQL 에서 Flyway 마이그레이션 후 검증하는 리포지토리 테스트 기반.
+ * 컨테이너는 테스트 클래스 사이에서 공유하고(스프링 컨텍스트 캐시와 함께), Docker 가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+abstract class PostgresRepositoryTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.sbb.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ScheduleRepositoryTest extends PostgresRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 4);
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findLatestIdByTeamIdAndDateRange_returnsNewestOverlappingSchedule() {
+        Long teamId = jdbcTemplate.queryForObject("INSERT INTO team (name) VALUES ('플랫폼팀') RETURNING id", Long.class);
+        Long otherTeamId = jdbcTemplate.queryForObject("INSERT INTO team (name) VALUES ('다른팀') RETURNING id", Long.class);
+        insertSchedule(teamId, MONDAY, MONDAY.plusDays(6), 1);
+        Long latest = insertSchedule(teamId, MONDAY, MONDAY.plusDays(6), 2);
+        insertSchedule(teamId, MONDAY.plusDays(14), MONDAY.plusDays(20), 3);   // 기간 밖
+        insertSchedule(otherTeamId, MONDAY, MONDAY.plusDays(6), 4);            // 다른 팀
+
+        assertThat(scheduleRepository.findLatestIdByTeamIdAndDateRange(teamId, MONDAY.plusDays(2), MONDAY.plusDays(3)))
+            .contains(latest);
+        assertThat(scheduleRepository.findLatestIdByTeamIdAndDateRange(teamId, MONDAY.plusDays(7), MONDAY.plusDays(8)))
+            .isEmpty();
+    }
+
+    @Test
+    void findFirstByTeamIdOrderByCreatedAtDesc_returnsNewestScheduleOnly() {
+        Long teamId = jdbcTemplate.queryForObject("INSERT INTO team (name) VALUES ('플랫폼팀') RETURNING id", Long.class);
+        insertSchedule(teamId, MONDAY, MONDAY.plusDays(6), 2);
+        Long latest = insertSchedule(teamId, MONDAY.plusDays(7), MONDAY.plusDays(13), 5);
+        insertSchedule(teamId, MONDAY.plusDays(14), MONDAY.plusDays(20), 3);
+
+        assertThat(scheduleRepository.findFirstByTeam_IdOrderByCreatedAtDesc(teamId))
+            .hasValueSatisfying(schedule -> assertThat(schedule.getId()).isEqualTo(latest));
+    }
+
+    private Long insertSchedule(Long teamId, LocalDate rangeStart, LocalDate rangeEnd, int minutesAfter) {
+        OffsetDateTime createdAt = MONDAY.atStartOfDay().atOffset(ZoneOffset.UTC).plusMinutes(minutesAfter);
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO schedule (team_id, range_start, range_end, created_at) VALUES (?, ?, ?, ?) RETURNING id",
+            Long.class, teamId, rangeStart, rangeEnd, createdAt);
+    }
+}
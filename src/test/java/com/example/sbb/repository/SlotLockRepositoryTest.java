@@ -0,0 +1,83 @@
+package com.example.sbb.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * acquireLease 의 ON CONFLICT ... WHERE 규칙: 재진입, 만료된 락 인수, 다른 소유자의 유효한 락 거절.
+ */
+class SlotLockRepositoryTest extends PostgresRepositoryTest {
+
+    private static final String SLOT_KEY = "team1:20300304:0900";
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2030, 3, 4, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private SlotLockRepository slotLockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long alice;
+    private Long bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = insertUser("alice@example.com");
+        bob = insertUser("bob@example.com");
+    }
+
+    @Test
+    void acquireLease_sameOwnerReentersWithSameTokenAndExtendsExpiry() {
+        long token = slotLockRepository.acquireLease(SLOT_KEY, alice, NOW.plusSeconds(30), NOW).orElseThrow();
+
+        Optional<Long> reentered = slotLockRepository.acquireLease(SLOT_KEY, alice, NOW.plusSeconds(90), NOW.plusSeconds(10));
+
+        assertThat(reentered).contains(token);
+        assertThat(expiresAt()).isEqualTo(NOW.plusSeconds(90).toInstant());
+    }
+
+    @Test
+    void acquireLease_takesOverExpiredLockWithNewToken() {
+        long token = slotLockRepository.acquireLease(SLOT_KEY, alice, NOW.plusSeconds(30), NOW).orElseThrow();
+
+        Optional<Long> takeover = slotLockRepository.acquireLease(SLOT_KEY, bob, NOW.plusSeconds(90), NOW.plusSeconds(30));
+
+        assertThat(takeover).hasValueSatisfying(newToken -> assertThat(newToken).isGreaterThan(token));
+        assertThat(owner()).isEqualTo(bob);
+    }
+
+    @Test
+    void acquireLease_rejectsWhileAnotherOwnerHoldsValidLock() {
+        long token = slotLockRepository.acquireLease(SLOT_KEY, alice, NOW.plusSeconds(30), NOW).orElseThrow();
+
+        Optional<Long> rejected = slotLockRepository.acquireLease(SLOT_KEY, bob, NOW.plusSeconds(90), NOW.plusSeconds(29));
+
+        assertThat(rejected).isEmpty();
+        assertThat(owner()).isEqualTo(alice);
+        assertThat(expiresAt()).isEqualTo(NOW.plusSeconds(30).toInstant());
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT fencing_token FROM slot_lock WHERE slot_key = ?", Long.class, SLOT_KEY)).isEqualTo(token);
+    }
+
+    private Long insertUser(String email) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO \"user\" (email, name) VALUES (?, ?) RETURNING id", Long.class, email, email);
+    }
+
+    private Long owner() {
+        return jdbcTemplate.queryForObject("SELECT user_id FROM slot_lock WHERE slot_key = ?", Long.class, SLOT_KEY);
+    }
+
+    private Instant expiresAt() {
+        return jdbcTemplate.queryForObject(
+            "SELECT expires_at FROM slot_lock WHERE slot_key = ?", OffsetDateTime.class, SLOT_KEY).toInstant();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.sbb.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * team.change_seq 트리거 (V12): 커밋된 트랜잭션마다 바뀐 팀이 커밋 시점에 한 번씩 증가한다.
+ * 트랜잭션 단위 동작을 보려면 실제로 커밋해야 하므로 테스트 트랜잭션을 쓰지 않고 만든 팀을 직접 지운다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeamRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> teamIds = new ArrayList<>();
+    private Long teamId;
+
+    @BeforeEach
+    void setUp() {
+        teamId = insertTeam("플랫폼팀");
+    }
+
+    @AfterEach
+    void tearDown() {
+        teamIds.forEach(id -> jdbcTemplate.update("DELETE FROM team WHERE id = ?", id));
+    }
+
+    @Test
+    void changeSeq_increasesAfterInsertUpdateAndDelete() {
+        long initial = changeSeq(teamId);
+
+        Long taskId = jdbcTemplate.queryForObject(
+            "INSERT INTO task (team_id, title, duration_min) VALUES (?, '작업', 30) RETURNING id", Long.class, teamId);
+        assertThat(changeSeq(teamId)).isEqualTo(initial + 1);
+
+        jdbcTemplate.update("UPDATE task SET title = '작업 수정' WHERE id = ?", taskId);
+        assertThat(changeSeq(teamId)).isEqualTo(initial + 2);
+
+        jdbcTemplate.update("DELETE FROM task WHERE id = ?", taskId);
+        assertThat(changeSeq(teamId)).isEqualTo(initial + 3);
+
+        // 아무 행도 바꾸지 않은 문장은 그대로
+        jdbcTemplate.update("DELETE FROM task WHERE id = ?", taskId);
+        assertThat(changeSeq(teamId)).isEqualTo(initial + 3);
+    }
+
+    @Test
+    void changeSeq_increasesOncePerTransactionForManyRowsAndStatements() {
+        long initial = changeSeq(teamId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO calendar_event (team_id, title, starts_at, ends_at) "
+                + "SELECT ?, '반복 ' || g, now() + g * interval '1 day', now() + g * interval '1 day' + interval '1 hour' "
+                + "FROM generate_series(1, 50) g", teamId);
+            jdbcTemplate.update("UPDATE calendar_event SET notes = '메모' WHERE team_id = ?", teamId);
+            jdbcTemplate.update("INSERT INTO task (team_id, title, duration_min) VALUES (?, '작업', 30)", teamId);
+        });
+
+        assertThat(changeSeq(teamId)).isEqualTo(initial + 1);
+    }
+
+    @Test
+    void changeSeq_locksTeamRowOnlyAtCommit() {
+        long initial = changeSeq(teamId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO task (team_id, title, duration_min) VALUES (?, '작업', 30)", teamId);
+            // 다른 연결에서 같은 팀 행을 바로 잠글 수 있고 아직 증가 전이다
+            Long seen = CompletableFuture.supplyAsync(() -> jdbcTemplate.queryForObject(
+                "SELECT change_seq FROM team WHERE id = ? FOR NO KEY UPDATE NOWAIT", Long.class, teamId)).join();
+            assertThat(seen).isEqualTo(initial);
+        });
+
+        assertThat(changeSeq(teamId)).isEqualTo(initial + 1);
+    }
+
+    @Test
+    void changeSeq_bumpsBothTeamsWhenRowMovesAndScheduleTeamForAssignments() {
+        Long otherTeamId = insertTeam("다른팀");
+        Long eventId = jdbcTemplate.queryForObject("INSERT INTO calendar_event (team_id, title, starts_at, ends_at) "
+            + "VALUES (?, '회의', now(), now() + interval '1 hour') RETURNING id", Long.class, teamId);
+        Long scheduleId = jdbcTemplate.queryForObject(
+            "INSERT INTO schedule (team_id, range_start, range_end) VALUES (?, ?, ?) RETURNING id",
+            Long.class, otherTeamId, LocalDate.of(2030, 3, 4), LocalDate.of(2030, 3, 10));
+        long before = changeSeq(teamId);
+        long otherBefore = changeSeq(otherTeamId);
+
+        jdbcTemplate.update("UPDATE calendar_event SET team_id = ? WHERE id = ?", otherTeamId, eventId);
+        assertThat(changeSeq(teamId)).isEqualTo(before + 1);
+        assertThat(changeSeq(otherTeamId)).isEqualTo(otherBefore + 1);
+
+        jdbcTemplate.update("INSERT INTO assignment (schedule_id, title, starts_at, ends_at, source) "
+            + "VALUES (?, '배치', now(), now() + interval '30 minutes', 'TASK')", scheduleId);
+        assertThat(changeSeq(teamId)).isEqualTo(before + 1);
+        assertThat(changeSeq(otherTeamId)).isEqualTo(otherBefore + 2);
+    }
+
+    private Long insertTeam(String name) {
+        Long id = jdbcTemplate.queryForObject("INSERT INTO team (name) VALUES (?) RETURNING id", Long.class, name);
+        teamIds.add(id);
+        return id;
+    }
+
+    private long changeSeq(Long id) {
+        return teamRepository.findTaskVersion(id).orElseThrow().getChangeSeq();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.domain.User;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class AssigneePlannerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 4);
+
+    private final AssigneePlanner planner = new AssigneePlanner();
+
+    @Test
+    void plan_keepsEarlyCapacityForEarlyDeadlines() {
+        // 1번은 월요일만, 2번은 월/화요일 09:00 ~ 11:00
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        slots.put(1L, slots(1L, MONDAY, 18, 22));
+        slots.put(2L, slots(2L, MONDAY, 18, 22));
+        slots.get(2L).addAll(slots(2L, MONDAY.plusDays(1), 18, 22));
+
+        Task mondayA = task(1L, 120, null, at(MONDAY, 18));
+        Task mondayB = task(2L, 120, null, at(MONDAY, 18));
+        Task tuesday = task(3L, 120, null, at(MONDAY.plusDays(1), 18));
+
+        Map<Long, Long> plan = planner.plan(List.of(tuesday, mondayA, mondayB), slots);
+
+        assertThat(plan).containsEntry(3L, 2L);
+        assertThat(List.of(plan.get(1L), plan.get(2L))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void plan_balancesLoadAndCountsAssignedWork() {
+        // 세 명 모두 월~금 09:00 ~ 18:00, 1번은 이미 지정된 작업 8시간
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        for (long userId = 1; userId <= 3; userId++) {
+            List<TimeSlot> userSlots = new ArrayList<>();
+            for (int d = 0; d < 5; d++) {
+                userSlots.addAll(slots(userId, MONDAY.plusDays(d), 18, 36));
+            }
+            slots.put(userId, userSlots);
+        }
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(task(100L, 480, 1L, at(MONDAY.plusDays(4), 18)));
+        for (long id = 1; id <= 8; id++) {
+            tasks.add(task(id, 120, null, at(MONDAY.plusDays(4), 18)));
+        }
+
+        Map<Long, Long> plan = planner.plan(tasks, slots);
+
+        Map<Long, Long> loadByUser = plan.values().stream()
+            .collect(Collectors.groupingBy(u -> u, Collectors.counting()));
+        assertThat(plan).hasSize(8);
+        // 지정 작업 8시간(2시간 작업 4개분)을 가진 1번에게는 덜 배정
+        assertThat(loadByUser.getOrDefault(1L, 0L)).isEqualTo(0L);
+        assertThat(loadByUser.get(2L)).isEqualTo(4L);
+        assertThat(loadByUser.get(3L)).isEqualTo(4L);
+    }
+
+    @Test
+    void plan_solvesFiveHundredTasksWithinCapacity() {
+        Random random = new Random(7);
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        for (long userId = 1; userId <= 20; userId++) {
+            List<TimeSlot> userSlots = new ArrayList<>();
+            for (int d = 0; d < 28; d++) {
+                userSlots.addAll(slots(userId, MONDAY.plusDays(d), 18, 36));
+            }
+            slots.put(userId, userSlots);
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            Long assignee = random.nextInt(4) == 0 ? 1L + random.nextInt(20) : null;
+            tasks.add(task(id, 30 * (1 + random.nextInt(8)), assignee,
+                at(MONDAY.plusDays(7 + random.nextInt(21)), 9 + random.nextInt(9))));
+        }
+
+        long startedAt = System.nanoTime();
+        Map<Long, Long> plan = planner.plan(tasks, slots);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        long unassigned = tasks.stream().filter(t -> t.getAssignee() == null).count();
+        assertThat(plan).hasSize((int) unassigned);
+        assertThat(elapsedMs).isLessThan(2_000);
+    }
+
+    private List<TimeSlot> slots(Long userId, LocalDate date, int fromSlot, int toSlot) {
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = fromSlot; i < toSlot; i++) {
+            slots.add(TimeSlot.builder()
+                .date(date)
+                .slotIndex(i)
+                .startTime(TimeSlot.calculateStartTime(date, i))
+                .endTime(TimeSlot.calculateEndTime(date, i))
+                .available(true)
+                .userId(userId)
+                .preferenceScore(1.0)
+                .build());
+        }
+        return slots;
+    }
+
+    private Task task(Long id, int durationMin, Long assigneeId, OffsetDateTime dueAt) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("작업 " + id);
+        task.setDurationMin(durationMin);
+        task.setSplittable(true);
+        task.setPriority(3);
+        task.setDueAt(dueAt);
+        if (assigneeId != null) {
+            User assignee = new User();
+            assignee.setId(assigneeId);
+            task.setAssignee(assignee);
+        }
+        return task;
+    }
+
+    private OffsetDateTime at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).atOffset(ZoneOffset.UTC);
+    }
+}
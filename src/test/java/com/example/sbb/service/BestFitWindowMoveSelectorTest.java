@@ -0,0 +1,107 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 사용자 1명, 09:00 ~ 18:00 (슬롯 18 ~ 35). 1시간 작업을 슬롯 18-19 에 두고 나머지는 고정 일정으로 막아
+ * 빈 구간을 [18-20] (3칸), [23-24] (2칸), [27-28] (2칸) 으로 만든다.
+ */
+class BestFitWindowMoveSelectorTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 4);
+    private static final Long USER_ID = 1L;
+
+    private final BestFitWindowMoveSelector selector = new BestFitWindowMoveSelector();
+
+    @Test
+    void select_prefersExactFitWindowThenHigherPreference() {
+        List<Assignment> assignments = assignments(null);
+
+        MoveSelector.Move move = selector.select(assignments, Map.of(USER_ID, slots()), new Random(0));
+
+        // [18-20] 은 선호도가 가장 높아도 한 칸이 남고, 딱 맞는 두 구간 중 선호도가 높은 [27-28]
+        assertThat(move).isNotNull();
+        Assignment moved = move.getAssignments().get(0);
+        assertThat(moved.getStartsAt()).isEqualTo(TimeSlot.calculateStartTime(MONDAY, 27));
+        assertThat(moved.getEndsAt()).isEqualTo(TimeSlot.calculateEndTime(MONDAY, 28));
+        assertThat(move.getKey()).isEqualTo(AssignmentMoves.positionKey(0, moved.getStartsAt()));
+        assertThat(move.getReverseKey()).isEqualTo(AssignmentMoves.positionKey(0, assignments.get(0).getStartsAt()));
+        // 원본은 그대로
+        assertThat(assignments.get(0).getStartsAt()).isEqualTo(TimeSlot.calculateStartTime(MONDAY, 18));
+    }
+
+    @Test
+    void select_skipsWindowsEndingAfterDue() {
+        List<Assignment> assignments = assignments(TimeSlot.calculateEndTime(MONDAY, 26));
+
+        MoveSelector.Move move = selector.select(assignments, Map.of(USER_ID, slots()), new Random(0));
+
+        assertThat(move).isNotNull();
+        assertThat(move.getAssignments().get(0).getStartsAt()).isEqualTo(TimeSlot.calculateStartTime(MONDAY, 23));
+    }
+
+    @Test
+    void select_returnsNullWhenAlreadyInBestWindow() {
+        List<Assignment> assignments = assignments(null);
+        assignments.set(0, assignment(taskWithDue(null), 27, 28));
+
+        assertThat(selector.select(assignments, Map.of(USER_ID, slots()), new Random(0))).isNull();
+    }
+
+    private List<Assignment> assignments(OffsetDateTime dueAt) {
+        List<Assignment> assignments = new ArrayList<>();
+        assignments.add(assignment(taskWithDue(dueAt), 18, 19));
+        assignments.add(assignment(null, 21, 22));
+        assignments.add(assignment(null, 25, 26));
+        assignments.add(assignment(null, 29, 35));
+        return assignments;
+    }
+
+    private List<TimeSlot> slots() {
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 18; i < 36; i++) {
+            double preference = i <= 20 ? 1.0 : (i == 27 || i == 28) ? 0.9 : 0.5;
+            slots.add(TimeSlot.builder()
+                .date(MONDAY)
+                .slotIndex(i)
+                .startTime(TimeSlot.calculateStartTime(MONDAY, i))
+                .endTime(TimeSlot.calculateEndTime(MONDAY, i))
+                .available(true)
+                .userId(USER_ID)
+                .preferenceScore(preference)
+                .build());
+        }
+        return slots;
+    }
+
+    private static Task taskWithDue(OffsetDateTime dueAt) {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("작업");
+        task.setDurationMin(60);
+        task.setDueAt(dueAt);
+        return task;
+    }
+
+    private static Assignment assignment(Task task, int firstSlot, int lastSlot) {
+        Assignment assignment = new Assignment();
+        assignment.setTask(task);
+        assignment.setTitle(task != null ? task.getTitle() : "고정 일정");
+        assignment.setStartsAt(TimeSlot.calculateStartTime(MONDAY, firstSlot));
+        assignment.setEndsAt(TimeSlot.calculateEndTime(MONDAY, lastSlot));
+        assignment.setSlotIndex(firstSlot);
+        assignment.setMeta("{\"userId\":" + USER_ID + "}");
+        return assignment;
+    }
+}
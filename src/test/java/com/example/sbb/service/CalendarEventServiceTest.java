@@ -0,0 +1,157 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.sbb.domain.CalendarEvent;
+import com.example.sbb.domain.Team;
+import com.example.sbb.dto.event.ConflictAlertMessage;
+import com.example.sbb.dto.request.CalendarEventCreateRequest;
+import com.example.sbb.dto.response.CalendarEventResponse;
+import com.example.sbb.repository.CalendarEventRepository;
+import com.example.sbb.repository.TeamRepository;
+import com.example.sbb.repository.UserRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * 반복 생성 시 충돌 검사: 팀당 한 번의 충돌 쌍 조회로 발생분별 알림을 묶어 보낸다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CalendarEventServiceTest {
+
+    private static final Long TEAM_ID = 1L;
+    private static final OffsetDateTime MONDAY_10 = OffsetDateTime.of(2030, 3, 4, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private CalendarEventRepository calendarEventRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CollaborationEventPublisher eventPublisher;
+
+    @Mock
+    private FreeBusyCache freeBusyCache;
+
+    private CalendarEventService calendarEventService;
+
+    @BeforeEach
+    void setUp() {
+        Team team = new Team();
+        team.setId(TEAM_ID);
+        team.setName("플랫폼팀");
+        given(teamRepository.findById(TEAM_ID)).willReturn(Optional.of(team));
+        // 저장 순서대로 101, 102, 103 ID 부여
+        given(calendarEventRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<CalendarEvent> events = invocation.getArgument(0);
+            long id = 101;
+            for (CalendarEvent event : events) {
+                event.setId(id++);
+            }
+            return events;
+        });
+        calendarEventService = new CalendarEventService(
+            calendarEventRepository, teamRepository, userRepository, eventPublisher, freeBusyCache);
+    }
+
+    @Test
+    void createRecurring_looksUpConflictsOnceAndAlertsPerConflictingOccurrence() {
+        given(calendarEventRepository.findConflictPairs(eq(TEAM_ID), any(), any(), any())).willReturn(List.of(
+            pair(101L, 7L),
+            pair(101L, 8L),
+            pair(103L, 8L)));
+        given(calendarEventRepository.findResponsesByIds(anyCollection()))
+            .willReturn(List.of(response(7L), response(8L)));
+
+        calendarEventService.createEvent(weeklyRequest());
+
+        ArgumentCaptor<String[]> sourceIds = ArgumentCaptor.forClass(String[].class);
+        ArgumentCaptor<String[]> startsAt = ArgumentCaptor.forClass(String[].class);
+        ArgumentCaptor<String[]> endsAt = ArgumentCaptor.forClass(String[].class);
+        verify(calendarEventRepository, times(1))
+            .findConflictPairs(eq(TEAM_ID), sourceIds.capture(), startsAt.capture(), endsAt.capture());
+        assertThat(sourceIds.getValue()).containsExactly("101", "102", "103");
+        assertThat(startsAt.getValue()).containsExactly(
+            MONDAY_10.toString(), MONDAY_10.plusWeeks(1).toString(), MONDAY_10.plusWeeks(2).toString());
+        assertThat(endsAt.getValue()).containsExactly(
+            MONDAY_10.plusHours(1).toString(), MONDAY_10.plusWeeks(1).plusHours(1).toString(),
+            MONDAY_10.plusWeeks(2).plusHours(1).toString());
+        verify(calendarEventRepository).findResponsesByIds(Set.of(7L, 8L));
+
+        ArgumentCaptor<ConflictAlertMessage> alerts = ArgumentCaptor.forClass(ConflictAlertMessage.class);
+        verify(eventPublisher, times(2)).publishConflictAlert(alerts.capture());
+        ConflictAlertMessage first = alerts.getAllValues().get(0);
+        ConflictAlertMessage third = alerts.getAllValues().get(1);
+        assertThat(first.teamId()).isEqualTo(TEAM_ID);
+        assertThat(first.sourceId()).isEqualTo(101L);
+        assertThat(first.conflicts()).extracting(CalendarEventResponse::getId).containsExactly(7L, 8L);
+        assertThat(third.sourceId()).isEqualTo(103L);
+        assertThat(third.conflicts()).extracting(CalendarEventResponse::getId).containsExactly(8L);
+    }
+
+    @Test
+    void createRecurring_skipsResponseLookupWhenNoConflicts() {
+        given(calendarEventRepository.findConflictPairs(eq(TEAM_ID), any(), any(), any())).willReturn(List.of());
+
+        calendarEventService.createEvent(weeklyRequest());
+
+        verify(calendarEventRepository, never()).findResponsesByIds(anyCollection());
+        verify(eventPublisher, never()).publishConflictAlert(any());
+    }
+
+    // 매주 월 10:00-11:00, 3회
+    private CalendarEventCreateRequest weeklyRequest() {
+        CalendarEventCreateRequest request = new CalendarEventCreateRequest();
+        request.setTeamId(TEAM_ID);
+        request.setTitle("주간 회의");
+        request.setStartsAt(MONDAY_10);
+        request.setEndsAt(MONDAY_10.plusHours(1));
+        request.setRecurrenceType("WEEKLY");
+        request.setRecurrenceEndDate(MONDAY_10.plusWeeks(2).plusMinutes(1));
+        return request;
+    }
+
+    private static CalendarEventRepository.ConflictPair pair(Long sourceId, Long conflictId) {
+        return new CalendarEventRepository.ConflictPair() {
+            @Override
+            public Long getSourceId() {
+                return sourceId;
+            }
+
+            @Override
+            public Long getConflictId() {
+                return conflictId;
+            }
+        };
+    }
+
+    private static CalendarEventResponse response(Long id) {
+        CalendarEventResponse response = new CalendarEventResponse();
+        response.setId(id);
+        return response;
+    }
+}
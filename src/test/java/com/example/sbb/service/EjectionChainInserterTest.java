@@ -0,0 +1,131 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.config.EjectionChainProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class EjectionChainInserterTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 4);
+
+    private final GreedyScheduler greedyScheduler = new GreedyScheduler(null, null, null);
+    private final EjectionChainProperties properties = new EjectionChainProperties();
+    private final EjectionChainInserter inserter = new EjectionChainInserter(greedyScheduler, properties);
+    private final Schedule schedule = new Schedule();
+
+    @Test
+    void insertUnplaced_movesLowerPriorityTaskToFreeDay() {
+        // 1번: 월/화 09:00 ~ 11:00, 낮은 우선순위 작업이 월요일을 차지
+        Map<Long, List<TimeSlot>> slots = weekdaySlots(2);
+        Task minor = task(1L, 5, at(MONDAY.plusDays(2), 18));
+        Task urgent = task(2L, 1, at(MONDAY, 18));
+        List<Assignment> greedy = placeOn(slots, minor, MONDAY);
+
+        List<Assignment> result = inserter.insertUnplaced(List.of(minor, urgent), greedy, slots, schedule);
+
+        assertThat(dayOf(result)).containsEntry(2L, MONDAY).containsEntry(1L, MONDAY.plusDays(1));
+    }
+
+    @Test
+    void insertUnplaced_keepsMoreImportantPlacements() {
+        Map<Long, List<TimeSlot>> slots = weekdaySlots(1);
+        Task important = task(1L, 1, at(MONDAY, 18));
+        Task other = task(2L, 3, at(MONDAY, 18));
+        List<Assignment> greedy = placeOn(slots, important, MONDAY);
+
+        List<Assignment> result = inserter.insertUnplaced(List.of(important, other), greedy, slots, schedule);
+
+        assertThat(result).isSameAs(greedy);
+    }
+
+    @Test
+    void insertUnplaced_followsChainWithinDepth() {
+        // 월: 화요일 마감 작업, 화: 목요일 마감 작업, 수: 비어 있음. 월요일 마감 작업을 넣으려면 두 번 밀어야 함
+        Map<Long, List<TimeSlot>> slots = weekdaySlots(3);
+        Task tuesdayDue = task(1L, 3, at(MONDAY.plusDays(1), 18));
+        Task thursdayDue = task(2L, 3, at(MONDAY.plusDays(3), 18));
+        Task mondayDue = task(3L, 3, at(MONDAY, 18));
+        List<Task> tasks = List.of(tuesdayDue, thursdayDue, mondayDue);
+        List<Assignment> greedy = new ArrayList<>(placeOn(slots, tuesdayDue, MONDAY));
+        greedy.addAll(placeOn(slots, thursdayDue, MONDAY.plusDays(1)));
+
+        properties.setMaxDepth(1);
+        assertThat(inserter.insertUnplaced(tasks, greedy, slots, schedule)).isSameAs(greedy);
+
+        properties.setMaxDepth(2);
+        List<Assignment> result = inserter.insertUnplaced(tasks, greedy, slots, schedule);
+
+        assertThat(dayOf(result))
+            .containsEntry(3L, MONDAY)
+            .containsEntry(1L, MONDAY.plusDays(1))
+            .containsEntry(2L, MONDAY.plusDays(2));
+    }
+
+    /**
+     * 사용자 1번, 월요일부터 days 일 동안 09:00 ~ 11:00 (4슬롯)
+     */
+    private Map<Long, List<TimeSlot>> weekdaySlots(int days) {
+        List<TimeSlot> userSlots = new ArrayList<>();
+        for (int d = 0; d < days; d++) {
+            LocalDate date = MONDAY.plusDays(d);
+            for (int i = 18; i < 22; i++) {
+                userSlots.add(TimeSlot.builder()
+                    .date(date)
+                    .slotIndex(i)
+                    .startTime(TimeSlot.calculateStartTime(date, i))
+                    .endTime(TimeSlot.calculateEndTime(date, i))
+                    .available(true)
+                    .userId(1L)
+                    .preferenceScore(1.0)
+                    .build());
+            }
+        }
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        slots.put(1L, userSlots);
+        return slots;
+    }
+
+    /**
+     * 작업을 그 날짜의 1번 사용자 슬롯 전체에 배치
+     */
+    private List<Assignment> placeOn(Map<Long, List<TimeSlot>> slots, Task task, LocalDate date) {
+        List<TimeSlot> daySlots = slots.get(1L).stream()
+            .filter(slot -> slot.getDate().equals(date))
+            .collect(Collectors.toList());
+        return greedyScheduler.createAssignments(task, daySlots, schedule);
+    }
+
+    private Map<Long, LocalDate> dayOf(List<Assignment> assignments) {
+        return assignments.stream().collect(Collectors.toMap(
+            a -> a.getTask().getId(),
+            a -> a.getStartsAt().withOffsetSameInstant(ZoneOffset.UTC).toLocalDate()));
+    }
+
+    private Task task(Long id, int priority, OffsetDateTime dueAt) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("작업 " + id);
+        task.setDurationMin(120);
+        task.setSplittable(false);
+        task.setPriority(priority);
+        task.setDueAt(dueAt);
+        return task;
+    }
+
+    private OffsetDateTime at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.domain.User;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FeasibilityAnalyzerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 4);
+
+    private final FeasibilityAnalyzer analyzer = new FeasibilityAnalyzer();
+
+    @Test
+    void analyze_rejectsUnsplittableTaskWithoutLongEnoughRun() {
+        // 1번: 월요일 09:00 ~ 10:00, 11:00 ~ 12:00 (연속 2슬롯씩)
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        slots.put(1L, slots(1L, MONDAY, 18, 20));
+        slots.get(1L).addAll(slots(1L, MONDAY, 22, 24));
+
+        Task whole = task(1L, 90, false, null, 3, at(MONDAY, 18));
+        Task split = task(2L, 90, true, null, 3, at(MONDAY, 18));
+
+        FeasibilityAnalyzer.Result result = analyzer.analyze(List.of(whole, split), slots);
+
+        assertThat(result.getFeasibleTasks()).containsExactly(split);
+        FeasibilityAnalyzer.Infeasibility reason = result.getInfeasible().get(1L);
+        assertThat(reason.getCapacitySlots()).isEqualTo(2);
+        assertThat(reason.getShortageSlots()).isEqualTo(1);
+        assertThat(reason.getReason()).contains("연속 3개");
+    }
+
+    @Test
+    void analyze_shedsLeastImportantTaskFromOversubscribedDeadlineWindow() {
+        // 1번: 월요일 09:00 ~ 11:00 (4슬롯), 화요일 09:00 ~ 11:00 (4슬롯)
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        slots.put(1L, slots(1L, MONDAY, 18, 22));
+        slots.get(1L).addAll(slots(1L, MONDAY.plusDays(1), 18, 22));
+
+        OffsetDateTime mondayEvening = at(MONDAY, 18);
+        Task urgent = task(1L, 60, true, 1L, 1, mondayEvening);
+        Task minor = task(2L, 90, true, 1L, 5, mondayEvening);
+        Task later = task(3L, 120, true, 1L, 3, at(MONDAY.plusDays(1), 18));
+
+        FeasibilityAnalyzer.Result result = analyzer.analyze(List.of(urgent, minor, later), slots);
+
+        assertThat(result.getFeasibleTasks()).containsExactly(urgent, later);
+        FeasibilityAnalyzer.Infeasibility reason = result.getInfeasible().get(2L);
+        assertThat(reason.getUserId()).isEqualTo(1L);
+        assertThat(reason.getWindowEnd()).isEqualTo(mondayEvening);
+        assertThat(reason.getDemandSlots()).isEqualTo(5);
+        assertThat(reason.getCapacitySlots()).isEqualTo(4);
+        assertThat(reason.getShortageSlots()).isEqualTo(1);
+    }
+
+    @Test
+    void analyze_teamWideOverloadOnlyShedsTasksWithoutAssignee() {
+        // 1번, 2번 각각 월요일 09:00 ~ 10:00 (2슬롯씩, 팀 전체 4슬롯)
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        slots.put(1L, slots(1L, MONDAY, 18, 20));
+        slots.put(2L, slots(2L, MONDAY, 18, 20));
+
+        OffsetDateTime due = at(MONDAY, 18);
+        Task assignedHigh = task(1L, 60, true, 1L, 5, due);
+        Task assignedOther = task(2L, 60, true, 2L, 5, due);
+        Task unassigned = task(3L, 60, true, null, 1, due);
+
+        FeasibilityAnalyzer.Result result = analyzer.analyze(List.of(assignedHigh, assignedOther, unassigned), slots);
+
+        // 담당자 지정 작업은 각자 용량 안이므로 남고, 팀 전체를 넘기는 미지정 작업만 제외
+        assertThat(result.getFeasibleTasks()).containsExactly(assignedHigh, assignedOther);
+        assertThat(result.getInfeasible().get(3L).getUserId()).isNull();
+        assertThat(result.getInfeasible().get(3L).getShortageSlots()).isEqualTo(2);
+    }
+
+    private List<TimeSlot> slots(Long userId, LocalDate date, int fromSlot, int toSlot) {
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = fromSlot; i < toSlot; i++) {
+            slots.add(TimeSlot.builder()
+                .date(date)
+                .slotIndex(i)
+                .startTime(TimeSlot.calculateStartTime(date, i))
+                .endTime(TimeSlot.calculateEndTime(date, i))
+                .available(true)
+                .userId(userId)
+                .preferenceScore(1.0)
+                .build());
+        }
+        return slots;
+    }
+
+    private Task task(Long id, int durationMin, boolean splittable, Long assigneeId, int priority, OffsetDateTime dueAt) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("작업 " + id);
+        task.setDurationMin(durationMin);
+        task.setSplittable(splittable);
+        task.setPriority(priority);
+        task.setDueAt(dueAt);
+        if (assigneeId != null) {
+            User assignee = new User();
+            assignee.setId(assigneeId);
+            task.setAssignee(assignee);
+        }
+        return task;
+    }
+
+    private OffsetDateTime at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).atOffset(ZoneOffset.UTC);
+    }
+}
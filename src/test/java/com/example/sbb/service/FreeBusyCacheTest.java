@@ -0,0 +1,220 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.sbb.config.FreeBusyProperties;
+import com.example.sbb.domain.CalendarEvent;
+import com.example.sbb.domain.Team;
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.domain.User;
+import com.example.sbb.domain.WorkHour;
+import com.example.sbb.repository.CalendarEventRepository;
+import com.example.sbb.repository.FreeBusyDayRepository;
+import com.example.sbb.repository.WorkHourRepository;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FreeBusyCacheTest {
+
+    private static final Long TEAM_ID = 1L;
+    // 월요일
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+    private static final LocalDate END = START.plusDays(6);
+
+    @Mock
+    private WorkHourRepository workHourRepository;
+
+    @Mock
+    private CalendarEventRepository calendarEventRepository;
+
+    @Mock
+    private FreeBusyDayRepository freeBusyDayRepository;
+
+    private TimeSlotGenerator timeSlotGenerator;
+    private WorkHourTemplateCache workHourTemplateCache;
+    private FreeBusyProperties properties;
+    private FreeBusyCache freeBusyCache;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        team = new Team();
+        team.setId(TEAM_ID);
+        timeSlotGenerator = spy(new TimeSlotGenerator());
+        workHourTemplateCache = new WorkHourTemplateCache(workHourRepository);
+        properties = new FreeBusyProperties();
+        freeBusyCache = new FreeBusyCache(workHourTemplateCache, calendarEventRepository, freeBusyDayRepository,
+            timeSlotGenerator, properties);
+
+        List<WorkHour> workHours = new ArrayList<>();
+        for (int dow = 1; dow <= 5; dow++) {
+            workHours.add(workHour(null, dow, 540, 1080));   // 팀 기본 09:00 ~ 18:00
+        }
+        workHours.add(workHour(2L, 1, 600, 720));             // 2번 월요일 10:00 ~ 12:00
+        given(workHourRepository.findByTeam_Id(TEAM_ID)).willReturn(workHours);
+        given(calendarEventRepository.findOverlapping(eq(TEAM_ID), any(), any())).willReturn(List.of(event(1L, START, 10, 11)));
+    }
+
+    @Test
+    void availability_reusesCachedMasksUntilInvalidated() {
+        Map<Long, long[]> first = freeBusyCache.availability(TEAM_ID, List.of(1L, 2L), START, END);
+        Map<Long, long[]> second = freeBusyCache.availability(TEAM_ID, List.of(1L, 2L), START, END);
+
+        assertThat(second.get(1L)).containsExactly(first.get(1L));
+        verify(workHourRepository, times(1)).findByTeam_Id(TEAM_ID);
+        // 팀과 기간으로 좁혀 조회 (전체 일정 로드 없음)
+        verify(calendarEventRepository, times(1)).findOverlapping(
+            TEAM_ID, START.atStartOfDay().atOffset(ZoneOffset.UTC), END.atTime(23, 59, 59).atOffset(ZoneOffset.UTC));
+        verify(calendarEventRepository, never()).findAll();
+        // 1번: 월요일 09:00 ~ 18:00 중 10:00 ~ 11:00 이벤트로 차단
+        assertThat(Long.bitCount(first.get(1L)[0])).isEqualTo(16);
+        assertThat(first.get(1L)[0] & (0b11L << 20)).isZero();
+        assertThat(first.get(1L)[5]).isZero();
+
+        freeBusyCache.invalidateUsers(TEAM_ID, List.of(2L), null, null);
+        freeBusyCache.availability(TEAM_ID, List.of(1L, 2L), START, END);
+
+        // 무효화된 2번만 다시 계산하고, 컴파일된 근무시간은 재사용
+        verify(timeSlotGenerator).availabilityMasks(any(DayTemplates.class), anyList(), eq(START), eq(END), eq(List.of(2L)));
+        verify(workHourRepository, times(1)).findByTeam_Id(TEAM_ID);
+    }
+
+    @Test
+    void evictExpired_removesOnlyStaleDays() {
+        freeBusyCache.availability(TEAM_ID, List.of(1L, 2L), START, END);
+        assertThat(freeBusyCache.cachedDays()).isEqualTo(14);
+
+        freeBusyCache.evictExpired();
+        assertThat(freeBusyCache.cachedDays()).isEqualTo(14);
+
+        properties.setTtlSeconds(0);
+        freeBusyCache.evictExpired();
+        assertThat(freeBusyCache.cachedDays()).isZero();
+    }
+
+    @Test
+    void workHourTemplates_recompileOnlyAfterInvalidate() {
+        freeBusyCache.availability(TEAM_ID, List.of(1L), START, END);
+        freeBusyCache.invalidateTeam(TEAM_ID);
+        freeBusyCache.availability(TEAM_ID, List.of(1L), START, END);
+        verify(workHourRepository, times(1)).findByTeam_Id(TEAM_ID);
+
+        // 근무시간 변경: 3번 개인 근무시간 추가
+        List<WorkHour> changed = new ArrayList<>(workHourRepository.findByTeam_Id(TEAM_ID));
+        changed.add(workHour(3L, 6, 600, 660));
+        given(workHourRepository.findByTeam_Id(TEAM_ID)).willReturn(changed);
+        workHourTemplateCache.invalidate(TEAM_ID);
+        freeBusyCache.invalidateTeam(TEAM_ID);
+
+        Map<Long, long[]> masks = freeBusyCache.availability(TEAM_ID, List.of(3L), START, END);
+        // 토요일은 개인 근무시간만, 월요일은 팀 기본 09:00 ~ 18:00 에서 이벤트 없음
+        assertThat(masks.get(3L)[5]).isEqualTo(AvailabilityMatrix.slotRange(20, 22));
+        assertThat(Long.bitCount(masks.get(3L)[0])).isEqualTo(18);
+    }
+
+    @Test
+    void emptyTeam_usesDefaultWorkHoursEveryDay() {
+        given(workHourRepository.findByTeam_Id(TEAM_ID)).willReturn(List.of());
+
+        Map<Long, long[]> masks = freeBusyCache.availability(TEAM_ID, List.of(2L), START, END);
+
+        for (long mask : masks.get(2L)) {
+            assertThat(mask).isEqualTo(AvailabilityMatrix.slotRange(18, 36));
+        }
+    }
+
+    @Test
+    void invalidateEvent_evictsOnlyBlockedUsersAndDays() {
+        freeBusyCache.availability(TEAM_ID, List.of(1L, 2L), START, END);
+
+        freeBusyCache.invalidateEvent(event(1L, START.plusDays(2), 20, 22));
+        freeBusyCache.availability(TEAM_ID, List.of(2L), START, END);
+        freeBusyCache.availability(TEAM_ID, List.of(1L), START, START.plusDays(1));
+        verify(timeSlotGenerator, times(1)).availabilityMasks(any(DayTemplates.class), anyList(), any(), any(), anyList());
+
+        freeBusyCache.availability(TEAM_ID, List.of(1L), START, END);
+        verify(timeSlotGenerator, times(2)).availabilityMasks(any(DayTemplates.class), anyList(), any(), any(), anyList());
+        verifyNoInteractions(freeBusyDayRepository);
+    }
+
+    @Test
+    void masks_expandToSameSlotsAsGenerator() {
+        List<WorkHour> workHours = workHourRepository.findByTeam_Id(TEAM_ID);
+        Map<Long, List<TimeSlot>> expected = timeSlotGenerator.generateAvailableSlots(
+            workHours, calendarEventRepository.findOverlapping(TEAM_ID, null, null), START, END, List.of(1L, 2L));
+
+        Map<Long, List<TimeSlot>> actual = timeSlotGenerator.slotsFromMasks(
+            freeBusyCache.availability(TEAM_ID, List.of(1L, 2L), START, END), START);
+
+        for (Long userId : List.of(1L, 2L)) {
+            // 생성기 결과는 팀 기본 + 개인 근무시간이 겹치면 같은 슬롯이 중복되므로 (날짜, 슬롯) 집합으로 비교
+            assertThat(actual.get(userId))
+                .extracting(s -> s.getDate() + "#" + s.getSlotIndex() + "#" + s.getPreferenceScore())
+                .containsExactlyInAnyOrderElementsOf(expected.get(userId).stream()
+                    .map(s -> s.getDate() + "#" + s.getSlotIndex() + "#" + s.getPreferenceScore())
+                    .distinct()
+                    .toList());
+        }
+    }
+
+    @Test
+    void hexEncodingRoundTrips() {
+        long mask = (1L << 47) | (0b1011L << 18) | 1L;
+
+        String hex = FreeBusyCache.toHex(mask);
+        byte[] bytes = new byte[6];
+        for (int i = 0; i < 6; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+
+        assertThat(hex).hasSize(12);
+        assertThat(FreeBusyCache.decode(bytes)).isEqualTo(mask);
+    }
+
+    private WorkHour workHour(Long userId, int dow, int startMin, int endMin) {
+        WorkHour workHour = new WorkHour();
+        workHour.setTeam(team);
+        if (userId != null) {
+            User user = new User();
+            user.setId(userId);
+            workHour.setUser(user);
+        }
+        workHour.setDow(dow);
+        workHour.setStartMin(startMin);
+        workHour.setEndMin(endMin);
+        return workHour;
+    }
+
+    private CalendarEvent event(Long ownerId, LocalDate date, int fromHour, int toHour) {
+        User owner = new User();
+        owner.setId(ownerId);
+        CalendarEvent event = new CalendarEvent();
+        event.setTeam(team);
+        event.setOwner(owner);
+        event.setTitle("회의");
+        event.setStartsAt(date.atTime(fromHour, 0).atOffset(ZoneOffset.UTC));
+        event.setEndsAt(date.atTime(toHour, 0).atOffset(ZoneOffset.UTC));
+        return event;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LateAcceptanceHillClimbingTest {
+
+    private static final MoveSelector.Move MOVE = new MoveSelector.Move(List.of(), 1L, 2L);
+
+    private final Metaheuristic.Search search = new LateAcceptanceHillClimbing().start(50, new Random(1));
+
+    @Test
+    void accept_admitsWorseCandidateNotBelowScoreFromHistory() {
+        // 현재 100 보다 나쁘지만 20 반복 전(초기) 점수 50 이상
+        assertThat(search.accept(100, 80, MOVE)).isTrue();
+        assertThat(search.accept(100, 49, MOVE)).isFalse();
+    }
+
+    @Test
+    void accept_recordsAcceptedCandidateOrCurrentScoreInHistory() {
+        assertThat(search.accept(100, 80, MOVE)).isTrue();   // history[0] = 80
+        fillRestOfHistory();
+
+        assertThat(search.accept(100, 79, MOVE)).isFalse();  // 80 미만 거절, history[0] = 현재 점수 100
+        fillRestOfHistory();
+
+        assertThat(search.accept(100, 90, MOVE)).isFalse();
+    }
+
+    // 나머지 19칸은 현재 점수 그대로 받아들임
+    private void fillRestOfHistory() {
+        for (int i = 1; i < 20; i++) {
+            assertThat(search.accept(100, 100, MOVE)).isTrue();
+        }
+    }
+}
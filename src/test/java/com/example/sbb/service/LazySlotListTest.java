@@ -0,0 +1,153 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.domain.WorkHour;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LazySlotListTest {
+
+    // 월요일
+    private static final LocalDate START = LocalDate.of(2030, 3, 4);
+    private static final int USERS = 4;
+
+    private final TimeSlotGenerator generator = new TimeSlotGenerator();
+
+    @Test
+    void get_materializesDayOnceInDateAndSlotOrder() {
+        // 1일차 09:00 ~ 10:00, 2일차 없음, 3일차 17:30 ~ 18:00
+        long[] masks = {AvailabilityMatrix.slotRange(18, 20), 0L, AvailabilityMatrix.slotRange(35, 36)};
+        LazySlotList slots = new LazySlotList(1L, START, masks, generator);
+
+        assertThat(slots).hasSize(3);
+        assertThat(slots.materializedDays()).isZero();
+        assertThat(slots.get(2).getDate()).isEqualTo(START.plusDays(2));
+        assertThat(slots.get(2).getSlotIndex()).isEqualTo(35);
+        assertThat(slots.materializedDays()).isEqualTo(1);
+        assertThat(slots.get(2)).isSameAs(slots.get(2));
+        assertThat(slots).extracting(TimeSlot::getSlotIndex).containsExactly(18, 19, 35);
+        assertThat(slots.get(0).getPreferenceScore()).isEqualTo(generator.preferenceFor(START, 18));
+    }
+
+    @Test
+    void countBefore_countsSlotsStartingBeforeTime() {
+        long[] masks = {AvailabilityMatrix.slotRange(18, 20), 0L, AvailabilityMatrix.slotRange(35, 36)};
+        LazySlotList slots = new LazySlotList(1L, START, masks, generator);
+
+        assertThat(slots.countBefore(START.atTime(9, 0).atOffset(ZoneOffset.UTC))).isZero();
+        assertThat(slots.countBefore(START.atTime(9, 1).atOffset(ZoneOffset.UTC))).isEqualTo(1);
+        assertThat(slots.countBefore(START.atTime(9, 30).atOffset(ZoneOffset.UTC))).isEqualTo(1);
+        assertThat(slots.countBefore(START.plusDays(2).atTime(17, 30).atOffset(ZoneOffset.UTC))).isEqualTo(2);
+        assertThat(slots.countBefore(START.plusDays(2).atTime(17, 30, 1).atOffset(ZoneOffset.UTC))).isEqualTo(3);
+        // 다른 오프셋도 같은 순간으로 비교
+        assertThat(slots.countBefore(START.atTime(18, 1).atOffset(ZoneOffset.ofHours(9)))).isEqualTo(1);
+        assertThat(slots.countBefore(START.plusDays(30).atStartOfDay().atOffset(ZoneOffset.UTC))).isEqualTo(3);
+        assertThat(slots.materializedDays()).isZero();
+    }
+
+    @Test
+    void capacity_matchesMaterializedSlotsWithoutMaterializing() {
+        // 1일차 09:00 ~ 10:00, 2일차 없음, 3일차 13:00 ~ 15:00 과 17:30 ~ 18:00, 6일차(토) 10:00 ~ 11:00
+        long[] masks = {AvailabilityMatrix.slotRange(18, 20), 0L,
+            AvailabilityMatrix.slotRange(26, 30) | AvailabilityMatrix.slotRange(35, 36), 0L, 0L,
+            AvailabilityMatrix.slotRange(20, 22)};
+        LazySlotList slots = new LazySlotList(1L, START, masks, generator);
+
+        SlotCapacity lazy = slots.capacity(0.05);
+        assertThat(slots.materializedDays()).isZero();
+        SlotCapacity eager = SlotCapacity.of(new ArrayList<>(slots), 0.05);
+
+        assertThat(lazy.size()).isEqualTo(eager.size());
+        for (int d = 0; d <= masks.length; d++) {
+            for (int hour : new int[] {9, 10, 14, 18}) {
+                OffsetDateTime dueAt = START.plusDays(d).atTime(hour, 0).atOffset(ZoneOffset.UTC);
+                assertThat(lazy.countBefore(dueAt)).isEqualTo(eager.countBefore(dueAt));
+                assertThat(lazy.longestRunBefore(dueAt)).isEqualTo(eager.longestRunBefore(dueAt));
+                assertThat(lazy.averagePreference(lazy.countBefore(dueAt)))
+                    .isEqualTo(eager.averagePreference(eager.countBefore(dueAt)));
+            }
+        }
+        assertThat(lazy.longestRunBefore(null)).isEqualTo(4);
+    }
+
+    @Test
+    void generator_masksMatchTemplatesAndEvents() {
+        List<WorkHour> workHours = new ArrayList<>();
+        for (int dow = 1; dow <= 5; dow++) {
+            WorkHour workHour = new WorkHour();
+            workHour.setDow(dow);
+            workHour.setStartMin(540);
+            workHour.setEndMin(1080);
+            workHours.add(workHour);
+        }
+
+        Map<Long, long[]> masks = generator.availabilityMasks(workHours, List.of(), START, START.plusDays(6), List.of(1L));
+
+        assertThat(masks.get(1L)).hasSize(7);
+        assertThat(masks.get(1L)[0]).isEqualTo(AvailabilityMatrix.slotRange(18, 36));
+        assertThat(masks.get(1L)[5]).isZero();
+    }
+
+    @Test
+    void greedy_probesOnlyDaysBeforeDueDates() {
+        // 90일 범위에서 마감이 첫 주 안인 작업만 배치
+        Map<Long, long[]> masks = new HashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            long[] days = new long[90];
+            for (int d = 0; d < days.length; d++) {
+                if (START.plusDays(d).getDayOfWeek().getValue() <= 5) {
+                    days[d] = AvailabilityMatrix.slotRange(18, 36);
+                }
+            }
+            masks.put(userId, days);
+        }
+        List<Task> tasks = tasks(20, 7);
+        GreedyScheduler greedy = new GreedyScheduler(null, null, null);
+        greedy.setClock(Clock.fixed(START.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+        Map<Long, List<TimeSlot>> lazy = generator.slotsFromMasks(masks, START);
+        Map<Long, List<TimeSlot>> eager = new HashMap<>();
+        generator.slotsFromMasks(masks, START).forEach((userId, slots) -> eager.put(userId, new ArrayList<>(slots)));
+
+        List<Assignment> fromLazy = greedy.scheduleTasks(tasks, lazy, new Schedule());
+        List<Assignment> fromEager = greedy.scheduleTasks(tasks, eager, new Schedule());
+
+        assertThat(fromLazy).extracting(a -> a.getTask().getId() + "@" + a.getStartsAt() + "~" + a.getEndsAt())
+            .containsExactlyElementsOf(fromEager.stream()
+                .map(a -> a.getTask().getId() + "@" + a.getStartsAt() + "~" + a.getEndsAt())
+                .toList());
+        assertThat(fromLazy).isNotEmpty();
+        for (List<TimeSlot> slots : lazy.values()) {
+            assertThat(((LazySlotList) slots).materializedDays()).isLessThanOrEqualTo(7);
+        }
+    }
+
+    private List<Task> tasks(int count, long seed) {
+        Random random = new Random(seed);
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Task task = new Task();
+            task.setId(id);
+            task.setTitle("작업 " + id);
+            task.setDurationMin(30 * (1 + random.nextInt(4)));
+            task.setSplittable(random.nextBoolean());
+            task.setPriority(1 + random.nextInt(5));
+            task.setDueAt(START.plusDays(1 + random.nextInt(6)).atTime(17, 0).atOffset(ZoneOffset.UTC));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
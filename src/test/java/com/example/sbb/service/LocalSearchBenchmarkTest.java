@@ -0,0 +1,154 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.sbb.config.LocalSearchProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 같은 합성 인스턴스(그리디 결과)에서 로컬서치 전략별로 도달 점수와 초당 점수 개선량을 비교한다.
+ * 비교 측정은 benchmark 태그라 기본 test 에서 빠진다 (gradle benchmark 로 실행, 결과는 표준 출력).
+ * 기본 test 에서는 작은 인스턴스로 어떤 전략도 그리디 점수보다 나빠지지 않는지만 검증한다.
+ */
+class LocalSearchBenchmarkTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 4);
+    private static final int ITERATIONS = 300;
+    private static final int SEEDS = 3;
+
+    private final ScoreCalculator scoreCalculator = new ScoreCalculator();
+    private final List<Metaheuristic> metaheuristics = List.of(
+        new SimulatedAnnealing(), new TabuSearch(), new LateAcceptanceHillClimbing());
+    private final LocalSearchOptimizer optimizer = new LocalSearchOptimizer(
+        scoreCalculator, null, metaheuristics,
+        List.of(new SwapMoveSelector(), new RelocateMoveSelector(), new BestFitWindowMoveSelector()),
+        new LocalSearchProperties());
+
+    @Test
+    void everyStrategyKeepsGreedyScoreOrBetter() {
+        Instance instance = instance(20, 0);
+        for (Metaheuristic metaheuristic : metaheuristics) {
+            LocalSearchOptimizer.SearchResult result = optimizer.search(instance.assignments, instance.tasks,
+                instance.slots, metaheuristic, new Random(0), 50, 50);
+
+            assertThat(result.getBestScore()).isGreaterThanOrEqualTo(result.getInitialScore());
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareScorePerSecond() {
+        for (int taskCount : new int[] {20, 60}) {
+            for (Metaheuristic metaheuristic : metaheuristics) {
+                long gain = 0;
+                long nanos = 0;
+                int evaluations = 0;
+                for (int seed = 0; seed < SEEDS; seed++) {
+                    Instance instance = instance(taskCount, seed);
+                    // 워밍업 한 번 뒤 측정
+                    optimizer.search(instance.assignments, instance.tasks, instance.slots, metaheuristic,
+                        new Random(seed), ITERATIONS, ITERATIONS);
+                    long startedAt = System.nanoTime();
+                    LocalSearchOptimizer.SearchResult result = optimizer.search(instance.assignments,
+                        instance.tasks, instance.slots, metaheuristic, new Random(seed), ITERATIONS, ITERATIONS);
+                    nanos += System.nanoTime() - startedAt;
+
+                    assertThat(result.getBestScore()).isGreaterThanOrEqualTo(result.getInitialScore());
+                    gain += result.getBestScore() - result.getInitialScore();
+                    evaluations += result.getEvaluations();
+                }
+                System.out.printf("tasks=%d strategy=%s gain=%.1f evaluations=%d time=%.1fms score/s=%.0f%n",
+                    taskCount, metaheuristic.name(), (double) gain / SEEDS, evaluations / SEEDS,
+                    nanos / 1_000_000.0 / SEEDS, gain / (nanos / 1_000_000_000.0));
+            }
+        }
+    }
+
+    @Test
+    void resolve_rejectsUnknownMetaheuristic() {
+        assertThat(optimizer.resolve(TabuSearch.NAME)).isInstanceOf(TabuSearch.class);
+        assertThatThrownBy(() -> optimizer.resolve("genetic"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void moveSelectorsKeepSameUserAssignmentsApart() {
+        Instance instance = instance(30, 1);
+        Random random = new Random(3);
+        List<MoveSelector> selectors = List.of(new RelocateMoveSelector(), new BestFitWindowMoveSelector());
+        for (int i = 0; i < 200; i++) {
+            MoveSelector.Move move = selectors.get(i % 2).select(instance.assignments, instance.slots, random);
+            if (move == null) {
+                continue;
+            }
+            List<Assignment> moved = move.getAssignments();
+            for (int a = 0; a < moved.size(); a++) {
+                for (int b = a + 1; b < moved.size(); b++) {
+                    Long userA = AssignmentMoves.userIdFromMeta(moved.get(a));
+                    if (userA != null && userA.equals(AssignmentMoves.userIdFromMeta(moved.get(b)))) {
+                        assertThat(AssignmentMoves.isOverlapping(moved.get(a), moved.get(b))).isFalse();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용자 4명, 2주 평일 09:00 ~ 18:00, 무작위 선호도와 마감일의 작업들을 그리디로 배치한 결과
+     */
+    private Instance instance(int taskCount, long seed) {
+        Random random = new Random(seed);
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        for (long userId = 1; userId <= 4; userId++) {
+            List<TimeSlot> userSlots = new ArrayList<>();
+            for (int d = 0; d < 12; d++) {
+                LocalDate date = MONDAY.plusDays(d);
+                if (date.getDayOfWeek().getValue() > 5) {
+                    continue;
+                }
+                for (int i = 18; i < 36; i++) {
+                    userSlots.add(TimeSlot.builder()
+                        .date(date)
+                        .slotIndex(i)
+                        .startTime(TimeSlot.calculateStartTime(date, i))
+                        .endTime(TimeSlot.calculateEndTime(date, i))
+                        .available(true)
+                        .userId(userId)
+                        .preferenceScore(0.2 + 0.8 * random.nextDouble())
+                        .build());
+                }
+            }
+            slots.put(userId, userSlots);
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 1; id <= taskCount; id++) {
+            Task task = new Task();
+            task.setId(id);
+            task.setTitle("작업 " + id);
+            task.setDurationMin(30 * (1 + random.nextInt(6)));
+            task.setSplittable(random.nextBoolean());
+            task.setPriority(1 + random.nextInt(5));
+            task.setDueAt(MONDAY.plusDays(3 + random.nextInt(9)).atTime(18, 0).atOffset(ZoneOffset.UTC));
+            tasks.add(task);
+        }
+        List<Assignment> assignments = new GreedyScheduler(null, null, null)
+            .scheduleTasks(tasks, slots, new Schedule());
+        return new Instance(tasks, slots, assignments);
+    }
+
+    private record Instance(List<Task> tasks, Map<Long, List<TimeSlot>> slots, List<Assignment> assignments) {
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.dto.AssignmentBusyBlock;
+import com.example.sbb.dto.request.MeetingSuggestionRequest;
+import com.example.sbb.dto.response.MeetingSuggestionResponse.SuggestedTimeSlot;
+import com.example.sbb.repository.AssignmentRepository;
+import com.example.sbb.repository.ScheduleRepository;
+import com.example.sbb.repository.TeamRepository;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.ToDoubleBiFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSuggestionServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+    private static final int DAYS = 14;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @Mock
+    private FreeBusyCache freeBusyCache;
+
+    @Spy
+    private TimeSlotGenerator timeSlotGenerator;
+
+    @InjectMocks
+    private MeetingSuggestionService meetingSuggestionService;
+
+    @Test
+    void findCommonAvailableSlots_returnsOnlyWindowsFreeForEveryone() {
+        Map<Long, long[]> masks = new HashMap<>();
+        addRange(masks, 1L, 0, 18, 26);   // 09:00 ~ 13:00
+        addRange(masks, 2L, 0, 20, 30);   // 10:00 ~ 15:00
+
+        // 11:00 이전 1.0, 이후 0.5
+        List<SuggestedTimeSlot> suggestions = find(masks, List.of(1L, 2L), (date, slot) -> slot < 22 ? 1.0 : 0.5, 4, 20);
+
+        // 공통 10:00 ~ 13:00 (슬롯 20~25) 에서 2시간 구간은 20, 21, 22 시작 3개
+        assertThat(suggestions).hasSize(3);
+        assertThat(suggestions).extracting(s -> s.getStartsAt().getHour() * 60 + s.getStartsAt().getMinute())
+            .containsExactly(600, 630, 660);
+        assertThat(suggestions.get(0).getPreferenceScore()).isEqualTo(0.75);
+        assertThat(suggestions.get(0).getAvailableParticipants()).isEqualTo(2);
+    }
+
+    @Test
+    void findCommonAvailableSlots_keepsOnlyTopKByPreferenceThenTime() {
+        Map<Long, long[]> masks = new HashMap<>();
+        addRange(masks, 1L, 0, 18, 22);
+        addRange(masks, 1L, 1, 18, 22);
+
+        List<SuggestedTimeSlot> suggestions = find(masks, List.of(1L),
+            (date, slot) -> date.equals(START) ? 0.2 : 0.9, 2, 2);
+
+        assertThat(suggestions).hasSize(2);
+        assertThat(suggestions).allSatisfy(s -> assertThat(s.getStartsAt().toLocalDate()).isEqualTo(START.plusDays(1)));
+        assertThat(suggestions.get(0).getStartsAt()).isBefore(suggestions.get(1).getStartsAt());
+    }
+
+    @Test
+    void findCommonAvailableSlots_matchesBruteForceOnRandomCalendars() {
+        Random random = new Random(7);
+        List<Long> participants = List.of(1L, 2L, 3L, 4L, 5L);
+        Map<Long, long[]> masks = new HashMap<>();
+        for (Long userId : participants) {
+            for (int day = 0; day < 10; day++) {
+                for (int slot = 14; slot < 40; slot++) {
+                    if (random.nextInt(10) < 8) {
+                        addRange(masks, userId, day, slot, slot + 1);
+                    }
+                }
+            }
+        }
+        double[][] preferences = new double[DAYS][AvailabilityMatrix.SLOTS_PER_DAY];
+        for (double[] day : preferences) {
+            for (int slot = 0; slot < day.length; slot++) {
+                day[slot] = 0.1 * (1 + random.nextInt(10));
+            }
+        }
+        ToDoubleBiFunction<LocalDate, Integer> preference =
+            (date, slot) -> preferences[(int) ChronoUnit.DAYS.between(START, date)][slot];
+
+        // 부동소수 합 순서 차이로 동점 순서가 바뀔 수 있으므로 시작 시각 기준으로 맞춰 비교
+        List<SuggestedTimeSlot> actual = new ArrayList<>(find(masks, participants, preference, 3, 1_000));
+        List<SuggestedTimeSlot> expected = bruteForce(masks, participants, preferences, 3);
+        actual.sort(Comparator.comparing(SuggestedTimeSlot::getStartsAt));
+        expected.sort(Comparator.comparing(SuggestedTimeSlot::getStartsAt));
+
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getStartsAt()).isEqualTo(expected.get(i).getStartsAt());
+            assertThat(actual.get(i).getPreferenceScore()).isCloseTo(expected.get(i).getPreferenceScore(),
+                offset(1e-6));
+        }
+    }
+
+    @Test
+    void findQuorumAvailableSlots_ranksByAttendanceAndKeepsRequiredAttendee() {
+        Map<Long, long[]> masks = new HashMap<>();
+        addRange(masks, 1L, 0, 18, 30);   // 필수 참석자: 09:00 ~ 15:00
+        addRange(masks, 2L, 0, 18, 22);   // 09:00 ~ 11:00
+        addRange(masks, 3L, 0, 18, 22);   // 09:00 ~ 11:00
+        addRange(masks, 4L, 0, 26, 40);   // 13:00 ~ 20:00 (필수 참석자와 13:00 ~ 15:00 만 겹침)
+
+        List<SuggestedTimeSlot> suggestions = findQuorum(masks, List.of(1L, 2L, 3L, 4L), new int[] {0}, 2, 2, 20);
+
+        assertThat(suggestions).isNotEmpty();
+        assertThat(suggestions.get(0).getAvailableParticipants()).isEqualTo(3);
+        assertThat(suggestions.get(0).getStartsAt().getHour()).isEqualTo(9);
+        assertThat(suggestions.get(0).getTotalParticipants()).isEqualTo(4);
+        // 필수 참석자가 불가능한 15:00 이후는 4번이 가능해도 제외
+        assertThat(suggestions).allSatisfy(s -> assertThat(s.getEndsAt().getHour() * 60 + s.getEndsAt().getMinute())
+            .isLessThanOrEqualTo(15 * 60));
+        assertThat(suggestions).allSatisfy(s -> assertThat(s.getAvailableParticipants()).isGreaterThanOrEqualTo(2));
+    }
+
+    @Test
+    void findQuorumAvailableSlots_matchesBruteForceAttendance() {
+        Random random = new Random(11);
+        List<Long> participants = new ArrayList<>();
+        Map<Long, long[]> masks = new HashMap<>();
+        for (long userId = 1; userId <= 30; userId++) {
+            participants.add(userId);
+            for (int day = 0; day < 5; day++) {
+                for (int slot = 16; slot < 38; slot++) {
+                    if (random.nextInt(10) < 7) {
+                        addRange(masks, userId, day, slot, slot + 1);
+                    }
+                }
+            }
+        }
+
+        List<SuggestedTimeSlot> actual = findQuorum(masks, participants, new int[0], 8, 2, 1_000);
+
+        Map<OffsetDateTime, Integer> expected = new HashMap<>();
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = START.plusDays(day);
+            for (int start = 0; start <= 46; start++) {
+                int attendees = 0;
+                for (Long userId : participants) {
+                    if (isFree(masks, userId, day, start) && isFree(masks, userId, day, start + 1)) {
+                        attendees++;
+                    }
+                }
+                if (attendees >= 8) {
+                    expected.put(TimeSlot.calculateStartTime(date, start), attendees);
+                }
+            }
+        }
+        assertThat(actual).hasSize(expected.size());
+        assertThat(actual).allSatisfy(s -> assertThat(s.getAvailableParticipants()).isEqualTo(expected.get(s.getStartsAt())));
+        for (int i = 1; i < actual.size(); i++) {
+            assertThat(actual.get(i - 1).getAvailableParticipants()).isGreaterThanOrEqualTo(actual.get(i).getAvailableParticipants());
+        }
+    }
+
+    @Test
+    void suggestMeetingTimes_treatsActiveAssignmentsAsBusyOrSoft() {
+        // 1번 09:00 ~ 11:00 가능, 09:00 ~ 10:00 에 분할 가능한 작업 배치
+        given(teamRepository.existsById(1L)).willReturn(true);
+        given(freeBusyCache.availability(eq(1L), eq(List.of(1L)), eq(START), eq(START)))
+            .willAnswer(inv -> new HashMap<>(Map.of(1L, new long[] {AvailabilityMatrix.slotRange(18, 22)})));
+        given(scheduleRepository.findLatestIdByTeamIdAndDateRange(1L, START, START)).willReturn(Optional.of(7L));
+        given(assignmentRepository.findBusyBlocks(eq(7L), eq(List.of("1")), any(), any())).willReturn(List.of(
+            new AssignmentBusyBlock(1L, TimeSlot.calculateStartTime(START, 18), TimeSlot.calculateStartTime(START, 20), true)));
+
+        MeetingSuggestionRequest request = new MeetingSuggestionRequest();
+        request.setTeamId(1L);
+        request.setDurationMin(60);
+        request.setParticipantIds(List.of(1L));
+        request.setPreferredStartDate(START);
+        request.setSearchDays(1);
+
+        List<SuggestedTimeSlot> hard = meetingSuggestionService.suggestMeetingTimes(request).getSuggestions();
+        assertThat(hard).extracting(s -> s.getStartsAt().getHour() * 60 + s.getStartsAt().getMinute())
+            .containsExactly(600);
+
+        request.setSoftFlexibleTasks(true);
+        List<SuggestedTimeSlot> soft = meetingSuggestionService.suggestMeetingTimes(request).getSuggestions();
+        // 겹치지 않는 10:00 이 먼저, 겹치는 구간은 감점된 채 남는다
+        assertThat(soft).hasSize(3);
+        assertThat(soft.get(0).getStartsAt().getHour()).isEqualTo(10);
+        assertThat(soft.get(2).getPreferenceScore()).isEqualTo(0.5);
+    }
+
+    private List<SuggestedTimeSlot> findQuorum(Map<Long, long[]> masks, List<Long> participants, int[] required,
+                                               int minAttendees, int requiredSlots, int limit) {
+        AvailabilityMatrix matrix = AvailabilityMatrix.fromMasks(masks, participants, START, START.plusDays(DAYS - 1),
+            (date, slot) -> 1.0);
+        return meetingSuggestionService.findQuorumAvailableSlots(matrix, required, minAttendees, requiredSlots, limit);
+    }
+
+    private List<SuggestedTimeSlot> find(Map<Long, long[]> masks, List<Long> participants,
+                                         ToDoubleBiFunction<LocalDate, Integer> preference, int requiredSlots, int limit) {
+        AvailabilityMatrix matrix = AvailabilityMatrix.fromMasks(masks, participants, START, START.plusDays(DAYS - 1),
+            preference);
+        return meetingSuggestionService.findCommonAvailableSlots(matrix, requiredSlots, limit);
+    }
+
+    /**
+     * 슬롯을 하나씩 훑는 기준 구현.
+     */
+    private List<SuggestedTimeSlot> bruteForce(Map<Long, long[]> masks, List<Long> participants,
+                                               double[][] preferences, int requiredSlots) {
+        List<SuggestedTimeSlot> result = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = START.plusDays(day);
+            for (int start = 0; start <= 48 - requiredSlots; start++) {
+                double sum = 0;
+                boolean all = true;
+                for (int i = 0; i < requiredSlots && all; i++) {
+                    for (Long userId : participants) {
+                        if (!isFree(masks, userId, day, start + i)) {
+                            all = false;
+                            break;
+                        }
+                        sum += preferences[day][start + i];
+                    }
+                }
+                if (all) {
+                    var startsAt = TimeSlot.calculateStartTime(date, start);
+                    result.add(new SuggestedTimeSlot(startsAt, startsAt.plusMinutes(30L * requiredSlots),
+                        participants.size(), participants.size(), sum / (participants.size() * requiredSlots)));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isFree(Map<Long, long[]> masks, Long userId, int day, int slotIndex) {
+        long[] days = masks.get(userId);
+        return days != null && (days[day] & (1L << slotIndex)) != 0;
+    }
+
+    private static void addRange(Map<Long, long[]> masks, Long userId, int day, int fromSlot, int toSlot) {
+        masks.computeIfAbsent(userId, k -> new long[DAYS])[day] |= AvailabilityMatrix.slotRange(fromSlot, toSlot);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.config.EjectionChainProperties;
+import com.example.sbb.config.RollingHorizonProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.domain.User;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class RollingHorizonSchedulerTest {
+
+    private static final LocalDate START = LocalDate.of(2030, 3, 4);
+    private static final int USERS = 4;
+
+    private final RollingHorizonProperties properties = new RollingHorizonProperties();
+    private final GreedyScheduler greedyScheduler = new GreedyScheduler(null, null, null);
+    private final RollingHorizonScheduler scheduler = new RollingHorizonScheduler(new AssigneePlanner(), greedyScheduler,
+        new EjectionChainInserter(greedyScheduler, new EjectionChainProperties()), properties);
+
+    @Test
+    void applies_onlyToLongRanges() {
+        assertThat(scheduler.applies(START, START.plusDays(26))).isFalse();
+        assertThat(scheduler.applies(START, START.plusDays(27))).isTrue();
+
+        properties.setEnabled(false);
+        assertThat(scheduler.applies(START, START.plusDays(90))).isFalse();
+    }
+
+    @Test
+    void scheduleTasks_producesValidScheduleOverLongRange() {
+        LocalDate end = START.plusDays(89);
+        List<Task> tasks = tasks(90, 7);
+        Map<Long, List<TimeSlot>> slots = slots(START, end);
+
+        List<Assignment> assignments = scheduler.scheduleTasks(tasks, slots, new Schedule(), START, end);
+
+        Set<Task> inputs = Collections.newSetFromMap(new IdentityHashMap<>());
+        inputs.addAll(tasks);
+        Map<Long, Integer> minutesByTask = new HashMap<>();
+        for (Assignment assignment : assignments) {
+            assertThat(inputs).contains(assignment.getTask());
+            assertThat(assignment.getEndsAt()).isBefore(assignment.getTask().getDueAt());
+            minutesByTask.merge(assignment.getTask().getId(),
+                (int) Duration.between(assignment.getStartsAt(), assignment.getEndsAt()).toMinutes(), Integer::sum);
+        }
+        // 분할 작업의 나머지를 넘겨도 작업 시간보다 많이 배치되지 않음
+        for (Task task : tasks) {
+            assertThat(minutesByTask.getOrDefault(task.getId(), 0)).isLessThanOrEqualTo(task.getDurationMin());
+        }
+        // 같은 사용자의 배치는 겹치지 않음
+        Map<Long, List<Assignment>> byUser = assignments.stream()
+            .collect(Collectors.groupingBy(AssignmentMoves::userIdFromMeta));
+        for (List<Assignment> userAssignments : byUser.values()) {
+            for (int i = 0; i < userAssignments.size(); i++) {
+                for (int j = i + 1; j < userAssignments.size(); j++) {
+                    assertThat(AssignmentMoves.isOverlapping(userAssignments.get(i), userAssignments.get(j))).isFalse();
+                }
+            }
+        }
+        assertThat(minutesByTask.size()).isGreaterThan(tasks.size() / 2);
+    }
+
+    @Test
+    void scheduleTasks_solveTimeGrowsWithHorizon() {
+        for (int days : new int[] {30, 60, 120}) {
+            LocalDate end = START.plusDays(days - 1L);
+            List<Task> tasks = tasks(days, 11);
+            Map<Long, List<TimeSlot>> slots = slots(START, end);
+            scheduler.scheduleTasks(tasks, slots, new Schedule(), START, end); // 워밍업
+
+            long startedAt = System.nanoTime();
+            List<Assignment> assignments = scheduler.scheduleTasks(tasks, slots, new Schedule(), START, end);
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+            long placed = assignments.stream().map(a -> a.getTask().getId()).distinct().count();
+            System.out.printf("days=%d tasks=%d placed=%d time=%dms%n", days, tasks.size(), placed, elapsedMs);
+            assertThat(placed).isPositive();
+        }
+    }
+
+    /**
+     * 하루에 사용자 수만큼의 작업, 마감은 범위 안 무작위, 셋 중 하나는 담당자 지정
+     */
+    private List<Task> tasks(int days, long seed) {
+        Random random = new Random(seed);
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 1; id <= (long) days * USERS / 2; id++) {
+            Task task = new Task();
+            task.setId(id);
+            task.setTitle("작업 " + id);
+            task.setDurationMin(30 * (1 + random.nextInt(8)));
+            task.setSplittable(random.nextBoolean());
+            task.setPriority(1 + random.nextInt(5));
+            task.setDueAt(START.plusDays(1 + random.nextInt(days - 1)).atTime(17, 0).atOffset(ZoneOffset.UTC));
+            if (random.nextInt(3) == 0) {
+                User assignee = new User();
+                assignee.setId(1L + random.nextInt(USERS));
+                task.setAssignee(assignee);
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * 사용자별 평일 09:00 ~ 12:00
+     */
+    private Map<Long, List<TimeSlot>> slots(LocalDate start, LocalDate end) {
+        Map<Long, List<TimeSlot>> slots = new HashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            List<TimeSlot> userSlots = new ArrayList<>();
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                if (date.getDayOfWeek().getValue() > 5) {
+                    continue;
+                }
+                for (int i = 18; i < 24; i++) {
+                    userSlots.add(TimeSlot.builder()
+                        .date(date)
+                        .slotIndex(i)
+                        .startTime(TimeSlot.calculateStartTime(date, i))
+                        .endTime(TimeSlot.calculateEndTime(date, i))
+                        .available(true)
+                        .userId(userId)
+                        .preferenceScore(1.0)
+                        .build());
+                }
+            }
+            slots.put(userId, userSlots);
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.example.sbb.config.SchedulingJobProperties;
+import com.example.sbb.dto.response.ScheduleGenerateResponse;
+import com.example.sbb.dto.response.ScheduleJobResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ScheduleJobServiceTest {
+
+    private static final Long TEAM_ID = 1L;
+    private static final Long USER_ID = 7L;
+    private static final String LOCK_KEY = "schedule:team:1";
+    private static final LocalDate START = LocalDate.of(2030, 3, 4);
+    private static final LocalDate END = START.plusDays(6);
+
+    @Mock
+    private SchedulingService schedulingService;
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private SlotLockService slotLockService;
+
+    @Mock
+    private ScheduleOptimizationService scheduleOptimizationService;
+
+    @Mock
+    private LocalSearchOptimizer localSearchOptimizer;
+
+    private ScheduleJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new ScheduleJobService(schedulingService, scheduleService, slotLockService,
+            scheduleOptimizationService, localSearchOptimizer, new SchedulingJobProperties());
+        given(slotLockService.tryLock(eq(LOCK_KEY), eq(USER_ID), any(Duration.class))).willReturn(true);
+        given(slotLockService.renewLock(eq(LOCK_KEY), eq(USER_ID), any(Duration.class))).willReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submit_returnsQueuedJobAndCompletesOnSolverPool() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        ScheduleGenerateResponse result = new ScheduleGenerateResponse();
+        result.setScore(42);
+        given(schedulingService.generateScheduleSync(eq(TEAM_ID), eq(START), eq(END), eq(USER_ID), isNull(), any()))
+            .willAnswer(invocation -> {
+                invocation.getArgument(5, BiConsumer.class).accept(50, "작업 배치 중...");
+                release.await(5, TimeUnit.SECONDS);
+                return result;
+            });
+
+        ScheduleJobResponse accepted = jobService.submit(TEAM_ID, START, END, USER_ID, null).orElseThrow();
+        assertThat(accepted.getStatus()).isIn("QUEUED", "RUNNING");
+
+        // 실행 중에는 락을 연장
+        verify(scheduleOptimizationService, timeout(2000)).publishProgress(TEAM_ID, accepted.getJobId(), 50, "작업 배치 중...");
+        assertThat(jobService.getJob(accepted.getJobId()).orElseThrow().getProgress()).isEqualTo(50);
+        jobService.renewLeases();
+        verify(slotLockService).renewLock(eq(LOCK_KEY), eq(USER_ID), any(Duration.class));
+
+        release.countDown();
+        verify(scheduleOptimizationService, timeout(2000)).publishCompletion(eq(TEAM_ID), eq(accepted.getJobId()), isNull());
+        verify(slotLockService).releaseLock(LOCK_KEY, USER_ID);
+
+        ScheduleJobResponse done = jobService.getJob(accepted.getJobId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getScore()).isEqualTo(42);
+        assertThat(done.getResult()).isSameAs(result);
+    }
+
+    @Test
+    void submit_isRejectedWhileTeamLockIsHeld() {
+        given(slotLockService.tryLock(eq(LOCK_KEY), eq(USER_ID), any(Duration.class))).willReturn(false);
+
+        assertThat(jobService.submit(TEAM_ID, START, END, USER_ID, null)).isEmpty();
+    }
+
+    @Test
+    void failedSolve_marksJobFailedAndReleasesLock() {
+        given(schedulingService.generateScheduleSync(eq(TEAM_ID), eq(START), eq(END), eq(USER_ID), isNull(), any()))
+            .willThrow(new IllegalStateException("boom"));
+
+        String jobId = jobService.submit(TEAM_ID, START, END, USER_ID, null).orElseThrow().getJobId();
+
+        verify(scheduleOptimizationService, timeout(2000)).publishFailure(eq(TEAM_ID), eq(jobId), anyString());
+        verify(slotLockService, timeout(2000)).releaseLock(LOCK_KEY, USER_ID);
+        assertThat(jobService.getJob(jobId).orElseThrow().getStatus()).isEqualTo("FAILED");
+        assertThat(jobService.getJob(jobId).orElseThrow().getMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lostLease_failsJobAtNextStepWithoutReleasingOthersLock() {
+        CountDownLatch renewed = new CountDownLatch(1);
+        given(schedulingService.generateScheduleSync(eq(TEAM_ID), eq(START), eq(END), eq(USER_ID), isNull(), any()))
+            .willAnswer(invocation -> {
+                BiConsumer<Integer, String> progress = invocation.getArgument(5, BiConsumer.class);
+                progress.accept(50, "작업 배치 중...");
+                renewed.await(5, TimeUnit.SECONDS);
+                progress.accept(70, "작업 배치 완료");
+                return new ScheduleGenerateResponse();
+            });
+
+        String jobId = jobService.submit(TEAM_ID, START, END, USER_ID, null).orElseThrow().getJobId();
+        verify(scheduleOptimizationService, timeout(2000)).publishProgress(TEAM_ID, jobId, 50, "작업 배치 중...");
+        given(slotLockService.renewLock(eq(LOCK_KEY), eq(USER_ID), any(Duration.class))).willReturn(false);
+        jobService.renewLeases();
+        renewed.countDown();
+
+        verify(scheduleOptimizationService, timeout(2000)).publishFailure(eq(TEAM_ID), eq(jobId), anyString());
+        assertThat(jobService.getJob(jobId).orElseThrow().getStatus()).isEqualTo("FAILED");
+        verify(scheduleOptimizationService, never()).publishCompletion(any(), any(), any());
+        verify(slotLockService, never()).releaseLock(LOCK_KEY, USER_ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lostLease_rollsBackSolveBeforeCommit() {
+        given(schedulingService.generateScheduleSync(eq(TEAM_ID), eq(START), eq(END), eq(USER_ID), isNull(), any()))
+            .willAnswer(invocation -> {
+                // 솔버 트랜잭션 흉내: 진행 콜백 뒤 커밋 직전 콜백 실행
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    invocation.getArgument(5, BiConsumer.class).accept(50, "작업 배치 중...");
+                    given(slotLockService.renewLock(eq(LOCK_KEY), eq(USER_ID), any(Duration.class))).willReturn(false);
+                    TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                    return new ScheduleGenerateResponse();
+                } finally {
+                    TransactionSynchronizationManager.clearSynchronization();
+                }
+            });
+
+        String jobId = jobService.submit(TEAM_ID, START, END, USER_ID, null).orElseThrow().getJobId();
+
+        verify(scheduleOptimizationService, timeout(2000)).publishFailure(eq(TEAM_ID), eq(jobId), anyString());
+        assertThat(jobService.getJob(jobId).orElseThrow().getStatus()).isEqualTo("FAILED");
+        verify(slotLockService, never()).releaseLock(LOCK_KEY, USER_ID);
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.sbb.config.EjectionChainProperties;
+import com.example.sbb.config.RollingHorizonProperties;
+import com.example.sbb.config.SchedulingRepairProperties;
+import com.example.sbb.config.SlotGridProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.AssignmentSource;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.Team;
+import com.example.sbb.domain.TeamMember;
+import com.example.sbb.domain.TimeSlot;
+import com.example.sbb.domain.User;
+import com.example.sbb.dto.response.ScheduleGenerateResponse;
+import com.example.sbb.repository.AssignmentRepository;
+import com.example.sbb.repository.CalendarEventRepository;
+import com.example.sbb.repository.ScheduleRepository;
+import com.example.sbb.repository.TaskRepository;
+import com.example.sbb.repository.TeamMemberRepository;
+import com.example.sbb.repository.TeamRepository;
+import com.example.sbb.repository.WorkHourRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SchedulingServiceRepairTest {
+
+    private static final Long TEAM_ID = 1L;
+    private static final Long USER_ID = 7L;
+    // 월요일 ~ 금요일
+    private static final LocalDate START = LocalDate.of(2030, 3, 4);
+    private static final LocalDate END = START.plusDays(4);
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private WorkHourRepository workHourRepository;
+    @Mock private CalendarEventRepository calendarEventRepository;
+    @Mock private ScheduleRepository scheduleRepository;
+    @Mock private AssignmentRepository assignmentRepository;
+    @Mock private TeamRepository teamRepository;
+    @Mock private TeamMemberRepository teamMemberRepository;
+    @Mock private ScheduleOptimizationService scheduleOptimizationService;
+    @Mock private ScheduleService scheduleService;
+    @Mock private FreeBusyCache freeBusyCache;
+    @Mock private LocalSearchOptimizer localSearchOptimizer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SolverInputFingerprint fingerprint = new SolverInputFingerprint(meterRegistry);
+    private final List<Map<Long, List<TimeSlot>>> generatedSlots = new ArrayList<>();
+    private TimeSlotGenerator timeSlotGenerator;
+    private SchedulingService schedulingService;
+    private Map<Long, long[]> availability;
+    private Schedule schedule;
+    private Team team;
+    private Task changed;
+    private Task untouched;
+    private Task displaced;
+    private Assignment changedAssignment;
+    private Assignment untouchedAssignment;
+    private Assignment displacedAssignment;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 만든 가용 슬롯 목록을 모아 TimeSlot 을 만든 날짜 수를 확인
+        timeSlotGenerator = spy(new TimeSlotGenerator());
+        doAnswer(inv -> {
+            Map<Long, List<TimeSlot>> slots = (Map<Long, List<TimeSlot>>) inv.callRealMethod();
+            generatedSlots.add(slots);
+            return slots;
+        }).when(timeSlotGenerator).slotsFromMasks(any(), any());
+        schedulingService = newService(new SlotGridProperties());
+
+        team = new Team();
+        team.setId(TEAM_ID);
+        schedule = new Schedule();
+        schedule.setId(10L);
+        schedule.setTeam(team);
+        schedule.setRangeStart(START);
+        schedule.setRangeEnd(END);
+        schedule.setScore(900);
+        given(scheduleRepository.findFirstByTeam_IdOrderByCreatedAtDesc(TEAM_ID)).willReturn(Optional.of(schedule));
+        given(scheduleRepository.save(any(Schedule.class))).willAnswer(inv -> inv.getArgument(0));
+
+        User user = new User();
+        user.setId(USER_ID);
+        TeamMember member = new TeamMember();
+        member.setUser(user);
+        given(teamMemberRepository.findByTeamId(TEAM_ID)).willReturn(List.of(member));
+
+        changed = task(1L, 90);
+        untouched = task(2L, 60);
+        displaced = task(3L, 60);
+        given(taskRepository.findByTeamIdAndDueAtBetween(eq(TEAM_ID), any(), any()))
+            .willReturn(List.of(changed, untouched, displaced));
+
+        // 월요일 09:00 ~ 10:00 (바뀐 작업), 10:00 ~ 11:00 (그대로), 13:00 ~ 14:00 (새 일정과 겹침)
+        changedAssignment = assignment(changed, 9, 10);
+        untouchedAssignment = assignment(untouched, 10, 11);
+        displacedAssignment = assignment(displaced, 13, 14);
+        given(assignmentRepository.findAllBySchedule_Id(10L))
+            .willReturn(List.of(changedAssignment, untouchedAssignment, displacedAssignment));
+        given(assignmentRepository.saveAll(anyList())).willAnswer(inv -> inv.getArgument(0));
+        given(localSearchOptimizer.optimize(any(), anyList(), anyList(), any()))
+            .willAnswer(inv -> inv.getArgument(1));
+
+        // 평일 09:00 ~ 18:00, 월요일 13:00 ~ 14:00 은 새로 생긴 일정으로 바쁨
+        long[] masks = new long[5];
+        for (int d = 0; d < masks.length; d++) {
+            masks[d] = AvailabilityMatrix.slotRange(18, 36);
+        }
+        masks[0] &= ~AvailabilityMatrix.slotRange(26, 28);
+        availability = new HashMap<>();
+        availability.put(USER_ID, masks);
+        given(freeBusyCache.availability(TEAM_ID, List.of(USER_ID), START, END)).willReturn(availability);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void repairSchedule_replacesOnlyChangedAndConflictingAssignments() {
+        schedulingService.repairSchedule(TEAM_ID, List.of(1L), START, END.plusDays(7), null);
+
+        ArgumentCaptor<List<Assignment>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(assignmentRepository).deleteAll(deleted.capture());
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder(changedAssignment, displacedAssignment);
+
+        ArgumentCaptor<List<Assignment>> saved = ArgumentCaptor.forClass(List.class);
+        verify(assignmentRepository).saveAll(saved.capture());
+        List<Assignment> placed = saved.getValue();
+        assertThat(placed).extracting(a -> a.getTask().getId()).containsExactlyInAnyOrder(1L, 3L);
+        // 다시 놓인 작업은 남은 배치, 바쁜 시간과 겹치지 않는다
+        List<Assignment> all = new ArrayList<>(placed);
+        all.add(untouchedAssignment);
+        for (Assignment a : placed) {
+            assertThat(a.getEndsAt().isAfter(at(0, 13)) && a.getStartsAt().isBefore(at(0, 14))).isFalse();
+            for (Assignment other : all) {
+                if (other != a) {
+                    assertThat(a.getStartsAt().isBefore(other.getEndsAt())
+                        && other.getStartsAt().isBefore(a.getEndsAt())).isFalse();
+                }
+            }
+        }
+        assertThat(placed.stream().filter(a -> a.getTask() == changed)
+            .mapToLong(a -> java.time.Duration.between(a.getStartsAt(), a.getEndsAt()).toMinutes()).sum())
+            .isEqualTo(90);
+        verify(schedulingService, never()).generateSchedule(any(), any(), any(), any());
+        verify(scheduleOptimizationService).publishCompletion(eq(TEAM_ID), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void repairSchedule_keepsAssignmentsPackedOnFifteenMinuteBoundaries() {
+        SlotGridProperties gridProperties = new SlotGridProperties();
+        gridProperties.getTeams().put(TEAM_ID, 15);
+        schedulingService = newService(gridProperties);
+        // 15분 팀: 10:00 ~ 10:45, 10:45 ~ 11:30 은 다듬기로 붙어 있는 배치 (같은 30분 칸을 나눠 씀)
+        Task first = task(4L, 45);
+        Task second = task(5L, 45);
+        changed.setDurationMin(75);
+        Assignment firstAssignment = assignment(first, at(0, 10), at(0, 10).plusMinutes(45));
+        Assignment secondAssignment = assignment(second, at(0, 10).plusMinutes(45), at(0, 11).plusMinutes(30));
+        given(taskRepository.findByTeamIdAndDueAtBetween(eq(TEAM_ID), any(), any()))
+            .willReturn(List.of(changed, first, second, displaced));
+        given(assignmentRepository.findAllBySchedule_Id(10L))
+            .willReturn(List.of(changedAssignment, firstAssignment, secondAssignment, displacedAssignment));
+
+        schedulingService.repairSchedule(TEAM_ID, List.of(1L), START, END.plusDays(7), null);
+
+        ArgumentCaptor<List<Assignment>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(assignmentRepository).deleteAll(deleted.capture());
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder(changedAssignment, displacedAssignment);
+
+        // 다시 놓인 배치도 15분 격자로 다듬어 저장 (75분 작업은 90분이 아니라 75분)
+        ArgumentCaptor<List<Assignment>> saved = ArgumentCaptor.forClass(List.class);
+        verify(assignmentRepository, times(2)).saveAll(saved.capture());
+        List<Assignment> placed = saved.getValue();
+        assertThat(placed).extracting(a -> a.getTask().getId()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(placed.stream().filter(a -> a.getTask() == changed)
+            .mapToLong(a -> java.time.Duration.between(a.getStartsAt(), a.getEndsAt()).toMinutes()).sum())
+            .isEqualTo(75);
+        List<Assignment> all = new ArrayList<>(placed);
+        all.add(firstAssignment);
+        all.add(secondAssignment);
+        for (Assignment a : placed) {
+            for (Assignment other : all) {
+                if (other != a) {
+                    assertThat(a.getStartsAt().isBefore(other.getEndsAt())
+                        && other.getStartsAt().isBefore(a.getEndsAt())).isFalse();
+                }
+            }
+        }
+        assertThat(secondAssignment.getStartsAt()).isEqualTo(at(0, 10).plusMinutes(45));
+        verify(schedulingService, never()).generateSchedule(any(), any(), any(), any());
+    }
+
+    @Test
+    void generateScheduleSync_materializesOnlyDaysUpToDueDates() {
+        // 6주 범위(rolling horizon), 작업은 모두 첫 주 금요일 마감: 실행 가능성 검사와 담당자 계획은 마스크만 보고
+        // 배치와 점수 계산은 첫 구간 날짜만 만든다
+        LocalDate rangeEnd = START.plusDays(41);
+        long[] masks = new long[42];
+        for (int d = 0; d < masks.length; d++) {
+            if (START.plusDays(d).getDayOfWeek().getValue() <= 5) {
+                masks[d] = AvailabilityMatrix.slotRange(18, 36);
+            }
+        }
+        given(freeBusyCache.availability(TEAM_ID, List.of(USER_ID), START, rangeEnd))
+            .willReturn(Map.of(USER_ID, masks));
+        given(teamRepository.findById(TEAM_ID)).willReturn(Optional.of(team));
+
+        ScheduleGenerateResponse response = schedulingService.generateScheduleSync(
+            TEAM_ID, START, rangeEnd, USER_ID, null, (progress, message) -> { });
+
+        assertThat(response.getUnassignedTasks()).isEmpty();
+        assertThat(generatedSlots).isNotEmpty();
+        for (Map<Long, List<TimeSlot>> slots : generatedSlots) {
+            assertThat(((LazySlotList) slots.get(USER_ID)).materializedDays())
+                .isLessThanOrEqualTo(new RollingHorizonProperties().getWindowDays());
+        }
+    }
+
+    @Test
+    void repairSchedule_reusesScheduleWhenSolverInputUnchanged() {
+        // 제목만 바뀐 경우: 지문이 같으므로 배치는 그대로 두고 제목만 맞춘다
+        schedule.setInputFingerprint(SolverInputFingerprint.compute(
+            START, END, List.of(changed, untouched, displaced), availability, null, SlotGrid.BASE));
+        changed.setTitle("새 제목");
+
+        schedulingService.repairSchedule(TEAM_ID, List.of(1L), START, END, null);
+
+        verify(assignmentRepository, never()).deleteAll(anyList());
+        verify(assignmentRepository).saveAll(List.of(changedAssignment));
+        assertThat(changedAssignment.getTitle()).isEqualTo("새 제목");
+        verify(schedulingService, never()).generateSchedule(any(), any(), any(), any());
+        verify(scheduleOptimizationService).publishCompletion(eq(TEAM_ID), any());
+        assertThat(meterRegistry.get("scheduling.fingerprint.lookups").tag("result", "hit").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void repairSchedule_fallsBackToFullSolveWhenScoreDrops() {
+        schedule.setScore(100_000);
+
+        schedulingService.repairSchedule(TEAM_ID, List.of(1L), START, END.plusDays(7), 5L);
+
+        verify(schedulingService).generateSchedule(TEAM_ID, START, END.plusDays(7), 5L);
+        verify(assignmentRepository, never()).deleteAll(anyList());
+        verify(assignmentRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void repairSchedule_fallsBackWhenChangedTaskLeftScheduleRange() {
+        given(taskRepository.existsById(anyLong())).willReturn(true);
+
+        schedulingService.repairSchedule(TEAM_ID, List.of(99L), START, END, null);
+
+        verify(schedulingService).generateSchedule(TEAM_ID, START, END, null);
+        verify(assignmentRepository, never()).findAllBySchedule_Id(any());
+    }
+
+    private SchedulingService newService(SlotGridProperties gridProperties) {
+        GreedyScheduler greedyScheduler = new GreedyScheduler(taskRepository, scheduleRepository, assignmentRepository);
+        EjectionChainInserter ejectionChainInserter = new EjectionChainInserter(greedyScheduler, new EjectionChainProperties());
+        SchedulingService service = spy(new SchedulingService(taskRepository, workHourRepository, calendarEventRepository,
+            scheduleRepository, assignmentRepository, teamRepository, teamMemberRepository,
+            scheduleOptimizationService, scheduleService, timeSlotGenerator, freeBusyCache, new FeasibilityAnalyzer(), new AssigneePlanner(),
+            greedyScheduler, ejectionChainInserter,
+            new RollingHorizonScheduler(new AssigneePlanner(), greedyScheduler, ejectionChainInserter, new RollingHorizonProperties()),
+            new ScoreCalculator(),
+            localSearchOptimizer, fingerprint, new SlotGridRefiner(gridProperties), new SchedulingRepairProperties()));
+        doNothing().when(service).generateSchedule(any(), any(), any(), any());
+        return service;
+    }
+
+    private Task task(Long id, int durationMin) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTeam(team);
+        task.setTitle("작업 " + id);
+        task.setDurationMin(durationMin);
+        task.setPriority(3);
+        task.setDueAt(at(4, 18));
+        return task;
+    }
+
+    private Assignment assignment(Task task, int fromHour, int toHour) {
+        return assignment(task, at(0, fromHour), at(0, toHour));
+    }
+
+    private Assignment assignment(Task task, OffsetDateTime startsAt, OffsetDateTime endsAt) {
+        Assignment assignment = new Assignment();
+        assignment.setSchedule(schedule);
+        assignment.setTask(task);
+        assignment.setTitle(task.getTitle());
+        assignment.setStartsAt(startsAt);
+        assignment.setEndsAt(endsAt);
+        assignment.setSource(AssignmentSource.TASK);
+        assignment.setSlotIndex(SlotGrid.BASE.indexOf(startsAt));
+        assignment.setMeta("{\"slots\":2,\"split\":false,\"userId\":" + USER_ID + ",\"splitIndex\":0}");
+        return assignment;
+    }
+
+    private OffsetDateTime at(int dayOffset, int hour) {
+        return START.plusDays(dayOffset).atTime(hour, 0).atOffset(ZoneOffset.UTC);
+    }
+}
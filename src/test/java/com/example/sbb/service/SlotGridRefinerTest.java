@@ -0,0 +1,166 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.config.SlotGridProperties;
+import com.example.sbb.domain.Assignment;
+import com.example.sbb.domain.AssignmentSource;
+import com.example.sbb.domain.Schedule;
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.TimeSlot;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SlotGridRefinerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 4);
+    private static final Long USER_ID = 1L;
+
+    private final SlotGridProperties properties = new SlotGridProperties();
+    private final SlotGridRefiner refiner = new SlotGridRefiner(properties);
+
+    @Test
+    void gridFor_usesTeamOverride() {
+        properties.getTeams().put(5L, 15);
+
+        assertThat(refiner.gridFor(5L)).isEqualTo(SlotGrid.FINE);
+        assertThat(refiner.gridFor(6L)).isEqualTo(SlotGrid.BASE);
+    }
+
+    @Test
+    void coarsen_keepsOnlyWholeHours() {
+        // 09:00 ~ 18:00 중 12:30 ~ 13:00 만 바쁨 -> 12:00 ~ 13:00 통째로 제외
+        long mask = AvailabilityMatrix.slotRange(18, 36) & ~AvailabilityMatrix.slotRange(25, 26);
+        Map<Long, long[]> availability = Map.of(USER_ID, new long[] {mask});
+
+        long[] coarse = refiner.coarsen(availability, SlotGrid.COARSE).get(USER_ID);
+
+        assertThat(coarse[0]).isEqualTo(AvailabilityMatrix.slotRange(18, 36) & ~AvailabilityMatrix.slotRange(24, 26));
+        assertThat(refiner.coarsen(availability, SlotGrid.BASE)).isSameAs(availability);
+    }
+
+    @Test
+    void refine_trimsToFineGridClosesGapsAndFillsFreedTime() {
+        // 09:00 ~ 11:00 만 가능: 45분 작업 두 개가 30분 격자에서 2시간을 다 씀
+        Map<Long, long[]> availability = Map.of(USER_ID, new long[] {AvailabilityMatrix.slotRange(18, 22)});
+        Task first = task(1L, 45);
+        Task second = task(2L, 45);
+        Task waiting = task(3L, 30);
+        List<Assignment> coarse = new ArrayList<>(List.of(
+            assignment(first, at(9, 0), at(10, 0)),
+            assignment(second, at(10, 0), at(11, 0))));
+
+        List<Assignment> refined = refiner.refine(coarse, List.of(first, second, waiting), availability, MONDAY,
+            SlotGrid.FINE, new Schedule());
+
+        assertThat(refined).hasSize(3);
+        assertThat(refined.get(0).getEndsAt()).isEqualTo(at(9, 45));
+        assertThat(refined.get(1).getStartsAt()).isEqualTo(at(9, 45));
+        assertThat(refined.get(1).getEndsAt()).isEqualTo(at(10, 30));
+        assertThat(refined.get(2).getTask()).isSameAs(waiting);
+        assertThat(refined.get(2).getStartsAt()).isEqualTo(at(10, 30));
+        assertThat(refined.get(2).getEndsAt()).isEqualTo(at(11, 0));
+        assertThat(AssignmentMoves.userIdFromMeta(refined.get(2))).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void refine_leavesBaseGridAndDisabledRefineUntouched() {
+        Map<Long, long[]> availability = Map.of(USER_ID, new long[] {AvailabilityMatrix.slotRange(18, 22)});
+        Task first = task(1L, 45);
+        List<Assignment> coarse = List.of(assignment(first, at(9, 0), at(10, 0)));
+
+        assertThat(refiner.refine(coarse, List.of(first), availability, MONDAY, SlotGrid.BASE, new Schedule()))
+            .isSameAs(coarse);
+        properties.setRefine(false);
+        assertThat(refiner.refine(coarse, List.of(first), availability, MONDAY, SlotGrid.FINE, new Schedule()))
+            .isSameAs(coarse);
+        assertThat(coarse.get(0).getEndsAt()).isEqualTo(at(10, 0));
+    }
+
+    @Test
+    void refine_costsLittleComparedToCoarseSolve() {
+        // 5명 x 10일, 15분 단위 작업 200개: 30분 그리디 + 15분 다듬기 vs 30분 그리디
+        Random random = new Random(11);
+        int days = 10;
+        Map<Long, long[]> availability = new HashMap<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            long[] masks = new long[days];
+            for (int d = 0; d < days; d++) {
+                masks[d] = AvailabilityMatrix.slotRange(18, 36);
+            }
+            availability.put(userId, masks);
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            Task task = task(id, 15 * (1 + random.nextInt(12)));
+            task.setDueAt(MONDAY.plusDays(1 + random.nextInt(days)).atTime(18, 0).atOffset(ZoneOffset.UTC));
+            tasks.add(task);
+        }
+        GreedyScheduler greedyScheduler = new GreedyScheduler(null, null, null);
+        Map<Long, List<TimeSlot>> slots = new TimeSlotGenerator().slotsFromMasks(availability, MONDAY);
+
+        long solveStartedAt = System.nanoTime();
+        List<Assignment> coarse = greedyScheduler.scheduleTasks(tasks, slots, new Schedule());
+        long solveMs = (System.nanoTime() - solveStartedAt) / 1_000_000;
+        long coarseMinutes = coarse.stream().mapToLong(SlotGridRefinerTest::minutesOf).sum();
+
+        long refineStartedAt = System.nanoTime();
+        List<Assignment> refined = refiner.refine(coarse, tasks, availability, MONDAY, SlotGrid.FINE, new Schedule());
+        long refineMs = (System.nanoTime() - refineStartedAt) / 1_000_000;
+        long refinedMinutes = refined.stream().mapToLong(SlotGridRefinerTest::minutesOf).sum();
+
+        System.out.printf("30분 풀이 %dms (배치 %d, %d분) -> 15분 다듬기 %dms (배치 %d, %d분)%n",
+            solveMs, coarse.size(), coarseMinutes, refineMs, refined.size(), refinedMinutes);
+        assertThat(refined.size()).isGreaterThanOrEqualTo(coarse.size());
+        // 같은 담당자 배치끼리 겹치지 않음
+        for (int i = 0; i < refined.size(); i++) {
+            for (int j = i + 1; j < refined.size(); j++) {
+                Assignment a = refined.get(i);
+                Assignment b = refined.get(j);
+                if (AssignmentMoves.userIdFromMeta(a).equals(AssignmentMoves.userIdFromMeta(b))) {
+                    assertThat(AssignmentMoves.isOverlapping(a, b)).isFalse();
+                }
+            }
+        }
+    }
+
+    private static long minutesOf(Assignment assignment) {
+        return Duration.between(assignment.getStartsAt(), assignment.getEndsAt()).toMinutes();
+    }
+
+    private Task task(Long id, int durationMin) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("작업 " + id);
+        task.setDurationMin(durationMin);
+        task.setPriority(3);
+        task.setSplittable(false);
+        task.setDueAt(MONDAY.atTime(18, 0).atOffset(ZoneOffset.UTC));
+        return task;
+    }
+
+    private Assignment assignment(Task task, OffsetDateTime startsAt, OffsetDateTime endsAt) {
+        Assignment assignment = new Assignment();
+        assignment.setTask(task);
+        assignment.setTitle(task.getTitle());
+        assignment.setStartsAt(startsAt);
+        assignment.setEndsAt(endsAt);
+        assignment.setSource(AssignmentSource.TASK);
+        assignment.setSlotIndex(SlotGrid.BASE.indexOf(startsAt));
+        assignment.setMeta("{\"slots\":2,\"split\":false,\"userId\":" + USER_ID + ",\"splitIndex\":0}");
+        return assignment;
+    }
+
+    private OffsetDateTime at(int hour, int minute) {
+        return MONDAY.atTime(hour, minute).atOffset(ZoneOffset.UTC);
+    }
+}
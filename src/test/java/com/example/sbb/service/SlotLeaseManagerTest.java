@@ -0,0 +1,119 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.sbb.config.SlotLockProperties;
+import com.example.sbb.repository.SlotLockRepository;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SlotLeaseManagerTest {
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    private static final Duration ALREADY_EXPIRED = Duration.ofSeconds(-1);
+
+    @Mock
+    private SlotLockRepository slotLockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SlotLeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        SlotLockProperties properties = new SlotLockProperties();
+        properties.setMode(SlotLockProperties.Mode.MEMORY);
+        properties.setFencingTokenBlockSize(100);
+        given(slotLockRepository.reserveFencingTokens(anyInt())).willReturn(100L, 200L, 300L);
+        leaseManager = new SlotLeaseManager(slotLockRepository, properties, transactionManager);
+    }
+
+    @Test
+    void tryAcquire_grantsFreeSlot_andRejectsOtherOwner() {
+        OptionalLong first = leaseManager.tryAcquire("slot-1", 1L, DEFAULT_TTL);
+        OptionalLong second = leaseManager.tryAcquire("slot-1", 2L, DEFAULT_TTL);
+
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    void tryAcquire_keepsToken_whenOwnerReenters() {
+        long token = leaseManager.tryAcquire("slot-1", 1L, DEFAULT_TTL).getAsLong();
+
+        assertThat(leaseManager.tryAcquire("slot-1", 1L, DEFAULT_TTL)).hasValue(token);
+    }
+
+    @Test
+    void tryAcquire_issuesLargerToken_whenTakingOverExpiredLease() {
+        long expiredToken = leaseManager.tryAcquire("slot-1", 1L, ALREADY_EXPIRED).getAsLong();
+
+        OptionalLong takeover = leaseManager.tryAcquire("slot-1", 2L, DEFAULT_TTL);
+
+        assertThat(takeover).isPresent();
+        assertThat(takeover.getAsLong()).isGreaterThan(expiredToken);
+        assertThat(leaseManager.findLease("slot-1")).get().extracting(lease -> lease.userId()).isEqualTo(2L);
+    }
+
+    @Test
+    void systemLocksWithoutOwner_areReentrantAndReleasable() {
+        assertThat(leaseManager.tryAcquire("job:cleanup", null, DEFAULT_TTL)).isPresent();
+        assertThat(leaseManager.tryAcquire("job:cleanup", 1L, DEFAULT_TTL)).isEmpty();
+
+        assertThat(leaseManager.releaseLock("job:cleanup", null)).isTrue();
+        assertThat(leaseManager.findLease("job:cleanup")).isEmpty();
+    }
+
+    @Test
+    void renewAndRelease_requireOwnership() {
+        leaseManager.tryAcquire("slot-1", 1L, DEFAULT_TTL);
+
+        assertThat(leaseManager.renewLock("slot-1", 2L, DEFAULT_TTL)).isFalse();
+        assertThat(leaseManager.releaseLock("slot-1", 2L)).isFalse();
+        assertThat(leaseManager.renewLock("slot-1", 1L, DEFAULT_TTL)).isTrue();
+        assertThat(leaseManager.releaseLock("slot-1", 1L)).isTrue();
+    }
+
+    @Test
+    void cleanExpiredLocks_removesOnlyExpiredLeases() {
+        leaseManager.tryAcquire("expired", 1L, ALREADY_EXPIRED);
+        leaseManager.tryAcquire("active", 1L, DEFAULT_TTL);
+
+        assertThat(leaseManager.cleanExpiredLocks()).isEqualTo(1);
+        assertThat(leaseManager.findLease("expired")).isEmpty();
+        assertThat(leaseManager.findLease("active")).isPresent();
+    }
+
+    @Test
+    void flush_writesLatestStateOncePerKey() {
+        leaseManager.tryAcquire("held", 1L, DEFAULT_TTL);
+        leaseManager.renewLock("held", 1L, DEFAULT_TTL);
+        leaseManager.tryAcquire("released", 1L, DEFAULT_TTL);
+        leaseManager.releaseLock("released", 1L);
+
+        leaseManager.flush();
+        leaseManager.flush();
+
+        verify(slotLockRepository).upsertLease(eq("held"), eq(1L), any(OffsetDateTime.class), any());
+        verify(slotLockRepository).deleteBySlotKey("released");
+        verify(slotLockRepository, never()).upsertLease(eq("released"), any(), any(), any());
+    }
+}
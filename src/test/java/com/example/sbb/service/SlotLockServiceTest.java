@@ -2,9 +2,16 @@ package com.example.sbb.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.example.sbb.config.SlotLockProperties;
+import com.example.sbb.domain.SlotLease;
 import com.example.sbb.domain.SlotLock;
 import com.example.sbb.domain.User;
 import com.example.sbb.repository.SlotLockRepository;
@@ -12,11 +19,15 @@ import com.example.sbb.repository.UserRepository;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -35,74 +46,72 @@ class SlotLockServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private SlotLeaseManager slotLeaseManager;
+
     private SlotLockService slotLockService;
+    private SlotLeaseExpiryTracker expiryTracker;
 
     private User owner;
     private User otherUser;
 
     @BeforeEach
     void setUp() {
+        // 기본(DB) 모드: DatabaseSlotLockStore 로 위임
+        SlotLockProperties properties = new SlotLockProperties();
+        expiryTracker = new SlotLeaseExpiryTracker(properties);
+        slotLockService = new SlotLockService(
+                new DatabaseSlotLockStore(slotLockRepository, properties),
+                slotLeaseManager,
+                properties,
+                expiryTracker);
         owner = buildUser(1L, "owner@example.com");
         otherUser = buildUser(2L, "other@example.com");
-        given(userRepository.findById(owner.getId())).willReturn(Optional.of(owner));
-        given(userRepository.findById(otherUser.getId())).willReturn(Optional.of(otherUser));
-        given(slotLockRepository.save(any(SlotLock.class))).willAnswer(invocation -> invocation.getArgument(0));
-    }
-
-    @Test
-    void tryLock_createsNewLock_whenNoExisting() {
-        given(slotLockRepository.findBySlotKeyForUpdate("slot-1")).willReturn(Optional.empty());
-
-        boolean acquired = slotLockService.tryLock("slot-1", owner.getId(), DEFAULT_TTL);
-
-        assertThat(acquired).isTrue();
-        verify(slotLockRepository).save(any(SlotLock.class));
     }
 
     @Test
-    void tryLock_extendsLock_whenOwnerReentersBeforeExpiry() {
-        SlotLock existing = buildLock("slot-1", owner, FIXED_NOW.plusMinutes(1));
-        given(slotLockRepository.findBySlotKeyForUpdate("slot-1")).willReturn(Optional.of(existing));
+    void tryLock_acquiresWithSingleUpsert_whenNoExisting() {
+        given(slotLockRepository.acquireLease(eq("slot-1"), eq(owner.getId()), any(), any()))
+                .willReturn(Optional.of(1L));
 
         boolean acquired = slotLockService.tryLock("slot-1", owner.getId(), DEFAULT_TTL);
 
         assertThat(acquired).isTrue();
-        assertThat(existing.getUser()).isEqualTo(owner);
-        assertThat(existing.getExpiresAt()).isAfter(FIXED_NOW);
+        verify(slotLockRepository).acquireLease(eq("slot-1"), eq(owner.getId()), any(), any());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
-    void tryLock_reassignsLock_whenExpired() {
-        SlotLock expired = buildLock("slot-1", owner, FIXED_NOW.minusMinutes(1));
-        given(slotLockRepository.findBySlotKeyForUpdate("slot-1")).willReturn(Optional.of(expired));
+    void tryLock_passesExpiryAfterNow() {
+        given(slotLockRepository.acquireLease(any(), any(), any(), any())).willReturn(Optional.of(1L));
+        ArgumentCaptor<OffsetDateTime> expiresAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<OffsetDateTime> now = ArgumentCaptor.forClass(OffsetDateTime.class);
 
-        boolean acquired = slotLockService.tryLock("slot-1", otherUser.getId(), DEFAULT_TTL);
+        slotLockService.tryLock("slot-1", owner.getId(), DEFAULT_TTL);
 
-        assertThat(acquired).isTrue();
-        assertThat(expired.getUser()).isEqualTo(otherUser);
-        assertThat(expired.getExpiresAt()).isAfter(FIXED_NOW);
+        verify(slotLockRepository).acquireLease(eq("slot-1"), eq(owner.getId()), expiresAt.capture(), now.capture());
+        assertThat(Duration.between(now.getValue(), expiresAt.getValue())).isEqualTo(DEFAULT_TTL);
     }
 
     @Test
     void tryLock_fails_whenLockedByAnotherUser() {
-        SlotLock held = buildLock("slot-1", owner, OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(10));
-        given(slotLockRepository.findBySlotKeyForUpdate("slot-1")).willReturn(Optional.of(held));
+        // ON CONFLICT ... WHERE 조건이 거짓이면 RETURNING 결과가 없다
+        given(slotLockRepository.acquireLease(eq("slot-1"), eq(otherUser.getId()), any(), any()))
+                .willReturn(Optional.empty());
 
         boolean acquired = slotLockService.tryLock("slot-1", otherUser.getId(), DEFAULT_TTL);
 
         assertThat(acquired).isFalse();
-        assertThat(held.getUser()).isEqualTo(owner);
     }
 
     @Test
     void tryLock_succeeds_forSystemLock_whenNoOwner() {
-        given(slotLockRepository.findBySlotKeyForUpdate("system-slot")).willReturn(Optional.empty());
+        given(slotLockRepository.acquireLease(eq("system-slot"), isNull(), any(), any()))
+                .willReturn(Optional.of(1L));
 
         boolean acquired = slotLockService.tryLock("system-slot", null, DEFAULT_TTL);
 
         assertThat(acquired).isTrue();
-        verify(slotLockRepository).save(any(SlotLock.class));
     }
 
     @Test
@@ -137,34 +146,131 @@ class SlotLockServiceTest {
 
     @Test
     void cleanExpiredLocks_deletesUsingRepository() {
-        given(slotLockRepository.deleteExpired(any(OffsetDateTime.class))).willReturn(3);
+        given(slotLockRepository.deleteExpiredChunk(any(OffsetDateTime.class), anyInt()))
+                .willReturn(List.of("a", "b", "c"));
 
         int deleted = slotLockService.cleanExpiredLocks();
 
         assertThat(deleted).isEqualTo(3);
-        verify(slotLockRepository).deleteExpired(any(OffsetDateTime.class));
+        verify(slotLockRepository).deleteExpiredChunk(any(OffsetDateTime.class), anyInt());
+    }
+
+    @Test
+    void cleanExpiredLocks_deletesInChunksUntilShortChunk() {
+        List<String> fullChunk = Collections.nCopies(500, "k");
+        given(slotLockRepository.deleteExpiredChunk(any(OffsetDateTime.class), eq(500)))
+                .willReturn(fullChunk)
+                .willReturn(fullChunk)
+                .willReturn(List.of("k"));
+
+        int deleted = slotLockService.cleanExpiredLocks();
+
+        assertThat(deleted).isEqualTo(1001);
+        verify(slotLockRepository, times(3)).deleteExpiredChunk(any(OffsetDateTime.class), eq(500));
+    }
+
+    @Test
+    void expireLease_reportsExpiry_whenConditionalDeleteSucceeds() {
+        given(slotLockRepository.deleteIfExpired(eq("slot-1"), any())).willReturn(Optional.of("slot-1"));
+
+        boolean expired = slotLockService.expireLease(
+                new SlotLease("slot-1", owner.getId(), OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1), 1L));
+
+        assertThat(expired).isTrue();
+    }
+
+    @Test
+    void expireLease_retracksLease_whenRenewedElsewhere() {
+        OffsetDateTime renewedUntil = OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(5);
+        given(slotLockRepository.deleteIfExpired(eq("slot-1"), any())).willReturn(Optional.empty());
+        SlotLock renewed = new SlotLock();
+        renewed.setSlotKey("slot-1");
+        renewed.setUser(owner);
+        renewed.setExpiresAt(renewedUntil);
+        given(slotLockRepository.findById("slot-1")).willReturn(Optional.of(renewed));
+
+        boolean expired = slotLockService.expireLease(
+                new SlotLease("slot-1", owner.getId(), OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1), 1L));
+
+        assertThat(expired).isFalse();
+        assertThat(expiryTracker.trackedCount()).isEqualTo(1);
     }
 
     @Test
     void renewLock_updatesExpiry_whenOwnerMatches() {
-        SlotLock lock = buildLock("slot-1", owner, FIXED_NOW.plusMinutes(1));
-        given(slotLockRepository.findBySlotKeyForUpdate("slot-1")).willReturn(Optional.of(lock));
+        given(slotLockRepository.renewLease(eq("slot-1"), eq(owner.getId()), any())).willReturn(1);
 
         boolean renewed = slotLockService.renewLock("slot-1", owner.getId(), DEFAULT_TTL);
 
         assertThat(renewed).isTrue();
-        assertThat(lock.getExpiresAt()).isAfter(FIXED_NOW);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
     void renewLock_fails_whenOwnerDiffers() {
-        SlotLock lock = buildLock("slot-1", owner, FIXED_NOW.plusMinutes(1));
-        given(slotLockRepository.findBySlotKeyForUpdate("slot-1")).willReturn(Optional.of(lock));
+        given(slotLockRepository.renewLease(eq("slot-1"), eq(otherUser.getId()), any())).willReturn(0);
 
         boolean renewed = slotLockService.renewLock("slot-1", otherUser.getId(), DEFAULT_TTL);
 
         assertThat(renewed).isFalse();
-        assertThat(lock.getUser()).isEqualTo(owner);
+    }
+
+    @Test
+    void tryAcquire_returnsFencingTokenFromUpsert() {
+        given(slotLockRepository.acquireLease(eq("slot-1"), eq(otherUser.getId()), any(), any()))
+                .willReturn(Optional.of(6L));
+
+        OptionalLong token = slotLockService.tryAcquire("slot-1", otherUser.getId(), DEFAULT_TTL);
+
+        assertThat(token).hasValue(6L);
+    }
+
+    @Test
+    void tryAcquire_returnsEmpty_whenUpsertReturnsNoRow() {
+        given(slotLockRepository.acquireLease(eq("slot-1"), eq(otherUser.getId()), any(), any()))
+                .willReturn(Optional.empty());
+
+        OptionalLong token = slotLockService.tryAcquire("slot-1", otherUser.getId(), DEFAULT_TTL);
+
+        assertThat(token).isEmpty();
+    }
+
+    @Test
+    void renewLocks_returnsOnlyKeysRenewedByRepository() {
+        given(slotLockRepository.renewLeases(any(String[].class), eq(owner.getId()), any()))
+                .willReturn(List.of("slot-1"));
+
+        Set<String> renewed = slotLockService.renewLocks(List.of("slot-1", "slot-2", "slot-1", " "), owner.getId(), DEFAULT_TTL);
+
+        assertThat(renewed).containsExactly("slot-1");
+        ArgumentCaptor<String[]> keys = ArgumentCaptor.forClass(String[].class);
+        verify(slotLockRepository).renewLeases(keys.capture(), eq(owner.getId()), any());
+        assertThat(keys.getValue()).containsExactly("slot-1", "slot-2");
+    }
+
+    @Test
+    void renewLocks_skipsRepository_whenNoKeys() {
+        Set<String> renewed = slotLockService.renewLocks(List.of(), owner.getId(), DEFAULT_TTL);
+
+        assertThat(renewed).isEmpty();
+        verifyNoInteractions(slotLockRepository);
+    }
+
+    @Test
+    void releaseLocks_returnsOnlyKeysReleasedByRepository() {
+        given(slotLockRepository.releaseLeases(any(String[].class), eq(owner.getId())))
+                .willReturn(List.of("slot-2"));
+
+        Set<String> released = slotLockService.releaseLocks(List.of("slot-1", "slot-2"), owner.getId());
+
+        assertThat(released).containsExactly("slot-2");
+    }
+
+    @Test
+    void leaseTtl_clampsToConfiguredMaximum() {
+        assertThat(slotLockService.leaseTtl(30L)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(slotLockService.leaseTtl(null)).isEqualTo(Duration.ofSeconds(300));
+        assertThat(slotLockService.leaseTtl(86_400L)).isEqualTo(Duration.ofSeconds(300));
     }
 
     private User buildUser(Long id, String email) {
@@ -176,12 +282,4 @@ class SlotLockServiceTest {
         user.setCreatedAt(FIXED_NOW.minusDays(1));
         return user;
     }
-
-    private SlotLock buildLock(String slotKey, User owner, OffsetDateTime expiresAt) {
-        SlotLock lock = new SlotLock();
-        lock.setSlotKey(slotKey);
-        lock.setUser(owner);
-        lock.setExpiresAt(expiresAt);
-        return lock;
-    }
 }
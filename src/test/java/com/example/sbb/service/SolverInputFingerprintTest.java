@@ -0,0 +1,101 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.sbb.domain.SlotGrid;
+import com.example.sbb.domain.Task;
+import com.example.sbb.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SolverInputFingerprintTest {
+
+    private static final LocalDate START = LocalDate.of(2030, 3, 4);
+    private static final LocalDate END = START.plusDays(4);
+
+    @Test
+    void compute_ignoresOrderAndNonSolverFields() {
+        Task a = task(1L, 60, 3);
+        Task b = task(2L, 90, 2);
+        String before = SolverInputFingerprint.compute(START, END, List.of(a, b), availability(1L, 2L), null, SlotGrid.BASE);
+
+        a.setTitle("다른 제목");
+        a.setTags("문서,리뷰");
+        Map<Long, long[]> reordered = new LinkedHashMap<>();
+        reordered.put(2L, masks());
+        reordered.put(1L, masks());
+
+        assertThat(SolverInputFingerprint.compute(START, END, List.of(b, a), reordered, null, SlotGrid.BASE)).isEqualTo(before);
+    }
+
+    @Test
+    void compute_changesWithSolverInputs() {
+        Task a = task(1L, 60, 3);
+        String base = SolverInputFingerprint.compute(START, END, List.of(a), availability(1L), null, SlotGrid.BASE);
+
+        a.setDueAt(a.getDueAt().plusHours(1));
+        String dueChanged = SolverInputFingerprint.compute(START, END, List.of(a), availability(1L), null, SlotGrid.BASE);
+
+        User assignee = new User();
+        assignee.setId(1L);
+        a.setAssignee(assignee);
+        String assigneeChanged = SolverInputFingerprint.compute(START, END, List.of(a), availability(1L), null, SlotGrid.BASE);
+
+        Map<Long, long[]> busier = availability(1L);
+        busier.get(1L)[2] &= ~AvailabilityMatrix.slotRange(20, 22);
+        String eventAdded = SolverInputFingerprint.compute(START, END, List.of(a), busier, null, SlotGrid.BASE);
+
+        String strategyChanged = SolverInputFingerprint.compute(START, END, List.of(a), busier, "tabu", SlotGrid.BASE);
+        String rangeChanged = SolverInputFingerprint.compute(START, END.plusDays(1), List.of(a), busier, "tabu", SlotGrid.BASE);
+        String gridChanged = SolverInputFingerprint.compute(START, END.plusDays(1), List.of(a), busier, "tabu", SlotGrid.FINE);
+
+        assertThat(List.of(base, dueChanged, assigneeChanged, eventAdded, strategyChanged, rangeChanged, gridChanged))
+            .doesNotHaveDuplicates()
+            .allSatisfy(f -> assertThat(f).hasSize(64));
+    }
+
+    @Test
+    void matches_recordsHitRatio() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SolverInputFingerprint fingerprint = new SolverInputFingerprint(registry);
+
+        assertThat(fingerprint.matches(null, "a")).isFalse();
+        assertThat(fingerprint.matches("a", "b")).isFalse();
+        assertThat(fingerprint.matches("a", "a")).isTrue();
+        assertThat(fingerprint.matches("b", "b")).isTrue();
+
+        assertThat(registry.get("scheduling.fingerprint.lookups").tag("result", "miss").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("scheduling.fingerprint.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    private Task task(Long id, int durationMin, int priority) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("작업 " + id);
+        task.setDurationMin(durationMin);
+        task.setPriority(priority);
+        task.setDueAt(END.atTime(18, 0).atOffset(ZoneOffset.UTC));
+        return task;
+    }
+
+    private Map<Long, long[]> availability(Long... userIds) {
+        Map<Long, long[]> availability = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            availability.put(userId, masks());
+        }
+        return availability;
+    }
+
+    private long[] masks() {
+        long[] days = new long[5];
+        for (int d = 0; d < days.length; d++) {
+            days[d] = AvailabilityMatrix.slotRange(18, 36);
+        }
+        return days;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.sbb.dto.SolverSnapshot;
+import com.example.sbb.util.SolverSnapshotCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * 스냅샷 파일 왕복, 재현 결정성, 그리고 src/test/resources/solver-snapshots 의 스냅샷 회귀 실행
+ */
+class SolverReplayTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 4);
+
+    @Test
+    void codec_roundTripsSnapshot() throws IOException {
+        SolverSnapshot snapshot = synthetic(3);
+
+        SolverSnapshot read = SolverSnapshotCodec.read(new ByteArrayInputStream(encode(snapshot)));
+
+        assertThat(read.getRangeStart()).isEqualTo(snapshot.getRangeStart());
+        assertThat(read.getSeed()).isEqualTo(snapshot.getSeed());
+        assertThat(read.getTasks()).hasSameSizeAs(snapshot.getTasks());
+        assertThat(read.getTasks().get(0).getDueAt().toInstant()).isEqualTo(snapshot.getTasks().get(0).getDueAt().toInstant());
+        assertThat(read.getEvents().get(0).getUserIds()).isEqualTo(snapshot.getEvents().get(0).getUserIds());
+    }
+
+    @Test
+    void codec_rejectsUnknownVersion() throws IOException {
+        SolverSnapshot snapshot = synthetic(3);
+        snapshot.setVersion(SolverSnapshot.CURRENT_VERSION + 1);
+        byte[] encoded = encode(snapshot);
+
+        assertThatThrownBy(() -> SolverSnapshotCodec.read(new ByteArrayInputStream(encoded)))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void replay_isDeterministic() {
+        SolverSnapshot snapshot = synthetic(5);
+
+        SolverReplay.Report first = new SolverReplay().replay(snapshot);
+        SolverReplay.Report second = new SolverReplay().replay(snapshot);
+
+        assertThat(first.getPlacedTasks()).isPositive();
+        assertThat(second.getPlacedTasks()).isEqualTo(first.getPlacedTasks());
+        assertThat(second.getAssignments()).isEqualTo(first.getAssignments());
+        assertThat(second.getPlacementScore()).isEqualTo(first.getPlacementScore());
+        assertThat(second.getFinalScore()).isEqualTo(first.getFinalScore());
+    }
+
+    @Test
+    void replay_corpus() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+            .getResources("classpath*:solver-snapshots/*.json.gz");
+        SolverReplay replay = new SolverReplay();
+        for (Resource resource : resources) {
+            try (InputStream in = resource.getInputStream()) {
+                SolverReplay.Report report = replay.replay(SolverSnapshotCodec.read(in));
+                System.out.println(resource.getFilename() + " " + report);
+                assertThat(report.getFinalScore()).isGreaterThanOrEqualTo(report.getPlacementScore());
+            }
+        }
+    }
+
+    private byte[] encode(SolverSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SolverSnapshotCodec.write(snapshot, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 2주 범위, 팀 기본 근무시간(평일 9-18시), 주간 반복 회의 1개와 단일 일정들, 무작위 작업
+     */
+    static SolverSnapshot synthetic(long seed) {
+        Random random = new Random(seed);
+        SolverSnapshot snapshot = new SolverSnapshot();
+        snapshot.setTeamId(1L);
+        snapshot.setRangeStart(MONDAY);
+        snapshot.setRangeEnd(MONDAY.plusDays(13));
+        snapshot.setCapturedAt(MONDAY.minusDays(1).atTime(20, 0).atOffset(ZoneOffset.UTC));
+        snapshot.setSeed(seed);
+        snapshot.setMetaheuristic(SimulatedAnnealing.NAME);
+        snapshot.setMemberIds(List.of(1L, 2L, 3L));
+        for (int dow = 1; dow <= 5; dow++) {
+            snapshot.getWorkHours().add(new SolverSnapshot.WorkHourRow(null, dow, 540, 1080));
+        }
+        snapshot.getEvents().add(new SolverSnapshot.EventRow(List.of(1L, 2L, 3L),
+            at(MONDAY, 10), at(MONDAY, 11), true, "WEEKLY", null));
+        for (int i = 0; i < 6; i++) {
+            LocalDate date = MONDAY.plusDays(random.nextInt(12));
+            int hour = 9 + random.nextInt(7);
+            snapshot.getEvents().add(new SolverSnapshot.EventRow(List.of(1L + random.nextInt(3)),
+                at(date, hour), at(date, hour + 2), true, null, null));
+        }
+        for (long id = 1; id <= 30; id++) {
+            snapshot.getTasks().add(new SolverSnapshot.TaskRow(
+                id,
+                "작업 " + id,
+                30 * (1 + random.nextInt(8)),
+                at(MONDAY.plusDays(1 + random.nextInt(13)), 12 + random.nextInt(6)),
+                1 + random.nextInt(5),
+                random.nextBoolean(),
+                random.nextInt(3) == 0 ? 1L + random.nextInt(3) : null));
+        }
+        return snapshot;
+    }
+
+    private static OffsetDateTime at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.sbb.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TabuSearchTest {
+
+    private static final long REVERSE_KEY = 1_000L;
+
+    private final Metaheuristic.Search search = new TabuSearch().start(100, new Random(1));
+
+    @Test
+    void accept_forbidsReverseMoveUntilTenureExpires() {
+        assertThat(search.accept(100, 90, move(1L, REVERSE_KEY))).isTrue();
+        assertThat(search.isAllowed(move(REVERSE_KEY, 1L), 95, 100)).isFalse();
+
+        // 금지 유지 15회: 이후 14번의 이동으로는 아직 금지, 15번째에 풀린다
+        for (long key = 1; key <= 14; key++) {
+            search.accept(100, 100, move(0L, key));
+        }
+        assertThat(search.isAllowed(move(REVERSE_KEY, 1L), 95, 100)).isFalse();
+        search.accept(100, 100, move(0L, 15L));
+        assertThat(search.isAllowed(move(REVERSE_KEY, 1L), 95, 100)).isTrue();
+    }
+
+    @Test
+    void isAllowed_aspirationAdmitsTabuMoveBeatingBestScore() {
+        search.accept(100, 90, move(1L, REVERSE_KEY));
+
+        assertThat(search.isAllowed(move(REVERSE_KEY, 1L), 100, 100)).isFalse();
+        assertThat(search.isAllowed(move(REVERSE_KEY, 1L), 101, 100)).isTrue();
+    }
+
+    private static MoveSelector.Move move(long key, long reverseKey) {
+        return new MoveSelector.Move(List.of(), key, reverseKey);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.sbb.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 1000;
+    private static final long START_MS = 1_700_000_000_000L;
+
+    @Test
+    void firesEntryAtItsDeadlineTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 4, 3, START_MS);
+        List<String> fired = new ArrayList<>();
+        wheel.add("a", START_MS + 3_000);
+
+        wheel.advance(START_MS + 2_999, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advance(START_MS + 3_000, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cascadesEntriesFromUpperLevelsWithoutFiringEarly() {
+        // 4 x 4 x 4 = 64틱 범위. 상위 단계와 범위 밖 항목을 섞어 정확한 틱에 만료되는지 확인
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, 4, 3, START_MS);
+        Random random = new Random(42);
+        Map<Long, Long> firedAt = new HashMap<>();
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long deadline = START_MS + (1 + random.nextInt(200)) * TICK_MS;
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+
+        for (long now = START_MS; now <= START_MS + 200 * TICK_MS; now += TICK_MS) {
+            long current = now;
+            wheel.advance(now, deadline -> firedAt.merge(deadline, current, Math::max));
+        }
+
+        assertThat(wheel.size()).isZero();
+        for (long deadline : deadlines) {
+            assertThat(firedAt.get(deadline)).isEqualTo(deadline);
+        }
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 64, 3, START_MS);
+        List<String> fired = new ArrayList<>();
+        wheel.add("late", START_MS - 10_000);
+
+        wheel.advance(START_MS + TICK_MS, fired::add);
+
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void catchesUpAfterSkippedTicks() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 8, 2, START_MS);
+        List<String> fired = new ArrayList<>();
+        wheel.add("a", START_MS + 5_000);
+        wheel.add("b", START_MS + 40_000);
+
+        wheel.advance(START_MS + 60_000, fired::add);
+
+        assertThat(fired).containsExactly("a", "b");
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.sbb.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class MinCostFlowTest {
+
+    @Test
+    void solve_prefersCheaperPathsUntilSaturated() {
+        // 0 -> 1 -> 3 (비용 1+1, 용량 2), 0 -> 2 -> 3 (비용 2+2, 용량 3)
+        MinCostFlow flow = new MinCostFlow(4);
+        int cheap = flow.addEdge(0, 1, 2, 1);
+        flow.addEdge(1, 3, 2, 1);
+        int expensive = flow.addEdge(0, 2, 3, 2);
+        flow.addEdge(2, 3, 3, 2);
+
+        long[] result = flow.solve(0, 3);
+
+        assertThat(result[0]).isEqualTo(5);
+        assertThat(result[1]).isEqualTo(2 * 2 + 3 * 4);
+        assertThat(flow.flow(cheap)).isEqualTo(2);
+        assertThat(flow.flow(expensive)).isEqualTo(3);
+    }
+
+    @Test
+    void solve_reroutesThroughResidualEdges() {
+        // 처음 고른 0-1-2-3 경로를 되돌려야 최대 유량 2 가 나오는 그래프
+        MinCostFlow flow = new MinCostFlow(4);
+        flow.addEdge(0, 1, 1, 1);
+        flow.addEdge(0, 2, 1, 5);
+        flow.addEdge(1, 2, 1, 1);
+        flow.addEdge(1, 3, 1, 5);
+        flow.addEdge(2, 3, 1, 1);
+
+        long[] result = flow.solve(0, 3);
+
+        assertThat(result[0]).isEqualTo(2);
+        assertThat(result[1]).isEqualTo(12);
+    }
+
+    @Test
+    void addEdge_rejectsNegativeCost() {
+        MinCostFlow flow = new MinCostFlow(2);
+
+        assertThatThrownBy(() -> flow.addEdge(0, 1, 1, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}